@@ -113,6 +113,16 @@ public interface ConfigurationKeys {
      */
     String SERVER_STORE_LOCK_MODE = SEATA_PREFIX + STORE_PREFIX + "lock." + MODE;
 
+    /**
+     * The constant STORE_LOCK_FRONT_CACHE_SIZE.
+     */
+    String STORE_LOCK_FRONT_CACHE_SIZE = STORE_PREFIX + "lock.frontCacheSize";
+
+    /**
+     * The constant STORE_LOCK_FRONT_CACHE_EXPIRE.
+     */
+    String STORE_LOCK_FRONT_CACHE_EXPIRE = STORE_PREFIX + "lock.frontCacheExpire";
+
     /**
      * The constant STORE_SESSION_MODE.
      */
@@ -175,6 +185,12 @@ public interface ConfigurationKeys {
      * The constant CLIENT_ASYNC_COMMIT_BUFFER_LIMIT.
      */
     String CLIENT_ASYNC_COMMIT_BUFFER_LIMIT = CLIENT_RM_PREFIX + "asyncCommitBufferLimit";
+
+    /**
+     * The constant CLIENT_ASYNC_COMMIT_CONCURRENCY.
+     */
+    String CLIENT_ASYNC_COMMIT_CONCURRENCY = CLIENT_RM_PREFIX + "asyncCommitConcurrency";
+
     /**
      * The constant CLIENT_RM_LOCK_PREFIX.
      */
@@ -192,6 +208,14 @@ public interface ConfigurationKeys {
      * The constant CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT.
      */
     String CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT = CLIENT_RM_LOCK_PREFIX + "retryPolicyBranchRollbackOnConflict";
+    /**
+     * The constant CLIENT_LOCK_QUERY_CACHE_ENABLE.
+     */
+    String CLIENT_LOCK_QUERY_CACHE_ENABLE = CLIENT_RM_LOCK_PREFIX + "queryCacheEnable";
+    /**
+     * The constant CLIENT_LOCK_QUERY_CACHE_EXPIRE.
+     */
+    String CLIENT_LOCK_QUERY_CACHE_EXPIRE = CLIENT_RM_LOCK_PREFIX + "queryCacheExpire";
 
     /**
      * The constant SERVICE_SESSION_RELOAD_READ_SIZE
@@ -238,6 +262,11 @@ public interface ConfigurationKeys {
      */
     String CLIENT_TABLE_META_CHECKER_INTERVAL = CLIENT_RM_PREFIX + "tableMetaCheckerInterval";
 
+    /**
+     * The constant CLIENT_TABLE_META_PRELOAD_TABLES.
+     */
+    String CLIENT_TABLE_META_PRELOAD_TABLES = CLIENT_RM_PREFIX + "tableMetaPreloadTables";
+
     /**
      * The constant TCC_ACTION_INTERCEPTOR_ORDER.
      */
@@ -262,6 +291,11 @@ public interface ConfigurationKeys {
      */
     String DEFAULT_GLOBAL_TRANSACTION_TIMEOUT = CLIENT_TM_PREFIX + "defaultGlobalTransactionTimeout";
 
+    /**
+     * The constant CLIENT_TM_XID_LEASE_SIZE.
+     */
+    String CLIENT_TM_XID_LEASE_SIZE = CLIENT_TM_PREFIX + "xidLeaseSize";
+
     /**
      * The constant SERIALIZE_FOR_RPC.
      */
@@ -349,6 +383,41 @@ public interface ConfigurationKeys {
      */
     String STORE_DB_LOG_QUERY_LIMIT = STORE_DB_PREFIX + "queryLimit";
 
+    /**
+     * The constant STORE_DB_BATCH_WRITE_ENABLE.
+     */
+    String STORE_DB_BATCH_WRITE_ENABLE = STORE_DB_PREFIX + "batchWriteEnable";
+
+    /**
+     * The constant STORE_DB_BATCH_WRITE_SIZE.
+     */
+    String STORE_DB_BATCH_WRITE_SIZE = STORE_DB_PREFIX + "batchWriteSize";
+
+    /**
+     * The constant STORE_DB_BATCH_WRITE_THREADS.
+     */
+    String STORE_DB_BATCH_WRITE_THREADS = STORE_DB_PREFIX + "batchWriteThreads";
+
+    /**
+     * The constant STORE_DB_ARCHIVE_ENABLE.
+     */
+    String STORE_DB_ARCHIVE_ENABLE = STORE_DB_PREFIX + "archiveEnable";
+
+    /**
+     * The constant STORE_DB_ARCHIVE_DELAY.
+     */
+    String STORE_DB_ARCHIVE_DELAY = STORE_DB_PREFIX + "archiveDelay";
+
+    /**
+     * The constant STORE_DB_GLOBAL_ARCHIVE_TABLE.
+     */
+    String STORE_DB_GLOBAL_ARCHIVE_TABLE = STORE_DB_PREFIX + "globalArchiveTable";
+
+    /**
+     * The constant STORE_DB_BRANCH_ARCHIVE_TABLE.
+     */
+    String STORE_DB_BRANCH_ARCHIVE_TABLE = STORE_DB_PREFIX + "branchArchiveTable";
+
     /**
      * The constant LOCK_DB_TABLE.
      */
@@ -399,6 +468,11 @@ public interface ConfigurationKeys {
      */
     String TIMEOUT_RETRY_PERIOD = RECOVERY_PREFIX + "timeoutRetryPeriod";
 
+    /**
+     * The constant RECOVERY_SHARD_COUNT.
+     */
+    String RECOVERY_SHARD_COUNT = RECOVERY_PREFIX + "shardCount";
+
     /**
      * The constant CLIENT_UNDO_PREFIX.
      */
@@ -439,6 +513,11 @@ public interface ConfigurationKeys {
      */
     String CLIENT_UNDO_COMPRESS_THRESHOLD = CLIENT_UNDO_COMPRESS_PREFIX + "threshold";
 
+    /**
+     * the constant CLIENT_UNDO_PARTITION_PURGE_ENABLE
+     */
+    String CLIENT_UNDO_PARTITION_PURGE_ENABLE = CLIENT_UNDO_PREFIX + "partitionPurgeEnable";
+
     /**
      * The constant METRICS_PREFIX.
      */
@@ -671,6 +750,16 @@ public interface ConfigurationKeys {
      */
     String SQL_PARSER_TYPE = CLIENT_RM_PREFIX + "sqlParserType";
 
+    /**
+     * The constant SQL_PARSER_CACHE_ENABLE.
+     */
+    String SQL_PARSER_CACHE_ENABLE = CLIENT_RM_PREFIX + "sqlParserCacheEnable";
+
+    /**
+     * The constant SQL_PARSER_CACHE_CAPACITY. Total length of the cached sql text.
+     */
+    String SQL_PARSER_CACHE_CAPACITY = CLIENT_RM_PREFIX + "sqlParserCacheCapacity";
+
     /**
      * The constant STORE_REDIS_MODE.
      */
@@ -736,6 +825,21 @@ public interface ConfigurationKeys {
      */
     String STORE_REDIS_QUERY_LIMIT = STORE_REDIS_PREFIX + "queryLimit";
 
+    /**
+     * The constant STORE_REDIS_BATCH_WRITE_ENABLE.
+     */
+    String STORE_REDIS_BATCH_WRITE_ENABLE = STORE_REDIS_PREFIX + "batchWriteEnable";
+
+    /**
+     * The constant STORE_REDIS_BATCH_WRITE_SIZE.
+     */
+    String STORE_REDIS_BATCH_WRITE_SIZE = STORE_REDIS_PREFIX + "batchWriteSize";
+
+    /**
+     * The constant STORE_REDIS_LOCK_PARTITIONS.
+     */
+    String STORE_REDIS_LOCK_PARTITIONS = STORE_REDIS_PREFIX + "lockPartitions";
+
     /**
      * The constant REDIS_SENTINEL_MODE.
      */
@@ -1061,6 +1165,11 @@ public interface ConfigurationKeys {
      */
     String ENABLE_PARALLEL_HANDLE_BRANCH_KEY = SERVER_PREFIX + "enableParallelHandleBranch";
 
+    /**
+     * The constant ENABLE_ONE_PHASE_COMMIT_KEY
+     */
+    String ENABLE_ONE_PHASE_COMMIT_KEY = SERVER_PREFIX + "enableOnePhaseCommit";
+
     /**
      * The constant RM_APPLICATION_DATA_SIZE_ERROR
      */
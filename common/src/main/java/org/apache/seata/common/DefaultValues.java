@@ -38,6 +38,14 @@ public interface DefaultValues {
      * The constant DEFAULT_CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT.
      */
     boolean DEFAULT_CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT = true;
+    /**
+     * The constant DEFAULT_CLIENT_LOCK_QUERY_CACHE_ENABLE.
+     */
+    boolean DEFAULT_CLIENT_LOCK_QUERY_CACHE_ENABLE = false;
+    /**
+     * The constant DEFAULT_CLIENT_LOCK_QUERY_CACHE_EXPIRE.
+     */
+    int DEFAULT_CLIENT_LOCK_QUERY_CACHE_EXPIRE = 50;
     /**
      * The constant DEFAULT_LOG_EXCEPTION_RATE.
      */
@@ -46,6 +54,10 @@ public interface DefaultValues {
      * The constant DEFAULT_CLIENT_ASYNC_COMMIT_BUFFER_LIMIT.
      */
     int DEFAULT_CLIENT_ASYNC_COMMIT_BUFFER_LIMIT = 10000;
+    /**
+     * The constant DEFAULT_CLIENT_ASYNC_COMMIT_CONCURRENCY.
+     */
+    int DEFAULT_CLIENT_ASYNC_COMMIT_CONCURRENCY = 1;
     /**
      * The constant DEFAULT_TM_DEGRADE_CHECK_PERIOD.
      */
@@ -66,6 +78,14 @@ public interface DefaultValues {
      * The constant DEFAULT_TABLE_META_CHECKER_INTERVAL.
      */
     long DEFAULT_TABLE_META_CHECKER_INTERVAL = 60000L;
+    /**
+     * The constant DEFAULT_SQL_PARSER_CACHE_ENABLE.
+     */
+    boolean DEFAULT_SQL_PARSER_CACHE_ENABLE = true;
+    /**
+     * The constant DEFAULT_SQL_PARSER_CACHE_CAPACITY.
+     */
+    long DEFAULT_SQL_PARSER_CACHE_CAPACITY = 4 * 1024 * 1024L;
     /**
      * The constant DEFAULT_TM_DEGRADE_CHECK.
      */
@@ -209,6 +229,10 @@ public interface DefaultValues {
      * The constant DEFAULT_GLOBAL_TRANSACTION_TIMEOUT.
      */
     int DEFAULT_GLOBAL_TRANSACTION_TIMEOUT = 60000;
+    /**
+     * The constant DEFAULT_TM_XID_LEASE_SIZE.
+     */
+    int DEFAULT_TM_XID_LEASE_SIZE = 0;
 
     /**
      * The constant DEFAULT_TX_GROUP.
@@ -305,6 +329,11 @@ public interface DefaultValues {
      */
     String DEFAULT_CLIENT_UNDO_COMPRESS_THRESHOLD = "64k";
 
+    /**
+     * the constant DEFAULT_CLIENT_UNDO_PARTITION_PURGE_ENABLE
+     */
+    boolean DEFAULT_CLIENT_UNDO_PARTITION_PURGE_ENABLE = false;
+
     /**
      * the constant DEFAULT_RETRY_DEAD_THRESHOLD
      */
@@ -368,6 +397,11 @@ public interface DefaultValues {
      */
     int DEFAULT_XAER_NOTA_RETRY_TIMEOUT = 60000;
 
+    /**
+     * the constant DEFAULT_ENABLE_ONE_PHASE_COMMIT
+     */
+    boolean DEFAULT_ENABLE_ONE_PHASE_COMMIT = false;
+
     /**
      * the constant DEFAULT_XA_BRANCH_EXECUTION_TIMEOUT
      */
@@ -402,6 +436,11 @@ public interface DefaultValues {
      */
     int DEFAULT_TIMEOUT_RETRY_PERIOD = 1000;
 
+    /**
+     * the constant DEFAULT_RECOVERY_SHARD_COUNT, the recovery is not sharded by default
+     */
+    int DEFAULT_RECOVERY_SHARD_COUNT = 0;
+
     /**
      * the constant DEFAULT_UNDO_LOG_DELETE_PERIOD
      */
@@ -487,6 +526,66 @@ public interface DefaultValues {
      */
     int DEFAULT_QUERY_LIMIT = 1000;
 
+    /**
+     * The constant DEFAULT_STORE_DB_BATCH_WRITE_ENABLE.
+     */
+    boolean DEFAULT_STORE_DB_BATCH_WRITE_ENABLE = false;
+
+    /**
+     * The constant DEFAULT_STORE_DB_BATCH_WRITE_SIZE.
+     */
+    int DEFAULT_STORE_DB_BATCH_WRITE_SIZE = 100;
+
+    /**
+     * The constant DEFAULT_STORE_DB_BATCH_WRITE_THREADS.
+     */
+    int DEFAULT_STORE_DB_BATCH_WRITE_THREADS = 2;
+
+    /**
+     * The constant DEFAULT_STORE_DB_ARCHIVE_ENABLE.
+     */
+    boolean DEFAULT_STORE_DB_ARCHIVE_ENABLE = false;
+
+    /**
+     * The constant DEFAULT_STORE_DB_ARCHIVE_DELAY, the failed global sessions are archived one day after they end.
+     */
+    long DEFAULT_STORE_DB_ARCHIVE_DELAY = 24 * 60 * 60 * 1000L;
+
+    /**
+     * The constant DEFAULT_STORE_DB_GLOBAL_ARCHIVE_TABLE.
+     */
+    String DEFAULT_STORE_DB_GLOBAL_ARCHIVE_TABLE = "global_table_archive";
+
+    /**
+     * The constant DEFAULT_STORE_DB_BRANCH_ARCHIVE_TABLE.
+     */
+    String DEFAULT_STORE_DB_BRANCH_ARCHIVE_TABLE = "branch_table_archive";
+
+    /**
+     * The constant DEFAULT_STORE_REDIS_BATCH_WRITE_ENABLE.
+     */
+    boolean DEFAULT_STORE_REDIS_BATCH_WRITE_ENABLE = false;
+
+    /**
+     * The constant DEFAULT_STORE_REDIS_BATCH_WRITE_SIZE.
+     */
+    int DEFAULT_STORE_REDIS_BATCH_WRITE_SIZE = 100;
+
+    /**
+     * The constant DEFAULT_STORE_REDIS_LOCK_PARTITIONS, the row lock keys are not hash tagged by default.
+     */
+    int DEFAULT_STORE_REDIS_LOCK_PARTITIONS = 0;
+
+    /**
+     * The constant DEFAULT_STORE_LOCK_FRONT_CACHE_SIZE, the front cache of the locks is disabled by default.
+     */
+    int DEFAULT_STORE_LOCK_FRONT_CACHE_SIZE = 0;
+
+    /**
+     * The constant DEFAULT_STORE_LOCK_FRONT_CACHE_EXPIRE.
+     */
+    int DEFAULT_STORE_LOCK_FRONT_CACHE_EXPIRE = 200;
+
     /**
      * Default druid location in classpath
      */
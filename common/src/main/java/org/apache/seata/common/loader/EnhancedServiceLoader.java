@@ -22,6 +22,7 @@ import java.io.InputStreamReader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Map;
@@ -289,6 +290,11 @@ public class EnhancedServiceLoader {
                 new ConcurrentHashMap<>();
         private final ConcurrentMap<String, List<ExtensionDefinition<S>>> nameToDefinitionsMap = new ConcurrentHashMap<>();
         private final ConcurrentMap<Class<?>, ExtensionDefinition<S>> classToDefinitionMap = new ConcurrentHashMap<>();
+        /**
+         * The constructors looked up by the extension class and the arg types, the extensions created per call,
+         * such as the executors of the statements, are not looked up reflectively each time.
+         */
+        private final ConcurrentMap<ConstructorKey, Constructor<S>> constructorMap = new ConcurrentHashMap<>();
 
         private InnerEnhancedServiceLoader(Class<S> type) {
             this.type = type;
@@ -429,7 +435,7 @@ public class EnhancedServiceLoader {
 
         private S loadExtension(ClassLoader loader, Class<?>[] argTypes, Object[] args, boolean includeCompatible) {
             try {
-                loadAllExtensionClass(loader, includeCompatible);
+                loadAllExtensionDefinition(loader, includeCompatible);
                 ExtensionDefinition<S> defaultExtensionDefinition = getDefaultExtensionDefinition();
                 return getExtensionInstance(defaultExtensionDefinition, loader, argTypes, args);
             } catch (EnhancedServiceNotFoundException e) {
@@ -448,7 +454,7 @@ public class EnhancedServiceLoader {
                 throw new IllegalArgumentException("the name of service provider for [" + type.getName() + "] name is null");
             }
             try {
-                loadAllExtensionClass(loader, includeCompatible);
+                loadAllExtensionDefinition(loader, includeCompatible);
                 ExtensionDefinition<S> cachedExtensionDefinition = getCachedExtensionDefinition(activateName);
                 return getExtensionInstance(cachedExtensionDefinition, loader, argTypes, args);
             } catch (Throwable e) {
@@ -497,6 +503,11 @@ public class EnhancedServiceLoader {
         }
 
         private List<Class<S>> loadAllExtensionClass(ClassLoader loader, boolean includeCompatible) {
+            return loadAllExtensionDefinition(loader, includeCompatible).stream()
+                .map(ExtensionDefinition::getServiceClass).collect(Collectors.toList());
+        }
+
+        private List<ExtensionDefinition<S>> loadAllExtensionDefinition(ClassLoader loader, boolean includeCompatible) {
             List<ExtensionDefinition<S>> definitions = definitionsHolder.get();
             if (definitions == null) {
                 synchronized (definitionsHolder) {
@@ -507,7 +518,7 @@ public class EnhancedServiceLoader {
                     }
                 }
             }
-            return definitions.stream().map(ExtensionDefinition::getServiceClass).collect(Collectors.toList());
+            return definitions;
         }
 
         private List<ExtensionDefinition<S>> findAllExtensionDefinition(ClassLoader loader, boolean includeCompatible) {
@@ -697,7 +708,7 @@ public class EnhancedServiceLoader {
             S s = null;
             if (argTypes != null && args != null) {
                 // Constructor with arguments
-                Constructor<S> constructor = implClazz.getDeclaredConstructor(argTypes);
+                Constructor<S> constructor = getConstructor(implClazz, argTypes);
                 s = type.cast(constructor.newInstance(args));
             } else {
                 // default Constructor
@@ -709,6 +720,46 @@ public class EnhancedServiceLoader {
             return s;
         }
 
+        private Constructor<S> getConstructor(Class<S> implClazz, Class<?>[] argTypes) throws NoSuchMethodException {
+            ConstructorKey key = new ConstructorKey(implClazz, argTypes);
+            Constructor<S> constructor = constructorMap.get(key);
+            if (constructor == null) {
+                constructor = implClazz.getDeclaredConstructor(argTypes);
+                constructorMap.putIfAbsent(new ConstructorKey(implClazz, argTypes.clone()), constructor);
+            }
+            return constructor;
+        }
+
+        /**
+         * The key of a constructor.
+         */
+        private static class ConstructorKey {
+            private final Class<?> clazz;
+            private final Class<?>[] argTypes;
+
+            private ConstructorKey(Class<?> clazz, Class<?>[] argTypes) {
+                this.clazz = clazz;
+                this.argTypes = argTypes;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (this == o) {
+                    return true;
+                }
+                if (!(o instanceof ConstructorKey)) {
+                    return false;
+                }
+                ConstructorKey that = (ConstructorKey)o;
+                return clazz == that.clazz && Arrays.equals(argTypes, that.argTypes);
+            }
+
+            @Override
+            public int hashCode() {
+                return 31 * clazz.hashCode() + Arrays.hashCode(argTypes);
+            }
+        }
+
         /**
          * Helper Class for hold a value.
          * @param <T>
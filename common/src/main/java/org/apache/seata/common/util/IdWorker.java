@@ -119,6 +119,18 @@ public class IdWorker {
         return workerId | timestampWithSequence;
     }
 
+    /**
+     * get a range of continuous UUIDs at once
+     * @param count the count of the UUIDs
+     * @return the first UUID of the range, the others are the following ones
+     */
+    public long nextIds(int count) {
+        waitIfNecessary();
+        long first = timestampAndSequence.getAndAdd(count) + 1;
+        long timestampWithSequence = first & timestampAndSequenceMask;
+        return workerId | timestampWithSequence;
+    }
+
     /**
      * block current thread if the QPS of acquiring UUID is too high
      * that current sequence space is exhausted
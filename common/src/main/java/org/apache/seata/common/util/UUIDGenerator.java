@@ -42,6 +42,23 @@ public class UUIDGenerator {
         return idWorker.nextId();
     }
 
+    /**
+     * generate a range of continuous UUIDs at once
+     *
+     * @param count the count of the UUIDs
+     * @return the first UUID of the range
+     */
+    public static long generateUUIDs(int count) {
+        if (idWorker == null) {
+            try (ResourceLock ignored = RESOURCE_LOCK.obtain()) {
+                if (idWorker == null) {
+                    init(null);
+                }
+            }
+        }
+        return idWorker.nextIds(count);
+    }
+
     /**
      * init IdWorker
      *
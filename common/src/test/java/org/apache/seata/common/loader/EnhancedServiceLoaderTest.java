@@ -146,6 +146,23 @@ public class EnhancedServiceLoaderTest {
         assertThat(load).isInstanceOf(Hello2.class);
     }
 
+    @Test
+    public void testConstructorCachedByArgsType() throws NoSuchFieldException, IllegalAccessException {
+        EnhancedServiceLoader.unload(Hello2.class);
+        Hello2 load = EnhancedServiceLoader
+            .load(Hello2.class, "JapaneseHello", new Class[] {String.class}, new Object[] {"msg"});
+        assertThat(load).isInstanceOf(JapaneseHello.class);
+
+        Field serviceLoadersField = EnhancedServiceLoader.class.getDeclaredField("SERVICE_LOADERS");
+        serviceLoadersField.setAccessible(true);
+        Map<Class<?>, Object> serviceLoaders = (Map<Class<?>, Object>) serviceLoadersField.get(null);
+        Object innerEnhancedServiceLoader = serviceLoaders.get(Hello2.class);
+        Field constructorMapField = innerEnhancedServiceLoader.getClass().getDeclaredField("constructorMap");
+        constructorMapField.setAccessible(true);
+        Map<Object, Object> constructorMap = (Map<Object, Object>) constructorMapField.get(innerEnhancedServiceLoader);
+        assertThat(constructorMap).hasSize(1);
+    }
+
     @Test
     public void testUnloadAll() throws NoSuchFieldException, IllegalAccessException {
         Hello hello = EnhancedServiceLoader.load(Hello.class);
@@ -44,4 +44,12 @@ class IdWorkerTest {
         long id2 = worker.nextId();
         assertEquals(1L, id2 - id1, "increment step should be 1");
     }
+
+    @Test
+    void testNextIds() {
+        IdWorker worker = new IdWorker(null);
+        long first = worker.nextIds(100);
+        long next = worker.nextId();
+        assertEquals(100L, next - first, "the ids of the range should not be generated again");
+    }
 }
@@ -16,10 +16,8 @@
  */
 package org.apache.seata.config;
 
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.time.Duration;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -32,12 +30,11 @@ import org.apache.seata.common.util.StringUtils;
  */
 public class ConfigurationCache implements ConfigurationChangeListener {
 
-    private static final String PROXY_METHOD_PREFIX = "get";
+    private static final Object MISSING = new Object();
 
-    private static final String[] NOT_PROXY_METHOD_NAMES = new String[] {PROXY_METHOD_PREFIX + "LatestConfig", PROXY_METHOD_PREFIX + "ConfigListeners"};
     private static final Map<String, ObjectWrapper> CONFIG_CACHE = new ConcurrentHashMap<>();
 
-    private static final Set<String> DATA_ID_CACHED = new HashSet<>();
+    private static final Set<String> DATA_ID_CACHED = ConcurrentHashMap.newKeySet();
 
     public static ConfigurationCache getInstance() {
         return ConfigurationCacheInstance.INSTANCE;
@@ -69,49 +66,51 @@ public class ConfigurationCache implements ConfigurationChangeListener {
         }
     }
 
+    /**
+     * Wrap the configuration with the cache. The reads of the cached data ids are served from the cache, which is
+     * kept up to date by the change events of the data ids.
+     *
+     * @param originalConfiguration the original configuration
+     * @return the cached configuration
+     * @throws Exception the exception
+     */
     public Configuration proxy(Configuration originalConfiguration) throws Exception {
-        return (Configuration)Proxy.newProxyInstance(this.getClass().getClassLoader(), new Class[]{Configuration.class}
-            , (proxy, method, args) -> {
-                if (isProxyTargetMethod(method)) {
-                    String rawDataId = (String)args[0];
-                    ObjectWrapper wrapper = CONFIG_CACHE.get(rawDataId);
-                    ObjectWrapper.ConfigType type =
-                        ObjectWrapper.getTypeByName(method.getName().substring(PROXY_METHOD_PREFIX.length()));
-                    Object defaultValue = null;
-                    if (args.length > 1
-                            && method.getParameterTypes()[1].getSimpleName().equalsIgnoreCase(type.name())) {
-                        defaultValue = args[1];
-                    }
-                    if (null == wrapper
-                            || (null != defaultValue && !Objects.equals(defaultValue, wrapper.lastDefaultValue))) {
-                        if (DATA_ID_CACHED.add(rawDataId)) {
-                            originalConfiguration.addConfigListener(rawDataId, this);
-                        }
-                        Object result = method.invoke(originalConfiguration, args);
-                        // The wrapper.data only exists in the cache when it is not null.
-                        if (result != null) {
-                            wrapper = new ObjectWrapper(result, type, defaultValue);
-                            CONFIG_CACHE.put(rawDataId, wrapper);
-                        }
-                    }
-                    return wrapper == null ? null : wrapper.convertData(type);
-                }
-                return method.invoke(originalConfiguration, args);
-            }
-        );
+        return new CachedConfiguration(originalConfiguration, this);
     }
 
-    private boolean isProxyTargetMethod(Method method) {
-        String methodName = method.getName();
-        if (!methodName.startsWith(PROXY_METHOD_PREFIX)) {
-            return false;
-        }
-        for (String name : NOT_PROXY_METHOD_NAMES) {
-            if (methodName.equalsIgnoreCase(name)) {
-                return false;
+    /**
+     * Get the cached value of the data id, and listen on the data id before it is read from the original
+     * configuration for the first time.
+     *
+     * @return the cached value, {@link #MISSING} if the data id should be read from the original configuration
+     */
+    private Object get(Configuration originalConfiguration, String dataId, ObjectWrapper.ConfigType type,
+                       Object defaultValue) {
+        ObjectWrapper wrapper = CONFIG_CACHE.get(dataId);
+        if (null == wrapper || (null != defaultValue && !Objects.equals(defaultValue, wrapper.lastDefaultValue))) {
+            if (DATA_ID_CACHED.add(dataId)) {
+                originalConfiguration.addConfigListener(dataId, this);
             }
+            return MISSING;
         }
-        return true;
+        return wrapper.convertData(type);
+    }
+
+    /**
+     * Cache the value read from the original configuration.
+     *
+     * @return the value to return
+     */
+    private Object put(String dataId, ObjectWrapper.ConfigType type, Object defaultValue, Object result) {
+        ObjectWrapper wrapper;
+        // The wrapper.data only exists in the cache when it is not null.
+        if (result != null) {
+            wrapper = new ObjectWrapper(result, type, defaultValue);
+            CONFIG_CACHE.put(dataId, wrapper);
+        } else {
+            wrapper = CONFIG_CACHE.get(dataId);
+        }
+        return wrapper == null ? null : wrapper.convertData(type);
     }
 
     private static class ConfigurationCacheInstance {
@@ -122,6 +121,276 @@ public class ConfigurationCache implements ConfigurationChangeListener {
         CONFIG_CACHE.clear();
     }
 
+    /**
+     * The configuration reading the cached data ids from the cache, without the reflective dispatch of a proxy.
+     */
+    private static final class CachedConfiguration implements Configuration {
+
+        private final Configuration configuration;
+
+        private final ConfigurationCache cache;
+
+        CachedConfiguration(Configuration configuration, ConfigurationCache cache) {
+            this.configuration = configuration;
+            this.cache = cache;
+        }
+
+        private Object get(String dataId, ObjectWrapper.ConfigType type, Object defaultValue) {
+            return cache.get(configuration, dataId, type, defaultValue);
+        }
+
+        private Object put(String dataId, ObjectWrapper.ConfigType type, Object defaultValue, Object result) {
+            return cache.put(dataId, type, defaultValue, result);
+        }
+
+        @Override
+        public short getShort(String dataId, short defaultValue, long timeoutMills) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.SHORT, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.SHORT, defaultValue,
+                    configuration.getShort(dataId, defaultValue, timeoutMills));
+            }
+            return (Short)value;
+        }
+
+        @Override
+        public short getShort(String dataId, short defaultValue) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.SHORT, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.SHORT, defaultValue,
+                    configuration.getShort(dataId, defaultValue));
+            }
+            return (Short)value;
+        }
+
+        @Override
+        public short getShort(String dataId) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.SHORT, null);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.SHORT, null, configuration.getShort(dataId));
+            }
+            return (Short)value;
+        }
+
+        @Override
+        public int getInt(String dataId, int defaultValue, long timeoutMills) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.INT, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.INT, defaultValue,
+                    configuration.getInt(dataId, defaultValue, timeoutMills));
+            }
+            return (Integer)value;
+        }
+
+        @Override
+        public int getInt(String dataId, int defaultValue) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.INT, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.INT, defaultValue,
+                    configuration.getInt(dataId, defaultValue));
+            }
+            return (Integer)value;
+        }
+
+        @Override
+        public int getInt(String dataId) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.INT, null);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.INT, null, configuration.getInt(dataId));
+            }
+            return (Integer)value;
+        }
+
+        @Override
+        public long getLong(String dataId, long defaultValue, long timeoutMills) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.LONG, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.LONG, defaultValue,
+                    configuration.getLong(dataId, defaultValue, timeoutMills));
+            }
+            return (Long)value;
+        }
+
+        @Override
+        public long getLong(String dataId, long defaultValue) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.LONG, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.LONG, defaultValue,
+                    configuration.getLong(dataId, defaultValue));
+            }
+            return (Long)value;
+        }
+
+        @Override
+        public long getLong(String dataId) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.LONG, null);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.LONG, null, configuration.getLong(dataId));
+            }
+            return (Long)value;
+        }
+
+        @Override
+        public Duration getDuration(String dataId) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.DURATION, null);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.DURATION, null, configuration.getDuration(dataId));
+            }
+            return (Duration)value;
+        }
+
+        @Override
+        public Duration getDuration(String dataId, Duration defaultValue) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.DURATION, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.DURATION, defaultValue,
+                    configuration.getDuration(dataId, defaultValue));
+            }
+            return (Duration)value;
+        }
+
+        @Override
+        public Duration getDuration(String dataId, Duration defaultValue, long timeoutMills) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.DURATION, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.DURATION, defaultValue,
+                    configuration.getDuration(dataId, defaultValue, timeoutMills));
+            }
+            return (Duration)value;
+        }
+
+        @Override
+        public boolean getBoolean(String dataId, boolean defaultValue, long timeoutMills) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.BOOLEAN, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.BOOLEAN, defaultValue,
+                    configuration.getBoolean(dataId, defaultValue, timeoutMills));
+            }
+            return (Boolean)value;
+        }
+
+        @Override
+        public boolean getBoolean(String dataId, boolean defaultValue) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.BOOLEAN, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.BOOLEAN, defaultValue,
+                    configuration.getBoolean(dataId, defaultValue));
+            }
+            return (Boolean)value;
+        }
+
+        @Override
+        public boolean getBoolean(String dataId) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.BOOLEAN, null);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.BOOLEAN, null, configuration.getBoolean(dataId));
+            }
+            return (Boolean)value;
+        }
+
+        @Override
+        public String getConfig(String dataId, String defaultValue, long timeoutMills) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.STRING, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.STRING, defaultValue,
+                    configuration.getConfig(dataId, defaultValue, timeoutMills));
+            }
+            return (String)value;
+        }
+
+        @Override
+        public String getConfig(String dataId, String defaultValue) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.STRING, defaultValue);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.STRING, defaultValue,
+                    configuration.getConfig(dataId, defaultValue));
+            }
+            return (String)value;
+        }
+
+        @Override
+        public String getConfig(String dataId, long timeoutMills) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.STRING, null);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.STRING, null, configuration.getConfig(dataId, timeoutMills));
+            }
+            return (String)value;
+        }
+
+        @Override
+        public String getConfig(String dataId) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.STRING, null);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.STRING, null, configuration.getConfig(dataId));
+            }
+            return (String)value;
+        }
+
+        @Override
+        public String getConfigFromSys(String dataId) {
+            Object value = get(dataId, ObjectWrapper.ConfigType.STRING, null);
+            if (value == MISSING) {
+                value = put(dataId, ObjectWrapper.ConfigType.STRING, null, configuration.getConfigFromSys(dataId));
+            }
+            return (String)value;
+        }
+
+        @Override
+        public boolean putConfig(String dataId, String content, long timeoutMills) {
+            return configuration.putConfig(dataId, content, timeoutMills);
+        }
+
+        @Override
+        public String getLatestConfig(String dataId, String defaultValue, long timeoutMills) {
+            return configuration.getLatestConfig(dataId, defaultValue, timeoutMills);
+        }
+
+        @Override
+        public boolean putConfig(String dataId, String content) {
+            return configuration.putConfig(dataId, content);
+        }
+
+        @Override
+        public boolean putConfigIfAbsent(String dataId, String content, long timeoutMills) {
+            return configuration.putConfigIfAbsent(dataId, content, timeoutMills);
+        }
+
+        @Override
+        public boolean putConfigIfAbsent(String dataId, String content) {
+            return configuration.putConfigIfAbsent(dataId, content);
+        }
+
+        @Override
+        public boolean removeConfig(String dataId, long timeoutMills) {
+            return configuration.removeConfig(dataId, timeoutMills);
+        }
+
+        @Override
+        public boolean removeConfig(String dataId) {
+            return configuration.removeConfig(dataId);
+        }
+
+        @Override
+        public void addConfigListener(String dataId, ConfigurationChangeListener listener) {
+            configuration.addConfigListener(dataId, listener);
+        }
+
+        @Override
+        public void removeConfigListener(String dataId, ConfigurationChangeListener listener) {
+            configuration.removeConfigListener(dataId, listener);
+        }
+
+        @Override
+        public Set<ConfigurationChangeListener> getConfigListeners(String dataId) {
+            return configuration.getConfigListeners(dataId);
+        }
+
+        @Override
+        public String toString() {
+            return configuration.toString();
+        }
+    }
+
     private static class ObjectWrapper {
         private final Object data;
         private final ConfigType type;
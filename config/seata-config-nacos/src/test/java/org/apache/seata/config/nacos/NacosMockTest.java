@@ -16,7 +16,6 @@
  */
 package org.apache.seata.config.nacos;
 
-import java.lang.reflect.UndeclaredThrowableException;
 import java.time.Duration;
 import java.util.Properties;
 import java.util.Set;
@@ -27,6 +26,7 @@ import com.alibaba.nacos.api.NacosFactory;
 import com.alibaba.nacos.api.config.ConfigService;
 import com.alibaba.nacos.api.exception.NacosException;
 
+import org.apache.seata.common.exception.NotSupportYetException;
 import org.apache.seata.config.Configuration;
 import org.apache.seata.config.ConfigurationCache;
 import org.apache.seata.config.ConfigurationChangeEvent;
@@ -149,7 +149,7 @@ public class NacosMockTest {
     @Order(3)
     public void putConfigIfAbsent() {
         Configuration configuration = ConfigurationFactory.getInstance();
-        Assertions.assertThrows(UndeclaredThrowableException.class, () -> {
+        Assertions.assertThrows(NotSupportYetException.class, () -> {
             configuration.putConfigIfAbsent(NACOS_DATAID, "TEST");
         });
     }
@@ -75,6 +75,18 @@ public interface MessageType {
      * The constant TYPE_GLOBAL_LOCK_QUERY_RESULT.
      */
     short TYPE_GLOBAL_LOCK_QUERY_RESULT = 22;
+    /**
+     * The constant TYPE_GLOBAL_LEASE.
+     */
+    short TYPE_GLOBAL_LEASE = 23;
+    /**
+     * The constant TYPE_GLOBAL_LEASE_RESULT.
+     */
+    short TYPE_GLOBAL_LEASE_RESULT = 24;
+    /**
+     * The constant TYPE_GLOBAL_LEASE_BEGIN, its result is TYPE_GLOBAL_LEASE_RESULT.
+     */
+    short TYPE_GLOBAL_LEASE_BEGIN = 26;
 
     /**
      * The constant TYPE_BRANCH_COMMIT.
@@ -108,6 +120,10 @@ public interface MessageType {
      * The constant TYPE_BRANCH_STATUS_REPORT_RESULT.
      */
     short TYPE_BRANCH_STATUS_REPORT_RESULT = 14;
+    /**
+     * The constant TYPE_BRANCH_REGISTER_REPORT, its result is TYPE_BRANCH_REGISTER_RESULT.
+     */
+    short TYPE_BRANCH_REGISTER_REPORT = 25;
 
     /**
      * The constant TYPE_SEATA_MERGE.
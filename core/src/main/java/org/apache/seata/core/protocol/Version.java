@@ -40,6 +40,7 @@ public class Version {
     private static final String VERSION_0_7_1 = "0.7.1";
     private static final String VERSION_1_5_0 = "1.5.0";
     private static final String VERSION_2_3_0 = "2.3.0";
+    private static final String VERSION_2_4_0 = "2.4.0";
     private static final int MAX_VERSION_DOT = 3;
 
     /**
@@ -94,6 +95,10 @@ public class Version {
         return isAboveOrEqualVersion(version, VERSION_2_3_0);
     }
 
+    public static boolean isAboveOrEqualVersion240(String version) {
+        return isAboveOrEqualVersion(version, VERSION_2_4_0);
+    }
+
     public static boolean isAboveOrEqualVersion(String clientVersion, String divideVersion) {
         boolean isAboveOrEqualVersion = false;
         try {
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.protocol.transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.seata.core.protocol.MessageType;
+import org.apache.seata.core.rpc.RpcContext;
+
+/**
+ * The type Branch register report request, registers a branch and reports the branches of the same
+ * global transaction which were done in phase one since the last registration.
+ *
+ */
+public class BranchRegisterReportRequest extends BranchRegisterRequest {
+
+    private List<Long> doneBranchIds = new ArrayList<>();
+
+    /**
+     * Gets done branch ids.
+     *
+     * @return the ids of the branches to report as phase one done
+     */
+    public List<Long> getDoneBranchIds() {
+        return doneBranchIds;
+    }
+
+    /**
+     * Sets done branch ids.
+     *
+     * @param doneBranchIds the ids of the branches to report as phase one done
+     */
+    public void setDoneBranchIds(List<Long> doneBranchIds) {
+        this.doneBranchIds = doneBranchIds;
+    }
+
+    @Override
+    public short getTypeCode() {
+        return MessageType.TYPE_BRANCH_REGISTER_REPORT;
+    }
+
+    @Override
+    public AbstractTransactionResponse handle(RpcContext rpcContext) {
+        return handler.handle(this, rpcContext);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(super.toString());
+        sb.setLength(sb.length() - 1);
+        sb.append(", doneBranchIds=").append(doneBranchIds);
+        sb.append('}');
+        return sb.toString();
+    }
+}
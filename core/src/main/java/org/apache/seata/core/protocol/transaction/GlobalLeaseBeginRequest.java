@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.protocol.transaction;
+
+import org.apache.seata.core.protocol.MessageType;
+import org.apache.seata.core.rpc.RpcContext;
+
+/**
+ * The type Global lease begin request, tells the TC the name and the begin time of a global transaction
+ * which the TM began locally with a leased xid.
+ *
+ */
+public class GlobalLeaseBeginRequest extends AbstractTransactionRequestToTC {
+
+    private String xid;
+
+    private String transactionName;
+
+    private long beginTime;
+
+    /**
+     * Gets xid.
+     *
+     * @return the leased xid
+     */
+    public String getXid() {
+        return xid;
+    }
+
+    /**
+     * Sets xid.
+     *
+     * @param xid the leased xid
+     */
+    public void setXid(String xid) {
+        this.xid = xid;
+    }
+
+    /**
+     * Gets transaction name.
+     *
+     * @return the transaction name
+     */
+    public String getTransactionName() {
+        return transactionName;
+    }
+
+    /**
+     * Sets transaction name.
+     *
+     * @param transactionName the transaction name
+     */
+    public void setTransactionName(String transactionName) {
+        this.transactionName = transactionName;
+    }
+
+    /**
+     * Gets begin time.
+     *
+     * @return the time the TM began the global transaction at
+     */
+    public long getBeginTime() {
+        return beginTime;
+    }
+
+    /**
+     * Sets begin time.
+     *
+     * @param beginTime the time the TM began the global transaction at
+     */
+    public void setBeginTime(long beginTime) {
+        this.beginTime = beginTime;
+    }
+
+    @Override
+    public short getTypeCode() {
+        return MessageType.TYPE_GLOBAL_LEASE_BEGIN;
+    }
+
+    @Override
+    public AbstractTransactionResponse handle(RpcContext rpcContext) {
+        return handler.handle(this, rpcContext);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("GlobalLeaseBeginRequest{");
+        sb.append("xid='").append(xid).append('\'');
+        sb.append(", transactionName='").append(transactionName).append('\'');
+        sb.append(", beginTime=").append(beginTime);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.core.protocol.transaction;
+
+import org.apache.seata.core.protocol.MessageType;
+
+/**
+ * The type Global lease response.
+ *
+ */
+public class GlobalLeaseResponse extends AbstractTransactionResponse {
+
+    private String xid;
+
+    private int count;
+
+    private int leaseTime;
+
+    /**
+     * Gets xid.
+     *
+     * @return the xid of the first leased transaction id
+     */
+    public String getXid() {
+        return xid;
+    }
+
+    /**
+     * Sets xid.
+     *
+     * @param xid the xid of the first leased transaction id
+     */
+    public void setXid(String xid) {
+        this.xid = xid;
+    }
+
+    /**
+     * Gets count.
+     *
+     * @return the count of the leased transaction ids
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Sets count.
+     *
+     * @param count the count of the leased transaction ids
+     */
+    public void setCount(int count) {
+        this.count = count;
+    }
+
+    /**
+     * Gets lease time.
+     *
+     * @return the milliseconds in which the leased ids could be used to begin global transactions
+     */
+    public int getLeaseTime() {
+        return leaseTime;
+    }
+
+    /**
+     * Sets lease time.
+     *
+     * @param leaseTime the milliseconds in which the leased ids could be used to begin global transactions
+     */
+    public void setLeaseTime(int leaseTime) {
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public short getTypeCode() {
+        return MessageType.TYPE_GLOBAL_LEASE_RESULT;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("GlobalLeaseResponse{");
+        sb.append("xid='").append(xid).append('\'');
+        sb.append(", count=").append(count);
+        sb.append(", leaseTime=").append(leaseTime);
+        sb.append(", resultCode=").append(resultCode);
+        sb.append(", msg='").append(msg).append('\'');
+        sb.append('}');
+        return sb.toString();
+    }
+}
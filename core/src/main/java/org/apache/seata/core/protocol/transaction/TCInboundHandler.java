@@ -60,6 +60,15 @@ public interface TCInboundHandler {
      */
     BranchRegisterResponse handle(BranchRegisterRequest branchRegister, RpcContext rpcContext);
 
+    /**
+     * Handle branch register with the reports of the branches done in phase one.
+     *
+     * @param branchRegisterReport the branch register report
+     * @param rpcContext           the rpc context
+     * @return the branch register response
+     */
+    BranchRegisterResponse handle(BranchRegisterReportRequest branchRegisterReport, RpcContext rpcContext);
+
     /**
      * Handle branch report response.
      *
@@ -96,4 +105,22 @@ public interface TCInboundHandler {
      */
     GlobalReportResponse handle(GlobalReportRequest globalReport, RpcContext rpcContext);
 
+    /**
+     * Handle global lease request.
+     *
+     * @param globalLease the global lease request
+     * @param rpcContext  the rpc context
+     * @return the global lease response
+     */
+    GlobalLeaseResponse handle(GlobalLeaseRequest globalLease, RpcContext rpcContext);
+
+    /**
+     * Handle global lease begin request.
+     *
+     * @param globalLeaseBegin the global lease begin request
+     * @param rpcContext       the rpc context
+     * @return the global lease response
+     */
+    GlobalLeaseResponse handle(GlobalLeaseBeginRequest globalLeaseBegin, RpcContext rpcContext);
+
 }
@@ -30,11 +30,13 @@ import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.seata.common.exception.FrameworkErrorCode;
 import org.apache.seata.common.exception.FrameworkException;
+import org.apache.seata.common.lock.ResourceLock;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
 import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.thread.PositiveAtomicCounter;
@@ -88,7 +90,15 @@ public abstract class AbstractNettyRemoting implements Disposable {
      */
     protected volatile long nowMills = 0;
     private static final int TIMEOUT_CHECK_INTERVAL = 3000;
-    protected final Object lock = new Object();
+    /**
+     * A lock instead of the monitor, the callers waiting for the channel writable are not pinned to the carrier
+     * threads when they are virtual threads.
+     */
+    protected final ResourceLock lock = new ResourceLock();
+    /**
+     * Signalled when a channel becomes writable.
+     */
+    protected final Condition writable = lock.newCondition();
     /**
      * The Is sending.
      */
@@ -343,7 +353,7 @@ public abstract class AbstractNettyRemoting implements Disposable {
 
     private void channelWritableCheck(Channel channel, Object msg) {
         int tryTimes = 0;
-        synchronized (lock) {
+        try (ResourceLock ignored = lock.obtain()) {
             while (!channel.isWritable()) {
                 try {
                     tryTimes++;
@@ -352,7 +362,7 @@ public abstract class AbstractNettyRemoting implements Disposable {
                         throw new FrameworkException("msg:" + ((msg == null) ? "null" : msg.toString()),
                             FrameworkErrorCode.ChannelIsNotWritable);
                     }
-                    lock.wait(NOT_WRITEABLE_CHECK_MILLS);
+                    writable.await(NOT_WRITEABLE_CHECK_MILLS, TimeUnit.MILLISECONDS);
                 } catch (InterruptedException exx) {
                     LOGGER.error(exx.getMessage());
                 }
@@ -28,6 +28,7 @@ import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
 import java.util.function.Function;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelDuplexHandler;
@@ -39,6 +40,7 @@ import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.seata.common.exception.FrameworkErrorCode;
 import org.apache.seata.common.exception.FrameworkException;
+import org.apache.seata.common.lock.ResourceLock;
 import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.NetUtil;
@@ -50,14 +52,17 @@ import org.apache.seata.core.protocol.MergedWarpMessage;
 import org.apache.seata.core.protocol.MessageFuture;
 import org.apache.seata.core.protocol.ProtocolConstants;
 import org.apache.seata.core.protocol.RpcMessage;
+import org.apache.seata.core.protocol.Version;
 import org.apache.seata.core.protocol.transaction.AbstractGlobalEndRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.apache.seata.core.protocol.transaction.BranchReportRequest;
 import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseBeginRequest;
 import org.apache.seata.core.rpc.RemotingClient;
 import org.apache.seata.core.rpc.TransactionMessageHandler;
 import org.apache.seata.core.rpc.processor.Pair;
 import org.apache.seata.core.rpc.processor.RemotingProcessor;
+import org.apache.seata.core.serializer.SerializerType;
 import org.apache.seata.discovery.loadbalance.LoadBalanceFactory;
 import org.apache.seata.discovery.registry.RegistryFactory;
 import org.slf4j.Logger;
@@ -82,7 +87,8 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
     private static final long SCHEDULE_DELAY_MILLS = 60 * 1000L;
     private static final long SCHEDULE_INTERVAL_MILLS = 10 * 1000L;
     private static final String MERGE_THREAD_PREFIX = "rpcMergeMessageSend";
-    protected final Object mergeLock = new Object();
+    protected final ResourceLock mergeLock = new ResourceLock();
+    protected final Condition mergeCondition = mergeLock.newCondition();
 
     /**
      * When sending message type is {@link MergeMessage}, will be stored to mergeMsgMap.
@@ -138,6 +144,60 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
     @Override
     public Object sendSyncRequest(Object msg) throws TimeoutException {
         String serverAddress = loadBalance(getTransactionServiceGroup(), msg);
+        return sendSyncRequest(serverAddress, msg);
+    }
+
+    /**
+     * Send the request which the older servers do not know, the request is not sent if the selected server
+     * is older than 2.4.0.
+     *
+     * @param msg the request
+     * @return the response, null if the selected server is older than 2.4.0 or the serializer is not seata
+     * @throws TimeoutException the timeout exception
+     */
+    public Object sendSyncRequestAboveVersion240(Object msg) throws TimeoutException {
+        if (!isSeataCodec()) {
+            return null;
+        }
+        String serverAddress = loadBalance(getTransactionServiceGroup(), msg);
+        Channel channel = clientChannelManager.acquireChannel(serverAddress);
+        String serverVersion = Version.getChannelVersion(channel);
+        if (StringUtils.isBlank(serverVersion) || !Version.isAboveOrEqualVersion240(serverVersion)) {
+            return null;
+        }
+        return sendSyncRequest(serverAddress, msg);
+    }
+
+    /**
+     * Send the request which the older servers do not know without waiting for the response, the request is not
+     * sent if the selected server is older than 2.4.0.
+     *
+     * @param msg the request
+     * @return true if the request is sent, false if the selected server is older than 2.4.0 or the serializer is
+     * not seata
+     */
+    public boolean sendAsyncRequestAboveVersion240(Object msg) {
+        if (!isSeataCodec()) {
+            return false;
+        }
+        String serverAddress = loadBalance(getTransactionServiceGroup(), msg);
+        Channel channel = clientChannelManager.acquireChannel(serverAddress);
+        String serverVersion = Version.getChannelVersion(channel);
+        if (StringUtils.isBlank(serverVersion) || !Version.isAboveOrEqualVersion240(serverVersion)) {
+            return false;
+        }
+        sendAsyncRequest(channel, msg);
+        return true;
+    }
+
+    /**
+     * The requests above 2.4.0 are only encoded by the seata serializer.
+     */
+    private static boolean isSeataCodec() {
+        return ProtocolConstants.CONFIGURED_CODEC == SerializerType.SEATA.getCode();
+    }
+
+    private Object sendSyncRequest(String serverAddress, Object msg) throws TimeoutException {
         long timeoutMillis = this.getRpcRequestTimeout();
         RpcMessage rpcMessage = buildRequestMessage(msg, ProtocolConstants.MSGTYPE_RESQUEST_SYNC);
 
@@ -163,8 +223,8 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
                 LOGGER.debug("offer message: {}", rpcMessage.getBody());
             }
             if (!isSending) {
-                synchronized (mergeLock) {
-                    mergeLock.notifyAll();
+                try (ResourceLock ignored = mergeLock.obtain()) {
+                    mergeCondition.signalAll();
                 }
             }
 
@@ -294,6 +354,8 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
             xid = ((BranchRegisterRequest) msg).getXid();
         } else if (msg instanceof BranchReportRequest) {
             xid = ((BranchReportRequest) msg).getXid();
+        } else if (msg instanceof GlobalLeaseBeginRequest) {
+            xid = ((GlobalLeaseBeginRequest) msg).getXid();
         } else {
             try {
                 Field field = msg.getClass().getDeclaredField("xid");
@@ -344,11 +406,9 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
         @Override
         public void run() {
             while (true) {
-                synchronized (mergeLock) {
-                    try {
-                        mergeLock.wait(MAX_MERGE_SEND_MILLS);
-                    } catch (InterruptedException e) {
-                    }
+                try (ResourceLock ignored = mergeLock.obtain()) {
+                    mergeCondition.await(MAX_MERGE_SEND_MILLS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
                 }
                 isSending = true;
                 basketMap.forEach((address, basket) -> {
@@ -431,9 +491,9 @@ public abstract class AbstractNettyRemotingClient extends AbstractNettyRemoting
 
         @Override
         public void channelWritabilityChanged(ChannelHandlerContext ctx) {
-            synchronized (lock) {
-                if (ctx.channel().isWritable()) {
-                    lock.notifyAll();
+            if (ctx.channel().isWritable()) {
+                try (ResourceLock ignored = lock.obtain()) {
+                    writable.signalAll();
                 }
             }
             ctx.fireChannelWritabilityChanged();
@@ -33,6 +33,7 @@ import io.netty.channel.Channel;
 import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.exception.FrameworkErrorCode;
 import org.apache.seata.common.exception.FrameworkException;
+import org.apache.seata.common.lock.ResourceLock;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.NetUtil;
 import org.apache.seata.common.util.StringUtils;
@@ -51,7 +52,7 @@ class NettyClientChannelManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(NettyClientChannelManager.class);
 
-    private final ConcurrentMap<String, Object> channelLocks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ResourceLock> channelLocks = new ConcurrentHashMap<>();
 
     private final ConcurrentMap<String, NettyPoolKey> poolKeyMap = new ConcurrentHashMap<>();
 
@@ -105,8 +106,9 @@ class NettyClientChannelManager {
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info("will connect to {}", serverAddress);
         }
-        Object lockObj = CollectionUtils.computeIfAbsent(channelLocks, serverAddress, key -> new Object());
-        synchronized (lockObj) {
+        // not a monitor, the virtual threads waiting for the connection are not pinned to the carrier threads
+        ResourceLock lock = CollectionUtils.computeIfAbsent(channelLocks, serverAddress, key -> new ResourceLock());
+        try (ResourceLock ignored = lock.obtain()) {
             return doConnect(serverAddress);
         }
     }
@@ -120,7 +122,7 @@ class NettyClientChannelManager {
     void releaseChannel(Channel channel, String serverAddress) {
         if (channel == null || serverAddress == null) { return; }
         try {
-            synchronized (channelLocks.get(serverAddress)) {
+            try (ResourceLock ignored = channelLocks.get(serverAddress).obtain()) {
                 Channel ch = channels.get(serverAddress);
                 if (ch == null) {
                     nettyClientKeyPool.returnObject(poolKeyMap.get(serverAddress), channel);
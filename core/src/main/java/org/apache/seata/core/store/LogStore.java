@@ -50,6 +50,30 @@ public interface LogStore {
      */
     List<GlobalTransactionDO> queryGlobalTransactionDO(int[] status, int limit);
 
+    /**
+     * Query global transaction do list of a shard.
+     *
+     * @param status     the status
+     * @param limit      the limit
+     * @param shard      the shard
+     * @param shardCount the shard count
+     * @return the list
+     */
+    List<GlobalTransactionDO> queryGlobalTransactionDO(int[] status, int limit, int shard, int shardCount);
+
+    /**
+     * Query global transaction do list after the given one, in the order of the modified time and the xid.
+     *
+     * @param status     the status
+     * @param limit      the limit
+     * @param shard      the shard
+     * @param shardCount the shard count, 0 if not sharded
+     * @param after      the last global transaction do of the previous page, null to query the first page
+     * @return the list
+     */
+    List<GlobalTransactionDO> queryGlobalTransactionDO(int[] status, int limit, int shard, int shardCount,
+                                                       GlobalTransactionDO after);
+
     /**
      * Insert global transaction do boolean.
      *
@@ -52,6 +52,11 @@ public class AbstractLockStoreSql implements LockStoreSql {
      */
     protected static final String IN_PARAMS_PLACE_HOLD = " #in_params# ";
 
+    /**
+     * The constant VALUES_PLACE_HOLD.
+     */
+    protected static final String VALUES_PLACE_HOLD = " #values# ";
+
     /**
      * The constant LOCK_TABLE_PK_WHERE_CONDITION_PLACE_HOLD.
      */
@@ -134,6 +139,11 @@ public class AbstractLockStoreSql implements LockStoreSql {
         throw new NotSupportYetException("unknown dbType:" + CONFIG.getConfig(ConfigurationKeys.STORE_DB_TYPE));
     }
 
+    @Override
+    public String getInsertIgnoreLockSql(String lockTable, int rowSize) {
+        return null;
+    }
+
     @Override
     public String getDeleteLockSql(String lockTable) {
         return DELETE_LOCK_SQL.replace(LOCK_TABLE_PLACE_HOLD, lockTable);
@@ -175,6 +185,25 @@ public class AbstractLockStoreSql implements LockStoreSql {
         return BATCH_UPDATE_STATUS_LOCK_BY_GLOBAL_SQL.replace(LOCK_TABLE_PLACE_HOLD, lockTable);
     }
 
+    /**
+     * Build the values of the rows by repeating the values of one row.
+     *
+     * @param rowValues the values of one row
+     * @param separator the separator between the rows
+     * @param rowSize   the row size of records
+     * @return the values of the rows
+     */
+    protected String buildValues(String rowValues, String separator, int rowSize) {
+        StringBuilder values = new StringBuilder((rowValues.length() + separator.length()) * rowSize);
+        for (int i = 0; i < rowSize; i++) {
+            if (i > 0) {
+                values.append(separator);
+            }
+            values.append(rowValues);
+        }
+        return values.toString();
+    }
+
     /**
      * each pk is a condition.the result will like :" (id,userCode) in ((?,?),(?,?)) or (id,userCode) in ((?,?),(?,?)
      * ) or (id,userCode) in ((?,?))"
@@ -24,4 +24,8 @@ import org.apache.seata.common.loader.LoadLevel;
 @LoadLevel(name = "kingbase")
 public class KingbaseLockStoreSql extends OracleLockStoreSql {
 
+    @Override
+    public String getInsertIgnoreLockSql(String lockTable, int rowSize) {
+        return null;
+    }
 }
@@ -40,6 +40,15 @@ public interface LockStoreSql {
      */
     String getInsertLockSQL(String lockTable);
 
+    /**
+     * Get the sql inserting the rows of the lock keys not existed yet in one statement.
+     *
+     * @param lockTable the lock table
+     * @param rowSize   the size of rowkey
+     * @return the string, null if the database has no such statement
+     */
+    String getInsertIgnoreLockSql(String lockTable, int rowSize);
+
     /**
      * Get delete lock sql string.
      *
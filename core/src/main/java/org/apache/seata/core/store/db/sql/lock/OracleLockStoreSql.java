@@ -17,6 +17,7 @@
 package org.apache.seata.core.store.db.sql.lock;
 
 import org.apache.seata.common.loader.LoadLevel;
+import org.apache.seata.core.constants.ServerTableColumnsName;
 
 /**
  * the database lock store oracle sql
@@ -32,9 +33,33 @@ public class OracleLockStoreSql extends AbstractLockStoreSql {
     private static final String INSERT_LOCK_SQL_ORACLE = "insert into " + LOCK_TABLE_PLACE_HOLD + "(" + ALL_COLUMNS + ")"
         + " values (?, ?, ?, ?, ?, ?, ?, sysdate, sysdate, ?)";
 
+    /**
+     * The constant INSERT_IGNORE_LOCK_SQL_ORACLE.
+     */
+    private static final String INSERT_IGNORE_LOCK_SQL_ORACLE = "merge into " + LOCK_TABLE_PLACE_HOLD + " t using ("
+        + VALUES_PLACE_HOLD + ") s on (t." + ServerTableColumnsName.LOCK_TABLE_ROW_KEY + " = s."
+        + ServerTableColumnsName.LOCK_TABLE_ROW_KEY + ")"
+        + " when not matched then insert (" + ALL_COLUMNS + ") values (s." + ServerTableColumnsName.LOCK_TABLE_XID
+        + ", s." + ServerTableColumnsName.LOCK_TABLE_TRANSACTION_ID + ", s." + ServerTableColumnsName.LOCK_TABLE_BRANCH_ID
+        + ", s." + ServerTableColumnsName.LOCK_TABLE_RESOURCE_ID + ", s." + ServerTableColumnsName.LOCK_TABLE_TABLE_NAME
+        + ", s." + ServerTableColumnsName.LOCK_TABLE_PK + ", s." + ServerTableColumnsName.LOCK_TABLE_ROW_KEY
+        + ", sysdate, sysdate, s." + ServerTableColumnsName.LOCK_TABLE_STATUS + ")";
+
+    private static final String ROW_VALUES_ORACLE = "select ? " + ServerTableColumnsName.LOCK_TABLE_XID
+        + ", ? " + ServerTableColumnsName.LOCK_TABLE_TRANSACTION_ID + ", ? " + ServerTableColumnsName.LOCK_TABLE_BRANCH_ID
+        + ", ? " + ServerTableColumnsName.LOCK_TABLE_RESOURCE_ID + ", ? " + ServerTableColumnsName.LOCK_TABLE_TABLE_NAME
+        + ", ? " + ServerTableColumnsName.LOCK_TABLE_PK + ", ? " + ServerTableColumnsName.LOCK_TABLE_ROW_KEY
+        + ", ? " + ServerTableColumnsName.LOCK_TABLE_STATUS + " from dual";
+
     @Override
     public String getInsertLockSQL(String lockTable) {
         return INSERT_LOCK_SQL_ORACLE.replace(LOCK_TABLE_PLACE_HOLD, lockTable);
     }
 
+    @Override
+    public String getInsertIgnoreLockSql(String lockTable, int rowSize) {
+        return INSERT_IGNORE_LOCK_SQL_ORACLE.replace(LOCK_TABLE_PLACE_HOLD, lockTable)
+            .replace(VALUES_PLACE_HOLD, buildValues(ROW_VALUES_ORACLE, " union all ", rowSize));
+    }
+
 }
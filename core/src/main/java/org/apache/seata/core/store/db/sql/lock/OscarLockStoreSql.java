@@ -25,4 +25,9 @@ import org.apache.seata.common.loader.LoadLevel;
  */
 @LoadLevel(name = "oscar")
 public class OscarLockStoreSql extends OracleLockStoreSql {
+
+    @Override
+    public String getInsertIgnoreLockSql(String lockTable, int rowSize) {
+        return null;
+    }
 }
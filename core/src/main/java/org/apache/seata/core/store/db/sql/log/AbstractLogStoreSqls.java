@@ -44,6 +44,17 @@ public abstract class AbstractLogStoreSqls implements LogStoreSqls {
      */
     public static final String WHERE_PLACEHOLD = " #where# ";
 
+    /**
+     * The constant ARCHIVE_TABLE_PLACEHOLD.
+     */
+    public static final String ARCHIVE_TABLE_PLACEHOLD = " #archive_table# ";
+
+    /**
+     * The constant STATUS_PLACEHOLD.
+     * format: ?, ?, ?
+     */
+    public static final String STATUS_PLACEHOLD = " #STATUS_PLACEHOLD# ";
+
     /**
      * The constant ALL_GLOBAL_COLUMNS.
      * xid, transaction_id, status, application_id, transaction_service_group, transaction_name, timeout, begin_time, application_data, gmt_create, gmt_modified
@@ -87,6 +98,13 @@ public abstract class AbstractLogStoreSqls implements LogStoreSqls {
             + "  from " + GLOBAL_TABLE_PLACEHOLD
             + " where " + ServerTableColumnsName.GLOBAL_TABLE_TRANSACTION_ID + " = ?";
 
+    /**
+     * The constant SEEK_CONDITION, the global transactions after the given modified time and xid.
+     */
+    private static final String SEEK_CONDITION = " and (" + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " > ?"
+            + " or (" + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED + " = ?"
+            + " and " + ServerTableColumnsName.GLOBAL_TABLE_XID + " > ?))";
+
     /**
      * The constant DELETE_BRANCH_TRANSACTION_BY_BRANCH_ID.
      */
@@ -94,6 +112,12 @@ public abstract class AbstractLogStoreSqls implements LogStoreSqls {
             + " where " + ServerTableColumnsName.BRANCH_TABLE_XID + " = ?"
             + "   and " + ServerTableColumnsName.BRANCH_TABLE_BRANCH_ID + " = ?";
 
+    /**
+     * The constant DELETE_BRANCH_TRANSACTION_BY_BRANCH_IDS.
+     */
+    public static final String DELETE_BRANCH_TRANSACTION_BY_BRANCH_IDS = "delete from " + BRANCH_TABLE_PLACEHOLD
+            + " where " + ServerTableColumnsName.BRANCH_TABLE_BRANCH_ID + " in (" + PRAMETER_PLACEHOLD + ")";
+
     /**
      * The constant DELETE_BRANCH_TRANSACTION_BY_XID.
      */
@@ -101,6 +125,38 @@ public abstract class AbstractLogStoreSqls implements LogStoreSqls {
             + " where " + ServerTableColumnsName.BRANCH_TABLE_XID + " = ?";
 
 
+    /**
+     * The constant ARCHIVE_GLOBAL_TRANSACTION.
+     */
+    public static final String ARCHIVE_GLOBAL_TRANSACTION = "insert into " + ARCHIVE_TABLE_PLACEHOLD
+            + "(" + ALL_GLOBAL_COLUMNS + ")"
+            + " select " + ALL_GLOBAL_COLUMNS
+            + "  from " + GLOBAL_TABLE_PLACEHOLD
+            + " where " + ServerTableColumnsName.GLOBAL_TABLE_XID + " in (" + PRAMETER_PLACEHOLD + ")"
+            + "   and " + ServerTableColumnsName.GLOBAL_TABLE_STATUS + " in (" + STATUS_PLACEHOLD + ")";
+
+    /**
+     * The constant DELETE_GLOBAL_TRANSACTION_BY_XIDS.
+     */
+    public static final String DELETE_GLOBAL_TRANSACTION_BY_XIDS = "delete from " + GLOBAL_TABLE_PLACEHOLD
+            + " where " + ServerTableColumnsName.GLOBAL_TABLE_XID + " in (" + PRAMETER_PLACEHOLD + ")"
+            + "   and " + ServerTableColumnsName.GLOBAL_TABLE_STATUS + " in (" + STATUS_PLACEHOLD + ")";
+
+    /**
+     * The constant ARCHIVE_BRANCH_TRANSACTION.
+     */
+    public static final String ARCHIVE_BRANCH_TRANSACTION = "insert into " + ARCHIVE_TABLE_PLACEHOLD
+            + "(" + ALL_BRANCH_COLUMNS + ")"
+            + " select " + ALL_BRANCH_COLUMNS
+            + "  from " + BRANCH_TABLE_PLACEHOLD
+            + " where " + ServerTableColumnsName.BRANCH_TABLE_XID + " in (" + PRAMETER_PLACEHOLD + ")";
+
+    /**
+     * The constant DELETE_BRANCH_TRANSACTION_BY_XIDS.
+     */
+    public static final String DELETE_BRANCH_TRANSACTION_BY_XIDS = "delete from " + BRANCH_TABLE_PLACEHOLD
+            + " where " + ServerTableColumnsName.BRANCH_TABLE_XID + " in (" + PRAMETER_PLACEHOLD + ")";
+
     /**
      * The constant QUERY_BRANCH_TRANSACTION.
      */
@@ -179,6 +235,39 @@ public abstract class AbstractLogStoreSqls implements LogStoreSqls {
     @Override
     public abstract String getQueryGlobalTransactionSQLByStatus(String globalTable, String paramsPlaceHolder);
 
+    @Override
+    public String getQueryGlobalTransactionSQLByStatusAndShard(String globalTable, String paramsPlaceHolder) {
+        String statusCondition = ServerTableColumnsName.GLOBAL_TABLE_STATUS + " in (" + paramsPlaceHolder + ")";
+        return getQueryGlobalTransactionSQLByStatus(globalTable, paramsPlaceHolder)
+            .replace(statusCondition, statusCondition + getShardCondition());
+    }
+
+    @Override
+    public String getQueryGlobalTransactionSQLByStatusAfter(String globalTable, String paramsPlaceHolder,
+                                                            boolean sharded) {
+        String condition = ServerTableColumnsName.GLOBAL_TABLE_STATUS + " in (" + paramsPlaceHolder + ")";
+        String sql;
+        if (sharded) {
+            sql = getQueryGlobalTransactionSQLByStatusAndShard(globalTable, paramsPlaceHolder);
+            condition += getShardCondition();
+        } else {
+            sql = getQueryGlobalTransactionSQLByStatus(globalTable, paramsPlaceHolder);
+        }
+        // the xid breaks the ties of the modified time, so that every page starts right after the previous one
+        String orderBy = " order by " + ServerTableColumnsName.GLOBAL_TABLE_GMT_MODIFIED;
+        return sql.replace(condition, condition + SEEK_CONDITION)
+            .replace(orderBy, orderBy + ", " + ServerTableColumnsName.GLOBAL_TABLE_XID);
+    }
+
+    /**
+     * Get the condition of the shard with the shard count and the shard parameters.
+     *
+     * @return the shard condition
+     */
+    protected String getShardCondition() {
+        return " and mod(" + ServerTableColumnsName.GLOBAL_TABLE_TRANSACTION_ID + ", ?) = ?";
+    }
+
     @Override
     public abstract String getQueryGlobalTransactionForRecoverySQL(String globalTable);
 
@@ -193,11 +282,44 @@ public abstract class AbstractLogStoreSqls implements LogStoreSqls {
         return DELETE_BRANCH_TRANSACTION_BY_BRANCH_ID.replace(BRANCH_TABLE_PLACEHOLD, branchTable);
     }
 
+    @Override
+    public String getDeleteBranchTransactionByBranchIdsSQL(String branchTable, String paramsPlaceHolder) {
+        return DELETE_BRANCH_TRANSACTION_BY_BRANCH_IDS.replace(BRANCH_TABLE_PLACEHOLD, branchTable)
+            .replace(PRAMETER_PLACEHOLD, paramsPlaceHolder);
+    }
+
     @Override
     public String getDeleteBranchTransactionByXId(String branchTable) {
         return DELETE_BRANCH_TRANSACTION_BY_XID.replace(BRANCH_TABLE_PLACEHOLD, branchTable);
     }
 
+    @Override
+    public String getArchiveGlobalTransactionSQL(String globalTable, String archiveTable, String xidsPlaceHolder,
+                                                 String statusesPlaceHolder) {
+        return ARCHIVE_GLOBAL_TRANSACTION.replace(ARCHIVE_TABLE_PLACEHOLD, archiveTable)
+            .replace(GLOBAL_TABLE_PLACEHOLD, globalTable).replace(PRAMETER_PLACEHOLD, xidsPlaceHolder)
+            .replace(STATUS_PLACEHOLD, statusesPlaceHolder);
+    }
+
+    @Override
+    public String getDeleteGlobalTransactionByXidsSQL(String globalTable, String xidsPlaceHolder,
+                                                      String statusesPlaceHolder) {
+        return DELETE_GLOBAL_TRANSACTION_BY_XIDS.replace(GLOBAL_TABLE_PLACEHOLD, globalTable)
+            .replace(PRAMETER_PLACEHOLD, xidsPlaceHolder).replace(STATUS_PLACEHOLD, statusesPlaceHolder);
+    }
+
+    @Override
+    public String getArchiveBranchTransactionSQL(String branchTable, String archiveTable, String xidsPlaceHolder) {
+        return ARCHIVE_BRANCH_TRANSACTION.replace(ARCHIVE_TABLE_PLACEHOLD, archiveTable)
+            .replace(BRANCH_TABLE_PLACEHOLD, branchTable).replace(PRAMETER_PLACEHOLD, xidsPlaceHolder);
+    }
+
+    @Override
+    public String getDeleteBranchTransactionByXidsSQL(String branchTable, String xidsPlaceHolder) {
+        return DELETE_BRANCH_TRANSACTION_BY_XIDS.replace(BRANCH_TABLE_PLACEHOLD, branchTable)
+            .replace(PRAMETER_PLACEHOLD, xidsPlaceHolder);
+    }
+
     @Override
     public String getQueryBranchTransaction(String branchTable) {
         return QUERY_BRANCH_TRANSACTION.replace(BRANCH_TABLE_PLACEHOLD, branchTable);
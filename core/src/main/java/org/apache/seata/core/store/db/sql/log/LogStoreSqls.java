@@ -96,6 +96,26 @@ public interface LogStoreSqls {
      */
     String getQueryGlobalTransactionSQLByStatus(String globalTable, String paramsPlaceHolder);
 
+    /**
+     * Get query global transaction sql by status of a shard, the transaction id modulo the shard count is the shard.
+     *
+     * @param globalTable       the global table
+     * @param paramsPlaceHolder the params place holder
+     * @return the string
+     */
+    String getQueryGlobalTransactionSQLByStatusAndShard(String globalTable, String paramsPlaceHolder);
+
+    /**
+     * Get query global transaction sql by status after the given modified time and xid, which are the seek
+     * parameters following the status and the shard parameters, ordered by the modified time and the xid.
+     *
+     * @param globalTable       the global table
+     * @param paramsPlaceHolder the params place holder
+     * @param sharded           whether to query a shard
+     * @return the string
+     */
+    String getQueryGlobalTransactionSQLByStatusAfter(String globalTable, String paramsPlaceHolder, boolean sharded);
+
     /**
      * Get query global transaction for recovery sql string.
      *
@@ -136,6 +156,15 @@ public interface LogStoreSqls {
      */
     String getDeleteBranchTransactionByBranchIdSQL(String branchTable);
 
+    /**
+     * Get delete branch transaction by branch ids sql string.
+     *
+     * @param branchTable       the branch table
+     * @param paramsPlaceHolder the place holder of the branch ids
+     * @return the string
+     */
+    String getDeleteBranchTransactionByBranchIdsSQL(String branchTable, String paramsPlaceHolder);
+
     /**
      * Get delete branch transaction by x id string.
      *
@@ -144,6 +173,47 @@ public interface LogStoreSqls {
      */
     String getDeleteBranchTransactionByXId(String branchTable);
 
+    /**
+     * Get the sql to copy the global transactions of the xids and the statuses into the archive table.
+     *
+     * @param globalTable         the global table
+     * @param archiveTable        the global archive table
+     * @param xidsPlaceHolder     the place holder of the xids
+     * @param statusesPlaceHolder the place holder of the statuses
+     * @return the string
+     */
+    String getArchiveGlobalTransactionSQL(String globalTable, String archiveTable, String xidsPlaceHolder,
+                                          String statusesPlaceHolder);
+
+    /**
+     * Get the sql to delete the global transactions of the xids and the statuses.
+     *
+     * @param globalTable         the global table
+     * @param xidsPlaceHolder     the place holder of the xids
+     * @param statusesPlaceHolder the place holder of the statuses
+     * @return the string
+     */
+    String getDeleteGlobalTransactionByXidsSQL(String globalTable, String xidsPlaceHolder, String statusesPlaceHolder);
+
+    /**
+     * Get the sql to copy the branch transactions of the xids into the archive table.
+     *
+     * @param branchTable     the branch table
+     * @param archiveTable    the branch archive table
+     * @param xidsPlaceHolder the place holder of the xids
+     * @return the string
+     */
+    String getArchiveBranchTransactionSQL(String branchTable, String archiveTable, String xidsPlaceHolder);
+
+    /**
+     * Get the sql to delete the branch transactions of the xids.
+     *
+     * @param branchTable     the branch table
+     * @param xidsPlaceHolder the place holder of the xids
+     * @return the string
+     */
+    String getDeleteBranchTransactionByXidsSQL(String branchTable, String xidsPlaceHolder);
+
     /**
      * Get query branch transaction string.
      *
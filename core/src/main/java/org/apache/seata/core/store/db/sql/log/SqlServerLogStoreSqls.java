@@ -117,6 +117,11 @@ public class SqlServerLogStoreSqls extends AbstractLogStoreSqls {
                 .replace(PRAMETER_PLACEHOLD, paramsPlaceHolder);
     }
 
+    @Override
+    protected String getShardCondition() {
+        return " and " + ServerTableColumnsName.GLOBAL_TABLE_TRANSACTION_ID + " % ? = ?";
+    }
+
     @Override
     public String getQueryGlobalTransactionForRecoverySQL(String globalTable) {
         return QUERY_GLOBAL_TRANSACTION_FOR_RECOVERY_SQLSERVER.replace(GLOBAL_TABLE_PLACEHOLD, globalTable);
@@ -50,6 +50,8 @@ public class LockStoreSqlFactoryTest {
 
     private static String EXPECT_CHECK_BRANCH_LOCKABLE_SQL = "select xid, transaction_id, branch_id, resource_id, table_name, pk, row_key, gmt_create, gmt_modified,status from " + BRANCH_TABLE + " where row_key in ( ?,?,? ) order by status desc ";
 
+    private static String EXPECT_ALL_COLUMNS = "xid, transaction_id, branch_id, resource_id, table_name, pk, row_key, gmt_create, gmt_modified,status";
+
     private static String EXPECT_BATCH_GLOBAL_DELETE_LOCK_SQL = "delete from " + GLOBAL_TABLE + " where xid = ? and (row_key in ( ?,?,? )) ";
 
     private static String EXPECT_BATCH_BRANCH_DELETE_LOCK_SQL = "delete from " + BRANCH_TABLE + " where xid = ? and (row_key in ( ?,?,? )) ";
@@ -103,6 +105,9 @@ public class LockStoreSqlFactoryTest {
         sql = MYSQL_LOCK_STORE.getCheckLockableSql(BRANCH_TABLE, 3);
         Assertions.assertEquals(EXPECT_CHECK_BRANCH_LOCKABLE_SQL,sql);
 
+        // The insert ignore lock sql is not supported.
+        Assertions.assertNull(MYSQL_LOCK_STORE.getInsertIgnoreLockSql(GLOBAL_TABLE, 2));
+
     }
 
     @Test
@@ -196,6 +201,14 @@ public class LockStoreSqlFactoryTest {
         Assertions.assertEquals(EXPECT_CHECK_GLOBAL_LOCKABLE_SQL,sql);
         sql = ORACLE_LOCK_STORE.getCheckLockableSql(BRANCH_TABLE, 3);
         Assertions.assertEquals(EXPECT_CHECK_BRANCH_LOCKABLE_SQL,sql);
+
+        // Get insert ignore lock sql string.
+        sql = ORACLE_LOCK_STORE.getInsertIgnoreLockSql(GLOBAL_TABLE, 2);
+        Assertions.assertEquals("merge into " + GLOBAL_TABLE + " t using (select ? xid, ? transaction_id, ? branch_id,"
+            + " ? resource_id, ? table_name, ? pk, ? row_key, ? status from dual union all select ? xid, ? transaction_id,"
+            + " ? branch_id, ? resource_id, ? table_name, ? pk, ? row_key, ? status from dual) s on (t.row_key = s.row_key)"
+            + " when not matched then insert (" + EXPECT_ALL_COLUMNS + ") values (s.xid, s.transaction_id, s.branch_id,"
+            + " s.resource_id, s.table_name, s.pk, s.row_key, sysdate, sysdate, s.status)", sql);
     }
 
     @Test
@@ -242,6 +255,12 @@ public class LockStoreSqlFactoryTest {
         Assertions.assertEquals(EXPECT_CHECK_GLOBAL_LOCKABLE_SQL,sql);
         sql = POSTGRESQL_LOCK_STORE.getCheckLockableSql(BRANCH_TABLE, 3);
         Assertions.assertEquals(EXPECT_CHECK_BRANCH_LOCKABLE_SQL,sql);
+
+        // Get insert ignore lock sql string.
+        sql = POSTGRESQL_LOCK_STORE.getInsertIgnoreLockSql(GLOBAL_TABLE, 2);
+        Assertions.assertEquals("insert into " + GLOBAL_TABLE + "(" + EXPECT_ALL_COLUMNS + ") values"
+            + " (?, ?, ?, ?, ?, ?, ?, now(), now(), ?), (?, ?, ?, ?, ?, ?, ?, now(), now(), ?)"
+            + " on conflict (row_key) do nothing", sql);
     }
 
     @Test
@@ -288,6 +307,9 @@ public class LockStoreSqlFactoryTest {
         Assertions.assertEquals(EXPECT_CHECK_GLOBAL_LOCKABLE_SQL,sql);
         sql = H2_LOCK_STORE.getCheckLockableSql(BRANCH_TABLE, 3);
         Assertions.assertEquals(EXPECT_CHECK_BRANCH_LOCKABLE_SQL,sql);
+
+        // The insert ignore lock sql is not supported.
+        Assertions.assertNull(H2_LOCK_STORE.getInsertIgnoreLockSql(GLOBAL_TABLE, 2));
     }
 
     @Test
@@ -380,6 +402,9 @@ public class LockStoreSqlFactoryTest {
         Assertions.assertEquals(EXPECT_CHECK_GLOBAL_LOCKABLE_SQL,sql);
         sql = DM_LOCK_STORE.getCheckLockableSql(BRANCH_TABLE, 3);
         Assertions.assertEquals(EXPECT_CHECK_BRANCH_LOCKABLE_SQL,sql);
+
+        // The insert ignore lock sql is not supported.
+        Assertions.assertNull(DM_LOCK_STORE.getInsertIgnoreLockSql(GLOBAL_TABLE, 2));
     }
 
 
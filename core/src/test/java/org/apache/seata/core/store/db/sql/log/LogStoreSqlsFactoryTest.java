@@ -282,4 +282,50 @@ public class LogStoreSqlsFactoryTest {
         sql = oscarLog.getQueryBranchMax(branchTable);
         Assertions.assertNotNull(sql);
     }
+
+    @Test
+    public void queryByStatusAndShardTest() {
+        Assertions.assertTrue(mysqlLog.getQueryGlobalTransactionSQLByStatusAndShard(globalTable, "?,?")
+            .contains("status in (?,?) and mod(transaction_id, ?) = ? order by gmt_modified limit ?"));
+        Assertions.assertTrue(oracleLog.getQueryGlobalTransactionSQLByStatusAndShard(globalTable, "?,?")
+            .contains("status in (?,?) and mod(transaction_id, ?) = ?"));
+        Assertions.assertTrue(LogStoreSqlsFactory.getLogStoreSqls("sqlserver")
+            .getQueryGlobalTransactionSQLByStatusAndShard(globalTable, "?,?")
+            .contains("status in (?,?) and transaction_id % ? = ?"));
+    }
+
+    @Test
+    public void archiveTest() {
+        String sql = mysqlLog.getArchiveGlobalTransactionSQL(globalTable, "global_archive", "?,?", "?");
+        Assertions.assertTrue(sql.startsWith("insert into global_archive"));
+        Assertions.assertTrue(sql.contains("from global_table where xid in (?,?)   and status in (?)"));
+        Assertions.assertTrue(mysqlLog.getDeleteGlobalTransactionByXidsSQL(globalTable, "?,?", "?")
+            .contains("xid in (?,?)   and status in (?)"));
+        Assertions.assertTrue(mysqlLog.getArchiveBranchTransactionSQL(branchTable, "branch_archive", "?")
+            .startsWith("insert into branch_archive"));
+        Assertions.assertTrue(mysqlLog.getDeleteBranchTransactionByXidsSQL(branchTable, "?")
+            .contains("xid in (?)"));
+    }
+
+    @Test
+    public void deleteBranchByBranchIdsTest() {
+        Assertions.assertTrue(mysqlLog.getDeleteBranchTransactionByBranchIdsSQL(branchTable, "?,?")
+            .contains("branch_table where branch_id in (?,?)"));
+        Assertions.assertTrue(oracleLog.getDeleteBranchTransactionByBranchIdsSQL(branchTable, "?")
+            .contains("branch_table where branch_id in (?)"));
+    }
+
+    @Test
+    public void queryByStatusAfterTest() {
+        Assertions.assertTrue(mysqlLog.getQueryGlobalTransactionSQLByStatusAfter(globalTable, "?,?", false)
+            .contains("status in (?,?) and (gmt_modified > ? or (gmt_modified = ? and xid > ?))"
+                + " order by gmt_modified, xid limit ?"));
+        Assertions.assertTrue(mysqlLog.getQueryGlobalTransactionSQLByStatusAfter(globalTable, "?,?", true)
+            .contains("status in (?,?) and mod(transaction_id, ?) = ? and (gmt_modified > ?"));
+        Assertions.assertTrue(oracleLog.getQueryGlobalTransactionSQLByStatusAfter(globalTable, "?,?", true)
+            .contains("and xid > ?))  order by gmt_modified, xid ) A"));
+        Assertions.assertTrue(LogStoreSqlsFactory.getLogStoreSqls("sqlserver")
+            .getQueryGlobalTransactionSQLByStatusAfter(globalTable, "?,?", false)
+            .endsWith("and xid > ?)) order by gmt_modified, xid"));
+    }
 }
@@ -27,6 +27,12 @@ public interface IdConstants {
 
     String SEATA_RATE_LIMIT = "seata.rate.limit";
 
+    String SEATA_STORE_BATCH = "seata.store.batch";
+
+    String SEATA_BRANCH_REMOVE = "seata.branch.remove";
+
+    String SEATA_ASYNC_COMMIT = "seata.async.commit";
+
     String APP_ID_KEY = "applicationId";
     
     String GROUP_KEY = "group";
@@ -65,6 +71,8 @@ public interface IdConstants {
 
     String STATISTIC_VALUE_AVERAGE = "average";
 
+    String STATISTIC_VALUE_LAG = "lag";
+
     String STATUS_VALUE_ACTIVE = "active";
 
     String STATUS_VALUE_COMMITTED = "committed";
@@ -86,4 +94,6 @@ public interface IdConstants {
     String CLIENT_ID_KEY = "clientId";
 
     String HOST_AND_PORT = "hostAndPort";
+
+    String RESOURCE_ID_KEY = "resourceId";
 }
@@ -34,6 +34,7 @@ import org.apache.seata.core.protocol.ResultCode;
 import org.apache.seata.core.protocol.transaction.AbstractGlobalEndResponse;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionRequestToTC;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionResponse;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
 import org.apache.seata.core.protocol.transaction.BranchReportRequest;
@@ -42,6 +43,9 @@ import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
 import org.apache.seata.core.protocol.transaction.GlobalBeginResponse;
 import org.apache.seata.core.protocol.transaction.GlobalCommitRequest;
 import org.apache.seata.core.protocol.transaction.GlobalCommitResponse;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseBeginRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseResponse;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryResponse;
 import org.apache.seata.core.protocol.transaction.GlobalReportRequest;
@@ -252,6 +256,12 @@ public class MockCoordinator implements TCInboundHandler, TransactionMessageHand
         return response;
     }
 
+    @Override
+    public BranchRegisterResponse handle(BranchRegisterReportRequest request, RpcContext rpcContext) {
+        // the mock server does not track the phase one status of the branches
+        return handle((BranchRegisterRequest)request, rpcContext);
+    }
+
     @Override
     public BranchReportResponse handle(BranchReportRequest request, RpcContext rpcContext) {
         BranchReportResponse response = new BranchReportResponse();
@@ -317,4 +327,21 @@ public class MockCoordinator implements TCInboundHandler, TransactionMessageHand
         response.setResultCode(ResultCode.Success);
         return response;
     }
+
+    @Override
+    public GlobalLeaseResponse handle(GlobalLeaseRequest request, RpcContext rpcContext) {
+        // the mock server does not lease transaction ids, the TM begins the global transactions as usual
+        GlobalLeaseResponse response = new GlobalLeaseResponse();
+        response.setResultCode(ResultCode.Failed);
+        response.setMsg("MockLeaseNotSupported");
+        return response;
+    }
+
+    @Override
+    public GlobalLeaseResponse handle(GlobalLeaseBeginRequest request, RpcContext rpcContext) {
+        GlobalLeaseResponse response = new GlobalLeaseResponse();
+        response.setResultCode(ResultCode.Failed);
+        response.setMsg("MockLeaseNotSupported");
+        return response;
+    }
 }
@@ -16,7 +16,6 @@
  */
 package org.apache.seata.rm.datasource;
 
-import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.sqlparser.struct.Null;
 import java.io.InputStream;
 import java.io.Reader;
@@ -38,6 +37,7 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,12 +50,24 @@ public abstract class AbstractPreparedStatementProxy extends StatementProxy<Prep
     implements PreparedStatement {
 
     /**
-     * The Parameters.
+     * The Parameters, the values of a parameter index are listed by batch row.
+     * Built from the current parameters, or from the batch rows while executing the batch.
      */
     protected Map<Integer, ArrayList<Object>> parameters;
 
+    /**
+     * The parameters of the current row, kept across executions and batch rows as jdbc does.
+     */
+    private Map<Integer, Object> currentParameters;
+
+    /**
+     * The parameters of the rows added to the batch.
+     */
+    private final List<Map<Integer, Object>> batchParameters = new ArrayList<>();
+
     private void initParameterHolder() {
-        this.parameters = new HashMap<>();
+        this.currentParameters = new HashMap<>();
+        this.parameters = null;
     }
 
     /**
@@ -92,7 +104,63 @@ public abstract class AbstractPreparedStatementProxy extends StatementProxy<Prep
      * @return the params by index
      */
     public List<Object> getParamsByIndex(int index) {
-        return parameters.get(index);
+        return getParameters().get(index);
+    }
+
+    /**
+     * Gets parameters.
+     *
+     * @return the parameters, the values of a parameter index are listed by batch row
+     */
+    public Map<Integer, ArrayList<Object>> getParameters() {
+        if (parameters == null) {
+            parameters = buildParameters(Collections.singletonList(currentParameters));
+        }
+        return parameters;
+    }
+
+    private static Map<Integer, ArrayList<Object>> buildParameters(List<Map<Integer, Object>> rows) {
+        Map<Integer, ArrayList<Object>> parameters = new HashMap<>();
+        for (int row = 0, rowSize = rows.size(); row < rowSize; row++) {
+            for (Map.Entry<Integer, Object> entry : rows.get(row).entrySet()) {
+                ArrayList<Object> values = parameters.get(entry.getKey());
+                if (values == null) {
+                    values = new ArrayList<>(rowSize);
+                    parameters.put(entry.getKey(), values);
+                }
+                // the index not set in the previous rows
+                while (values.size() < row) {
+                    values.add(null);
+                }
+                values.add(entry.getValue());
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Whether any row is added to the batch.
+     *
+     * @return true if the batch is not empty
+     */
+    protected boolean hasBatchParameters() {
+        return !batchParameters.isEmpty();
+    }
+
+    /**
+     * Expose the parameters of the batch rows, one value per row for each parameter index,
+     * so that the images, undo log and lock keys of the whole batch are built at once.
+     */
+    protected void useBatchParameters() {
+        parameters = buildParameters(batchParameters);
+    }
+
+    /**
+     * Clear the parameters of the batch rows, the current parameters are kept.
+     */
+    protected void clearBatchParameters() {
+        batchParameters.clear();
+        parameters = null;
     }
 
     /**
@@ -102,8 +170,8 @@ public abstract class AbstractPreparedStatementProxy extends StatementProxy<Prep
      * @param x     the x
      */
     protected void setParamByIndex(int index, Object x) {
-        CollectionUtils.computeIfAbsent(parameters, index, e -> new ArrayList<>())
-                .add(x);
+        currentParameters.put(index, x);
+        parameters = null;
     }
 
     @Override
@@ -230,6 +298,13 @@ public abstract class AbstractPreparedStatementProxy extends StatementProxy<Prep
     @Override
     public void addBatch() throws SQLException {
         targetStatement.addBatch();
+        batchParameters.add(new HashMap<>(currentParameters));
+    }
+
+    @Override
+    public void clearBatch() throws SQLException {
+        targetStatement.clearBatch();
+        clearBatchParameters();
     }
 
     @Override
@@ -18,37 +18,53 @@ package org.apache.seata.rm.datasource;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import com.google.common.collect.Lists;
 import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.IOUtil;
 import org.apache.seata.common.util.StringUtils;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.model.BranchStatus;
+import org.apache.seata.metrics.Id;
+import org.apache.seata.metrics.IdConstants;
+import org.apache.seata.metrics.registry.Registry;
+import org.apache.seata.metrics.registry.RegistryFactory;
 import org.apache.seata.rm.datasource.undo.UndoLogManager;
 import org.apache.seata.rm.datasource.undo.UndoLogManagerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_ASYNC_COMMIT_BUFFER_LIMIT;
-import static org.apache.seata.core.constants.ConfigurationKeys.CLIENT_ASYNC_COMMIT_BUFFER_LIMIT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_ASYNC_COMMIT_CONCURRENCY;
+import static org.apache.seata.common.DefaultValues.DEFAULT_METRICS_ENABLED;
+import static org.apache.seata.common.ConfigurationKeys.CLIENT_ASYNC_COMMIT_BUFFER_LIMIT;
+import static org.apache.seata.common.ConfigurationKeys.CLIENT_ASYNC_COMMIT_CONCURRENCY;
+import static org.apache.seata.common.ConfigurationKeys.METRICS_ENABLED;
+import static org.apache.seata.common.ConfigurationKeys.METRICS_PREFIX;
 
 /**
  * The type Async worker.
- *
+ * <p>
+ * Each resource has its own lane, the undo logs of a resource are deleted as soon as its phase two commits
+ * arrive, so a slow database only delays its own lane. A phase two commit waits for a room when the queue of its
+ * resource is full, so no commit is dropped before its undo log is deleted.
  */
 public class AsyncWorker {
 
@@ -58,24 +74,60 @@ public class AsyncWorker {
 
     private static final int UNDOLOG_DELETE_LIMIT_SIZE = 1000;
 
+    private static final int UNDOLOG_DELETE_MIN_SIZE = 16;
+
+    /**
+     * The batch size of a resource is halved when deleting a batch takes longer than this, and doubled back
+     * when it takes less than half of it.
+     */
+    private static final long UNDOLOG_DELETE_TARGET_MILLS = 200;
+
+    /**
+     * The lane waits for the next round after a failure, twice as long after each consecutive failure.
+     */
+    private static final long RETRY_INTERVAL_MILLS = 1000;
+
+    private static final long MAX_RETRY_INTERVAL_MILLS = 30000;
+
+    /**
+     * How often a phase two commit waiting for a room wakes up the drainers of its resource.
+     */
+    private static final long ENQUEUE_TIMEOUT_MILLS = 1000;
+
     private static final int ASYNC_COMMIT_BUFFER_LIMIT = ConfigurationFactory.getInstance().getInt(
         CLIENT_ASYNC_COMMIT_BUFFER_LIMIT, DEFAULT_CLIENT_ASYNC_COMMIT_BUFFER_LIMIT);
 
+    private static final int ASYNC_COMMIT_CONCURRENCY = Math.max(1, ConfigurationFactory.getInstance().getInt(
+        CLIENT_ASYNC_COMMIT_CONCURRENCY, DEFAULT_CLIENT_ASYNC_COMMIT_CONCURRENCY));
+
     private final DataSourceManager dataSourceManager;
 
-    private final BlockingQueue<Phase2Context> commitQueue;
+    private final Map<String, ResourceLane> lanes = new ConcurrentHashMap<>(DEFAULT_RESOURCE_SIZE);
+
+    private final ExecutorService laneExecutor;
 
     private final ScheduledExecutorService scheduledExecutor;
 
+    private final Registry registry;
+
     public AsyncWorker(DataSourceManager dataSourceManager) {
         this.dataSourceManager = dataSourceManager;
-
-        LOGGER.info("Async Commit Buffer Limit: {}", ASYNC_COMMIT_BUFFER_LIMIT);
-        commitQueue = new LinkedBlockingQueue<>(ASYNC_COMMIT_BUFFER_LIMIT);
-
-        ThreadFactory threadFactory = new NamedThreadFactory("AsyncWorker", 2, true);
-        scheduledExecutor = new ScheduledThreadPoolExecutor(2, threadFactory);
-        scheduledExecutor.scheduleAtFixedRate(this::doBranchCommitSafely, 10, 1000, TimeUnit.MILLISECONDS);
+        this.registry = loadRegistry();
+
+        LOGGER.info("Async Commit Buffer Limit: {}, Concurrency: {}", ASYNC_COMMIT_BUFFER_LIMIT,
+            ASYNC_COMMIT_CONCURRENCY);
+
+        // a lane holds at most the concurrency of drainers, running or waiting for a thread, the rejected ones are
+        // started again by the periodic task
+        int laneThreads = Math.max(ASYNC_COMMIT_CONCURRENCY, Runtime.getRuntime().availableProcessors());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(laneThreads, laneThreads, 60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(DEFAULT_RESOURCE_SIZE * ASYNC_COMMIT_CONCURRENCY),
+            new NamedThreadFactory("AsyncWorker", laneThreads, true));
+        executor.allowCoreThreadTimeOut(true);
+        laneExecutor = executor;
+        scheduledExecutor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("AsyncWorkerRetry", 1, true));
+        scheduledExecutor.scheduleAtFixedRate(this::doBranchCommitSafely, 10, RETRY_INTERVAL_MILLS,
+            TimeUnit.MILLISECONDS);
     }
 
     public BranchStatus branchCommit(String xid, long branchId, String resourceId) {
@@ -85,92 +137,273 @@ public class AsyncWorker {
     }
 
     /**
-     * try add context to commitQueue directly, if fail(which means the queue is full),
-     * then doBranchCommit urgently(so that the queue could be empty again) and retry this process.
+     * try add context to the queue of its resource directly, if fail(which means the queue is full),
+     * then wake up its drainers and wait for a room until the context is queued.
      */
     private void addToCommitQueue(Phase2Context context) {
-        if (commitQueue.offer(context)) {
+        if (StringUtils.isBlank(context.resourceId)) {
+            LOGGER.warn("resourceId is empty, resource:{}", context);
             return;
         }
-        CompletableFuture.runAsync(this::doBranchCommitSafely, scheduledExecutor)
-                .thenRun(() -> addToCommitQueue(context));
-    }
-
-    private void addAllToCommitQueue(List<Phase2Context> contexts) {
-        for (Phase2Context context : contexts) {
-            addToCommitQueue(context);
+        ResourceLane lane = CollectionUtils.computeIfAbsent(lanes, context.resourceId, ResourceLane::new);
+        boolean interrupted = false;
+        try {
+            while (!lane.queue.offer(context)) {
+                lane.signal();
+                try {
+                    if (lane.queue.offer(context, ENQUEUE_TIMEOUT_MILLS, TimeUnit.MILLISECONDS)) {
+                        break;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+                LOGGER.warn("the async commit queue of {} is full, wait for a room for {}", context.resourceId,
+                    context);
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
+        lane.signal();
     }
 
+    /**
+     * Restart the lanes which stopped on a failure.
+     */
     void doBranchCommitSafely() {
         try {
-            doBranchCommit();
+            lanes.values().forEach(ResourceLane::signal);
         } catch (Throwable e) {
             LOGGER.error("Exception occur when doing branch commit", e);
         }
     }
 
-    private void doBranchCommit() {
-        if (commitQueue.isEmpty()) {
-            return;
-        }
+    /**
+     * Gets the number of the phase two commits waiting for deleting the undo logs.
+     *
+     * @param resourceId the resource id
+     * @return the pending count
+     */
+    public int getPendingCount(String resourceId) {
+        ResourceLane lane = lanes.get(resourceId);
+        return lane == null ? 0 : lane.getPendingCount();
+    }
 
-        // transfer all context currently received to this list
-        List<Phase2Context> allContexts = new LinkedList<>();
-        commitQueue.drainTo(allContexts);
+    /**
+     * Gets how long the oldest pending phase two commit of the resource has been waiting.
+     *
+     * @param resourceId the resource id
+     * @return the lag in milliseconds
+     */
+    public long getLag(String resourceId) {
+        ResourceLane lane = lanes.get(resourceId);
+        return lane == null ? 0 : lane.getLag();
+    }
 
-        // group context by their resourceId
-        Map<String, List<Phase2Context>> groupedContexts = groupedByResourceId(allContexts);
+    private static Registry loadRegistry() {
+        boolean enabled = ConfigurationFactory.getInstance().getBoolean(
+            METRICS_PREFIX + METRICS_ENABLED, DEFAULT_METRICS_ENABLED);
+        if (!enabled) {
+            return null;
+        }
+        try {
+            return RegistryFactory.getInstance();
+        } catch (Exception e) {
+            LOGGER.warn("failed to load the metrics registry, the async commit metrics are disabled", e);
+            return null;
+        }
+    }
 
-        groupedContexts.forEach(this::dealWithGroupedContexts);
+    private static Id meterId(String resourceId, String statistic) {
+        return new Id(IdConstants.SEATA_ASYNC_COMMIT)
+            .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_RM)
+            .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_GAUGE)
+            .withTag(IdConstants.RESOURCE_ID_KEY, resourceId)
+            .withTag(IdConstants.STATISTIC_KEY, statistic);
     }
 
-    Map<String, List<Phase2Context>> groupedByResourceId(List<Phase2Context> contexts) {
-        Map<String, List<Phase2Context>> groupedContexts = new HashMap<>(DEFAULT_RESOURCE_SIZE);
-        contexts.forEach(context -> {
-            if (StringUtils.isBlank(context.resourceId)) {
-                LOGGER.warn("resourceId is empty, resource:{}", context);
-                return;
+    private final class ResourceLane {
+
+        private final String resourceId;
+
+        private final BlockingQueue<Phase2Context> queue = new LinkedBlockingQueue<>(ASYNC_COMMIT_BUFFER_LIMIT);
+
+        /**
+         * The batches failed to delete the undo logs, retried before the queue. They are not put back to the
+         * queue, so a full queue neither drops them nor blocks the drainers.
+         */
+        private final Queue<List<Phase2Context>> retries = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger drainers = new AtomicInteger();
+
+        private volatile int batchSize = UNDOLOG_DELETE_LIMIT_SIZE;
+
+        private volatile long pausedUntil;
+
+        private volatile int failures;
+
+        ResourceLane(String resourceId) {
+            this.resourceId = resourceId;
+            if (registry != null) {
+                registry.getGauge(meterId(resourceId, IdConstants.STATISTIC_VALUE_COUNT), this::getPendingCount);
+                registry.getGauge(meterId(resourceId, IdConstants.STATISTIC_VALUE_LAG), this::getLag);
             }
-            List<Phase2Context> group = groupedContexts.computeIfAbsent(context.resourceId, key -> new LinkedList<>());
-            group.add(context);
-        });
-        return groupedContexts;
-    }
+        }
 
-    private void dealWithGroupedContexts(String resourceId, List<Phase2Context> contexts) {
-        if (StringUtils.isBlank(resourceId)) {
-            //ConcurrentHashMap required notNull key
-            LOGGER.warn("resourceId is empty and will skip.");
-            return;
+        int getPendingCount() {
+            int count = queue.size();
+            for (List<Phase2Context> retry : retries) {
+                count += retry.size();
+            }
+            return count;
         }
-        DataSourceProxy dataSourceProxy = dataSourceManager.get(resourceId);
-        if (dataSourceProxy == null) {
-            LOGGER.warn("failed to find resource for {} and requeue", resourceId);
-            addAllToCommitQueue(contexts);
-            return;
+
+        long getLag() {
+            long oldest = Long.MAX_VALUE;
+            for (List<Phase2Context> retry : retries) {
+                oldest = Math.min(oldest, retry.get(0).createTime);
+            }
+            Phase2Context head = queue.peek();
+            if (head != null) {
+                oldest = Math.min(oldest, head.createTime);
+            }
+            return oldest == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldest;
         }
 
-        Connection conn = null;
-        try {
-            conn = dataSourceProxy.getPlainConnection();
-            UndoLogManager undoLogManager = UndoLogManagerFactory.getUndoLogManager(dataSourceProxy.getDbType());
+        private boolean hasPending() {
+            return !retries.isEmpty() || !queue.isEmpty();
+        }
 
-            // split contexts into several lists, with each list contain no more element than limit size
-            List<List<Phase2Context>> splitByLimit = Lists.partition(contexts, UNDOLOG_DELETE_LIMIT_SIZE);
-            for (List<Phase2Context> partition : splitByLimit) {
-                deleteUndoLog(conn, undoLogManager, partition);
+        /**
+         * Start a drainer if the lane has pending commits and less drainers than the concurrency.
+         */
+        void signal() {
+            while (hasPending() && System.currentTimeMillis() >= pausedUntil) {
+                int current = drainers.get();
+                if (current >= ASYNC_COMMIT_CONCURRENCY) {
+                    return;
+                }
+                if (drainers.compareAndSet(current, current + 1)) {
+                    try {
+                        laneExecutor.execute(this::run);
+                    } catch (RejectedExecutionException e) {
+                        drainers.decrementAndGet();
+                    }
+                    return;
+                }
+            }
+        }
+
+        private void run() {
+            boolean drained = false;
+            try {
+                drained = drain();
+            } catch (Throwable e) {
+                LOGGER.error("Exception occur when doing branch commit on {}", resourceId, e);
+            } finally {
+                drainers.decrementAndGet();
+            }
+            if (drained) {
+                failures = 0;
+                // the commits offered while this drainer was exiting
+                signal();
+            } else {
+                pausedUntil = System.currentTimeMillis() + retryInterval(++failures);
+            }
+        }
+
+        /**
+         * Keep the commits failed to delete the undo logs for the next round.
+         */
+        void requeue(List<Phase2Context> contexts) {
+            retries.offer(contexts);
+        }
+
+        /**
+         * Take a failed batch first, then the next batch of the queue.
+         */
+        private List<Phase2Context> nextBatch() {
+            List<Phase2Context> contexts = retries.poll();
+            if (contexts == null) {
+                contexts = new ArrayList<>(batchSize);
+                queue.drainTo(contexts, batchSize);
+            }
+            return contexts;
+        }
+
+        /**
+         * Delete the undo logs until the queue is empty.
+         *
+         * @return false if stopped on a failure
+         */
+        private boolean drain() {
+            DataSourceProxy dataSourceProxy = dataSourceManager.get(resourceId);
+            if (dataSourceProxy == null) {
+                LOGGER.warn("failed to find resource for {} and wait for the next round", resourceId);
+                return false;
+            }
+            List<Phase2Context> contexts = nextBatch();
+            if (contexts.isEmpty()) {
+                return true;
+            }
+
+            Connection conn = null;
+            try {
+                conn = dataSourceProxy.getPlainConnection();
+                UndoLogManager undoLogManager = UndoLogManagerFactory.getUndoLogManager(dataSourceProxy.getDbType());
+                do {
+                    long start = System.nanoTime();
+                    if (!deleteUndoLog(conn, undoLogManager, contexts)) {
+                        requeue(contexts);
+                        return false;
+                    }
+                    batchSize = nextBatchSize(batchSize, contexts.size(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    contexts = nextBatch();
+                } while (!contexts.isEmpty());
+                return true;
+            } catch (SQLException sqlExx) {
+                requeue(contexts);
+                LOGGER.error("failed to get connection for async committing on {} and requeue", resourceId, sqlExx);
+                return false;
+            } finally {
+                IOUtil.close(conn);
             }
-        } catch (SQLException sqlExx) {
-            addAllToCommitQueue(contexts);
-            LOGGER.error("failed to get connection for async committing on {} and requeue", resourceId, sqlExx);
-        } finally {
-            IOUtil.close(conn);
         }
 
     }
 
-    private void deleteUndoLog(final Connection conn, UndoLogManager undoLogManager, List<Phase2Context> contexts) {
+    /**
+     * Gets the batch size after deleting a batch.
+     *
+     * @param batchSize the current batch size
+     * @param size      the size of the batch deleted
+     * @param costMills the milliseconds deleting the batch took
+     * @return the next batch size
+     */
+    static int nextBatchSize(int batchSize, int size, long costMills) {
+        if (costMills > UNDOLOG_DELETE_TARGET_MILLS) {
+            return Math.max(UNDOLOG_DELETE_MIN_SIZE, batchSize / 2);
+        }
+        if (size >= batchSize && costMills < UNDOLOG_DELETE_TARGET_MILLS / 2) {
+            return Math.min(UNDOLOG_DELETE_LIMIT_SIZE, batchSize * 2);
+        }
+        return batchSize;
+    }
+
+    /**
+     * Gets how long a lane waits after the consecutive failures.
+     *
+     * @param failures the consecutive failures
+     * @return the milliseconds to wait
+     */
+    static long retryInterval(int failures) {
+        int shift = Math.min(Math.max(failures - 1, 0), 5);
+        return Math.min(MAX_RETRY_INTERVAL_MILLS, RETRY_INTERVAL_MILLS << shift);
+    }
+
+    private boolean deleteUndoLog(final Connection conn, UndoLogManager undoLogManager, List<Phase2Context> contexts) {
         Set<String> xids = new LinkedHashSet<>(contexts.size());
         Set<Long> branchIds = new LinkedHashSet<>(contexts.size());
         contexts.forEach(context -> {
@@ -183,14 +416,15 @@ public class AsyncWorker {
             if (!conn.getAutoCommit()) {
                 conn.commit();
             }
+            return true;
         } catch (SQLException e) {
             LOGGER.error("Failed to batch delete undo log", e);
             try {
                 conn.rollback();
-                addAllToCommitQueue(contexts);
             } catch (SQLException rollbackEx) {
                 LOGGER.error("Failed to rollback JDBC resource after deleting undo log failed", rollbackEx);
             }
+            return false;
         }
     }
 
@@ -206,6 +440,7 @@ public class AsyncWorker {
             this.xid = xid;
             this.branchId = branchId;
             this.resourceId = resourceId;
+            this.createTime = System.currentTimeMillis();
         }
 
         /**
@@ -220,6 +455,10 @@ public class AsyncWorker {
          * The Resource id.
          */
         String resourceId;
+        /**
+         * The time the commit arrived, kept when requeued.
+         */
+        long createTime;
 
         @Override
         public String toString() {
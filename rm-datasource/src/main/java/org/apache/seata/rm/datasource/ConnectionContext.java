@@ -340,16 +340,26 @@ public class ConnectionContext {
         if (lockKeysBuffer.isEmpty()) {
             return null;
         }
-        Set<String> lockKeysBufferSet = new HashSet<>();
-        for (Set<String> lockKeys : lockKeysBuffer.values()) {
-            lockKeysBufferSet.addAll(lockKeys);
+        Set<String> lockKeysBufferSet;
+        if (lockKeysBuffer.size() == 1) {
+            // no savepoint in use, the keys are distinct already
+            lockKeysBufferSet = lockKeysBuffer.values().iterator().next();
+        } else {
+            lockKeysBufferSet = new HashSet<>();
+            for (Set<String> lockKeys : lockKeysBuffer.values()) {
+                lockKeysBufferSet.addAll(lockKeys);
+            }
         }
 
         if (lockKeysBufferSet.isEmpty()) {
             return null;
         }
 
-        StringBuilder appender = new StringBuilder();
+        int length = lockKeysBufferSet.size();
+        for (String lockKey : lockKeysBufferSet) {
+            length += lockKey.length();
+        }
+        StringBuilder appender = new StringBuilder(length);
         Iterator<String> iterable = lockKeysBufferSet.iterator();
         while (iterable.hasNext()) {
             appender.append(iterable.next());
@@ -16,12 +16,20 @@
  */
 package org.apache.seata.rm.datasource;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.apache.seata.common.exception.NotSupportYetException;
 import org.apache.seata.common.exception.ShouldNeverHappenException;
+import org.apache.seata.config.Configuration;
+import org.apache.seata.config.ConfigurationFactory;
+import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.context.RootContext;
 import org.apache.seata.core.exception.RmTransactionException;
 import org.apache.seata.core.exception.TransactionException;
@@ -31,14 +39,21 @@ import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.model.Resource;
 import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryResponse;
 import org.apache.seata.core.rpc.netty.RmNettyRemotingClient;
+import org.apache.seata.core.serializer.SerializerServiceLoader;
+import org.apache.seata.core.serializer.SerializerType;
 import org.apache.seata.rm.AbstractResourceManager;
 import org.apache.seata.rm.datasource.undo.UndoLogManagerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_QUERY_CACHE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_QUERY_CACHE_EXPIRE;
+
 /**
  * The type Data source manager.
  *
@@ -47,12 +62,38 @@ public class DataSourceManager extends AbstractResourceManager {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceManager.class);
 
+    private static final long PENDING_DONE_REPORT_EXPIRE_MILLIS = 120000;
+
+    private static final int PENDING_DONE_REPORT_MAX_SIZE = 10000;
+
     private final AsyncWorker asyncWorker = new AsyncWorker(this);
 
     private final Map<String, Resource> dataSourceCache = new ConcurrentHashMap<>();
 
+    /**
+     * The ids of the branches done in phase one, keyed by the xid. They are reported with the next registration
+     * of the same global transaction instead of a report request each.
+     */
+    private final Cache<String, List<Long>> pendingDoneReports = Caffeine.newBuilder()
+        .expireAfterAccess(PENDING_DONE_REPORT_EXPIRE_MILLIS, TimeUnit.MILLISECONDS)
+        .maximumSize(PENDING_DONE_REPORT_MAX_SIZE).build();
+
+    /**
+     * Whether the done reports go with the next registration. The request carrying them is only encoded by the
+     * seata serializer, under the others every branch is reported at once.
+     */
+    private final boolean deferDoneReports;
+
+    /**
+     * The cache of the lock conflicts, null if disabled.
+     */
+    private final LockQueryCache lockQueryCache = createLockQueryCache();
+
     @Override
     public boolean lockQuery(BranchType branchType, String resourceId, String xid, String lockKeys) throws TransactionException {
+        if (lockQueryCache != null && lockQueryCache.isConflict(resourceId, xid, lockKeys)) {
+            return false;
+        }
         GlobalLockQueryRequest request = new GlobalLockQueryRequest();
         request.setXid(xid);
         request.setLockKey(lockKeys);
@@ -69,6 +110,9 @@ public class DataSourceManager extends AbstractResourceManager {
                 throw new TransactionException(response.getTransactionExceptionCode(),
                     "Response[" + response.getMsg() + "]");
             }
+            if (!response.isLockable() && lockQueryCache != null) {
+                lockQueryCache.putConflict(resourceId, xid, lockKeys);
+            }
             return response.isLockable();
         } catch (TimeoutException toe) {
             throw new RmTransactionException(TransactionExceptionCode.IO, "RPC Timeout", toe);
@@ -77,10 +121,38 @@ public class DataSourceManager extends AbstractResourceManager {
         }
     }
 
+    private static LockQueryCache createLockQueryCache() {
+        Configuration config = ConfigurationFactory.getInstance();
+        if (!config.getBoolean(ConfigurationKeys.CLIENT_LOCK_QUERY_CACHE_ENABLE, DEFAULT_CLIENT_LOCK_QUERY_CACHE_ENABLE)) {
+            return null;
+        }
+        return new LockQueryCache(
+            config.getInt(ConfigurationKeys.CLIENT_LOCK_QUERY_CACHE_EXPIRE, DEFAULT_CLIENT_LOCK_QUERY_CACHE_EXPIRE));
+    }
+
+    /**
+     * Gets the cache of the lock conflicts.
+     *
+     * @return the lock query cache, null if disabled
+     */
+    public LockQueryCache getLockQueryCache() {
+        return lockQueryCache;
+    }
+
     /**
      * Instantiates a new Data source manager.
      */
     public DataSourceManager() {
+        this(SerializerServiceLoader.getDefaultSerializerType());
+    }
+
+    /**
+     * Instantiates a new Data source manager.
+     *
+     * @param serializerType the serializer type of the rpc
+     */
+    DataSourceManager(SerializerType serializerType) {
+        this.deferDoneReports = serializerType == SerializerType.SEATA;
     }
 
     @Override
@@ -105,15 +177,68 @@ public class DataSourceManager extends AbstractResourceManager {
         return (DataSourceProxy) dataSourceCache.get(resourceId);
     }
 
+    /**
+     * The report of a branch done in phase one is not sent at once, it goes with the next registration of the
+     * same global transaction on this RM. The TC handles the branches registered and the branches done in phase
+     * one alike, so a report left unsent when the global transaction ends makes no difference.
+     */
+    @Override
+    public void branchReport(BranchType branchType, String xid, long branchId, BranchStatus status,
+                             String applicationData) throws TransactionException {
+        if (!deferDoneReports || status != BranchStatus.PhaseOne_Done || applicationData != null) {
+            super.branchReport(branchType, xid, branchId, status, applicationData);
+            return;
+        }
+        pendingDoneReports.asMap().compute(xid, (k, branchIds) -> {
+            if (branchIds == null) {
+                branchIds = new ArrayList<>(2);
+            }
+            branchIds.add(branchId);
+            return branchIds;
+        });
+    }
+
+    @Override
+    protected Object sendBranchRegisterRequest(BranchRegisterRequest request) throws TimeoutException {
+        List<Long> doneBranchIds = pendingDoneReports.asMap().remove(request.getXid());
+        if (doneBranchIds == null) {
+            return super.sendBranchRegisterRequest(request);
+        }
+        BranchRegisterReportRequest registerReportRequest = new BranchRegisterReportRequest();
+        registerReportRequest.setXid(request.getXid());
+        registerReportRequest.setLockKey(request.getLockKey());
+        registerReportRequest.setResourceId(request.getResourceId());
+        registerReportRequest.setBranchType(request.getBranchType());
+        registerReportRequest.setApplicationData(request.getApplicationData());
+        registerReportRequest.setDoneBranchIds(doneBranchIds);
+        Object response = RmNettyRemotingClient.getInstance().sendSyncRequestAboveVersion240(registerReportRequest);
+        if (response != null) {
+            return response;
+        }
+        // the server is older than 2.4.0, report the branches one by one
+        for (Long branchId : doneBranchIds) {
+            try {
+                super.branchReport(request.getBranchType(), request.getXid(), branchId, BranchStatus.PhaseOne_Done,
+                    null);
+            } catch (TransactionException e) {
+                LOGGER.warn("Failed to report [{}/{}] commit done, cause: {}", branchId, request.getXid(),
+                    e.getMessage());
+            }
+        }
+        return super.sendBranchRegisterRequest(request);
+    }
+
     @Override
     public BranchStatus branchCommit(BranchType branchType, String xid, long branchId, String resourceId,
                                      String applicationData) throws TransactionException {
+        pendingDoneReports.invalidate(xid);
         return asyncWorker.branchCommit(xid, branchId, resourceId);
     }
 
     @Override
     public BranchStatus branchRollback(BranchType branchType, String xid, long branchId, String resourceId,
                                        String applicationData) throws TransactionException {
+        pendingDoneReports.invalidate(xid);
         DataSourceProxy dataSourceProxy = get(resourceId);
         if (dataSourceProxy == null) {
             throw new ShouldNeverHappenException(String.format("resource: %s not found",resourceId));
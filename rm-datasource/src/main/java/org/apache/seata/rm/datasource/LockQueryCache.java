@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * The cache of the global lock conflicts found by the lock queries.
+ * <p>
+ * A conflict answers the same lock query locally until it expires, so the threads retrying the same rows with
+ * SELECT FOR UPDATE or @GlobalLock share one query to the TC in each expire period. The rows found free are never
+ * cached: the TC may grant their locks at any time, and a free answer is only safe when it comes from the TC while
+ * the local row locks are held. So a stale entry only makes a lock check wait longer, it never lets a dirty write
+ * or a dirty read through.
+ */
+public class LockQueryCache {
+
+    private static final int MAX_SIZE = 10000;
+
+    private final Cache<LockQueryKey, Long> conflicts;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder hitAgeMillis = new LongAdder();
+
+    /**
+     * Instantiates a new lock query cache.
+     *
+     * @param expireMillis the milliseconds a conflict is kept
+     */
+    public LockQueryCache(long expireMillis) {
+        this.conflicts = Caffeine.newBuilder().expireAfterWrite(expireMillis, TimeUnit.MILLISECONDS)
+            .maximumSize(MAX_SIZE).build();
+    }
+
+    /**
+     * Whether the lock query is known to conflict.
+     *
+     * @param resourceId the resource id
+     * @param xid        the xid, null for @GlobalLock
+     * @param lockKeys   the lock keys
+     * @return true if a conflict of the same query is cached
+     */
+    public boolean isConflict(String resourceId, String xid, String lockKeys) {
+        Long foundTime = conflicts.getIfPresent(new LockQueryKey(resourceId, xid, lockKeys));
+        if (foundTime == null) {
+            missCount.increment();
+            return false;
+        }
+        hitCount.increment();
+        hitAgeMillis.add(System.currentTimeMillis() - foundTime);
+        return true;
+    }
+
+    /**
+     * Remember the conflict of a lock query answered by the TC.
+     *
+     * @param resourceId the resource id
+     * @param xid        the xid, null for @GlobalLock
+     * @param lockKeys   the lock keys
+     */
+    public void putConflict(String resourceId, String xid, String lockKeys) {
+        conflicts.put(new LockQueryKey(resourceId, xid, lockKeys), System.currentTimeMillis());
+    }
+
+    /**
+     * Gets the count of the lock queries answered locally.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Gets the count of the lock queries sent to the TC.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Gets the ratio of the lock queries answered locally.
+     *
+     * @return the hit rate, 0 if no query yet
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Gets the average age of the conflicts when they answered the lock queries, which is how stale the local
+     * answers are.
+     *
+     * @return the average age in milliseconds, 0 if no hit yet
+     */
+    public long getAverageHitAgeMillis() {
+        long hits = hitCount.sum();
+        return hits == 0 ? 0 : hitAgeMillis.sum() / hits;
+    }
+
+    private static final class LockQueryKey {
+
+        private final String resourceId;
+
+        private final String xid;
+
+        private final String lockKeys;
+
+        LockQueryKey(String resourceId, String xid, String lockKeys) {
+            this.resourceId = resourceId;
+            this.xid = xid;
+            this.lockKeys = lockKeys;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LockQueryKey)) {
+                return false;
+            }
+            LockQueryKey that = (LockQueryKey) o;
+            return Objects.equals(lockKeys, that.lockKeys) && Objects.equals(resourceId, that.resourceId)
+                && Objects.equals(xid, that.xid);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resourceId, xid, lockKeys);
+        }
+    }
+}
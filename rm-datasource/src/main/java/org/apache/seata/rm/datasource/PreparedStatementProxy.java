@@ -19,8 +19,6 @@ package org.apache.seata.rm.datasource;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Map;
 
 import org.apache.seata.rm.datasource.exec.ExecuteTemplate;
 import org.apache.seata.sqlparser.ParametersHolder;
@@ -32,11 +30,6 @@ import org.apache.seata.sqlparser.ParametersHolder;
 public class PreparedStatementProxy extends AbstractPreparedStatementProxy
     implements PreparedStatement, ParametersHolder {
 
-    @Override
-    public Map<Integer,ArrayList<Object>> getParameters() {
-        return parameters;
-    }
-
     /**
      * Instantiates a new Prepared statement proxy.
      *
@@ -64,4 +57,19 @@ public class PreparedStatementProxy extends AbstractPreparedStatementProxy
     public int executeUpdate() throws SQLException {
         return ExecuteTemplate.execute(this, (statement, args) -> statement.executeUpdate());
     }
+
+    @Override
+    public int[] executeBatch() throws SQLException {
+        if (!hasBatchParameters()) {
+            return targetStatement.executeBatch();
+        }
+        // the whole batch is executed as one statement with multi parameter rows:
+        // one before image, one native batch, one after image, one undo log and lock key
+        useBatchParameters();
+        try {
+            return ExecuteTemplate.execute(this, (statement, args) -> statement.executeBatch());
+        } finally {
+            clearBatchParameters();
+        }
+    }
 }
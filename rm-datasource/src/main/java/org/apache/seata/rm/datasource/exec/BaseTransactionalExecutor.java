@@ -88,6 +88,11 @@ public abstract class BaseTransactionalExecutor<T, S extends Statement> implemen
 
     private TableMeta tableMeta;
 
+    /**
+     * The parameters holder used while building an image sql template.
+     */
+    private ParametersHolder templateParametersHolder;
+
     /**
      * Instantiates a new Base transactional executor.
      *
@@ -137,6 +142,74 @@ public abstract class BaseTransactionalExecutor<T, S extends Statement> implemen
     protected abstract T doExecute(Object... args) throws Throwable;
 
 
+    /**
+     * Gets the parameters holder the conditions are built with.
+     *
+     * @return the parameters holder, null if the statement has no parameters
+     */
+    protected ParametersHolder getParametersHolder() {
+        if (templateParametersHolder != null) {
+            return templateParametersHolder;
+        }
+        return statementProxy instanceof ParametersHolder ? (ParametersHolder) statementProxy : null;
+    }
+
+    /**
+     * Build the image sql, reuse the cached template of the same statement shape if there is one.
+     *
+     * @param imageType         the image type
+     * @param tableMeta         the table meta
+     * @param paramAppenderList the param appender list
+     * @param imageSQLBuilder   the image sql builder
+     * @return the image sql
+     * @throws SQLException the sql exception
+     */
+    protected String buildImageSQL(String imageType, TableMeta tableMeta, ArrayList<List<Object>> paramAppenderList,
+                                   ImageSQLBuilder imageSQLBuilder) throws SQLException {
+        if (!ImageSQLCache.isEnabled() || sqlRecognizer == null || !(statementProxy instanceof ParametersHolder)) {
+            return imageSQLBuilder.build(paramAppenderList);
+        }
+        ParametersHolder parametersHolder = (ParametersHolder) statementProxy;
+        int rows = ImageSQLCache.getParameterRows(parametersHolder);
+        ImageSQLCache.ImageSQLTemplate template = ImageSQLCache.get(sqlRecognizer, imageType, rows, tableMeta);
+        if (template == null) {
+            ArrayList<List<Object>> paramPlaceholders = new ArrayList<>();
+            templateParametersHolder = ImageSQLCache.recording(parametersHolder);
+            try {
+                String sql = imageSQLBuilder.build(paramPlaceholders);
+                template = new ImageSQLCache.ImageSQLTemplate(tableMeta, sql, paramPlaceholders);
+            } finally {
+                templateParametersHolder = null;
+            }
+            ImageSQLCache.put(sqlRecognizer, imageType, rows, template);
+        }
+        template.bind(parametersHolder, paramAppenderList);
+        return template.getSql();
+    }
+
+    /**
+     * Build the image sql which has no parameters from the statement, such as the sql querying by primary keys.
+     *
+     * @param imageType       the image type
+     * @param tableMeta       the table meta
+     * @param rows            the number of the rows queried
+     * @param imageSQLBuilder the image sql builder
+     * @return the image sql
+     * @throws SQLException the sql exception
+     */
+    protected String buildImageSQL(String imageType, TableMeta tableMeta, int rows, ImageSQLBuilder imageSQLBuilder)
+        throws SQLException {
+        if (!ImageSQLCache.isEnabled() || sqlRecognizer == null) {
+            return imageSQLBuilder.build(null);
+        }
+        ImageSQLCache.ImageSQLTemplate template = ImageSQLCache.get(sqlRecognizer, imageType, rows, tableMeta);
+        if (template == null) {
+            template = new ImageSQLCache.ImageSQLTemplate(tableMeta, imageSQLBuilder.build(null), null);
+            ImageSQLCache.put(sqlRecognizer, imageType, rows, template);
+        }
+        return template.getSql();
+    }
+
     /**
      * build buildWhereCondition
      *
@@ -146,8 +219,9 @@ public abstract class BaseTransactionalExecutor<T, S extends Statement> implemen
      */
     protected String buildWhereCondition(WhereRecognizer recognizer, ArrayList<List<Object>> paramAppenderList) {
         String whereCondition = null;
-        if (statementProxy instanceof ParametersHolder) {
-            whereCondition = recognizer.getWhereCondition((ParametersHolder) statementProxy, paramAppenderList);
+        ParametersHolder parametersHolder = getParametersHolder();
+        if (parametersHolder != null) {
+            whereCondition = recognizer.getWhereCondition(parametersHolder, paramAppenderList);
         } else {
             whereCondition = recognizer.getWhereCondition();
         }
@@ -171,8 +245,9 @@ public abstract class BaseTransactionalExecutor<T, S extends Statement> implemen
      */
     protected String buildOrderCondition(WhereRecognizer recognizer, ArrayList<List<Object>> paramAppenderList) {
         String orderByCondition = null;
-        if (statementProxy instanceof ParametersHolder) {
-            orderByCondition = recognizer.getOrderByCondition((ParametersHolder) statementProxy, paramAppenderList);
+        ParametersHolder parametersHolder = getParametersHolder();
+        if (parametersHolder != null) {
+            orderByCondition = recognizer.getOrderByCondition(parametersHolder, paramAppenderList);
         } else {
             orderByCondition = recognizer.getOrderByCondition();
         }
@@ -187,8 +262,9 @@ public abstract class BaseTransactionalExecutor<T, S extends Statement> implemen
      */
     protected String buildLimitCondition(WhereRecognizer recognizer, ArrayList<List<Object>> paramAppenderList) {
         String limitCondition = null;
-        if (statementProxy instanceof ParametersHolder) {
-            limitCondition = recognizer.getLimitCondition((ParametersHolder) statementProxy, paramAppenderList);
+        ParametersHolder parametersHolder = getParametersHolder();
+        if (parametersHolder != null) {
+            limitCondition = recognizer.getLimitCondition(parametersHolder, paramAppenderList);
         } else {
             limitCondition = recognizer.getLimitCondition();
         }
@@ -432,26 +508,27 @@ public abstract class BaseTransactionalExecutor<T, S extends Statement> implemen
         if (rowsIncludingPK.size() == 0) {
             return null;
         }
-        StringBuilder sb = new StringBuilder();
-        sb.append(rowsIncludingPK.getTableMeta().getTableName());
-        sb.append(":");
-        int rowSequence = 0;
+        String tableName = rowsIncludingPK.getTableMeta().getTableName();
         List<Map<String, Field>> pksRows = rowsIncludingPK.pkRows();
         List<String> primaryKeysOnlyName = rowsIncludingPK.getTableMeta().getPrimaryKeyOnlyName();
+        // sized for short pks up front, the lock key of a large branch would otherwise be copied on every growth
+        StringBuilder sb = new StringBuilder(tableName.length() + 1 + pksRows.size() * primaryKeysOnlyName.size() * 12);
+        sb.append(tableName).append(':');
+        int rowSequence = 0;
         for (Map<String, Field> rowMap : pksRows) {
             int pkSplitIndex = 0;
             for (String pkName : primaryKeysOnlyName) {
                 if (pkSplitIndex > 0) {
-                    sb.append("_");
+                    sb.append('_');
                 }
-                Object pkVal = rowMap.get(pkName).getValue();
-                validPk(String.valueOf(pkVal));
+                String pkVal = String.valueOf(rowMap.get(pkName).getValue());
+                validPk(pkVal);
                 sb.append(pkVal);
                 pkSplitIndex++;
             }
             rowSequence++;
             if (rowSequence < pksRows.size()) {
-                sb.append(",");
+                sb.append(',');
             }
         }
         return sb.toString();
@@ -594,4 +671,20 @@ public abstract class BaseTransactionalExecutor<T, S extends Statement> implemen
         return statementProxy.getConnectionProxy().getDbType();
     }
 
+    /**
+     * The image sql builder.
+     */
+    @FunctionalInterface
+    protected interface ImageSQLBuilder {
+
+        /**
+         * Build the image sql.
+         *
+         * @param paramAppenderList the param appender list
+         * @return the image sql
+         * @throws SQLException the sql exception
+         */
+        String build(ArrayList<List<Object>> paramAppenderList) throws SQLException;
+    }
+
 }
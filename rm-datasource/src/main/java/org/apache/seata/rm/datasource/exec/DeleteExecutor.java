@@ -56,7 +56,8 @@ public class DeleteExecutor<T, S extends Statement> extends AbstractDMLBaseExecu
         SQLDeleteRecognizer visitor = (SQLDeleteRecognizer) sqlRecognizer;
         TableMeta tmeta = getTableMeta(visitor.getTableName());
         ArrayList<List<Object>> paramAppenderList = new ArrayList<>();
-        String selectSQL = buildBeforeImageSQL(visitor, tmeta, paramAppenderList);
+        String selectSQL = buildImageSQL(ImageSQLCache.BEFORE_IMAGE, tmeta, paramAppenderList,
+            appender -> buildBeforeImageSQL(visitor, tmeta, appender));
         return buildTableRecords(tmeta, selectSQL, paramAppenderList);
     }
 
@@ -0,0 +1,247 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.exec;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.seata.config.ConfigurationFactory;
+import org.apache.seata.core.constants.ConfigurationKeys;
+import org.apache.seata.sqlparser.ParametersHolder;
+import org.apache.seata.sqlparser.SQLRecognizer;
+import org.apache.seata.sqlparser.struct.Null;
+import org.apache.seata.sqlparser.struct.TableMeta;
+
+import static org.apache.seata.common.DefaultValues.DEFAULT_SQL_PARSER_CACHE_ENABLE;
+
+/**
+ * The cache of the image sql generated for a parsed statement.
+ * <p>
+ * The recognizers are shared through {@link org.apache.seata.rm.datasource.sql.SQLVisitorFactory},
+ * so the image sql of a statement only depends on the recognizer, the table meta and the number of the
+ * parameter rows. The sql is built once with placeholder parameters, the positions of the placeholders are
+ * recorded and the real parameters are bound to them on the following executions.
+ */
+public final class ImageSQLCache {
+
+    /**
+     * The image type of the before image.
+     */
+    public static final String BEFORE_IMAGE = "before";
+
+    /**
+     * The image type of the after image.
+     */
+    public static final String AFTER_IMAGE = "after";
+
+    /**
+     * The image type of the select for update pk query.
+     */
+    public static final String SELECT_PK = "selectPk";
+
+    private static final int MAX_TEMPLATES_PER_STATEMENT = 16;
+
+    private static final boolean ENABLE = ConfigurationFactory.getInstance().getBoolean(
+        ConfigurationKeys.SQL_PARSER_CACHE_ENABLE, DEFAULT_SQL_PARSER_CACHE_ENABLE);
+
+    /**
+     * Keyed by the recognizer identity, the entries go away with the recognizers evicted from the parser cache.
+     */
+    private static final Cache<SQLRecognizer, Map<TemplateKey, ImageSQLTemplate>> TEMPLATE_CACHE =
+        Caffeine.newBuilder().weakKeys().build();
+
+    private ImageSQLCache() {
+    }
+
+    /**
+     * Whether the image sql cache is enabled.
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLE;
+    }
+
+    /**
+     * Get the cached template.
+     *
+     * @param recognizer the recognizer
+     * @param imageType  the image type
+     * @param rows       the number of the parameter rows
+     * @param tableMeta  the current table meta
+     * @return the template, null if absent or built with another version of the table meta
+     */
+    public static ImageSQLTemplate get(SQLRecognizer recognizer, String imageType, int rows, TableMeta tableMeta) {
+        Map<TemplateKey, ImageSQLTemplate> templates = TEMPLATE_CACHE.getIfPresent(recognizer);
+        if (templates == null) {
+            return null;
+        }
+        ImageSQLTemplate template = templates.get(new TemplateKey(imageType, rows));
+        return template != null && template.tableMeta == tableMeta ? template : null;
+    }
+
+    /**
+     * Put the template.
+     *
+     * @param recognizer the recognizer
+     * @param imageType  the image type
+     * @param rows       the number of the parameter rows
+     * @param template   the template
+     */
+    public static void put(SQLRecognizer recognizer, String imageType, int rows, ImageSQLTemplate template) {
+        Map<TemplateKey, ImageSQLTemplate> templates = TEMPLATE_CACHE.get(recognizer, k -> new ConcurrentHashMap<>(4));
+        TemplateKey key = new TemplateKey(imageType, rows);
+        if (templates.size() < MAX_TEMPLATES_PER_STATEMENT || templates.containsKey(key)) {
+            templates.put(key, template);
+        }
+    }
+
+    /**
+     * Get the number of the parameter rows, more than one in batch.
+     *
+     * @param parametersHolder the parameters holder
+     * @return the number of the parameter rows
+     */
+    public static int getParameterRows(ParametersHolder parametersHolder) {
+        int rows = 0;
+        for (ArrayList<Object> values : parametersHolder.getParameters().values()) {
+            rows = Math.max(rows, values.size());
+        }
+        return rows;
+    }
+
+    /**
+     * Create a parameters holder which holds the placeholders of the given parameters.
+     *
+     * @param parametersHolder the parameters holder
+     * @return the recording parameters holder
+     */
+    public static ParametersHolder recording(ParametersHolder parametersHolder) {
+        Map<Integer, ArrayList<Object>> parameters = parametersHolder.getParameters();
+        Map<Integer, ArrayList<Object>> placeholders = new HashMap<>(parameters.size());
+        for (Map.Entry<Integer, ArrayList<Object>> entry : parameters.entrySet()) {
+            int size = entry.getValue().size();
+            ArrayList<Object> refs = new ArrayList<>(size);
+            for (int row = 0; row < size; row++) {
+                refs.add(new ParameterRef(entry.getKey(), row));
+            }
+            placeholders.put(entry.getKey(), refs);
+        }
+        return () -> placeholders;
+    }
+
+    /**
+     * The image sql with the positions of its parameters.
+     */
+    public static final class ImageSQLTemplate {
+
+        private final TableMeta tableMeta;
+
+        private final String sql;
+
+        private final List<List<Object>> paramPlaceholders;
+
+        /**
+         * Instantiates a new image sql template.
+         *
+         * @param tableMeta         the table meta the sql built with
+         * @param sql               the image sql
+         * @param paramPlaceholders the parameter placeholders appended while building with a recording holder
+         */
+        public ImageSQLTemplate(TableMeta tableMeta, String sql, List<List<Object>> paramPlaceholders) {
+            this.tableMeta = tableMeta;
+            this.sql = sql;
+            this.paramPlaceholders = paramPlaceholders;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * Bind the real parameters to the recorded placeholders.
+         *
+         * @param parametersHolder  the parameters holder of the current execution
+         * @param paramAppenderList the param appender list to fill
+         */
+        public void bind(ParametersHolder parametersHolder, ArrayList<List<Object>> paramAppenderList) {
+            if (paramPlaceholders == null || paramPlaceholders.isEmpty()) {
+                return;
+            }
+            Map<Integer, ArrayList<Object>> parameters = parametersHolder.getParameters();
+            for (List<Object> rowPlaceholders : paramPlaceholders) {
+                List<Object> paramAppender = new ArrayList<>(rowPlaceholders.size());
+                for (Object placeholder : rowPlaceholders) {
+                    if (placeholder instanceof ParameterRef) {
+                        ParameterRef ref = (ParameterRef) placeholder;
+                        Object value = parameters.get(ref.index).get(ref.row);
+                        paramAppender.add(value instanceof Null ? null : value);
+                    } else {
+                        paramAppender.add(placeholder);
+                    }
+                }
+                paramAppenderList.add(paramAppender);
+            }
+        }
+    }
+
+    private static final class ParameterRef {
+
+        private final int index;
+
+        private final int row;
+
+        ParameterRef(int index, int row) {
+            this.index = index;
+            this.row = row;
+        }
+    }
+
+    private static final class TemplateKey {
+
+        private final String imageType;
+
+        private final int rows;
+
+        TemplateKey(String imageType, int rows) {
+            this.imageType = imageType;
+            this.rows = rows;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TemplateKey)) {
+                return false;
+            }
+            TemplateKey that = (TemplateKey) o;
+            return rows == that.rows && imageType.equals(that.imageType);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * imageType.hashCode() + rows;
+        }
+    }
+}
@@ -82,7 +82,8 @@ public class SelectForUpdateExecutor<T, S extends Statement> extends BaseTransac
 
             LockRetryController lockRetryController = new LockRetryController();
             ArrayList<List<Object>> paramAppenderList = new ArrayList<>();
-            String selectPKSQL = buildSelectSQL(paramAppenderList);
+            String selectPKSQL = buildImageSQL(ImageSQLCache.SELECT_PK, getTableMeta(), paramAppenderList,
+                this::buildSelectSQL);
             while (true) {
                 try {
                     // #870
@@ -66,7 +66,8 @@ public class UpdateExecutor<T, S extends Statement> extends AbstractDMLBaseExecu
     protected TableRecords beforeImage() throws SQLException {
         ArrayList<List<Object>> paramAppenderList = new ArrayList<>();
         TableMeta tmeta = getTableMeta();
-        String selectSQL = buildBeforeImageSQL(tmeta, paramAppenderList);
+        String selectSQL = buildImageSQL(ImageSQLCache.BEFORE_IMAGE, tmeta, paramAppenderList,
+            appender -> buildBeforeImageSQL(tmeta, appender));
         return buildTableRecords(tmeta, selectSQL, paramAppenderList);
     }
 
@@ -99,7 +100,8 @@ public class UpdateExecutor<T, S extends Statement> extends AbstractDMLBaseExecu
         if (beforeImage == null || beforeImage.size() == 0) {
             return TableRecords.empty(getTableMeta());
         }
-        String selectSQL = buildAfterImageSQL(tmeta, beforeImage);
+        String selectSQL = buildImageSQL(ImageSQLCache.AFTER_IMAGE, tmeta, beforeImage.pkRows().size(),
+            appender -> buildAfterImageSQL(tmeta, beforeImage));
         PreparedStatement pst = null;
         ResultSet rs = null;
         try {
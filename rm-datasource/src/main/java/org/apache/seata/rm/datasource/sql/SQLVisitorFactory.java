@@ -16,14 +16,23 @@
  */
 package org.apache.seata.rm.datasource.sql;
 
+import java.util.Collections;
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.config.Configuration;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.sqlparser.SQLRecognizer;
 import org.apache.seata.sqlparser.SQLRecognizerFactory;
 import org.apache.seata.sqlparser.SqlParserType;
 
-import java.util.List;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SQL_PARSER_CACHE_CAPACITY;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SQL_PARSER_CACHE_ENABLE;
 
 
 public class SQLVisitorFactory {
@@ -32,9 +41,24 @@ public class SQLVisitorFactory {
      */
     private final static SQLRecognizerFactory SQL_RECOGNIZER_FACTORY;
 
+    /**
+     * The parsed recognizers keyed by db type and sql, weighed by the sql length.
+     * The recognizers only hold the parsed statement, the parameters are passed in per execution,
+     * so the same instances can be shared by all the connections.
+     */
+    private final static Cache<RecognizerCacheKey, List<SQLRecognizer>> SQL_RECOGNIZER_CACHE;
+
     static {
-        String sqlParserType = ConfigurationFactory.getInstance().getConfig(ConfigurationKeys.SQL_PARSER_TYPE, SqlParserType.SQL_PARSER_TYPE_DRUID);
+        Configuration configuration = ConfigurationFactory.getInstance();
+        String sqlParserType = configuration.getConfig(ConfigurationKeys.SQL_PARSER_TYPE, SqlParserType.SQL_PARSER_TYPE_DRUID);
         SQL_RECOGNIZER_FACTORY = EnhancedServiceLoader.load(SQLRecognizerFactory.class, sqlParserType);
+        if (configuration.getBoolean(ConfigurationKeys.SQL_PARSER_CACHE_ENABLE, DEFAULT_SQL_PARSER_CACHE_ENABLE)) {
+            long capacity = configuration.getLong(ConfigurationKeys.SQL_PARSER_CACHE_CAPACITY, DEFAULT_SQL_PARSER_CACHE_CAPACITY);
+            SQL_RECOGNIZER_CACHE = Caffeine.newBuilder().maximumWeight(capacity)
+                .weigher((RecognizerCacheKey key, List<SQLRecognizer> value) -> key.weight()).recordStats().build();
+        } else {
+            SQL_RECOGNIZER_CACHE = null;
+        }
     }
 
     /**
@@ -45,8 +69,66 @@ public class SQLVisitorFactory {
      * @return the sql recognizer
      */
     public static List<SQLRecognizer> get(String sql, String dbType) {
-        return SQL_RECOGNIZER_FACTORY.create(sql, dbType);
+        if (SQL_RECOGNIZER_CACHE == null || sql == null) {
+            return SQL_RECOGNIZER_FACTORY.create(sql, dbType);
+        }
+        List<SQLRecognizer> sqlRecognizers = SQL_RECOGNIZER_CACHE.get(new RecognizerCacheKey(sql, dbType), key -> {
+            List<SQLRecognizer> recognizers = SQL_RECOGNIZER_FACTORY.create(sql, dbType);
+            // the statements without recognizer are cached too, so plain sql is not parsed again either
+            return CollectionUtils.isEmpty(recognizers) ? Collections.emptyList() : Collections.unmodifiableList(recognizers);
+        });
+        return sqlRecognizers.isEmpty() ? null : sqlRecognizers;
+    }
+
+    /**
+     * Get the statistics of the sql recognizer cache.
+     *
+     * @return the cache stats, null if the cache is disabled
+     */
+    public static CacheStats getCacheStats() {
+        return SQL_RECOGNIZER_CACHE == null ? null : SQL_RECOGNIZER_CACHE.stats();
     }
 
+    /**
+     * Discard all the cached sql recognizers.
+     */
+    public static void invalidateCache() {
+        if (SQL_RECOGNIZER_CACHE != null) {
+            SQL_RECOGNIZER_CACHE.invalidateAll();
+        }
+    }
+
+    private static final class RecognizerCacheKey {
+
+        private final String sql;
+
+        private final String dbType;
+
+        RecognizerCacheKey(String sql, String dbType) {
+            this.sql = sql;
+            this.dbType = dbType;
+        }
+
+        int weight() {
+            return sql.length() + (dbType == null ? 0 : dbType.length());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RecognizerCacheKey)) {
+                return false;
+            }
+            RecognizerCacheKey that = (RecognizerCacheKey) o;
+            return sql.equals(that.sql) && (dbType == null ? that.dbType == null : dbType.equals(that.dbType));
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * sql.hashCode() + (dbType == null ? 0 : dbType.hashCode());
+        }
+    }
 
 }
@@ -68,6 +68,12 @@ public class TableMetaCacheFactory {
     private static final long TABLE_META_CHECKER_INTERVAL = ConfigurationFactory.getInstance()
         .getLong(ConfigurationKeys.CLIENT_TABLE_META_CHECKER_INTERVAL, DEFAULT_TABLE_META_CHECKER_INTERVAL);
 
+    /**
+     * The tables whose table meta is loaded once the data source is registered, separated by comma
+     */
+    private static final String TABLE_META_PRELOAD_TABLES = ConfigurationFactory.getInstance()
+        .getConfig(ConfigurationKeys.CLIENT_TABLE_META_PRELOAD_TABLES);
+
 
     /**
      * get table meta cache
@@ -95,12 +101,40 @@ public class TableMetaCacheFactory {
      */
     public static void tableMetaRefreshEvent(String resourceId) {
         TableMetaRefreshHolder refreshHolder = TABLE_META_REFRESH_HOLDER_MAP.get(resourceId);
+        if (refreshHolder == null) {
+            return;
+        }
         boolean offer = refreshHolder.tableMetaRefreshQueue.offer(System.nanoTime());
         if (!offer) {
             LOGGER.error("table refresh event offer error:{}", resourceId);
         }
     }
 
+    /**
+     * Load the table meta of the preload tables, so the first statements on them do not wait for it.
+     */
+    private static void preloadTableMeta(DataSourceProxy dataSource) {
+        if (StringUtils.isBlank(TABLE_META_PRELOAD_TABLES)) {
+            return;
+        }
+        TableMetaCache tableMetaCache = getTableMetaCache(dataSource.getDbType());
+        try (Connection connection = dataSource.getPlainConnection()) {
+            for (String tableName : TABLE_META_PRELOAD_TABLES.split(",")) {
+                tableName = tableName.trim();
+                if (tableName.isEmpty()) {
+                    continue;
+                }
+                try {
+                    tableMetaCache.getTableMeta(connection, tableName, dataSource.getResourceId());
+                } catch (Exception e) {
+                    LOGGER.warn("preload table meta of the table `{}` failed: {}", tableName, e.getMessage());
+                }
+            }
+        } catch (SQLException e) {
+            LOGGER.warn("preload table meta of {} failed: {}", dataSource.getResourceId(), e.getMessage());
+        }
+    }
+
     /**
      * Remove the TableMetaRefreshHolder from the map.
      */
@@ -124,6 +158,7 @@ public class TableMetaCacheFactory {
             this.tableMetaRefreshQueue = new LinkedBlockingQueue<>(MAX_QUEUE_SIZE);
 
             tableMetaRefreshExecutor.execute(() -> {
+                preloadTableMeta(dataSource);
                 while (true) {
                     // 1. check table meta
                     if (ENABLE_TABLE_META_CHECKER_ENABLE
@@ -21,12 +21,15 @@ import java.sql.SQLException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import org.apache.seata.common.exception.ShouldNeverHappenException;
 import org.apache.seata.common.util.StringUtils;
 import org.apache.seata.core.context.RootContext;
+import org.apache.seata.rm.datasource.sql.struct.TableMetaCacheFactory;
 import org.apache.seata.sqlparser.struct.TableMeta;
 import org.apache.seata.sqlparser.struct.TableMetaCache;
 import org.slf4j.Logger;
@@ -34,7 +37,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The type Table meta cache.
- *
+ * <p>
+ * The cached table meta is refreshed ahead: once it is older than the refresh time, it is still served
+ * while the refresh task of the resource reloads it on its own connection, so the business threads
+ * only wait for the first load of a table.
  */
 public abstract class AbstractTableMetaCache implements TableMetaCache {
 
@@ -44,12 +50,40 @@ public abstract class AbstractTableMetaCache implements TableMetaCache {
 
     private static final long EXPIRE_TIME = 900 * 1000;
 
-    private static final Cache<String, TableMeta> TABLE_META_CACHE;
+    /**
+     * The table meta older than this is reloaded in the background.
+     */
+    private static final long REFRESH_TIME = EXPIRE_TIME / 3;
+
+    /**
+     * How long a table not found is remembered, so the missing tables do not query the database on every
+     * statement.
+     */
+    private static final long MISSING_EXPIRE_TIME = 5 * 1000;
+
+    /**
+     * The sql state of the table not found in X/Open, used by MySQL, SQL Server and H2.
+     */
+    private static final String SQL_STATE_TABLE_NOT_FOUND = "42S02";
+
+    /**
+     * The sql state of the undefined table in the SQL standard, used by PostgreSQL.
+     */
+    private static final String SQL_STATE_UNDEFINED_TABLE = "42P01";
+
+    private static final Cache<String, TableMetaHolder> TABLE_META_CACHE;
+
+    /**
+     * The cache key of the table not found to the resource id of the table.
+     */
+    private static final Cache<String, String> MISSING_TABLE_CACHE;
 
     static {
         try {
             TABLE_META_CACHE = Caffeine.newBuilder().maximumSize(CACHE_SIZE)
-                    .expireAfterWrite(EXPIRE_TIME, TimeUnit.MILLISECONDS).softValues().build();
+                    .expireAfterAccess(EXPIRE_TIME, TimeUnit.MILLISECONDS).softValues().recordStats().build();
+            MISSING_TABLE_CACHE = Caffeine.newBuilder().maximumSize(CACHE_SIZE)
+                    .expireAfterWrite(MISSING_EXPIRE_TIME, TimeUnit.MILLISECONDS).build();
         } catch (Throwable t) {
             LOGGER.error("Build the `TABLE_META_CACHE` failed:", t);
             throw t;
@@ -64,35 +98,56 @@ public abstract class AbstractTableMetaCache implements TableMetaCache {
         }
 
         final String key = getCacheKey(connection, tableName, resourceId);
-        TableMeta tmeta = TABLE_META_CACHE.get(key, mappingFunction -> {
-            try {
-                return fetchSchema(connection, tableName);
-            } catch (SQLException e) {
-                LOGGER.error("get table meta of the table `{}` error: {}", tableName, e.getMessage(), e);
-                return null;
-            }
-        });
+        TableMetaHolder holder = null;
+        if (MISSING_TABLE_CACHE.getIfPresent(key) == null) {
+            holder = TABLE_META_CACHE.get(key, mappingFunction -> {
+                try {
+                    return new TableMetaHolder(fetchSchema(connection, tableName));
+                } catch (SQLException e) {
+                    LOGGER.error("get table meta of the table `{}` error: {}", tableName, e.getMessage(), e);
+                    if (resourceId != null && isTableNotFound(e)) {
+                        MISSING_TABLE_CACHE.put(key, resourceId);
+                    }
+                    return null;
+                }
+            });
+        }
 
-        if (tmeta == null) {
+        if (holder == null) {
             throw new ShouldNeverHappenException(String.format("[xid:%s] Get table meta failed," +
                 " please check whether the table `%s` exists.", RootContext.getXID(), tableName));
         }
-        return tmeta;
+        if (holder.needRefresh()) {
+            TableMetaCacheFactory.tableMetaRefreshEvent(resourceId);
+        }
+        return holder.tableMeta;
     }
 
     @Override
     public void refresh(final Connection connection, String resourceId) {
-        ConcurrentMap<String, TableMeta> tableMetaMap = TABLE_META_CACHE.asMap();
-        for (Map.Entry<String, TableMeta> entry : tableMetaMap.entrySet()) {
-            String key = getCacheKey(connection, entry.getValue().getOriginalTableName(), resourceId);
+        MISSING_TABLE_CACHE.asMap().values().removeIf(resourceId::equals);
+        ConcurrentMap<String, TableMetaHolder> tableMetaMap = TABLE_META_CACHE.asMap();
+        for (Map.Entry<String, TableMetaHolder> entry : tableMetaMap.entrySet()) {
+            TableMetaHolder holder = entry.getValue();
+            String key = getCacheKey(connection, holder.tableMeta.getOriginalTableName(), resourceId);
             if (entry.getKey().equals(key)) {
                 try {
-                    String freshTableName = StringUtils.isBlank(entry.getValue().getOriginalTableName()) ?
-                            entry.getValue().getTableName() : entry.getValue().getOriginalTableName();
+                    String freshTableName = StringUtils.isBlank(holder.tableMeta.getOriginalTableName()) ?
+                            holder.tableMeta.getTableName() : holder.tableMeta.getOriginalTableName();
+                    String ddlVersion = fetchDDLVersionQuietly(connection, freshTableName);
+                    if (ddlVersion != null && ddlVersion.equals(holder.ddlVersion)) {
+                        holder.loaded();
+                        continue;
+                    }
                     TableMeta tableMeta = fetchSchema(connection, freshTableName);
-                    if (!tableMeta.equals(entry.getValue())) {
-                        TABLE_META_CACHE.put(entry.getKey(), tableMeta);
+                    if (!tableMeta.equals(holder.tableMeta)) {
+                        TableMetaHolder freshHolder = new TableMetaHolder(tableMeta);
+                        freshHolder.ddlVersion = ddlVersion;
+                        TABLE_META_CACHE.put(entry.getKey(), freshHolder);
                         LOGGER.info("table meta change was found, update table meta cache automatically.");
+                    } else {
+                        holder.ddlVersion = ddlVersion;
+                        holder.loaded();
                     }
                 } catch (SQLException e) {
                     LOGGER.error("get table meta error:{}", e.getMessage(), e);
@@ -101,6 +156,16 @@ public abstract class AbstractTableMetaCache implements TableMetaCache {
         }
     }
 
+    /**
+     * Gets the statistics of the table meta cache, the load penalty of the stats is the time spent in
+     * fetching the schema on the business threads.
+     *
+     * @return the cache stats
+     */
+    public static CacheStats getCacheStats() {
+        return TABLE_META_CACHE.stats();
+    }
+
 
     /**
      * generate cache key
@@ -122,4 +187,72 @@ public abstract class AbstractTableMetaCache implements TableMetaCache {
      */
     protected abstract TableMeta fetchSchema(Connection connection, String tableName) throws SQLException;
 
+    /**
+     * Get the version of the table definition which changes on every DDL of the table, the refresh skips
+     * fetching the schema while the version does not change.
+     *
+     * @param connection the connection
+     * @param tableName  the table name
+     * @return the ddl version, null if the database does not expose it
+     * @throws SQLException the sql exception
+     */
+    protected String fetchDDLVersion(Connection connection, String tableName) throws SQLException {
+        return null;
+    }
+
+    /**
+     * Whether the exception means the table does not exist, only such a table is remembered as missing, the other
+     * errors like a broken connection are retried on the next statement.
+     *
+     * @param e the exception of fetching the schema
+     * @return true if the table does not exist
+     */
+    protected boolean isTableNotFound(SQLException e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException) {
+                String sqlState = ((SQLException)t).getSQLState();
+                if (SQL_STATE_TABLE_NOT_FOUND.equals(sqlState) || SQL_STATE_UNDEFINED_TABLE.equals(sqlState)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private String fetchDDLVersionQuietly(Connection connection, String tableName) {
+        try {
+            return fetchDDLVersion(connection, tableName);
+        } catch (SQLException e) {
+            LOGGER.warn("get the ddl version of the table `{}` error: {}", tableName, e.getMessage());
+            return null;
+        }
+    }
+
+    private static class TableMetaHolder {
+
+        private final TableMeta tableMeta;
+
+        private final AtomicLong loadTime = new AtomicLong(System.currentTimeMillis());
+
+        private volatile String ddlVersion;
+
+        TableMetaHolder(TableMeta tableMeta) {
+            this.tableMeta = tableMeta;
+        }
+
+        void loaded() {
+            loadTime.set(System.currentTimeMillis());
+        }
+
+        /**
+         * Only the first caller after the refresh time gets true, the others keep the stale meta until the
+         * refresh is done.
+         */
+        boolean needRefresh() {
+            long time = loadTime.get();
+            long now = System.currentTimeMillis();
+            return now - time > REFRESH_TIME && loadTime.compareAndSet(time, now);
+        }
+    }
+
 }
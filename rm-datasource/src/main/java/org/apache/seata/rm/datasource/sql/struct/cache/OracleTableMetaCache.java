@@ -18,6 +18,7 @@ package org.apache.seata.rm.datasource.sql.struct.cache;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
@@ -42,6 +43,13 @@ import java.util.Map;
 @LoadLevel(name = JdbcConstants.ORACLE)
 public class OracleTableMetaCache extends AbstractTableMetaCache {
 
+    /**
+     * The ddl time only has the precision of seconds, the tables changed in the last minute are always fetched.
+     */
+    private static final String DDL_VERSION_SQL = "SELECT CASE WHEN LAST_DDL_TIME < SYSDATE - 1 / 1440 "
+        + "THEN TO_CHAR(LAST_DDL_TIME, 'YYYYMMDDHH24MISS') END FROM ALL_OBJECTS "
+        + "WHERE OWNER = ? AND OBJECT_NAME = ? AND OBJECT_TYPE = 'TABLE'";
+
     @Override
     protected String getCacheKey(Connection connection, String tableName, String resourceId) {
         StringBuilder cacheKey = new StringBuilder(resourceId);
@@ -71,6 +79,20 @@ public class OracleTableMetaCache extends AbstractTableMetaCache {
         }
     }
 
+    @Override
+    protected String fetchDDLVersion(Connection connection, String tableName) throws SQLException {
+        String[] schemaTable = tableName.split("\\.");
+        String schemaName = schemaTable.length > 1 ? schemaTable[0] : connection.getMetaData().getUserName();
+        tableName = schemaTable.length > 1 ? schemaTable[1] : tableName;
+        try (PreparedStatement ps = connection.prepareStatement(DDL_VERSION_SQL)) {
+            ps.setString(1, schemaName.contains("\"") ? schemaName.replace("\"", "") : schemaName.toUpperCase());
+            ps.setString(2, tableName.contains("\"") ? tableName.replace("\"", "") : tableName.toUpperCase());
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
     protected TableMeta resultSetMetaToSchema(DatabaseMetaData dbmd, String tableName) throws SQLException {
         TableMeta tm = new TableMeta();
         //  Save the original table name information for active cache refresh
@@ -21,12 +21,19 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.seata.common.Constants;
 import org.apache.seata.common.util.CollectionUtils;
@@ -51,6 +58,7 @@ import org.slf4j.LoggerFactory;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_UNDO_COMPRESS_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_UNDO_COMPRESS_THRESHOLD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_UNDO_COMPRESS_TYPE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_UNDO_PARTITION_PURGE_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_LOG_TABLE;
 import static org.apache.seata.core.exception.TransactionExceptionCode.BranchRollbackFailed_Retriable;
 import static org.apache.seata.core.exception.TransactionExceptionCode.BranchRollbackFailed_Unretriable;
@@ -106,6 +114,21 @@ public abstract class AbstractUndoLogManager implements UndoLogManager {
     protected static final long ROLLBACK_INFO_COMPRESS_THRESHOLD = SizeUtil.size2Long(ConfigurationFactory.getInstance().getConfig(
             ConfigurationKeys.CLIENT_UNDO_COMPRESS_THRESHOLD, DEFAULT_CLIENT_UNDO_COMPRESS_THRESHOLD));
 
+    /**
+     * Purge the expired undo logs by dropping the partitions of the undo log table, which is partitioned by range
+     * on log_created.
+     */
+    protected static final boolean PARTITION_PURGE_ENABLE = ConfigurationFactory.getInstance().getBoolean(
+            ConfigurationKeys.CLIENT_UNDO_PARTITION_PURGE_ENABLE, DEFAULT_CLIENT_UNDO_PARTITION_PURGE_ENABLE);
+
+    /**
+     * The result of the purge by partition when it is disabled or not supported, the undo logs are purged by rows.
+     */
+    protected static final int PARTITION_PURGE_UNSUPPORTED = -1;
+
+    private static final Pattern PARTITION_BOUND_PATTERN =
+            Pattern.compile("(\\d{4}-\\d{2}-\\d{2})( \\d{2}:\\d{2}:\\d{2})?");
+
     private static final ThreadLocal<String> SERIALIZER_LOCAL = new ThreadLocal<>();
 
     public static String getCurrentSerializer() {
@@ -524,6 +547,155 @@ public abstract class AbstractUndoLogManager implements UndoLogManager {
         return 0;
     }
 
+    /**
+     * Purge the undo logs created before the log created by dropping the partitions whose upper bound is not after
+     * it. The rows of a partition, including the GlobalFinished ones, are all older than its upper bound, so they
+     * are kept as long as they are by the row deletes, the rows of the partition holding the log created are kept
+     * until the partition expires as a whole.
+     *
+     * @param logCreated the log created
+     * @param conn       the conn
+     * @return the rows of the dropped partitions, {@link #PARTITION_PURGE_UNSUPPORTED} if the purge by partition is
+     * disabled, not supported by the dialect or the undo log table is not partitioned
+     * @throws SQLException the sql exception
+     */
+    protected int purgeByPartition(Date logCreated, Connection conn) throws SQLException {
+        if (!isPartitionPurgeEnabled()) {
+            return PARTITION_PURGE_UNSUPPORTED;
+        }
+        Map<String, Date> partitions = getPartitionUpperBounds(conn);
+        if (CollectionUtils.isEmpty(partitions)) {
+            LOGGER.warn("the undo log table {} is not partitioned by range on {}, purge it by rows",
+                    UNDO_LOG_TABLE_NAME, ClientTableColumnsName.UNDO_LOG_LOG_CREATED);
+            return PARTITION_PURGE_UNSUPPORTED;
+        }
+        int deleteRows = 0;
+        for (Map.Entry<String, Date> entry : partitions.entrySet()) {
+            Date upperBound = entry.getValue();
+            if (upperBound == null || upperBound.after(logCreated)) {
+                continue;
+            }
+            int rows;
+            try {
+                rows = dropPartition(entry.getKey(), conn);
+            } catch (SQLException e) {
+                // such as the last range partition of an interval partitioned table in oracle
+                LOGGER.warn("failed to drop the partition {} of the undo log table: {}", entry.getKey(),
+                        e.getMessage());
+                continue;
+            }
+            if (rows == PARTITION_PURGE_UNSUPPORTED) {
+                LOGGER.warn("dropping the partitions of the undo log table is not supported, purge it by rows");
+                return deleteRows > 0 ? deleteRows : PARTITION_PURGE_UNSUPPORTED;
+            }
+            LOGGER.info("the partition {} of the undo log table has been dropped, upper bound: {}, rows: {}",
+                    entry.getKey(), upperBound, rows);
+            deleteRows += rows;
+        }
+        return deleteRows;
+    }
+
+    /**
+     * Whether the expired undo logs are purged by dropping the partitions.
+     *
+     * @return true if enabled
+     */
+    protected boolean isPartitionPurgeEnabled() {
+        return PARTITION_PURGE_ENABLE;
+    }
+
+    /**
+     * Get the partitions of the undo log table with their exclusive upper bounds of log_created.
+     *
+     * @param conn the conn
+     * @return the upper bounds by the partition names, null or empty if not partitioned, a null bound if unknown
+     * @throws SQLException the sql exception
+     */
+    protected Map<String, Date> getPartitionUpperBounds(Connection conn) throws SQLException {
+        return null;
+    }
+
+    /**
+     * Drop the partition of the undo log table.
+     *
+     * @param partition the partition name
+     * @param conn      the conn
+     * @return the rows of the dropped partition, {@link #PARTITION_PURGE_UNSUPPORTED} if not supported
+     * @throws SQLException the sql exception
+     */
+    protected int dropPartition(String partition, Connection conn) throws SQLException {
+        return PARTITION_PURGE_UNSUPPORTED;
+    }
+
+    /**
+     * Count the rows of the table or partition, before it is dropped.
+     *
+     * @param countSql the count sql
+     * @param conn     the conn
+     * @return the rows
+     * @throws SQLException the sql exception
+     */
+    protected static int countRows(String countSql, Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(countSql);
+             ResultSet rs = ps.executeQuery()) {
+            return rs.next() ? rs.getInt(1) : 0;
+        }
+    }
+
+    /**
+     * Get the time zone of the log_created values written by the database, which the partition bounds are in.
+     *
+     * @param conn the conn
+     * @return the time zone
+     * @throws SQLException the sql exception
+     */
+    protected TimeZone getLogCreatedTimeZone(Connection conn) throws SQLException {
+        return TimeZone.getDefault();
+    }
+
+    /**
+     * Get the time zone by the offset in seconds from UTC queried from the database.
+     *
+     * @param offsetSql the sql querying the offset in seconds
+     * @param conn      the conn
+     * @return the time zone
+     * @throws SQLException the sql exception
+     */
+    protected static TimeZone queryTimeZoneOffset(String offsetSql, Connection conn) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(offsetSql);
+             ResultSet rs = ps.executeQuery()) {
+            if (!rs.next()) {
+                return TimeZone.getDefault();
+            }
+            return new SimpleTimeZone((int)TimeUnit.SECONDS.toMillis(rs.getLong(1)), "undo_log");
+        }
+    }
+
+    /**
+     * Parse the date time literal in the partition bound expression, such as
+     * <code>'2024-01-01 00:00:00'</code> or <code>TO_DATE(' 2024-01-01 00:00:00', ...)</code>.
+     *
+     * @param boundExpression the partition bound expression
+     * @param timeZone        the time zone of the literal
+     * @return the bound, null if it is not a date time literal, such as MAXVALUE
+     */
+    protected static Date parsePartitionBound(String boundExpression, TimeZone timeZone) {
+        if (StringUtils.isBlank(boundExpression)) {
+            return null;
+        }
+        Matcher matcher = PARTITION_BOUND_PATTERN.matcher(boundExpression);
+        if (!matcher.find()) {
+            return null;
+        }
+        SimpleDateFormat format = new SimpleDateFormat(matcher.group(2) == null ? "yyyy-MM-dd" : "yyyy-MM-dd HH:mm:ss");
+        format.setTimeZone(timeZone);
+        try {
+            return format.parse(matcher.group(2) == null ? matcher.group(1) : matcher.group(1) + matcher.group(2));
+        } catch (ParseException e) {
+            return null;
+        }
+    }
+
     /**
      * get sub rollback info
      * @param conn the database connection
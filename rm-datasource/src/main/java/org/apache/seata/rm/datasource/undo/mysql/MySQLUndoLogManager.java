@@ -24,8 +24,10 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TimeZone;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.seata.common.loader.LoadLevel;
@@ -62,8 +64,25 @@ public class MySQLUndoLogManager extends AbstractUndoLogManager {
     private static final String DELETE_UNDO_LOG_BY_CREATE_SQL = "DELETE FROM " + UNDO_LOG_TABLE_NAME +
             " WHERE " + ClientTableColumnsName.UNDO_LOG_LOG_CREATED + " <= ? LIMIT ?";
 
+    /**
+     * the partitions by range columns on log_created, the descriptions are the quoted upper bounds
+     */
+    private static final String SELECT_PARTITION_SQL = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION"
+            + " FROM information_schema.PARTITIONS WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?"
+            + " AND PARTITION_NAME IS NOT NULL AND PARTITION_METHOD = 'RANGE COLUMNS'"
+            + " ORDER BY PARTITION_ORDINAL_POSITION";
+
+    /**
+     * the offset of the session time zone, which now(6) writes log_created in
+     */
+    private static final String SELECT_TIME_ZONE_OFFSET_SQL = "SELECT TIMESTAMPDIFF(SECOND, UTC_TIMESTAMP(), NOW())";
+
     @Override
     public int deleteUndoLogByLogCreated(Date logCreated, int limitRows, Connection conn) throws SQLException {
+        int purgeRows = purgeByPartition(logCreated, conn);
+        if (purgeRows != PARTITION_PURGE_UNSUPPORTED) {
+            return purgeRows;
+        }
         try (PreparedStatement deletePST = conn.prepareStatement(DELETE_UNDO_LOG_BY_CREATE_SQL)) {
             deletePST.setDate(1, new java.sql.Date(logCreated.getTime()));
             deletePST.setInt(2, limitRows);
@@ -80,6 +99,36 @@ public class MySQLUndoLogManager extends AbstractUndoLogManager {
         }
     }
 
+    @Override
+    protected Map<String, Date> getPartitionUpperBounds(Connection conn) throws SQLException {
+        Map<String, Date> partitions = new LinkedHashMap<>();
+        TimeZone timeZone = getLogCreatedTimeZone(conn);
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_PARTITION_SQL)) {
+            ps.setString(1, UNDO_LOG_TABLE_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    partitions.put(rs.getString(1), parsePartitionBound(rs.getString(2), timeZone));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    protected int dropPartition(String partition, Connection conn) throws SQLException {
+        int rows = countRows("SELECT COUNT(1) FROM " + UNDO_LOG_TABLE_NAME + " PARTITION (`" + partition + "`)", conn);
+        try (PreparedStatement ps = conn.prepareStatement("ALTER TABLE " + UNDO_LOG_TABLE_NAME
+                + " DROP PARTITION `" + partition + "`")) {
+            ps.executeUpdate();
+        }
+        return rows;
+    }
+
+    @Override
+    protected TimeZone getLogCreatedTimeZone(Connection conn) throws SQLException {
+        return queryTimeZoneOffset(SELECT_TIME_ZONE_OFFSET_SQL, conn);
+    }
+
     @Override
     protected Pair<Integer, List<byte[]>> getSubRollbackInfo(Connection conn, String subIds, Long branchId, String xid) throws SQLException {
         if (StringUtils.isBlank(subIds)) {
@@ -18,8 +18,12 @@ package org.apache.seata.rm.datasource.undo.oracle;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TimeZone;
 
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.common.util.DateUtil;
@@ -48,8 +52,24 @@ public class OracleUndoLogManager extends AbstractUndoLogManager {
 
     private static final String DELETE_UNDO_LOG_BY_CREATE_SQL = "DELETE FROM " + UNDO_LOG_TABLE_NAME + " WHERE " + ClientTableColumnsName.UNDO_LOG_LOG_CREATED + " <= to_date(?,'yyyy-mm-dd hh24:mi:ss') and ROWNUM <= ?";
 
+    /**
+     * the high values are the upper bounds, such as TO_DATE(' 2024-01-01 00:00:00', ...) or TIMESTAMP' 2024-01-01 00:00:00'
+     */
+    private static final String SELECT_PARTITION_SQL = "SELECT PARTITION_NAME, HIGH_VALUE FROM USER_TAB_PARTITIONS"
+            + " WHERE TABLE_NAME = ? ORDER BY PARTITION_POSITION";
+
+    /**
+     * the offset of the database host time zone, which sysdate writes log_created in
+     */
+    private static final String SELECT_TIME_ZONE_OFFSET_SQL =
+            "SELECT ROUND((SYSDATE - CAST(SYS_EXTRACT_UTC(SYSTIMESTAMP) AS DATE)) * 86400) FROM DUAL";
+
     @Override
     public int deleteUndoLogByLogCreated(Date logCreated, int limitRows, Connection conn) throws SQLException {
+        int purgeRows = purgeByPartition(logCreated, conn);
+        if (purgeRows != PARTITION_PURGE_UNSUPPORTED) {
+            return purgeRows;
+        }
         try (PreparedStatement deletePST = conn.prepareStatement(DELETE_UNDO_LOG_BY_CREATE_SQL)) {
             String dateStr = DateUtil.formatDate(logCreated, "yyyy-MM-dd HH:mm:ss");
             deletePST.setString(1, dateStr);
@@ -67,6 +87,38 @@ public class OracleUndoLogManager extends AbstractUndoLogManager {
         }
     }
 
+    @Override
+    protected Map<String, Date> getPartitionUpperBounds(Connection conn) throws SQLException {
+        Map<String, Date> partitions = new LinkedHashMap<>();
+        TimeZone timeZone = getLogCreatedTimeZone(conn);
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_PARTITION_SQL)) {
+            ps.setString(1, UNDO_LOG_TABLE_NAME.toUpperCase());
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    partitions.put(rs.getString(1), parsePartitionBound(rs.getString(2), timeZone));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    protected int dropPartition(String partition, Connection conn) throws SQLException {
+        int rows = countRows("SELECT COUNT(1) FROM " + UNDO_LOG_TABLE_NAME + " PARTITION (\"" + partition + "\")",
+                conn);
+        // the unique index on (xid, branch_id) is global
+        try (PreparedStatement ps = conn.prepareStatement("ALTER TABLE " + UNDO_LOG_TABLE_NAME
+                + " DROP PARTITION \"" + partition + "\" UPDATE GLOBAL INDEXES")) {
+            ps.executeUpdate();
+        }
+        return rows;
+    }
+
+    @Override
+    protected TimeZone getLogCreatedTimeZone(Connection conn) throws SQLException {
+        return queryTimeZoneOffset(SELECT_TIME_ZONE_OFFSET_SQL, conn);
+    }
+
     @Override
     protected void insertUndoLogWithNormal(String xid, long branchId, String rollbackCtx, byte[] undoLogContent,
                                            Connection conn) throws SQLException {
@@ -18,8 +18,12 @@ package org.apache.seata.rm.datasource.undo.postgresql;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TimeZone;
 
 import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.core.compressor.CompressorType;
@@ -48,8 +52,26 @@ public class PostgresqlUndoLogManager extends AbstractUndoLogManager {
             + "SELECT " + ClientTableColumnsName.UNDO_LOG_ID + " FROM " + UNDO_LOG_TABLE_NAME
             + " WHERE " + ClientTableColumnsName.UNDO_LOG_LOG_CREATED + " <= ? LIMIT ?" + ")";
 
+    /**
+     * the bounds are such as FOR VALUES FROM ('2024-01-01 00:00:00') TO ('2024-01-02 00:00:00')
+     */
+    private static final String SELECT_PARTITION_SQL = "SELECT n.nspname, c.relname, pg_get_expr(c.relpartbound, c.oid)"
+            + " FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_namespace n ON n.oid = c.relnamespace"
+            + " WHERE i.inhparent = ?::regclass ORDER BY c.relname";
+
+    private static final String PARTITION_UPPER_BOUND_KEYWORD = " TO ";
+
+    /**
+     * the offset of the session time zone, which now() writes log_created in
+     */
+    private static final String SELECT_TIME_ZONE_OFFSET_SQL = "SELECT EXTRACT(TIMEZONE FROM now())";
+
     @Override
     public int deleteUndoLogByLogCreated(Date logCreated, int limitRows, Connection conn) throws SQLException {
+        int purgeRows = purgeByPartition(logCreated, conn);
+        if (purgeRows != PARTITION_PURGE_UNSUPPORTED) {
+            return purgeRows;
+        }
         PreparedStatement deletePST = null;
         try {
             deletePST = conn.prepareStatement(DELETE_UNDO_LOG_BY_CREATE_SQL);
@@ -72,6 +94,38 @@ public class PostgresqlUndoLogManager extends AbstractUndoLogManager {
         }
     }
 
+    @Override
+    protected Map<String, Date> getPartitionUpperBounds(Connection conn) throws SQLException {
+        Map<String, Date> partitions = new LinkedHashMap<>();
+        TimeZone timeZone = getLogCreatedTimeZone(conn);
+        try (PreparedStatement ps = conn.prepareStatement(SELECT_PARTITION_SQL)) {
+            ps.setString(1, UNDO_LOG_TABLE_NAME);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String partition = "\"" + rs.getString(1) + "\".\"" + rs.getString(2) + "\"";
+                    String bound = rs.getString(3);
+                    int idx = bound == null ? -1 : bound.indexOf(PARTITION_UPPER_BOUND_KEYWORD);
+                    partitions.put(partition, idx < 0 ? null : parsePartitionBound(bound.substring(idx), timeZone));
+                }
+            }
+        }
+        return partitions;
+    }
+
+    @Override
+    protected int dropPartition(String partition, Connection conn) throws SQLException {
+        int rows = countRows("SELECT COUNT(1) FROM " + partition, conn);
+        try (PreparedStatement ps = conn.prepareStatement("DROP TABLE " + partition)) {
+            ps.executeUpdate();
+        }
+        return rows;
+    }
+
+    @Override
+    protected TimeZone getLogCreatedTimeZone(Connection conn) throws SQLException {
+        return queryTimeZoneOffset(SELECT_TIME_ZONE_OFFSET_SQL, conn);
+    }
+
     @Override
     protected void insertUndoLogWithNormal(String xid, long branchID, String rollbackCtx, byte[] undoLogContent,
                                            Connection conn) throws SQLException {
@@ -30,6 +30,7 @@ import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.model.ResourceManager;
 import org.apache.seata.rm.BaseDataSourceResource;
 import org.apache.seata.rm.DefaultResourceManager;
 import org.apache.seata.rm.datasource.util.SeataXAResource;
@@ -250,6 +251,8 @@ public class ConnectionProxyXA extends AbstractConnectionProxyXA implements Hold
                 if (prepare == XAResource.XA_RDONLY) {
                     // Branch Report to TC: RDONLY
                     reportStatusToTC(BranchStatus.PhaseOne_RDONLY);
+                } else if (isHeld()) {
+                    checkTwoPhaseHoldTimeout();
                 }
             } catch (XAException xe) {
                 // Branch Report to TC: Failed
@@ -311,9 +314,11 @@ public class ConnectionProxyXA extends AbstractConnectionProxyXA implements Hold
         }
     }
 
-    private synchronized void end(int flags) throws XAException, SQLException {
-        xaEnd(xaBranchXid, flags);
-        termination();
+    private void end(int flags) throws XAException, SQLException {
+        try (ResourceLock ignored = resourceLock.obtain()) {
+            xaEnd(xaBranchXid, flags);
+            termination();
+        }
     }
 
     private void cleanXABranchContext() {
@@ -398,6 +403,13 @@ public class ConnectionProxyXA extends AbstractConnectionProxyXA implements Hold
         }
     }
 
+    private void checkTwoPhaseHoldTimeout() {
+        ResourceManager resourceManager = DefaultResourceManager.get().getResourceManager(BranchType.XA);
+        if (resourceManager instanceof ResourceManagerXA) {
+            ((ResourceManagerXA)resourceManager).checkTwoPhaseHoldTimeout(resource, xaBranchXid.toString(), this);
+        }
+    }
+
     /**
      * Report branch status to TC
      *
@@ -17,6 +17,7 @@
 package org.apache.seata.rm.datasource.xa;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +26,7 @@ import javax.transaction.xa.XAException;
 import org.apache.seata.common.DefaultValues;
 import org.apache.seata.common.lock.ResourceLock;
 import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.BranchStatus;
@@ -48,13 +50,12 @@ public class ResourceManagerXA extends AbstractDataSourceCacheResourceManager {
     private static final int TWO_PHASE_HOLD_TIMEOUT = ConfigurationFactory.getInstance().getInt(XA_CONNECTION_TWO_PHASE_HOLD_TIMEOUT,
             DefaultValues.DEFAULT_XA_CONNECTION_TWO_PHASE_HOLD_TIMEOUT);
 
-    private static final long SCHEDULE_DELAY_MILLS = 60 * 1000L;
-    private static final long SCHEDULE_INTERVAL_MILLS = 1000L;
     /**
      * The Timer check xa branch two phase hold timeout.
      */
     protected volatile ScheduledExecutorService xaTwoPhaseTimeoutChecker;
     private final ResourceLock resourceLock = new ResourceLock();
+    private final Map<String, XABranchFinisher> finishers = new ConcurrentHashMap<>();
 
     @Override
     public void init() {
@@ -72,38 +73,42 @@ public class ResourceManagerXA extends AbstractDataSourceCacheResourceManager {
                         return false;
                     });
                     if (shouldBeHold) {
-                        xaTwoPhaseTimeoutChecker = new ScheduledThreadPoolExecutor(1,
+                        ScheduledThreadPoolExecutor checker = new ScheduledThreadPoolExecutor(1,
                             new NamedThreadFactory("xaTwoPhaseTimeoutChecker", 1, true));
-                        xaTwoPhaseTimeoutChecker.scheduleAtFixedRate(() -> {
-                            for (Map.Entry<String, Resource> entry : dataSourceCache.entrySet()) {
-                                BaseDataSourceResource resource = (BaseDataSourceResource)entry.getValue();
-                                if (resource.isShouldBeHeld()) {
-                                    if (resource instanceof DataSourceProxyXA) {
-                                        Map<String, ConnectionProxyXA> keeper = resource.getKeeper();
-                                        for (Map.Entry<String, ConnectionProxyXA> connectionEntry : keeper.entrySet()) {
-                                            ConnectionProxyXA connection = connectionEntry.getValue();
-                                            long now = System.currentTimeMillis();
-                                            try (ResourceLock ignored2 = connection.getResourceLock().obtain()) {
-                                                if (connection.getPrepareTime() != null
-                                                    && now - connection.getPrepareTime() > TWO_PHASE_HOLD_TIMEOUT) {
-                                                    try {
-                                                        connection.closeForce();
-                                                    } catch (SQLException e) {
-                                                        LOGGER.warn("Force close the xa physical connection fail", e);
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    }
-                                }
-                            }
-                        }, SCHEDULE_DELAY_MILLS, SCHEDULE_INTERVAL_MILLS, TimeUnit.MILLISECONDS);
+                        checker.setRemoveOnCancelPolicy(true);
+                        xaTwoPhaseTimeoutChecker = checker;
                     }
                 }
             }
         }
     }
 
+    /**
+     * Force close the held connection if the phase two of its prepared branch does not come in time.
+     * <p>
+     * The checks are queued by their deadlines instead of sweeping all the held connections periodically.
+     *
+     * @param resource    the resource holding the connection
+     * @param xaBranchXid the xa branch xid
+     * @param connection  the held connection
+     */
+    void checkTwoPhaseHoldTimeout(BaseDataSourceResource<ConnectionProxyXA> resource, String xaBranchXid,
+                                  ConnectionProxyXA connection) {
+        ScheduledExecutorService checker = xaTwoPhaseTimeoutChecker;
+        if (checker == null) {
+            return;
+        }
+        checker.schedule(() -> {
+            try (ResourceLock ignored = connection.getResourceLock().obtain()) {
+                if (resource.lookup(xaBranchXid) == connection) {
+                    connection.closeForce();
+                }
+            } catch (SQLException e) {
+                LOGGER.warn("Force close the xa physical connection fail", e);
+            }
+        }, TWO_PHASE_HOLD_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
     @Override
     public BranchType getBranchType() {
         return BranchType.XA;
@@ -126,41 +131,16 @@ public class ResourceManagerXA extends AbstractDataSourceCacheResourceManager {
         XAXid xaBranchXid = XAXidBuilder.build(xid, branchId);
         Resource resource = dataSourceCache.get(resourceId);
         if (resource instanceof AbstractDataSourceProxyXA) {
-            try (ConnectionProxyXA connectionProxyXA =
-                ((AbstractDataSourceProxyXA)resource).getConnectionForXAFinish(xaBranchXid)) {
-                if (committed) {
-                    connectionProxyXA.xaCommit(xid, branchId, applicationData);
-                    LOGGER.info(xaBranchXid + " was committed.");
-                    return BranchStatus.PhaseTwo_Committed;
-                } else {
-                    connectionProxyXA.xaRollback(xid, branchId, applicationData);
-                    LOGGER.info(xaBranchXid + " was rollbacked");
-                    return BranchStatus.PhaseTwo_Rollbacked;
-                }
-            } catch (XAException | SQLException sqle) {
-                if (sqle instanceof XAException) {
-                    try {
-                        if (((XAException) sqle).errorCode == XAException.XAER_NOTA) {
-                            if (committed) {
-                                return BranchStatus.PhaseTwo_CommitFailed_XAER_NOTA_Retryable;
-                            } else {
-                                return BranchStatus.PhaseTwo_RollbackFailed_XAER_NOTA_Retryable;
-                            }
-                        }
-                    } finally {
-                        BaseDataSourceResource.setBranchStatus(xaBranchXid.toString(),
-                                committed ? BranchStatus.PhaseTwo_Committed : BranchStatus.PhaseTwo_Rollbacked);
-                    }
-                }
-                if (committed) {
-                    LOGGER.error(xaBranchXid + " commit failed since " + sqle.getMessage(), sqle);
-                    // FIXME: case of PhaseTwo_CommitFailed_Unretryable
-                    return BranchStatus.PhaseTwo_CommitFailed_Retryable;
-                } else {
-                    LOGGER.error(xaBranchXid + " rollback failed since " + sqle.getMessage(), sqle);
-                    // FIXME: case of PhaseTwo_RollbackFailed_Unretryable
-                    return BranchStatus.PhaseTwo_RollbackFailed_Retryable;
-                }
+            AbstractDataSourceProxyXA dataSource = (AbstractDataSourceProxyXA)resource;
+            if (dataSource.lookup(xaBranchXid.toString()) == null) {
+                // not held by any connection, finish it with the connections shared by the phase two of the resource
+                return CollectionUtils.computeIfAbsent(finishers, resourceId, key -> new XABranchFinisher(dataSource))
+                    .finish(committed, xid, branchId, applicationData);
+            }
+            try (ConnectionProxyXA connectionProxyXA = dataSource.getConnectionForXAFinish(xaBranchXid)) {
+                return finishBranch(connectionProxyXA, committed, xid, branchId, applicationData);
+            } catch (SQLException sqle) {
+                return failedStatus(committed, xaBranchXid, sqle);
             }
         } else {
             LOGGER.error("Unknown Resource for XA resource " + resourceId + " " + resource);
@@ -171,4 +151,66 @@ public class ResourceManagerXA extends AbstractDataSourceCacheResourceManager {
             }
         }
     }
+
+    /**
+     * Finish the xa branch with the given connection.
+     *
+     * @param connectionProxyXA the connection
+     * @param committed         true to commit, false to rollback
+     * @param xid               the xid
+     * @param branchId          the branch id
+     * @param applicationData   the application data
+     * @return the branch status
+     */
+    static BranchStatus finishBranch(ConnectionProxyXA connectionProxyXA, boolean committed, String xid,
+                                     long branchId, String applicationData) {
+        XAXid xaBranchXid = XAXidBuilder.build(xid, branchId);
+        try {
+            if (committed) {
+                connectionProxyXA.xaCommit(xid, branchId, applicationData);
+                LOGGER.info(xaBranchXid + " was committed.");
+                return BranchStatus.PhaseTwo_Committed;
+            } else {
+                connectionProxyXA.xaRollback(xid, branchId, applicationData);
+                LOGGER.info(xaBranchXid + " was rollbacked");
+                return BranchStatus.PhaseTwo_Rollbacked;
+            }
+        } catch (XAException xae) {
+            return failedStatus(committed, xaBranchXid, xae);
+        }
+    }
+
+    /**
+     * Get the status of the xa branch failed to finish.
+     *
+     * @param committed   true if failed to commit, false if failed to rollback
+     * @param xaBranchXid the xa branch xid
+     * @param e           the cause
+     * @return the branch status
+     */
+    static BranchStatus failedStatus(boolean committed, XAXid xaBranchXid, Exception e) {
+        if (e instanceof XAException) {
+            try {
+                if (((XAException) e).errorCode == XAException.XAER_NOTA) {
+                    if (committed) {
+                        return BranchStatus.PhaseTwo_CommitFailed_XAER_NOTA_Retryable;
+                    } else {
+                        return BranchStatus.PhaseTwo_RollbackFailed_XAER_NOTA_Retryable;
+                    }
+                }
+            } finally {
+                BaseDataSourceResource.setBranchStatus(xaBranchXid.toString(),
+                        committed ? BranchStatus.PhaseTwo_Committed : BranchStatus.PhaseTwo_Rollbacked);
+            }
+        }
+        if (committed) {
+            LOGGER.error(xaBranchXid + " commit failed since " + e.getMessage(), e);
+            // FIXME: case of PhaseTwo_CommitFailed_Unretryable
+            return BranchStatus.PhaseTwo_CommitFailed_Retryable;
+        } else {
+            LOGGER.error(xaBranchXid + " rollback failed since " + e.getMessage(), e);
+            // FIXME: case of PhaseTwo_RollbackFailed_Unretryable
+            return BranchStatus.PhaseTwo_RollbackFailed_Retryable;
+        }
+    }
 }
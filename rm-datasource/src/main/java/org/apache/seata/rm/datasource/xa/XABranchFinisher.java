@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.xa;
+
+import java.sql.SQLException;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.seata.core.model.BranchStatus;
+
+/**
+ * Finish the XA branches of a resource whose connections are not held.
+ * <p>
+ * A prepared XA branch can be finished on any connection of the resource. The phase two requests are queued, and the
+ * requesting threads take turns to borrow a connection and finish the queued branches one after another with it, so
+ * the phase two takes at most {@link #MAX_FINISHING_CONNECTIONS} connections of the resource instead of one per
+ * branch. A finishing thread keeps draining the queue until it is empty, and checks it again after it gives up its
+ * turn, so a branch queued while all the turns are taken is always picked up.
+ */
+class XABranchFinisher {
+
+    /**
+     * The max count of the connections finishing the branches at the same time.
+     */
+    static final int MAX_FINISHING_CONNECTIONS = 4;
+
+    /**
+     * The max count of the branches finished with one borrowed connection.
+     */
+    static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * The default max milliseconds to wait for a branch to be finished.
+     */
+    static final long DEFAULT_FINISH_TIMEOUT_MILLIS = 30000;
+
+    private final AbstractDataSourceProxyXA resource;
+
+    private final Queue<PhaseTwo> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger finishing = new AtomicInteger();
+
+    private final long finishTimeoutMillis;
+
+    XABranchFinisher(AbstractDataSourceProxyXA resource) {
+        this(resource, DEFAULT_FINISH_TIMEOUT_MILLIS);
+    }
+
+    XABranchFinisher(AbstractDataSourceProxyXA resource, long finishTimeoutMillis) {
+        this.resource = resource;
+        this.finishTimeoutMillis = finishTimeoutMillis;
+    }
+
+    /**
+     * Finish the branch, waiting until it is finished by this thread or another one.
+     *
+     * @param committed       true to commit, false to rollback
+     * @param xid             the xid
+     * @param branchId        the branch id
+     * @param applicationData the application data
+     * @return the branch status, a retryable failure if it is not finished in time
+     */
+    BranchStatus finish(boolean committed, String xid, long branchId, String applicationData) {
+        PhaseTwo phaseTwo = new PhaseTwo(committed, xid, branchId, applicationData);
+        queue.offer(phaseTwo);
+        drain();
+        try {
+            return phaseTwo.result.get(finishTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | InterruptedException | ExecutionException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // not finished yet, the TC retries the phase two
+            queue.remove(phaseTwo);
+            return ResourceManagerXA.failedStatus(committed, XAXidBuilder.build(xid, branchId), e);
+        }
+    }
+
+    private void drain() {
+        while (!queue.isEmpty()) {
+            int current = finishing.get();
+            if (current >= MAX_FINISHING_CONNECTIONS) {
+                // the queue is checked again by each finishing thread after it gives up its turn
+                return;
+            }
+            if (!finishing.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            try {
+                finishBatch();
+            } finally {
+                finishing.decrementAndGet();
+            }
+        }
+    }
+
+    private void finishBatch() {
+        PhaseTwo phaseTwo = queue.poll();
+        if (phaseTwo == null) {
+            return;
+        }
+        ConnectionProxyXA connection;
+        try {
+            connection = (ConnectionProxyXA)resource.getConnectionProxyXA();
+        } catch (SQLException | RuntimeException e) {
+            phaseTwo.result.complete(ResourceManagerXA.failedStatus(phaseTwo.committed,
+                XAXidBuilder.build(phaseTwo.xid, phaseTwo.branchId), e));
+            return;
+        }
+        try {
+            int finished = 0;
+            do {
+                finish(connection, phaseTwo);
+            } while (++finished < MAX_BATCH_SIZE && (phaseTwo = queue.poll()) != null);
+        } finally {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    private void finish(ConnectionProxyXA connection, PhaseTwo phaseTwo) {
+        try {
+            phaseTwo.result.complete(ResourceManagerXA.finishBranch(connection, phaseTwo.committed, phaseTwo.xid,
+                phaseTwo.branchId, phaseTwo.applicationData));
+        } catch (RuntimeException e) {
+            phaseTwo.result.complete(ResourceManagerXA.failedStatus(phaseTwo.committed,
+                XAXidBuilder.build(phaseTwo.xid, phaseTwo.branchId), e));
+        }
+    }
+
+    private static class PhaseTwo {
+
+        private final boolean committed;
+
+        private final String xid;
+
+        private final long branchId;
+
+        private final String applicationData;
+
+        private final CompletableFuture<BranchStatus> result = new CompletableFuture<>();
+
+        PhaseTwo(boolean committed, String xid, long branchId, String applicationData) {
+            this.committed = committed;
+            this.xid = xid;
+            this.branchId = branchId;
+            this.applicationData = applicationData;
+        }
+    }
+}
@@ -18,15 +18,21 @@ package org.apache.seata.rm.datasource;
 
 import org.apache.seata.rm.datasource.AsyncWorker;
 import org.apache.seata.core.model.BranchStatus;
+import org.apache.seata.metrics.IdConstants;
+import org.apache.seata.metrics.registry.RegistryFactory;
+import org.apache.seata.sqlparser.util.JdbcConstants;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
-import java.util.List;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -48,29 +54,116 @@ class AsyncWorkerTest {
         Assertions.assertDoesNotThrow(worker::doBranchCommitSafely, "this method should never throw anything");
     }
 
+    @Test
+    void pendingCommitsOfMissingResource() {
+        AsyncWorker asyncWorker = new AsyncWorker(Mockito.mock(DataSourceManager.class));
+        int size = random.nextInt(10) + 1;
+        IntStream.range(0, size).forEach(i -> asyncWorker.branchCommit("test", i, "missing"));
+
+        // the resource is not found, the commits wait in its lane for the next round
+        assertEquals(size, asyncWorker.getPendingCount("missing"));
+        Assertions.assertTrue(asyncWorker.getLag("missing") >= 0);
+        assertEquals(0, asyncWorker.getPendingCount("other"));
+        assertEquals(0, asyncWorker.getLag("other"));
+    }
+
+    @Test
+    void registerGauges() {
+        AsyncWorker asyncWorker = new AsyncWorker(Mockito.mock(DataSourceManager.class));
+        int size = random.nextInt(10) + 1;
+        IntStream.range(0, size).forEach(i -> asyncWorker.branchCommit("test", i, "metered"));
+
+        // the pending count and the lag of each resource are measured by the metrics registry
+        Map<String, Double> values = new HashMap<>();
+        RegistryFactory.getInstance().measure().forEach(measurement -> {
+            Map<String, String> tags = new HashMap<>();
+            measurement.getId().getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+            if (IdConstants.SEATA_ASYNC_COMMIT.equals(measurement.getId().getName())
+                && "metered".equals(tags.get(IdConstants.RESOURCE_ID_KEY))) {
+                values.put(tags.get(IdConstants.STATISTIC_KEY), measurement.getValue());
+            }
+        });
+        assertEquals(size, values.get(IdConstants.STATISTIC_VALUE_COUNT).intValue());
+        Assertions.assertTrue(values.get(IdConstants.STATISTIC_VALUE_LAG) >= 0);
+    }
+
     @Test
     void groupedByResourceId() {
-        List<AsyncWorker.Phase2Context> contexts = getRandomContexts();
-        Map<String, List<AsyncWorker.Phase2Context>> groupedContexts = worker.groupedByResourceId(contexts);
-        groupedContexts.forEach((resourceId, group) -> group.forEach(context -> {
-            String message = "each context in the group should has the same resourceId";
-            assertEquals(resourceId, context.resourceId, message);
-        }));
+        AsyncWorker asyncWorker = new AsyncWorker(Mockito.mock(DataSourceManager.class));
+        Map<String, Integer> sizes = new HashMap<>();
+        random.ints(16, 0, Integer.MAX_VALUE).mapToObj(String::valueOf).forEach(resourceId -> {
+            int size = random.nextInt(10);
+            sizes.merge(resourceId, size, Integer::sum);
+            IntStream.range(0, size).forEach(i -> asyncWorker.branchCommit("test", i, resourceId));
+        });
+
+        // each commit waits in the lane of its own resource
+        sizes.forEach((resourceId, size) -> assertEquals(size.intValue(), asyncWorker.getPendingCount(resourceId)));
     }
 
-    private List<AsyncWorker.Phase2Context> getRandomContexts() {
-        return random.ints().limit(16)
-                .mapToObj(String::valueOf)
-                .flatMap(this::generateContextStream)
-                .collect(Collectors.toList());
+    @Test
+    void drainUntilEmpty() throws Exception {
+        Connection conn = Mockito.mock(Connection.class);
+        Mockito.when(conn.getAutoCommit()).thenReturn(true);
+        Mockito.when(conn.prepareStatement(Mockito.anyString())).thenAnswer(invocation -> Mockito.mock(PreparedStatement.class));
+        DataSourceProxy dataSourceProxy = Mockito.mock(DataSourceProxy.class);
+        Mockito.when(dataSourceProxy.getPlainConnection()).thenReturn(conn);
+        Mockito.when(dataSourceProxy.getDbType()).thenReturn(JdbcConstants.MYSQL);
+        DataSourceManager dataSourceManager = Mockito.mock(DataSourceManager.class);
+        Mockito.when(dataSourceManager.get("db")).thenReturn(dataSourceProxy);
+
+        AsyncWorker asyncWorker = new AsyncWorker(dataSourceManager);
+        IntStream.range(0, 100).forEach(i -> asyncWorker.branchCommit("test", i, "db"));
+
+        // the drainer starts with the first commit and keeps deleting until the queue is empty
+        long deadline = System.currentTimeMillis() + 5000;
+        while (asyncWorker.getPendingCount("db") > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, asyncWorker.getPendingCount("db"));
+        assertEquals(0, asyncWorker.getLag("db"));
     }
 
-    private Stream<AsyncWorker.Phase2Context> generateContextStream(String resourceId) {
-        int size = random.nextInt(10);
-        return IntStream.range(0, size).mapToObj(i -> buildContext(resourceId));
+    @Test
+    void backOffOnFailure() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        DataSourceProxy dataSourceProxy = Mockito.mock(DataSourceProxy.class);
+        Mockito.when(dataSourceProxy.getPlainConnection()).thenAnswer(invocation -> {
+            attempts.incrementAndGet();
+            throw new SQLException("the database is down");
+        });
+        DataSourceManager dataSourceManager = Mockito.mock(DataSourceManager.class);
+        Mockito.when(dataSourceManager.get("down")).thenReturn(dataSourceProxy);
+
+        AsyncWorker asyncWorker = new AsyncWorker(dataSourceManager);
+        int size = random.nextInt(10) + 1;
+        IntStream.range(0, size).forEach(i -> asyncWorker.branchCommit("test", i, "down"));
+        Thread.sleep(500);
+
+        // the commits are requeued and the lane waits for the next round instead of retrying at once
+        assertEquals(size, asyncWorker.getPendingCount("down"));
+        Assertions.assertTrue(attempts.get() <= 2, "attempts: " + attempts.get());
     }
 
-    private AsyncWorker.Phase2Context buildContext(String resourceId) {
-        return new AsyncWorker.Phase2Context("test", 0, resourceId);
+    @Test
+    void nextBatchSize() {
+        // halved when a batch is slow, down to the min size
+        assertEquals(500, AsyncWorker.nextBatchSize(1000, 1000, 300));
+        assertEquals(16, AsyncWorker.nextBatchSize(16, 16, 300));
+        // doubled back when a full batch is fast, up to the limit
+        assertEquals(64, AsyncWorker.nextBatchSize(32, 32, 10));
+        assertEquals(1000, AsyncWorker.nextBatchSize(1000, 1000, 10));
+        // kept when the batch is not full or in the target
+        assertEquals(32, AsyncWorker.nextBatchSize(32, 10, 10));
+        assertEquals(32, AsyncWorker.nextBatchSize(32, 32, 150));
+    }
+
+    @Test
+    void retryInterval() {
+        assertEquals(1000, AsyncWorker.retryInterval(1));
+        assertEquals(2000, AsyncWorker.retryInterval(2));
+        assertEquals(16000, AsyncWorker.retryInterval(5));
+        assertEquals(30000, AsyncWorker.retryInterval(6));
+        assertEquals(30000, AsyncWorker.retryInterval(100));
     }
 }
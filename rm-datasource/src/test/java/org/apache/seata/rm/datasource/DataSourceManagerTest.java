@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource;
+
+import org.apache.seata.core.model.BranchStatus;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
+import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
+import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
+import org.apache.seata.core.protocol.transaction.BranchReportRequest;
+import org.apache.seata.core.protocol.transaction.BranchReportResponse;
+import org.apache.seata.core.rpc.netty.RmNettyRemotingClient;
+import org.apache.seata.core.serializer.SerializerType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+
+/**
+ * The type Data source manager test.
+ */
+public class DataSourceManagerTest {
+
+    private static final String XID = "127.0.0.1:8091:123456";
+
+    @Test
+    public void testDoneReportWithNonSeataSerializer() throws Exception {
+        RmNettyRemotingClient client = mockClient();
+        try (MockedStatic<RmNettyRemotingClient> remotingClient = Mockito.mockStatic(RmNettyRemotingClient.class)) {
+            remotingClient.when(RmNettyRemotingClient::getInstance).thenReturn(client);
+            DataSourceManager dataSourceManager = new DataSourceManager(SerializerType.PROTOBUF);
+
+            // the report is sent at once and the next registration is the plain one
+            dataSourceManager.branchReport(BranchType.AT, XID, 1L, BranchStatus.PhaseOne_Done, null);
+            Mockito.verify(client).sendSyncRequest(argThat(request -> request instanceof BranchReportRequest
+                && ((BranchReportRequest)request).getBranchId() == 1L));
+
+            Assertions.assertEquals(2L, dataSourceManager.branchRegister(BranchType.AT, "resource", null, XID, null,
+                "t:1"));
+            Mockito.verify(client).sendSyncRequest(argThat(request -> request != null
+                && request.getClass() == BranchRegisterRequest.class));
+            Mockito.verify(client, Mockito.never()).sendSyncRequestAboveVersion240(any());
+        }
+    }
+
+    @Test
+    public void testDoneReportWithSeataSerializer() throws Exception {
+        RmNettyRemotingClient client = mockClient();
+        try (MockedStatic<RmNettyRemotingClient> remotingClient = Mockito.mockStatic(RmNettyRemotingClient.class)) {
+            remotingClient.when(RmNettyRemotingClient::getInstance).thenReturn(client);
+            DataSourceManager dataSourceManager = new DataSourceManager(SerializerType.SEATA);
+
+            // the report goes with the next registration
+            dataSourceManager.branchReport(BranchType.AT, XID, 1L, BranchStatus.PhaseOne_Done, null);
+            Mockito.verify(client, Mockito.never()).sendSyncRequest(any(BranchReportRequest.class));
+
+            Assertions.assertEquals(2L, dataSourceManager.branchRegister(BranchType.AT, "resource", null, XID, null,
+                "t:1"));
+            Mockito.verify(client).sendSyncRequestAboveVersion240(argThat(request ->
+                request instanceof BranchRegisterReportRequest
+                    && ((BranchRegisterReportRequest)request).getDoneBranchIds().contains(1L)));
+            Mockito.verify(client, Mockito.never()).sendSyncRequest(any(BranchRegisterRequest.class));
+        }
+    }
+
+    private static RmNettyRemotingClient mockClient() throws Exception {
+        BranchReportResponse reportResponse = new BranchReportResponse();
+        reportResponse.setResultCode(ResultCode.Success);
+        BranchRegisterResponse registerResponse = new BranchRegisterResponse();
+        registerResponse.setResultCode(ResultCode.Success);
+        registerResponse.setBranchId(2L);
+        RmNettyRemotingClient client = Mockito.mock(RmNettyRemotingClient.class);
+        Mockito.when(client.sendSyncRequest(any(Object.class))).thenAnswer(invocation ->
+            invocation.getArgument(0) instanceof BranchReportRequest ? reportResponse : registerResponse);
+        Mockito.when(client.sendSyncRequestAboveVersion240(any())).thenReturn(registerResponse);
+        return client;
+    }
+}
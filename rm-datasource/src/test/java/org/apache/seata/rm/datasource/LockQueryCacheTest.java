@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LockQueryCacheTest {
+
+    @Test
+    public void testConflict() {
+        LockQueryCache cache = new LockQueryCache(60000);
+        Assertions.assertFalse(cache.isConflict("res", null, "t:1"));
+        cache.putConflict("res", null, "t:1");
+
+        Assertions.assertTrue(cache.isConflict("res", null, "t:1"));
+        Assertions.assertFalse(cache.isConflict("res", "xid", "t:1"));
+        Assertions.assertFalse(cache.isConflict("res", null, "t:2"));
+        Assertions.assertFalse(cache.isConflict("other", null, "t:1"));
+
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(4, cache.getMissCount());
+        Assertions.assertEquals(0.2, cache.getHitRate(), 0.0001);
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        LockQueryCache cache = new LockQueryCache(20);
+        cache.putConflict("res", null, "t:1");
+        Thread.sleep(50);
+        Assertions.assertFalse(cache.isConflict("res", null, "t:1"));
+        Assertions.assertEquals(0, cache.getAverageHitAgeMillis());
+    }
+}
@@ -29,7 +29,9 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
 import java.sql.ResultSet;
+import java.util.Arrays;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -134,6 +136,29 @@ public class PreparedStatementProxyTest {
         Assertions.assertEquals("xxx",  preparedStatementProxy.getParamsByIndex(1).get(0));
     }
 
+    @Test
+    public void testBatchParameters() throws SQLException {
+        preparedStatementProxy.clearBatch();
+        preparedStatementProxy.clearParameters();
+        preparedStatementProxy.setString(1, "a");
+        preparedStatementProxy.setString(1, "b");
+        preparedStatementProxy.addBatch();
+        // the parameters are kept for the next row
+        preparedStatementProxy.addBatch();
+        preparedStatementProxy.setString(1, "c");
+        preparedStatementProxy.addBatch();
+        Assertions.assertTrue(preparedStatementProxy.hasBatchParameters());
+        Assertions.assertEquals(Collections.singletonList("c"), preparedStatementProxy.getParamsByIndex(1));
+
+        preparedStatementProxy.useBatchParameters();
+        Assertions.assertEquals(Arrays.asList("b", "b", "c"), preparedStatementProxy.getParameters().get(1));
+
+        preparedStatementProxy.clearBatch();
+        Assertions.assertFalse(preparedStatementProxy.hasBatchParameters());
+        Assertions.assertEquals(Collections.singletonList("c"), preparedStatementProxy.getParamsByIndex(1));
+        preparedStatementProxy.clearParameters();
+    }
+
     @Test
     public void testSetParam() throws SQLException, MalformedURLException {
         preparedStatementProxy.clearParameters();
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.exec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.alibaba.druid.sql.SQLUtils;
+import com.alibaba.druid.util.JdbcConstants;
+import org.apache.seata.sqlparser.ParametersHolder;
+import org.apache.seata.sqlparser.SQLRecognizer;
+import org.apache.seata.sqlparser.druid.mysql.MySQLUpdateRecognizer;
+import org.apache.seata.sqlparser.struct.Null;
+import org.apache.seata.sqlparser.struct.TableMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ImageSQLCacheTest {
+
+    @Test
+    public void testRecordingAndBind() {
+        ParametersHolder recording = ImageSQLCache.recording(holder(1, "a", 2, 3));
+        Assertions.assertEquals(2, ImageSQLCache.getParameterRows(recording));
+
+        // the where condition "id = ? and name = ?" appends the parameters 2 and 1 of each row
+        ArrayList<List<Object>> paramPlaceholders = new ArrayList<>();
+        for (int row = 0; row < 2; row++) {
+            paramPlaceholders.add(new ArrayList<>(Arrays.asList(recording.getParameters().get(2).get(row),
+                recording.getParameters().get(1).get(row))));
+        }
+        ImageSQLCache.ImageSQLTemplate template = new ImageSQLCache.ImageSQLTemplate(new TableMeta(),
+            "SELECT id, name FROM t WHERE ( id = ? and name = ? ) or ( id = ? and name = ? ) FOR UPDATE",
+            paramPlaceholders);
+
+        ArrayList<List<Object>> paramAppenderList = new ArrayList<>();
+        template.bind(holder("b", Null.get(), 5, 6), paramAppenderList);
+        Assertions.assertEquals(2, paramAppenderList.size());
+        Assertions.assertEquals(Arrays.asList(5, "b"), paramAppenderList.get(0));
+        Assertions.assertEquals(Arrays.asList(6, null), paramAppenderList.get(1));
+    }
+
+    @Test
+    public void testTemplateOfTableMetaVersion() {
+        String sql = "update t set name = ? where id = ?";
+        SQLRecognizer recognizer = new MySQLUpdateRecognizer(sql, SQLUtils.parseStatements(sql, JdbcConstants.MYSQL).get(0));
+        TableMeta tableMeta = new TableMeta();
+        ImageSQLCache.ImageSQLTemplate template = new ImageSQLCache.ImageSQLTemplate(tableMeta, "SELECT 1", null);
+        ImageSQLCache.put(recognizer, ImageSQLCache.BEFORE_IMAGE, 1, template);
+
+        Assertions.assertSame(template, ImageSQLCache.get(recognizer, ImageSQLCache.BEFORE_IMAGE, 1, tableMeta));
+        Assertions.assertNull(ImageSQLCache.get(recognizer, ImageSQLCache.BEFORE_IMAGE, 2, tableMeta));
+        Assertions.assertNull(ImageSQLCache.get(recognizer, ImageSQLCache.AFTER_IMAGE, 1, tableMeta));
+        Assertions.assertNull(ImageSQLCache.get(recognizer, ImageSQLCache.BEFORE_IMAGE, 1, new TableMeta()));
+    }
+
+    private static ParametersHolder holder(Object name0, Object name1, Object id0, Object id1) {
+        Map<Integer, ArrayList<Object>> parameters = new HashMap<>();
+        parameters.put(1, new ArrayList<>(Arrays.asList(name0, name1)));
+        parameters.put(2, new ArrayList<>(Arrays.asList(id0, id1)));
+        return () -> parameters;
+    }
+}
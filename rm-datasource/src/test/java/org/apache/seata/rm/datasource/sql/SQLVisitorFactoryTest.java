@@ -318,4 +318,21 @@ public class SQLVisitorFactoryTest {
         Assertions.assertEquals(SQLType.UPDATE, recognizer.getSQLType());
         Assertions.assertEquals("t1", recognizer.getTableName());
     }
+
+    @Test
+    public void testSqlRecognizerCache() {
+        SQLVisitorFactory.invalidateCache();
+        long hitCount = SQLVisitorFactory.getCacheStats().hitCount();
+        String sql = "update t2 set name = ? where id = ?";
+        List<SQLRecognizer> recognizers = SQLVisitorFactory.get(sql, JdbcConstants.MYSQL);
+        Assertions.assertSame(recognizers, SQLVisitorFactory.get(sql, JdbcConstants.MYSQL));
+        Assertions.assertNotSame(recognizers, SQLVisitorFactory.get(sql, JdbcConstants.MARIADB));
+        Assertions.assertEquals(hitCount + 1, SQLVisitorFactory.getCacheStats().hitCount());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> recognizers.add(recognizers.get(0)));
+
+        sql = "select * from t2 where id = ?";
+        Assertions.assertNull(SQLVisitorFactory.get(sql, JdbcConstants.MYSQL));
+        Assertions.assertNull(SQLVisitorFactory.get(sql, JdbcConstants.MYSQL));
+        Assertions.assertEquals(hitCount + 2, SQLVisitorFactory.getCacheStats().hitCount());
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.sql.struct.cache;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.seata.common.exception.ShouldNeverHappenException;
+import org.apache.seata.sqlparser.struct.TableMeta;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The missing table cache test.
+ */
+public class AbstractTableMetaCacheTest {
+
+    @Test
+    public void testTableNotFoundCached() {
+        MissingTableMetaCache cache = new MissingTableMetaCache(new SQLException("Table doesn't exist", "42S02"));
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t1", "jdbc:r1"));
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t1", "jdbc:r1"));
+        Assertions.assertEquals(1, cache.fetchCount.get());
+
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t2", "jdbc:r1"));
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t1", "jdbc:r2"));
+        Assertions.assertEquals(3, cache.fetchCount.get());
+
+        // the refresh of a resource only forgets the missing tables of the resource
+        cache.refresh(null, "jdbc:r2");
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t1", "jdbc:r1"));
+        Assertions.assertEquals(3, cache.fetchCount.get());
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t1", "jdbc:r2"));
+        Assertions.assertEquals(4, cache.fetchCount.get());
+
+        cache.refresh(null, "jdbc:r1");
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t1", "jdbc:r1"));
+        Assertions.assertEquals(5, cache.fetchCount.get());
+    }
+
+    @Test
+    public void testOtherErrorNotCached() {
+        MissingTableMetaCache cache = new MissingTableMetaCache(new SQLException("Communications link failure",
+            "08S01"));
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t1", "jdbc:r3"));
+        Assertions.assertThrows(ShouldNeverHappenException.class, () -> cache.getTableMeta(null, "t1", "jdbc:r3"));
+        Assertions.assertEquals(2, cache.fetchCount.get());
+
+        SQLException undefinedTable = new SQLException("Failed to fetch schema of t1",
+            new SQLException("relation \"t1\" does not exist", "42P01"));
+        Assertions.assertTrue(cache.isTableNotFound(undefinedTable));
+        Assertions.assertFalse(cache.isTableNotFound(new SQLException("Failed to fetch schema of t1",
+            new ShouldNeverHappenException("Could not found any index in the table: t1"))));
+    }
+
+    private static class MissingTableMetaCache extends AbstractTableMetaCache {
+
+        private final SQLException exception;
+
+        private final AtomicInteger fetchCount = new AtomicInteger();
+
+        MissingTableMetaCache(SQLException exception) {
+            this.exception = exception;
+        }
+
+        @Override
+        protected String getCacheKey(Connection connection, String tableName, String resourceId) {
+            return resourceId + "." + tableName;
+        }
+
+        @Override
+        protected TableMeta fetchSchema(Connection connection, String tableName) throws SQLException {
+            fetchCount.incrementAndGet();
+            throw exception;
+        }
+    }
+}
@@ -162,6 +162,24 @@ public class MysqlTableMetaCacheTest {
         getTableMetaCache().refresh(dataSourceProxy.getPlainConnection(), dataSourceProxy.getResourceId());
     }
 
+    @Test
+    public void getTableMetaCachedTest() throws SQLException {
+        MockDriver mockDriver = new MockDriver(columnMetas, indexMetas);
+
+        DruidDataSource druidDataSource = new DruidDataSource();
+        druidDataSource.setUrl("jdbc:mock:xxx");
+        druidDataSource.setDriver(mockDriver);
+
+        DataSourceProxy dataSourceProxy = DataSourceProxyTest.getDataSourceProxy(druidDataSource);
+
+        TableMeta tableMeta = getTableMetaCache().getTableMeta(dataSourceProxy.getPlainConnection(), "mt3",
+            dataSourceProxy.getResourceId());
+        long hitCount = AbstractTableMetaCache.getCacheStats().hitCount();
+        Assertions.assertSame(tableMeta, getTableMetaCache().getTableMeta(dataSourceProxy.getPlainConnection(), "mt3",
+            dataSourceProxy.getResourceId()));
+        Assertions.assertEquals(hitCount + 1, AbstractTableMetaCache.getCacheStats().hitCount());
+    }
+
     private void assertColumnMetaEquals(Object[] expected, ColumnMeta actual) {
         Assertions.assertEquals(expected[0], actual.getTableCat());
         Assertions.assertEquals(expected[3], actual.getColumnName());
@@ -16,20 +16,28 @@
  */
 package org.apache.seata.rm.datasource.undo;
 
+import org.apache.seata.rm.datasource.undo.kingbase.KingbaseUndoLogManager;
+import org.apache.seata.rm.datasource.undo.mysql.MySQLUndoLogManager;
 import org.apache.seata.sqlparser.util.JdbcConstants;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -88,4 +96,107 @@ public class UndoLogManagerTest {
         AbstractUndoLogManager.appendInParam(APPEND_IN_SIZE, sqlBuilder);
         assertThat(sqlBuilder.toString()).isEqualTo(THE_APPEND_IN_SIZE_PARAM_STRING);
     }
+
+    @Test
+    public void testParsePartitionBound() {
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        Date bound = new Date(1704153600000L);
+        // mysql range columns
+        assertThat(AbstractUndoLogManager.parsePartitionBound("'2024-01-02 00:00:00'", utc)).isEqualTo(bound);
+        assertThat(AbstractUndoLogManager.parsePartitionBound("'2024-01-02'", utc)).isEqualTo(bound);
+        // oracle
+        assertThat(AbstractUndoLogManager.parsePartitionBound(
+                "TO_DATE(' 2024-01-02 00:00:00', 'SYYYY-MM-DD HH24:MI:SS', 'NLS_CALENDAR=GREGORIAN')", utc)).isEqualTo(bound);
+        assertThat(AbstractUndoLogManager.parsePartitionBound("TIMESTAMP' 2024-01-02 00:00:00'", utc)).isEqualTo(bound);
+        // postgresql upper bound
+        assertThat(AbstractUndoLogManager.parsePartitionBound(" TO ('2024-01-02 00:00:00')", utc)).isEqualTo(bound);
+        assertThat(AbstractUndoLogManager.parsePartitionBound("MAXVALUE", utc)).isNull();
+        assertThat(AbstractUndoLogManager.parsePartitionBound(null, utc)).isNull();
+        // the bound is in the time zone of the database
+        assertThat(AbstractUndoLogManager.parsePartitionBound("'2024-01-02 08:00:00'",
+                new SimpleTimeZone((int)TimeUnit.HOURS.toMillis(8), "undo_log"))).isEqualTo(bound);
+    }
+
+    @Test
+    public void testPurgeByPartition() throws Exception {
+        PreparedStatement dropExpired = mock(PreparedStatement.class);
+        PreparedStatement dropCurrent = mock(PreparedStatement.class);
+        PreparedStatement delete = mock(PreparedStatement.class);
+        Connection connection = mockPartitionedConnection(dropExpired, dropCurrent, delete,
+                new String[][] {{"p20240101", "'2024-01-01 00:00:00'"}, {"p20240102", "'2024-01-02 00:00:00'"},
+                    {"pmax", "MAXVALUE"}});
+
+        // only the partition whose upper bound is not after the log created is dropped, with its counted rows
+        Date logCreated = new Date(1704110400000L);
+        assertThat(partitionedUndoLogManager().deleteUndoLogByLogCreated(logCreated, 100, connection)).isEqualTo(5);
+        verify(dropExpired).executeUpdate();
+        verify(dropCurrent, never()).executeUpdate();
+        verify(delete, never()).executeUpdate();
+    }
+
+    @Test
+    public void testPurgeByPartitionFallbackToRows() throws Exception {
+        PreparedStatement dropExpired = mock(PreparedStatement.class);
+        PreparedStatement dropCurrent = mock(PreparedStatement.class);
+        PreparedStatement delete = mock(PreparedStatement.class);
+        when(delete.executeUpdate()).thenReturn(3);
+        Connection connection = mockPartitionedConnection(dropExpired, dropCurrent, delete, new String[0][]);
+
+        // the undo log table is not partitioned, the rows are deleted instead
+        assertThat(partitionedUndoLogManager().deleteUndoLogByLogCreated(new Date(), 100, connection)).isEqualTo(3);
+        verify(delete).setInt(2, 100);
+        verify(delete).executeUpdate();
+        verify(dropExpired, never()).executeUpdate();
+    }
+
+    @Test
+    public void testDropPartitionUnsupported() throws Exception {
+        AbstractUndoLogManager undoLogManager = new KingbaseUndoLogManager();
+        assertThat(undoLogManager.dropPartition("p20240101", null))
+                .isEqualTo(AbstractUndoLogManager.PARTITION_PURGE_UNSUPPORTED);
+        assertThat(undoLogManager.purgeByPartition(new Date(), null))
+                .isEqualTo(AbstractUndoLogManager.PARTITION_PURGE_UNSUPPORTED);
+    }
+
+    private static AbstractUndoLogManager partitionedUndoLogManager() {
+        return new MySQLUndoLogManager() {
+            @Override
+            protected boolean isPartitionPurgeEnabled() {
+                return true;
+            }
+        };
+    }
+
+    private static Connection mockPartitionedConnection(PreparedStatement dropExpired, PreparedStatement dropCurrent,
+                                                        PreparedStatement delete, String[][] partitions)
+            throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            if (sql.startsWith("ALTER TABLE")) {
+                return sql.contains("p20240101") ? dropExpired : dropCurrent;
+            }
+            if (sql.startsWith("DELETE")) {
+                return delete;
+            }
+            PreparedStatement query = mock(PreparedStatement.class);
+            ResultSet rs = mock(ResultSet.class);
+            when(query.executeQuery()).thenReturn(rs);
+            if (sql.contains("information_schema.PARTITIONS")) {
+                int[] row = {-1};
+                when(rs.next()).thenAnswer(next -> ++row[0] < partitions.length);
+                when(rs.getString(1)).thenAnswer(get -> partitions[row[0]][0]);
+                when(rs.getString(2)).thenAnswer(get -> partitions[row[0]][1]);
+            } else if (sql.contains("COUNT(1)")) {
+                when(rs.next()).thenReturn(true);
+                when(rs.getInt(1)).thenReturn(5);
+            } else {
+                // the offset of the session time zone
+                when(rs.next()).thenReturn(true);
+                when(rs.getLong(1)).thenReturn(0L);
+            }
+            return query;
+        });
+        return connection;
+    }
 }
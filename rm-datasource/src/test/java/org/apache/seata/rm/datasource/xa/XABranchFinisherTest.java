@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.rm.datasource.xa;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.seata.core.model.BranchStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+
+public class XABranchFinisherTest {
+
+    @Test
+    public void testFinish() throws Exception {
+        ConnectionProxyXA connection = Mockito.mock(ConnectionProxyXA.class);
+        AbstractDataSourceProxyXA resource = Mockito.mock(AbstractDataSourceProxyXA.class);
+        Mockito.when(resource.getConnectionProxyXA()).thenReturn(connection);
+        XABranchFinisher finisher = new XABranchFinisher(resource);
+
+        Assertions.assertEquals(BranchStatus.PhaseTwo_Committed, finisher.finish(true, "127.0.0.1:8091:1", 2, null));
+        Assertions.assertEquals(BranchStatus.PhaseTwo_Rollbacked, finisher.finish(false, "127.0.0.1:8091:3", 4, null));
+        Mockito.verify(connection).xaCommit("127.0.0.1:8091:1", 2, null);
+        Mockito.verify(connection).xaRollback("127.0.0.1:8091:3", 4, null);
+        Mockito.verify(connection, Mockito.times(2)).close();
+    }
+
+    @Test
+    public void testFinishWithoutConnection() throws Exception {
+        AbstractDataSourceProxyXA resource = Mockito.mock(AbstractDataSourceProxyXA.class);
+        Mockito.when(resource.getConnectionProxyXA()).thenThrow(new SQLException("pool exhausted"));
+        XABranchFinisher finisher = new XABranchFinisher(resource);
+
+        Assertions.assertEquals(BranchStatus.PhaseTwo_CommitFailed_Retryable,
+            finisher.finish(true, "127.0.0.1:8091:5", 6, null));
+    }
+
+    @Test
+    public void testConcurrentFinishShareConnections() throws Exception {
+        AtomicInteger borrowed = new AtomicInteger();
+        AtomicInteger maxBorrowed = new AtomicInteger();
+        AtomicInteger committed = new AtomicInteger();
+        AbstractDataSourceProxyXA resource = Mockito.mock(AbstractDataSourceProxyXA.class);
+        Mockito.when(resource.getConnectionProxyXA()).thenAnswer(invocation -> {
+            maxBorrowed.accumulateAndGet(borrowed.incrementAndGet(), Math::max);
+            ConnectionProxyXA connection = Mockito.mock(ConnectionProxyXA.class);
+            Mockito.doAnswer(commit -> {
+                Thread.sleep(5);
+                committed.incrementAndGet();
+                return null;
+            }).when(connection).xaCommit(anyString(), anyLong(), isNull());
+            Mockito.doAnswer(close -> borrowed.decrementAndGet()).when(connection).close();
+            return connection;
+        });
+        XABranchFinisher finisher = new XABranchFinisher(resource);
+
+        int branches = 64;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<BranchStatus>> results = new ArrayList<>();
+            for (int i = 0; i < branches; i++) {
+                long branchId = i;
+                results.add(executor.submit(() -> finisher.finish(true, "127.0.0.1:8091:7", branchId, null)));
+            }
+            for (Future<BranchStatus> result : results) {
+                Assertions.assertEquals(BranchStatus.PhaseTwo_Committed, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(branches, committed.get());
+        Assertions.assertEquals(0, borrowed.get());
+        Assertions.assertTrue(maxBorrowed.get() <= XABranchFinisher.MAX_FINISHING_CONNECTIONS);
+    }
+
+    @Test
+    public void testFinishTimeout() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(XABranchFinisher.MAX_FINISHING_CONNECTIONS);
+        CountDownLatch release = new CountDownLatch(1);
+        ConnectionProxyXA connection = Mockito.mock(ConnectionProxyXA.class);
+        Mockito.doAnswer(commit -> {
+            blocked.countDown();
+            release.await();
+            return null;
+        }).when(connection).xaCommit(anyString(), anyLong(), isNull());
+        AbstractDataSourceProxyXA resource = Mockito.mock(AbstractDataSourceProxyXA.class);
+        Mockito.when(resource.getConnectionProxyXA()).thenReturn(connection);
+        XABranchFinisher finisher = new XABranchFinisher(resource, 100);
+
+        ExecutorService executor = Executors.newFixedThreadPool(XABranchFinisher.MAX_FINISHING_CONNECTIONS);
+        try {
+            List<Future<BranchStatus>> results = new ArrayList<>();
+            for (int i = 0; i < XABranchFinisher.MAX_FINISHING_CONNECTIONS; i++) {
+                long branchId = i;
+                results.add(executor.submit(() -> finisher.finish(true, "127.0.0.1:8091:8", branchId, null)));
+            }
+            Assertions.assertTrue(blocked.await(10, TimeUnit.SECONDS));
+
+            // all the turns are taken, the branch is not finished in time and is left to the retry of the TC
+            Assertions.assertEquals(BranchStatus.PhaseTwo_CommitFailed_Retryable,
+                finisher.finish(true, "127.0.0.1:8091:8", 100, null));
+            release.countDown();
+            for (Future<BranchStatus> result : results) {
+                Assertions.assertEquals(BranchStatus.PhaseTwo_Committed, result.get());
+            }
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        Mockito.verify(connection, Mockito.never()).xaCommit("127.0.0.1:8091:8", 100, null);
+    }
+}
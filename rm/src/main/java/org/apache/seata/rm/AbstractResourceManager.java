@@ -79,7 +79,7 @@ public abstract class AbstractResourceManager implements ResourceManager {
             request.setBranchType(branchType);
             request.setApplicationData(applicationData);
 
-            BranchRegisterResponse response = (BranchRegisterResponse) RmNettyRemotingClient.getInstance().sendSyncRequest(request);
+            BranchRegisterResponse response = (BranchRegisterResponse) sendBranchRegisterRequest(request);
             if (response.getResultCode() == ResultCode.Failed) {
                 throw new RmTransactionException(response.getTransactionExceptionCode(),
                     String.format("branch register failed, xid: %s, errMsg: %s ", xid, response.getMsg()));
@@ -96,6 +96,17 @@ public abstract class AbstractResourceManager implements ResourceManager {
         }
     }
 
+    /**
+     * Send the branch register request to the TC.
+     *
+     * @param request the branch register request
+     * @return the response
+     * @throws TimeoutException the timeout exception
+     */
+    protected Object sendBranchRegisterRequest(BranchRegisterRequest request) throws TimeoutException {
+        return RmNettyRemotingClient.getInstance().sendSyncRequest(request);
+    }
+
     /**
      * report branch status
      *
@@ -27,4 +27,30 @@ CREATE TABLE IF NOT EXISTS `undo_log`
     `log_modified`  DATETIME(6)  NOT NULL COMMENT 'modify datetime',
     UNIQUE KEY `ux_undo_log` (`xid`, `branch_id`)
 ) ENGINE = InnoDB AUTO_INCREMENT = 1 DEFAULT CHARSET = utf8mb4 COMMENT ='AT transaction mode undo table';
-ALTER TABLE `undo_log` ADD INDEX `ix_log_created` (`log_created`);
\ No newline at end of file
+ALTER TABLE `undo_log` ADD INDEX `ix_log_created` (`log_created`);
+
+-- Optional: to purge the expired undo logs by dropping partitions instead of deleting rows (client.undo.partitionPurgeEnable=true),
+-- partition the table by range columns on log_created and add the partitions ahead of time. MySQL requires every unique key
+-- of a partitioned table to contain log_created, so (xid, branch_id) is no longer unique by itself, while the GlobalFinished
+-- defense relies on it to fail a phase one undo log inserted after the rollback. Keep it unique in the non-partitioned guard
+-- table below, the triggers insert and delete its rows with the undo logs in the same transaction, a duplicate (xid, branch_id)
+-- fails the insert into undo_log. Dropping a partition does not fire the delete trigger, purge the guard with the same
+-- retention as the undo logs, e.g. by the event below:
+-- CREATE TABLE `undo_log_guard`
+-- (
+--     `xid`         VARCHAR(128) NOT NULL,
+--     `branch_id`   BIGINT       NOT NULL,
+--     `log_created` DATETIME(6)  NOT NULL,
+--     PRIMARY KEY (`xid`, `branch_id`),
+--     KEY `ix_log_created` (`log_created`)
+-- ) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4 COMMENT ='unique (xid, branch_id) of the partitioned undo table';
+-- CREATE TRIGGER `tr_undo_log_guard_insert` BEFORE INSERT ON `undo_log` FOR EACH ROW
+--     INSERT INTO `undo_log_guard` (`xid`, `branch_id`, `log_created`) VALUES (NEW.`xid`, NEW.`branch_id`, NEW.`log_created`);
+-- CREATE TRIGGER `tr_undo_log_guard_delete` AFTER DELETE ON `undo_log` FOR EACH ROW
+--     DELETE FROM `undo_log_guard` WHERE `xid` = OLD.`xid` AND `branch_id` = OLD.`branch_id`;
+-- CREATE EVENT `ev_undo_log_guard_purge` ON SCHEDULE EVERY 1 DAY
+--     DO DELETE FROM `undo_log_guard` WHERE `log_created` < NOW() - INTERVAL 7 DAY;
+-- ALTER TABLE `undo_log` DROP INDEX `ux_undo_log`, ADD UNIQUE KEY `ux_undo_log` (`xid`, `branch_id`, `log_created`);
+-- ALTER TABLE `undo_log` PARTITION BY RANGE COLUMNS (`log_created`) (
+--     PARTITION `p20240101` VALUES LESS THAN ('2024-01-02 00:00:00'),
+--     PARTITION `p20240102` VALUES LESS THAN ('2024-01-03 00:00:00'));
@@ -40,4 +40,11 @@ COMMENT ON COLUMN undo_log.log_created is 'create datetime';
 COMMENT ON COLUMN undo_log.log_modified is 'modify datetime';
 
 -- Generate ID using sequence and trigger
-CREATE SEQUENCE UNDO_LOG_SEQ START WITH 1 INCREMENT BY 1;
\ No newline at end of file
+CREATE SEQUENCE UNDO_LOG_SEQ START WITH 1 INCREMENT BY 1;
+
+-- Optional: to purge the expired undo logs by dropping partitions instead of deleting rows (client.undo.partitionPurgeEnable=true),
+-- create the table partitioned by range on log_created, e.g. with daily interval partitions. Keep the index of ux_undo_log
+-- global (the default of a non-partitioned unique constraint) so (xid, branch_id) stays unique across the partitions, which the
+-- GlobalFinished defense relies on, the partitions are dropped with UPDATE GLOBAL INDEXES:
+-- CREATE TABLE undo_log (...) PARTITION BY RANGE (log_created) INTERVAL (NUMTODSINTERVAL(1, 'DAY'))
+--     (PARTITION p_first VALUES LESS THAN (TIMESTAMP '2024-01-01 00:00:00'));
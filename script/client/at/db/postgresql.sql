@@ -40,4 +40,38 @@ COMMENT ON COLUMN public.undo_log.log_status IS '0:normal status,1:defense statu
 COMMENT ON COLUMN public.undo_log.log_created IS 'create datetime';
 COMMENT ON COLUMN public.undo_log.log_modified IS 'modify datetime';
 
-CREATE SEQUENCE IF NOT EXISTS undo_log_id_seq INCREMENT BY 1 MINVALUE 1 ;
\ No newline at end of file
+CREATE SEQUENCE IF NOT EXISTS undo_log_id_seq INCREMENT BY 1 MINVALUE 1 ;
+
+-- Optional: to purge the expired undo logs by dropping partitions instead of deleting rows (client.undo.partitionPurgeEnable=true),
+-- create the table partitioned by range on log_created and add the partitions ahead of time. PostgreSQL requires the primary key
+-- and the unique keys of a partitioned table to contain log_created, so (xid, branch_id) is no longer unique by itself, while the
+-- GlobalFinished defense relies on it to fail a phase one undo log inserted after the rollback. Keep it unique in the
+-- non-partitioned guard table below, the triggers insert and delete its rows with the undo logs in the same transaction, a
+-- duplicate (xid, branch_id) fails the insert into undo_log. Dropping a partition does not fire the delete trigger, purge the
+-- guard with the same retention as the undo logs, e.g. by a pg_cron job running the delete below:
+-- CREATE TABLE public.undo_log (..., CONSTRAINT pk_undo_log PRIMARY KEY (id, log_created),
+--     CONSTRAINT ux_undo_log UNIQUE (xid, branch_id, log_created)) PARTITION BY RANGE (log_created);
+-- CREATE TABLE public.undo_log_20240101 PARTITION OF public.undo_log FOR VALUES FROM ('2024-01-01') TO ('2024-01-02');
+-- CREATE TABLE public.undo_log_guard
+-- (
+--     xid         VARCHAR(128) NOT NULL,
+--     branch_id   BIGINT       NOT NULL,
+--     log_created TIMESTAMP(0) NOT NULL,
+--     CONSTRAINT pk_undo_log_guard PRIMARY KEY (xid, branch_id)
+-- );
+-- CREATE INDEX ix_undo_log_guard_log_created ON public.undo_log_guard(log_created);
+-- CREATE FUNCTION public.undo_log_guard_insert() RETURNS trigger AS $$
+-- BEGIN
+--     INSERT INTO public.undo_log_guard (xid, branch_id, log_created) VALUES (NEW.xid, NEW.branch_id, NEW.log_created);
+--     RETURN NEW;
+-- END $$ LANGUAGE plpgsql;
+-- CREATE FUNCTION public.undo_log_guard_delete() RETURNS trigger AS $$
+-- BEGIN
+--     DELETE FROM public.undo_log_guard WHERE xid = OLD.xid AND branch_id = OLD.branch_id;
+--     RETURN OLD;
+-- END $$ LANGUAGE plpgsql;
+-- CREATE TRIGGER tr_undo_log_guard_insert BEFORE INSERT ON public.undo_log
+--     FOR EACH ROW EXECUTE FUNCTION public.undo_log_guard_insert();
+-- CREATE TRIGGER tr_undo_log_guard_delete AFTER DELETE ON public.undo_log
+--     FOR EACH ROW EXECUTE FUNCTION public.undo_log_guard_delete();
+-- DELETE FROM public.undo_log_guard WHERE log_created < now() - INTERVAL '7 days';
@@ -34,7 +34,8 @@ CREATE TABLE "SEATA"."GLOBAL_TABLE"
     PRIMARY KEY ("XID")
 );
 
-CREATE  INDEX "IDX_GMT_MODIFIED_STATUS" ON "SEATA"."GLOBAL_TABLE"("GMT_MODIFIED" ASC,"STATUS" ASC);
+-- the recovery reads the global transactions of the statuses page by page in the order of gmt_modified and xid
+CREATE  INDEX "IDX_GMT_MODIFIED_STATUS" ON "SEATA"."GLOBAL_TABLE"("GMT_MODIFIED" ASC,"STATUS" ASC,"XID" ASC);
 CREATE  INDEX "IDX_TRANSACTION_ID" ON "SEATA"."GLOBAL_TABLE"("TRANSACTION_ID" ASC);
 
 
@@ -58,6 +59,43 @@ CREATE TABLE "SEATA"."BRANCH_TABLE"
 CREATE INDEX "IDX_XID" ON "SEATA"."BRANCH_TABLE"("XID" ASC);
 
 
+-- the table to store the GlobalSession data ended with failure, moved out of the global table when store.db.archiveEnable is true
+CREATE TABLE "SEATA"."GLOBAL_TABLE_ARCHIVE"
+(
+    "XID"                       VARCHAR2(128) NOT NULL,
+    "TRANSACTION_ID"            BIGINT,
+    "STATUS"                    TINYINT       NOT NULL,
+    "APPLICATION_ID"            VARCHAR2(32),
+    "TRANSACTION_SERVICE_GROUP" VARCHAR2(32),
+    "TRANSACTION_NAME"          VARCHAR2(128),
+    "TIMEOUT"                   INT,
+    "BEGIN_TIME"                BIGINT,
+    "APPLICATION_DATA"          VARCHAR2(2000),
+    "GMT_CREATE"                TIMESTAMP(0),
+    "GMT_MODIFIED"              TIMESTAMP(0),
+    PRIMARY KEY ("XID")
+);
+
+-- the table to store the BranchSession data of the archived GlobalSession data
+CREATE TABLE "SEATA"."BRANCH_TABLE_ARCHIVE"
+(
+    "BRANCH_ID"         BIGINT        NOT NULL,
+    "XID"               VARCHAR2(128) NOT NULL,
+    "TRANSACTION_ID"    BIGINT,
+    "RESOURCE_GROUP_ID" VARCHAR2(32),
+    "RESOURCE_ID"       VARCHAR2(256),
+    "BRANCH_TYPE"       VARCHAR2(8),
+    "STATUS"            TINYINT,
+    "CLIENT_ID"         VARCHAR2(64),
+    "APPLICATION_DATA"  VARCHAR2(2000),
+    "GMT_CREATE" TIMESTAMP(0),
+    "GMT_MODIFIED" TIMESTAMP(0),
+    PRIMARY KEY ("BRANCH_ID")
+);
+
+CREATE INDEX "IDX_ARCHIVE_XID" ON "SEATA"."BRANCH_TABLE_ARCHIVE"("XID" ASC);
+
+
 -- the table to store lock data
 CREATE TABLE "SEATA"."LOCK_TABLE"
 (
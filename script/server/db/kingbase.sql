@@ -33,7 +33,8 @@ CREATE TABLE global_table
     PRIMARY KEY (xid)
 );
 
-CREATE INDEX idx_status_gmt_modified ON global_table (status, gmt_modified);
+-- the recovery reads the global transactions of the statuses page by page in the order of gmt_modified and xid
+CREATE INDEX idx_status_gmt_modified ON global_table (status, gmt_modified, xid);
 CREATE INDEX idx_transaction_id ON global_table (transaction_id);
 
 -- the table to store BranchSession data
@@ -55,6 +56,42 @@ CREATE TABLE branch_table
 
 CREATE INDEX idx_xid ON branch_table (xid);
 
+-- the table to store the GlobalSession data ended with failure, moved out of the global table when store.db.archiveEnable is true
+CREATE TABLE global_table_archive
+(
+    xid                       VARCHAR2(128) NOT NULL,
+    transaction_id            NUMBER(19),
+    status                    NUMBER(3)     NOT NULL,
+    application_id            VARCHAR2(32),
+    transaction_service_group VARCHAR2(32),
+    transaction_name          VARCHAR2(128),
+    timeout                   NUMBER(10),
+    begin_time                NUMBER(19),
+    application_data          VARCHAR2(2000),
+    gmt_create                TIMESTAMP(0),
+    gmt_modified              TIMESTAMP(0),
+    PRIMARY KEY (xid)
+);
+
+-- the table to store the BranchSession data of the archived GlobalSession data
+CREATE TABLE branch_table_archive
+(
+    branch_id         NUMBER(19)    NOT NULL,
+    xid               VARCHAR2(128) NOT NULL,
+    transaction_id    NUMBER(19),
+    resource_group_id VARCHAR2(32),
+    resource_id       VARCHAR2(256),
+    branch_type       VARCHAR2(8),
+    status            NUMBER(3),
+    client_id         VARCHAR2(64),
+    application_data  VARCHAR2(2000),
+    gmt_create        TIMESTAMP(6),
+    gmt_modified      TIMESTAMP(6),
+    PRIMARY KEY (branch_id)
+);
+
+CREATE INDEX idx_archive_xid ON branch_table_archive (xid);
+
 -- the table to store lock data
 CREATE TABLE lock_table
 (
@@ -31,6 +31,8 @@ CREATE TABLE IF NOT EXISTS `global_table`
     `gmt_create`                DATETIME,
     `gmt_modified`              DATETIME,
     PRIMARY KEY (`xid`),
+    -- the recovery reads the global transactions of the statuses page by page in the order of gmt_modified and xid,
+    -- and InnoDB appends the primary key xid to the secondary index
     KEY `idx_status_gmt_modified` (`status` , `gmt_modified`),
     KEY `idx_transaction_id` (`transaction_id`)
 ) ENGINE = InnoDB
@@ -55,6 +57,43 @@ CREATE TABLE IF NOT EXISTS `branch_table`
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
 
+-- the table to store the GlobalSession data ended with failure, moved out of the global table when store.db.archiveEnable is true
+CREATE TABLE IF NOT EXISTS `global_table_archive`
+(
+    `xid`                       VARCHAR(128) NOT NULL,
+    `transaction_id`            BIGINT,
+    `status`                    TINYINT      NOT NULL,
+    `application_id`            VARCHAR(32),
+    `transaction_service_group` VARCHAR(32),
+    `transaction_name`          VARCHAR(128),
+    `timeout`                   INT,
+    `begin_time`                BIGINT,
+    `application_data`          VARCHAR(2000),
+    `gmt_create`                DATETIME,
+    `gmt_modified`              DATETIME,
+    PRIMARY KEY (`xid`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- the table to store the BranchSession data of the archived GlobalSession data
+CREATE TABLE IF NOT EXISTS `branch_table_archive`
+(
+    `branch_id`         BIGINT       NOT NULL,
+    `xid`               VARCHAR(128) NOT NULL,
+    `transaction_id`    BIGINT,
+    `resource_group_id` VARCHAR(32),
+    `resource_id`       VARCHAR(256),
+    `branch_type`       VARCHAR(8),
+    `status`            TINYINT,
+    `client_id`         VARCHAR(64),
+    `application_data`  VARCHAR(2000),
+    `gmt_create`        DATETIME(6),
+    `gmt_modified`      DATETIME(6),
+    PRIMARY KEY (`branch_id`),
+    KEY `idx_xid` (`xid`)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
 -- the table to store lock data
 CREATE TABLE IF NOT EXISTS `lock_table`
 (
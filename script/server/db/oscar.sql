@@ -32,7 +32,8 @@ CREATE TABLE global_table
     PRIMARY KEY (XID)
 );
 
-CREATE INDEX idx_status_gmt_modified ON global_table (STATUS, GMT_MODIFIED);
+-- the recovery reads the global transactions of the statuses page by page in the order of gmt_modified and xid
+CREATE INDEX idx_status_gmt_modified ON global_table (STATUS, GMT_MODIFIED, XID);
 CREATE INDEX idx_transaction_id ON global_table (TRANSACTION_ID);
 
 -- the table to store BranchSession data
@@ -54,6 +55,42 @@ CREATE TABLE branch_table
 
 CREATE INDEX idx_xid ON branch_table (XID);
 
+-- the table to store the GlobalSession data ended with failure, moved out of the global table when store.db.archiveEnable is true
+CREATE TABLE global_table_archive
+(
+    XID                       VARCHAR2(128) NOT NULL,
+    TRANSACTION_ID            NUMBER(19),
+    STATUS                    NUMBER(3)     NOT NULL,
+    APPLICATION_ID            VARCHAR2(32),
+    TRANSACTION_SERVICE_GROUP VARCHAR2(32),
+    TRANSACTION_NAME          VARCHAR2(128),
+    TIMEOUT                   NUMBER(10),
+    BEGIN_TIME                NUMBER(19),
+    APPLICATION_DATA          VARCHAR2(2000),
+    GMT_CREATE                TIMESTAMP(0),
+    GMT_MODIFIED              TIMESTAMP(0),
+    PRIMARY KEY (XID)
+);
+
+-- the table to store the BranchSession data of the archived GlobalSession data
+CREATE TABLE branch_table_archive
+(
+    BRANCH_ID         NUMBER(19)    NOT NULL,
+    XID               VARCHAR2(128) NOT NULL,
+    TRANSACTION_ID    NUMBER(19),
+    RESOURCE_GROUP_ID VARCHAR2(32),
+    RESOURCE_ID       VARCHAR2(256),
+    BRANCH_TYPE       VARCHAR2(8),
+    STATUS            NUMBER(3),
+    CLIENT_ID         VARCHAR2(64),
+    APPLICATION_DATA  VARCHAR2(2000),
+    GMT_CREATE        TIMESTAMP(6),
+    GMT_MODIFIED      TIMESTAMP(6),
+    PRIMARY KEY (BRANCH_ID)
+);
+
+CREATE INDEX idx_archive_xid ON branch_table_archive (XID);
+
 -- the table to store lock data
 CREATE TABLE lock_table
 (
@@ -33,7 +33,8 @@ CREATE TABLE IF NOT EXISTS public.global_table
     CONSTRAINT pk_global_table PRIMARY KEY (xid)
 );
 
-CREATE INDEX idx_global_table_status_gmt_modified ON public.global_table (status, gmt_modified);
+-- the recovery reads the global transactions of the statuses page by page in the order of gmt_modified and xid
+CREATE INDEX idx_global_table_status_gmt_modified ON public.global_table (status, gmt_modified, xid);
 CREATE INDEX idx_global_table_transaction_id ON public.global_table (transaction_id);
 
 -- the table to store BranchSession data
@@ -55,6 +56,42 @@ CREATE TABLE IF NOT EXISTS public.branch_table
 
 CREATE INDEX idx_branch_table_xid ON public.branch_table (xid);
 
+-- the table to store the GlobalSession data ended with failure, moved out of the global table when store.db.archiveEnable is true
+CREATE TABLE IF NOT EXISTS public.global_table_archive
+(
+    xid                       VARCHAR(128) NOT NULL,
+    transaction_id            BIGINT,
+    status                    SMALLINT     NOT NULL,
+    application_id            VARCHAR(32),
+    transaction_service_group VARCHAR(32),
+    transaction_name          VARCHAR(128),
+    timeout                   INT,
+    begin_time                BIGINT,
+    application_data          VARCHAR(2000),
+    gmt_create                TIMESTAMP(0),
+    gmt_modified              TIMESTAMP(0),
+    CONSTRAINT pk_global_table_archive PRIMARY KEY (xid)
+);
+
+-- the table to store the BranchSession data of the archived GlobalSession data
+CREATE TABLE IF NOT EXISTS public.branch_table_archive
+(
+    branch_id         BIGINT       NOT NULL,
+    xid               VARCHAR(128) NOT NULL,
+    transaction_id    BIGINT,
+    resource_group_id VARCHAR(32),
+    resource_id       VARCHAR(256),
+    branch_type       VARCHAR(8),
+    status            SMALLINT,
+    client_id         VARCHAR(64),
+    application_data  VARCHAR(2000),
+    gmt_create        TIMESTAMP(6),
+    gmt_modified      TIMESTAMP(6),
+    CONSTRAINT pk_branch_table_archive PRIMARY KEY (branch_id)
+);
+
+CREATE INDEX idx_branch_table_archive_xid ON public.branch_table_archive (xid);
+
 -- the table to store lock data
 CREATE TABLE IF NOT EXISTS public.lock_table
 (
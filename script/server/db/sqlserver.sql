@@ -35,6 +35,8 @@ CREATE TABLE [global_table]
 )
 GO
 
+-- the recovery reads the global transactions of the statuses page by page in the order of gmt_modified and xid,
+-- and the nonclustered index carries the clustered key xid
 CREATE NONCLUSTERED INDEX [idx_gmt_modified_status]
     ON [global_table] (
                        [gmt_modified],
@@ -73,6 +75,50 @@ CREATE NONCLUSTERED INDEX [idx_xid]
         )
 GO
 
+-- the table to store the GlobalSession data ended with failure, moved out of the global table when store.db.archiveEnable is true
+CREATE TABLE [global_table_archive]
+(
+    [xid]                       nvarchar(128)  NOT NULL,
+    [transaction_id]            bigint        NULL,
+    [status]                    tinyint       NOT NULL,
+    [application_id]            nvarchar(32)   NULL,
+    [transaction_service_group] nvarchar(32)   NULL,
+    [transaction_name]          nvarchar(128)  NULL,
+    [timeout]                   int           NULL,
+    [begin_time]                bigint        NULL,
+    [application_data]          nvarchar(2000) NULL,
+    [gmt_create]                datetime2      NULL,
+    [gmt_modified]              datetime2      NULL,
+    PRIMARY KEY CLUSTERED ([xid])
+        WITH (PAD_INDEX = OFF, STATISTICS_NORECOMPUTE = OFF, IGNORE_DUP_KEY = OFF, ALLOW_ROW_LOCKS = ON, ALLOW_PAGE_LOCKS = ON)
+)
+GO
+
+-- the table to store the BranchSession data of the archived GlobalSession data
+CREATE TABLE [branch_table_archive]
+(
+    [branch_id]         bigint        NOT NULL,
+    [xid]               nvarchar(128)  NOT NULL,
+    [transaction_id]    bigint        NULL,
+    [resource_group_id] nvarchar(32)   NULL,
+    [resource_id]       nvarchar(256)  NULL,
+    [branch_type]       varchar(8)    NULL,
+    [status]            tinyint       NULL,
+    [client_id]         nvarchar(64)   NULL,
+    [application_data]  nvarchar(2000) NULL,
+    [gmt_create]        datetime2      NULL,
+    [gmt_modified]      datetime2      NULL,
+    PRIMARY KEY CLUSTERED ([branch_id])
+        WITH (PAD_INDEX = OFF, STATISTICS_NORECOMPUTE = OFF, IGNORE_DUP_KEY = OFF, ALLOW_ROW_LOCKS = ON, ALLOW_PAGE_LOCKS = ON)
+)
+GO
+
+CREATE NONCLUSTERED INDEX [idx_archive_xid]
+    ON [branch_table_archive] (
+                       [xid]
+        )
+GO
+
 -- the table to store lock data
 CREATE TABLE [lock_table]
 (
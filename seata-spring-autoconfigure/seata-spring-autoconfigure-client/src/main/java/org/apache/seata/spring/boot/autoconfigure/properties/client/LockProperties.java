@@ -19,6 +19,8 @@ package org.apache.seata.spring.boot.autoconfigure.properties.client;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_QUERY_CACHE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_QUERY_CACHE_EXPIRE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_RETRY_INTERVAL;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_LOCK_RETRY_TIMES;
@@ -31,6 +33,8 @@ public class LockProperties {
     private int retryInterval = DEFAULT_CLIENT_LOCK_RETRY_INTERVAL;
     private int retryTimes = DEFAULT_CLIENT_LOCK_RETRY_TIMES;
     private boolean retryPolicyBranchRollbackOnConflict = DEFAULT_CLIENT_LOCK_RETRY_POLICY_BRANCH_ROLLBACK_ON_CONFLICT;
+    private boolean queryCacheEnable = DEFAULT_CLIENT_LOCK_QUERY_CACHE_ENABLE;
+    private int queryCacheExpire = DEFAULT_CLIENT_LOCK_QUERY_CACHE_EXPIRE;
 
     public int getRetryInterval() {
         return retryInterval;
@@ -58,4 +62,22 @@ public class LockProperties {
         this.retryPolicyBranchRollbackOnConflict = retryPolicyBranchRollbackOnConflict;
         return this;
     }
+
+    public boolean isQueryCacheEnable() {
+        return queryCacheEnable;
+    }
+
+    public LockProperties setQueryCacheEnable(boolean queryCacheEnable) {
+        this.queryCacheEnable = queryCacheEnable;
+        return this;
+    }
+
+    public int getQueryCacheExpire() {
+        return queryCacheExpire;
+    }
+
+    public LockProperties setQueryCacheExpire(int queryCacheExpire) {
+        this.queryCacheExpire = queryCacheExpire;
+        return this;
+    }
 }
@@ -21,6 +21,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_ASYNC_COMMIT_BUFFER_LIMIT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_ASYNC_COMMIT_CONCURRENCY;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_REPORT_RETRY_COUNT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_REPORT_SUCCESS_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_SAGA_BRANCH_REGISTER_ENABLE;
@@ -28,6 +29,8 @@ import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_SAGA_COMPENSA
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_SAGA_RETRY_PERSIST_MODE_UPDATE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_TABLE_META_CHECK_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_SAGA_JSON_PARSER;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SQL_PARSER_CACHE_CAPACITY;
+import static org.apache.seata.common.DefaultValues.DEFAULT_SQL_PARSER_CACHE_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TABLE_META_CHECKER_INTERVAL;
 import static org.apache.seata.common.DefaultValues.TCC_ACTION_INTERCEPTOR_ORDER;
 import static org.apache.seata.common.DefaultValues.DEFAULT_XA_BRANCH_EXECUTION_TIMEOUT;
@@ -40,9 +43,11 @@ import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.CLIENT
 @ConfigurationProperties(prefix = CLIENT_RM_PREFIX)
 public class RmProperties {
     private int asyncCommitBufferLimit = DEFAULT_CLIENT_ASYNC_COMMIT_BUFFER_LIMIT;
+    private int asyncCommitConcurrency = DEFAULT_CLIENT_ASYNC_COMMIT_CONCURRENCY;
     private int reportRetryCount = DEFAULT_CLIENT_REPORT_RETRY_COUNT;
     private boolean tableMetaCheckEnable = DEFAULT_CLIENT_TABLE_META_CHECK_ENABLE;
     private long tableMetaCheckerInterval = DEFAULT_TABLE_META_CHECKER_INTERVAL;
+    private String tableMetaPreloadTables;
     private boolean reportSuccessEnable = DEFAULT_CLIENT_REPORT_SUCCESS_ENABLE;
     private boolean sagaBranchRegisterEnable = DEFAULT_CLIENT_SAGA_BRANCH_REGISTER_ENABLE;
     private String sagaJsonParser = DEFAULT_SAGA_JSON_PARSER;
@@ -52,6 +57,8 @@ public class RmProperties {
     private int branchExecutionTimeoutXA = DEFAULT_XA_BRANCH_EXECUTION_TIMEOUT;
     private int connectionTwoPhaseHoldTimeoutXA = DEFAULT_XA_CONNECTION_TWO_PHASE_HOLD_TIMEOUT;
     private String sqlParserType = SqlParserType.SQL_PARSER_TYPE_DRUID;
+    private boolean sqlParserCacheEnable = DEFAULT_SQL_PARSER_CACHE_ENABLE;
+    private long sqlParserCacheCapacity = DEFAULT_SQL_PARSER_CACHE_CAPACITY;
 
     private Boolean applicationDataLimitCheck = false;
     private Integer applicationDataLimit = DEFAULT_APPLICATION_DATA_SIZE_LIMIT;
@@ -65,6 +72,15 @@ public class RmProperties {
         return this;
     }
 
+    public int getAsyncCommitConcurrency() {
+        return asyncCommitConcurrency;
+    }
+
+    public RmProperties setAsyncCommitConcurrency(int asyncCommitConcurrency) {
+        this.asyncCommitConcurrency = asyncCommitConcurrency;
+        return this;
+    }
+
     public int getReportRetryCount() {
         return reportRetryCount;
     }
@@ -117,6 +133,15 @@ public class RmProperties {
         this.tableMetaCheckerInterval = tableMetaCheckerInterval;
     }
 
+    public String getTableMetaPreloadTables() {
+        return tableMetaPreloadTables;
+    }
+
+    public RmProperties setTableMetaPreloadTables(String tableMetaPreloadTables) {
+        this.tableMetaPreloadTables = tableMetaPreloadTables;
+        return this;
+    }
+
     public boolean isSagaRetryPersistModeUpdate() {
         return sagaRetryPersistModeUpdate;
     }
@@ -151,6 +176,24 @@ public class RmProperties {
         return this;
     }
 
+    public boolean isSqlParserCacheEnable() {
+        return sqlParserCacheEnable;
+    }
+
+    public RmProperties setSqlParserCacheEnable(boolean sqlParserCacheEnable) {
+        this.sqlParserCacheEnable = sqlParserCacheEnable;
+        return this;
+    }
+
+    public long getSqlParserCacheCapacity() {
+        return sqlParserCacheCapacity;
+    }
+
+    public RmProperties setSqlParserCacheCapacity(long sqlParserCacheCapacity) {
+        this.sqlParserCacheCapacity = sqlParserCacheCapacity;
+        return this;
+    }
+
     public int getBranchExecutionTimeoutXA() {
         return branchExecutionTimeoutXA;
     }
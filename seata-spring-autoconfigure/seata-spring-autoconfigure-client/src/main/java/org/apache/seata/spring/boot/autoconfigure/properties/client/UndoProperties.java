@@ -19,6 +19,7 @@ package org.apache.seata.spring.boot.autoconfigure.properties.client;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_CLIENT_UNDO_PARTITION_PURGE_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ONLY_CARE_UPDATE_COLUMNS;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_DATA_VALIDATION;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TRANSACTION_UNDO_LOG_SERIALIZATION;
@@ -33,6 +34,7 @@ public class UndoProperties {
     private String logSerialization = DEFAULT_TRANSACTION_UNDO_LOG_SERIALIZATION;
     private String logTable = DEFAULT_TRANSACTION_UNDO_LOG_TABLE;
     private boolean onlyCareUpdateColumns = DEFAULT_ONLY_CARE_UPDATE_COLUMNS;
+    private boolean partitionPurgeEnable = DEFAULT_CLIENT_UNDO_PARTITION_PURGE_ENABLE;
 
     public boolean isDataValidation() {
         return dataValidation;
@@ -69,4 +71,13 @@ public class UndoProperties {
         this.onlyCareUpdateColumns = onlyCareUpdateColumns;
         return this;
     }
+
+    public boolean isPartitionPurgeEnable() {
+        return partitionPurgeEnable;
+    }
+
+    public UndoProperties setPartitionPurgeEnable(boolean partitionPurgeEnable) {
+        this.partitionPurgeEnable = partitionPurgeEnable;
+        return this;
+    }
 }
@@ -32,5 +32,11 @@ public class LockPropertiesTest {
 
         lockProperties.setRetryPolicyBranchRollbackOnConflict(true);
         Assertions.assertEquals(true, lockProperties.isRetryPolicyBranchRollbackOnConflict());
+
+        lockProperties.setQueryCacheEnable(true);
+        Assertions.assertEquals(true, lockProperties.isQueryCacheEnable());
+
+        lockProperties.setQueryCacheExpire(1);
+        Assertions.assertEquals(1, lockProperties.getQueryCacheExpire());
     }
 }
@@ -27,6 +27,9 @@ public class RmPropertiesTest {
         rmProperties.setAsyncCommitBufferLimit(1);
         Assertions.assertEquals(1, rmProperties.getAsyncCommitBufferLimit());
 
+        rmProperties.setAsyncCommitConcurrency(2);
+        Assertions.assertEquals(2, rmProperties.getAsyncCommitConcurrency());
+
         rmProperties.setReportRetryCount(1);
         Assertions.assertEquals(1, rmProperties.getReportRetryCount());
 
@@ -45,6 +48,9 @@ public class RmPropertiesTest {
         rmProperties.setTableMetaCheckerInterval(1);
         Assertions.assertEquals(1, rmProperties.getTableMetaCheckerInterval());
 
+        rmProperties.setTableMetaPreloadTables("t1,t2");
+        Assertions.assertEquals("t1,t2", rmProperties.getTableMetaPreloadTables());
+
         rmProperties.setSagaRetryPersistModeUpdate(true);
         Assertions.assertTrue(rmProperties.isSagaRetryPersistModeUpdate());
 
@@ -57,6 +63,12 @@ public class RmPropertiesTest {
         rmProperties.setSqlParserType("type");
         Assertions.assertEquals("type", rmProperties.getSqlParserType());
 
+        rmProperties.setSqlParserCacheEnable(false);
+        Assertions.assertFalse(rmProperties.isSqlParserCacheEnable());
+
+        rmProperties.setSqlParserCacheCapacity(1);
+        Assertions.assertEquals(1, rmProperties.getSqlParserCacheCapacity());
+
         rmProperties.setBranchExecutionTimeoutXA(1);
         Assertions.assertEquals(1, rmProperties.getBranchExecutionTimeoutXA());
 
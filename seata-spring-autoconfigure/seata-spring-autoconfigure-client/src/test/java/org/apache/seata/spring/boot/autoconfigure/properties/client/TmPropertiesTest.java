@@ -44,5 +44,8 @@ public class TmPropertiesTest {
 
         tmProperties.setInterceptorOrder(1);
         Assertions.assertEquals(1, tmProperties.getInterceptorOrder());
+
+        tmProperties.setXidLeaseSize(1);
+        Assertions.assertEquals(1, tmProperties.getXidLeaseSize());
     }
 }
@@ -35,5 +35,8 @@ public class UndoPropertiesTest {
 
         undoProperties.setOnlyCareUpdateColumns(true);
         Assertions.assertTrue(undoProperties.isOnlyCareUpdateColumns());
+
+        undoProperties.setPartitionPurgeEnable(true);
+        Assertions.assertTrue(undoProperties.isPartitionPurgeEnable());
     }
 }
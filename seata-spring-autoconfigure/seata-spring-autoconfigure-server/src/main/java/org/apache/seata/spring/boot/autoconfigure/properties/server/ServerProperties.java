@@ -31,6 +31,7 @@ public class ServerProperties {
     private Boolean enableCheckAuth = true;
     private Boolean enableParallelRequestHandle = true;
     private Boolean enableParallelHandleBranch = false;
+    private Boolean enableOnePhaseCommit = false;
     private Integer retryDeadThreshold = 130000;
     private Integer servicePort;
     private Integer xaerNotaRetryTimeout = 60000;
@@ -116,6 +117,14 @@ public class ServerProperties {
         this.enableParallelHandleBranch = enableParallelHandleBranch;
     }
 
+    public Boolean getEnableOnePhaseCommit() {
+        return enableOnePhaseCommit;
+    }
+
+    public void setEnableOnePhaseCommit(Boolean enableOnePhaseCommit) {
+        this.enableOnePhaseCommit = enableOnePhaseCommit;
+    }
+
     public Boolean getApplicationDataLimitCheck() {
         return applicationDataLimitCheck;
     }
@@ -21,6 +21,7 @@ import org.springframework.stereotype.Component;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_ASYNC_COMMITTING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_COMMITING_RETRY_PERIOD;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_SHARD_COUNT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACKING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TIMEOUT_RETRY_PERIOD;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.SERVER_RECOVERY_PREFIX;
@@ -34,6 +35,7 @@ public class ServerRecoveryProperties {
     private long asyncCommittingRetryPeriod = DEFAULT_ASYNC_COMMITTING_RETRY_PERIOD;
     private long rollbackingRetryPeriod = DEFAULT_ROLLBACKING_RETRY_PERIOD;
     private long timeoutRetryPeriod = DEFAULT_TIMEOUT_RETRY_PERIOD;
+    private int shardCount = DEFAULT_RECOVERY_SHARD_COUNT;
 
     public long getCommittingRetryPeriod() {
         return committingRetryPeriod;
@@ -70,4 +72,13 @@ public class ServerRecoveryProperties {
         this.timeoutRetryPeriod = timeoutRetryPeriod;
         return this;
     }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public ServerRecoveryProperties setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+        return this;
+    }
 }
@@ -22,6 +22,13 @@ import org.springframework.stereotype.Component;
 import static org.apache.seata.common.DefaultValues.DEFAULT_DB_MAX_CONN;
 import static org.apache.seata.common.DefaultValues.DEFAULT_DB_MIN_CONN;
 import static org.apache.seata.common.DefaultValues.DEFAULT_QUERY_LIMIT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_ARCHIVE_DELAY;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_ARCHIVE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BATCH_WRITE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BATCH_WRITE_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BATCH_WRITE_THREADS;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BRANCH_ARCHIVE_TABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_GLOBAL_ARCHIVE_TABLE;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_DB_PREFIX;
 
 
@@ -43,6 +50,13 @@ public class StoreDBProperties {
     private String vgroupTable = "vgroup_table";
     private Integer queryLimit = DEFAULT_QUERY_LIMIT;
     private Long maxWait = 5000L;
+    private Boolean batchWriteEnable = DEFAULT_STORE_DB_BATCH_WRITE_ENABLE;
+    private Integer batchWriteSize = DEFAULT_STORE_DB_BATCH_WRITE_SIZE;
+    private Integer batchWriteThreads = DEFAULT_STORE_DB_BATCH_WRITE_THREADS;
+    private Boolean archiveEnable = DEFAULT_STORE_DB_ARCHIVE_ENABLE;
+    private Long archiveDelay = DEFAULT_STORE_DB_ARCHIVE_DELAY;
+    private String globalArchiveTable = DEFAULT_STORE_DB_GLOBAL_ARCHIVE_TABLE;
+    private String branchArchiveTable = DEFAULT_STORE_DB_BRANCH_ARCHIVE_TABLE;
 
     public String getDatasource() {
         return datasource;
@@ -178,4 +192,67 @@ public class StoreDBProperties {
         return this;
     }
 
+    public Boolean getBatchWriteEnable() {
+        return batchWriteEnable;
+    }
+
+    public StoreDBProperties setBatchWriteEnable(Boolean batchWriteEnable) {
+        this.batchWriteEnable = batchWriteEnable;
+        return this;
+    }
+
+    public Integer getBatchWriteSize() {
+        return batchWriteSize;
+    }
+
+    public StoreDBProperties setBatchWriteSize(Integer batchWriteSize) {
+        this.batchWriteSize = batchWriteSize;
+        return this;
+    }
+
+    public Integer getBatchWriteThreads() {
+        return batchWriteThreads;
+    }
+
+    public StoreDBProperties setBatchWriteThreads(Integer batchWriteThreads) {
+        this.batchWriteThreads = batchWriteThreads;
+        return this;
+    }
+
+    public Boolean getArchiveEnable() {
+        return archiveEnable;
+    }
+
+    public StoreDBProperties setArchiveEnable(Boolean archiveEnable) {
+        this.archiveEnable = archiveEnable;
+        return this;
+    }
+
+    public Long getArchiveDelay() {
+        return archiveDelay;
+    }
+
+    public StoreDBProperties setArchiveDelay(Long archiveDelay) {
+        this.archiveDelay = archiveDelay;
+        return this;
+    }
+
+    public String getGlobalArchiveTable() {
+        return globalArchiveTable;
+    }
+
+    public StoreDBProperties setGlobalArchiveTable(String globalArchiveTable) {
+        this.globalArchiveTable = globalArchiveTable;
+        return this;
+    }
+
+    public String getBranchArchiveTable() {
+        return branchArchiveTable;
+    }
+
+    public StoreDBProperties setBranchArchiveTable(String branchArchiveTable) {
+        this.branchArchiveTable = branchArchiveTable;
+        return this;
+    }
+
 }
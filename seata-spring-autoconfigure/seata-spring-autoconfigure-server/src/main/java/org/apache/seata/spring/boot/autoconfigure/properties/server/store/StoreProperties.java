@@ -19,6 +19,8 @@ package org.apache.seata.spring.boot.autoconfigure.properties.server.store;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_LOCK_FRONT_CACHE_EXPIRE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_LOCK_FRONT_CACHE_SIZE;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_PREFIX;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_SESSION_PREFIX;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_LOCK_PREFIX;
@@ -74,6 +76,16 @@ public class StoreProperties {
     public static class Lock {
         private String mode;
 
+        /**
+         * the max count of the row locks cached in the TC, 0 to disable the cache
+         */
+        private int frontCacheSize = DEFAULT_STORE_LOCK_FRONT_CACHE_SIZE;
+
+        /**
+         * the milliseconds a cached row lock is trusted
+         */
+        private int frontCacheExpire = DEFAULT_STORE_LOCK_FRONT_CACHE_EXPIRE;
+
         public String getMode() {
             return mode;
         }
@@ -82,5 +94,23 @@ public class StoreProperties {
             this.mode = mode;
             return this;
         }
+
+        public int getFrontCacheSize() {
+            return frontCacheSize;
+        }
+
+        public StoreProperties.Lock setFrontCacheSize(int frontCacheSize) {
+            this.frontCacheSize = frontCacheSize;
+            return this;
+        }
+
+        public int getFrontCacheExpire() {
+            return frontCacheExpire;
+        }
+
+        public StoreProperties.Lock setFrontCacheExpire(int frontCacheExpire) {
+            this.frontCacheExpire = frontCacheExpire;
+            return this;
+        }
     }
 }
@@ -22,6 +22,9 @@ import org.springframework.stereotype.Component;
 import static org.apache.seata.common.DefaultValues.DEFAULT_QUERY_LIMIT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_REDIS_MAX_IDLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_REDIS_MIN_IDLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_REDIS_BATCH_WRITE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_REDIS_BATCH_WRITE_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_REDIS_LOCK_PARTITIONS;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_REDIS_PREFIX;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_REDIS_SINGLE_PREFIX;
 import static org.apache.seata.spring.boot.autoconfigure.StarterConstants.STORE_REDIS_SENTINEL_PREFIX;
@@ -41,6 +44,9 @@ public class StoreRedisProperties {
     private Integer database = 0;
     private Integer queryLimit = DEFAULT_QUERY_LIMIT;
     private Integer maxTotal = 100;
+    private Boolean batchWriteEnable = DEFAULT_STORE_REDIS_BATCH_WRITE_ENABLE;
+    private Integer batchWriteSize = DEFAULT_STORE_REDIS_BATCH_WRITE_SIZE;
+    private Integer lockPartitions = DEFAULT_STORE_REDIS_LOCK_PARTITIONS;
 
     public String getMode() {
         return mode;
@@ -114,6 +120,33 @@ public class StoreRedisProperties {
         return this;
     }
 
+    public Boolean getBatchWriteEnable() {
+        return batchWriteEnable;
+    }
+
+    public StoreRedisProperties setBatchWriteEnable(Boolean batchWriteEnable) {
+        this.batchWriteEnable = batchWriteEnable;
+        return this;
+    }
+
+    public Integer getBatchWriteSize() {
+        return batchWriteSize;
+    }
+
+    public StoreRedisProperties setBatchWriteSize(Integer batchWriteSize) {
+        this.batchWriteSize = batchWriteSize;
+        return this;
+    }
+
+    public Integer getLockPartitions() {
+        return lockPartitions;
+    }
+
+    public StoreRedisProperties setLockPartitions(Integer lockPartitions) {
+        this.lockPartitions = lockPartitions;
+        return this;
+    }
+
     @Component
     @ConfigurationProperties(prefix = STORE_REDIS_SINGLE_PREFIX)
     public static class Single {
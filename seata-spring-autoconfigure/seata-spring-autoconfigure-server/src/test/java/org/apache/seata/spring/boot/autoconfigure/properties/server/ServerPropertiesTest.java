@@ -31,6 +31,7 @@ public class ServerPropertiesTest {
         serverProperties.setEnableCheckAuth(true);
         serverProperties.setApplicationDataLimitCheck(true);
         serverProperties.setEnableParallelHandleBranch(true);
+        serverProperties.setEnableOnePhaseCommit(false);
         serverProperties.setEnableParallelRequestHandle(true);
         serverProperties.setRollbackRetryTimeoutUnlockEnable(true);
         serverProperties.setMaxCommitRetryTimeout(1L);
@@ -43,6 +44,7 @@ public class ServerPropertiesTest {
         Assertions.assertTrue(serverProperties.getEnableCheckAuth());
         Assertions.assertTrue(serverProperties.getApplicationDataLimitCheck());
         Assertions.assertTrue(serverProperties.getEnableParallelHandleBranch());
+        Assertions.assertFalse(serverProperties.getEnableOnePhaseCommit());
         Assertions.assertTrue(serverProperties.getEnableParallelRequestHandle());
         Assertions.assertTrue(serverProperties.getRollbackRetryTimeoutUnlockEnable());
         Assertions.assertEquals(1L, serverProperties.getMaxCommitRetryTimeout());
@@ -28,10 +28,12 @@ public class ServerRecoveryPropertiesTest {
         serverRecoveryProperties.setCommittingRetryPeriod(1L);
         serverRecoveryProperties.setRollbackingRetryPeriod(1L);
         serverRecoveryProperties.setTimeoutRetryPeriod(1L);
+        serverRecoveryProperties.setShardCount(16);
 
         Assertions.assertEquals(1L, serverRecoveryProperties.getAsyncCommittingRetryPeriod());
         Assertions.assertEquals(1L, serverRecoveryProperties.getCommittingRetryPeriod());
         Assertions.assertEquals(1L, serverRecoveryProperties.getRollbackingRetryPeriod());
         Assertions.assertEquals(1L, serverRecoveryProperties.getTimeoutRetryPeriod());
+        Assertions.assertEquals(16, serverRecoveryProperties.getShardCount());
     }
 }
@@ -38,6 +38,13 @@ public class StoreDBPropertiesTest {
         storeDBProperties.setMaxConn(1);
         storeDBProperties.setQueryLimit(1);
         storeDBProperties.setMaxWait(1L);
+        storeDBProperties.setBatchWriteEnable(true);
+        storeDBProperties.setBatchWriteSize(1);
+        storeDBProperties.setBatchWriteThreads(1);
+        storeDBProperties.setArchiveEnable(true);
+        storeDBProperties.setArchiveDelay(1L);
+        storeDBProperties.setGlobalArchiveTable("globalArchive");
+        storeDBProperties.setBranchArchiveTable("branchArchive");
 
         Assertions.assertEquals("url", storeDBProperties.getUrl());
         Assertions.assertEquals("user", storeDBProperties.getUser());
@@ -53,5 +60,12 @@ public class StoreDBPropertiesTest {
         Assertions.assertEquals(1, storeDBProperties.getMaxConn());
         Assertions.assertEquals(1, storeDBProperties.getQueryLimit());
         Assertions.assertEquals(1L, storeDBProperties.getMaxWait());
+        Assertions.assertTrue(storeDBProperties.getBatchWriteEnable());
+        Assertions.assertEquals(1, storeDBProperties.getBatchWriteSize());
+        Assertions.assertEquals(1, storeDBProperties.getBatchWriteThreads());
+        Assertions.assertTrue(storeDBProperties.getArchiveEnable());
+        Assertions.assertEquals(1L, storeDBProperties.getArchiveDelay());
+        Assertions.assertEquals("globalArchive", storeDBProperties.getGlobalArchiveTable());
+        Assertions.assertEquals("branchArchive", storeDBProperties.getBranchArchiveTable());
     }
 }
@@ -32,10 +32,14 @@ public class StorePropertiesTest {
 
         StoreProperties.Lock lock = new StoreProperties.Lock();
         lock.setMode("mode");
+        lock.setFrontCacheSize(1000);
+        lock.setFrontCacheExpire(100);
 
         Assertions.assertEquals("mode", storeProperties.getMode());
         Assertions.assertEquals("public", storeProperties.getPublicKey());
         Assertions.assertEquals("mode", session.getMode());
         Assertions.assertEquals("mode", lock.getMode());
+        Assertions.assertEquals(1000, lock.getFrontCacheSize());
+        Assertions.assertEquals(100, lock.getFrontCacheExpire());
     }
 }
@@ -32,6 +32,9 @@ public class StoreRedisPropertiesTest {
         storeRedisProperties.setMinConn(1);
         storeRedisProperties.setQueryLimit(1);
         storeRedisProperties.setMaxTotal(1);
+        storeRedisProperties.setBatchWriteEnable(true);
+        storeRedisProperties.setBatchWriteSize(1);
+        storeRedisProperties.setLockPartitions(1);
 
         Assertions.assertEquals("mode", storeRedisProperties.getMode());
         Assertions.assertEquals("type", storeRedisProperties.getType());
@@ -41,6 +44,9 @@ public class StoreRedisPropertiesTest {
         Assertions.assertEquals(1, storeRedisProperties.getMinConn());
         Assertions.assertEquals(1, storeRedisProperties.getQueryLimit());
         Assertions.assertEquals(1, storeRedisProperties.getMaxTotal());
+        Assertions.assertTrue(storeRedisProperties.getBatchWriteEnable());
+        Assertions.assertEquals(1, storeRedisProperties.getBatchWriteSize());
+        Assertions.assertEquals(1, storeRedisProperties.getLockPartitions());
 
         StoreRedisProperties.Single single = new StoreRedisProperties.Single();
         single.setHost("host");
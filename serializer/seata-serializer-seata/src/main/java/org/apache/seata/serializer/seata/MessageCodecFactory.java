@@ -28,6 +28,7 @@ import org.apache.seata.serializer.seata.protocol.RegisterTMRequestCodec;
 import org.apache.seata.serializer.seata.protocol.RegisterTMResponseCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.BranchCommitRequestCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.BranchCommitResponseCodec;
+import org.apache.seata.serializer.seata.protocol.transaction.BranchRegisterReportRequestCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.BranchRegisterRequestCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.BranchRegisterResponseCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.BranchReportRequestCodec;
@@ -38,6 +39,9 @@ import org.apache.seata.serializer.seata.protocol.transaction.GlobalBeginRequest
 import org.apache.seata.serializer.seata.protocol.transaction.GlobalBeginResponseCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.GlobalCommitRequestCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.GlobalCommitResponseCodec;
+import org.apache.seata.serializer.seata.protocol.transaction.GlobalLeaseBeginRequestCodec;
+import org.apache.seata.serializer.seata.protocol.transaction.GlobalLeaseRequestCodec;
+import org.apache.seata.serializer.seata.protocol.transaction.GlobalLeaseResponseCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.GlobalLockQueryRequestCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.GlobalLockQueryResponseCodec;
 import org.apache.seata.serializer.seata.protocol.transaction.GlobalReportRequestCodec;
@@ -58,6 +62,7 @@ import org.apache.seata.core.protocol.RegisterTMRequest;
 import org.apache.seata.core.protocol.RegisterTMResponse;
 import org.apache.seata.core.protocol.transaction.BranchCommitRequest;
 import org.apache.seata.core.protocol.transaction.BranchCommitResponse;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
 import org.apache.seata.core.protocol.transaction.BranchReportRequest;
@@ -68,6 +73,9 @@ import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
 import org.apache.seata.core.protocol.transaction.GlobalBeginResponse;
 import org.apache.seata.core.protocol.transaction.GlobalCommitRequest;
 import org.apache.seata.core.protocol.transaction.GlobalCommitResponse;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseBeginRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseResponse;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryResponse;
 import org.apache.seata.core.protocol.transaction.GlobalReportRequest;
@@ -152,9 +160,18 @@ public class MessageCodecFactory {
             case MessageType.TYPE_GLOBAL_LOCK_QUERY:
                 msgCodec = new GlobalLockQueryRequestCodec();
                 break;
+            case MessageType.TYPE_GLOBAL_LEASE:
+                msgCodec = new GlobalLeaseRequestCodec();
+                break;
+            case MessageType.TYPE_GLOBAL_LEASE_BEGIN:
+                msgCodec = new GlobalLeaseBeginRequestCodec();
+                break;
             case MessageType.TYPE_BRANCH_REGISTER:
                 msgCodec = new BranchRegisterRequestCodec();
                 break;
+            case MessageType.TYPE_BRANCH_REGISTER_REPORT:
+                msgCodec = new BranchRegisterReportRequestCodec();
+                break;
             case MessageType.TYPE_BRANCH_STATUS_REPORT:
                 msgCodec = new BranchReportRequestCodec();
                 break;
@@ -173,6 +190,9 @@ public class MessageCodecFactory {
             case MessageType.TYPE_GLOBAL_LOCK_QUERY_RESULT:
                 msgCodec = new GlobalLockQueryResponseCodec();
                 break;
+            case MessageType.TYPE_GLOBAL_LEASE_RESULT:
+                msgCodec = new GlobalLeaseResponseCodec();
+                break;
             case MessageType.TYPE_BRANCH_REGISTER_RESULT:
                 msgCodec = new BranchRegisterResponseCodec();
                 break;
@@ -262,9 +282,18 @@ public class MessageCodecFactory {
             case MessageType.TYPE_GLOBAL_LOCK_QUERY:
                 abstractMessage = new GlobalLockQueryRequest();
                 break;
+            case MessageType.TYPE_GLOBAL_LEASE:
+                abstractMessage = new GlobalLeaseRequest();
+                break;
+            case MessageType.TYPE_GLOBAL_LEASE_BEGIN:
+                abstractMessage = new GlobalLeaseBeginRequest();
+                break;
             case MessageType.TYPE_BRANCH_REGISTER:
                 abstractMessage = new BranchRegisterRequest();
                 break;
+            case MessageType.TYPE_BRANCH_REGISTER_REPORT:
+                abstractMessage = new BranchRegisterReportRequest();
+                break;
             case MessageType.TYPE_BRANCH_STATUS_REPORT:
                 abstractMessage = new BranchReportRequest();
                 break;
@@ -283,6 +312,9 @@ public class MessageCodecFactory {
             case MessageType.TYPE_GLOBAL_LOCK_QUERY_RESULT:
                 abstractMessage = new GlobalLockQueryResponse();
                 break;
+            case MessageType.TYPE_GLOBAL_LEASE_RESULT:
+                abstractMessage = new GlobalLeaseResponse();
+                break;
             case MessageType.TYPE_BRANCH_REGISTER_RESULT:
                 abstractMessage = new BranchRegisterResponse();
                 break;
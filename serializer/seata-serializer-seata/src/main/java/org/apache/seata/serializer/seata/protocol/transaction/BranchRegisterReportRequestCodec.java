@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.serializer.seata.protocol.transaction;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
+
+/**
+ * The type Branch register report request codec.
+ *
+ */
+public class BranchRegisterReportRequestCodec extends BranchRegisterRequestCodec {
+
+    @Override
+    public Class<?> getMessageClassType() {
+        return BranchRegisterReportRequest.class;
+    }
+
+    @Override
+    public <T> void encode(T t, ByteBuf out) {
+        super.encode(t, out);
+        BranchRegisterReportRequest branchRegisterReportRequest = (BranchRegisterReportRequest)t;
+
+        // 6. done branch ids
+        List<Long> doneBranchIds = branchRegisterReportRequest.getDoneBranchIds();
+        if (doneBranchIds != null) {
+            out.writeShort((short)doneBranchIds.size());
+            for (Long branchId : doneBranchIds) {
+                out.writeLong(branchId);
+            }
+        } else {
+            out.writeShort((short)0);
+        }
+    }
+
+    @Override
+    public <T> void decode(T t, ByteBuffer in) {
+        super.decode(t, in);
+        BranchRegisterReportRequest branchRegisterReportRequest = (BranchRegisterReportRequest)t;
+
+        short size = in.getShort();
+        List<Long> doneBranchIds = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            doneBranchIds.add(in.getLong());
+        }
+        branchRegisterReportRequest.setDoneBranchIds(doneBranchIds);
+    }
+
+}
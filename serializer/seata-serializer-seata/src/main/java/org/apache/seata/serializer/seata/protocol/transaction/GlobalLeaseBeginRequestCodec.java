@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.serializer.seata.protocol.transaction;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseBeginRequest;
+
+/**
+ * The type Global lease begin request codec.
+ *
+ */
+public class GlobalLeaseBeginRequestCodec extends AbstractTransactionRequestToTCCodec {
+
+    @Override
+    public Class<?> getMessageClassType() {
+        return GlobalLeaseBeginRequest.class;
+    }
+
+    @Override
+    public <T> void encode(T t, ByteBuf out) {
+        GlobalLeaseBeginRequest globalLeaseBeginRequest = (GlobalLeaseBeginRequest)t;
+        writeString(globalLeaseBeginRequest.getXid(), out);
+        writeString(globalLeaseBeginRequest.getTransactionName(), out);
+        out.writeLong(globalLeaseBeginRequest.getBeginTime());
+    }
+
+    @Override
+    public <T> void decode(T t, ByteBuffer in) {
+        GlobalLeaseBeginRequest globalLeaseBeginRequest = (GlobalLeaseBeginRequest)t;
+        globalLeaseBeginRequest.setXid(readString(in));
+        globalLeaseBeginRequest.setTransactionName(readString(in));
+        globalLeaseBeginRequest.setBeginTime(in.getLong());
+    }
+
+    private void writeString(String value, ByteBuf out) {
+        if (value != null) {
+            byte[] bs = value.getBytes(UTF8);
+            out.writeShort((short)bs.length);
+            if (bs.length > 0) {
+                out.writeBytes(bs);
+            }
+        } else {
+            out.writeShort((short)0);
+        }
+    }
+
+    private String readString(ByteBuffer in) {
+        short len = in.getShort();
+        if (len <= 0) {
+            return null;
+        }
+        byte[] bs = new byte[len];
+        in.get(bs);
+        return new String(bs, UTF8);
+    }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.serializer.seata.protocol.transaction;
+
+import java.nio.ByteBuffer;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseRequest;
+
+/**
+ * The type Global lease request codec.
+ *
+ */
+public class GlobalLeaseRequestCodec extends AbstractTransactionRequestToTCCodec {
+
+    @Override
+    public Class<?> getMessageClassType() {
+        return GlobalLeaseRequest.class;
+    }
+
+    @Override
+    public <T> void encode(T t, ByteBuf out) {
+        GlobalLeaseRequest globalLeaseRequest = (GlobalLeaseRequest)t;
+        out.writeInt(globalLeaseRequest.getCount());
+        out.writeInt(globalLeaseRequest.getTimeout());
+    }
+
+    @Override
+    public <T> void decode(T t, ByteBuffer in) {
+        GlobalLeaseRequest globalLeaseRequest = (GlobalLeaseRequest)t;
+        globalLeaseRequest.setCount(in.getInt());
+        globalLeaseRequest.setTimeout(in.getInt());
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.serializer.seata.protocol.transaction;
+
+import java.util.Arrays;
+
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.protocol.ProtocolConstants;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
+import org.apache.seata.serializer.seata.SeataSerializer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The type Branch register report request codec test.
+ *
+ */
+public class BranchRegisterReportRequestSerializerTest {
+
+    /**
+     * The Seata codec.
+     */
+    SeataSerializer seataSerializer = new SeataSerializer(ProtocolConstants.VERSION);
+
+    /**
+     * Test codec.
+     */
+    @Test
+    public void test_codec() {
+        BranchRegisterReportRequest branchRegisterReportRequest = new BranchRegisterReportRequest();
+        branchRegisterReportRequest.setBranchType(BranchType.AT);
+        branchRegisterReportRequest.setApplicationData("abc");
+        branchRegisterReportRequest.setLockKey("a:1,b:2");
+        branchRegisterReportRequest.setResourceId("124");
+        branchRegisterReportRequest.setXid("abc134");
+        branchRegisterReportRequest.setDoneBranchIds(Arrays.asList(1L, 2L));
+
+        byte[] bytes = seataSerializer.serialize(branchRegisterReportRequest);
+
+        BranchRegisterReportRequest branchRegisterReportRequest2 = seataSerializer.deserialize(bytes);
+
+        assertThat(branchRegisterReportRequest2.getBranchType()).isEqualTo(branchRegisterReportRequest.getBranchType());
+        assertThat(branchRegisterReportRequest2.getApplicationData()).isEqualTo(
+            branchRegisterReportRequest.getApplicationData());
+        assertThat(branchRegisterReportRequest2.getLockKey()).isEqualTo(branchRegisterReportRequest.getLockKey());
+        assertThat(branchRegisterReportRequest2.getResourceId()).isEqualTo(branchRegisterReportRequest.getResourceId());
+        assertThat(branchRegisterReportRequest2.getXid()).isEqualTo(branchRegisterReportRequest.getXid());
+        assertThat(branchRegisterReportRequest2.getDoneBranchIds()).containsExactly(1L, 2L);
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.serializer.seata.protocol.transaction;
+
+import org.apache.seata.core.protocol.ProtocolConstants;
+import org.apache.seata.serializer.seata.SeataSerializer;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseBeginRequest;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The type Global lease begin request codec test.
+ *
+ */
+public class GlobalLeaseBeginRequestSerializerTest {
+
+    /**
+     * The Seata codec.
+     */
+    SeataSerializer seataSerializer = new SeataSerializer(ProtocolConstants.VERSION);
+
+    /**
+     * Test codec.
+     */
+    @Test
+    public void test_codec(){
+        GlobalLeaseBeginRequest globalLeaseBeginRequest = new GlobalLeaseBeginRequest();
+        globalLeaseBeginRequest.setXid("127.0.0.1:8091:2000");
+        globalLeaseBeginRequest.setTransactionName("createOrder");
+        globalLeaseBeginRequest.setBeginTime(1700000000000L);
+
+        byte[] bytes = seataSerializer.serialize(globalLeaseBeginRequest);
+
+        GlobalLeaseBeginRequest globalLeaseBeginRequest2 = seataSerializer.deserialize(bytes);
+        assertThat(globalLeaseBeginRequest2.getXid()).isEqualTo(globalLeaseBeginRequest.getXid());
+        assertThat(globalLeaseBeginRequest2.getTransactionName())
+            .isEqualTo(globalLeaseBeginRequest.getTransactionName());
+        assertThat(globalLeaseBeginRequest2.getBeginTime()).isEqualTo(globalLeaseBeginRequest.getBeginTime());
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.serializer.seata.protocol.transaction;
+
+import org.apache.seata.core.protocol.ProtocolConstants;
+import org.apache.seata.serializer.seata.SeataSerializer;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseResponse;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The type Global lease response codec test.
+ *
+ */
+public class GlobalLeaseResponseSerializerTest {
+
+    /**
+     * The Seata codec.
+     */
+    SeataSerializer seataSerializer = new SeataSerializer(ProtocolConstants.VERSION);
+
+    /**
+     * Test codec.
+     */
+    @Test
+    public void test_codec(){
+        GlobalLeaseResponse globalLeaseResponse = new GlobalLeaseResponse();
+        globalLeaseResponse.setXid("127.0.0.1:8091:2454");
+        globalLeaseResponse.setCount(100);
+        globalLeaseResponse.setLeaseTime(30000);
+        globalLeaseResponse.setResultCode(ResultCode.Success);
+
+        byte[] bytes = seataSerializer.serialize(globalLeaseResponse);
+
+        GlobalLeaseResponse globalLeaseResponse2 = seataSerializer.deserialize(bytes);
+        assertThat(globalLeaseResponse2.getResultCode()).isEqualTo(globalLeaseResponse.getResultCode());
+        assertThat(globalLeaseResponse2.getXid()).isEqualTo(globalLeaseResponse.getXid());
+        assertThat(globalLeaseResponse2.getCount()).isEqualTo(globalLeaseResponse.getCount());
+        assertThat(globalLeaseResponse2.getLeaseTime()).isEqualTo(globalLeaseResponse.getLeaseTime());
+    }
+
+}
@@ -23,6 +23,7 @@ import org.apache.seata.core.exception.TransactionExceptionCode;
 import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.core.protocol.transaction.AbstractGlobalEndRequest;
 import org.apache.seata.core.protocol.transaction.AbstractGlobalEndResponse;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
 import org.apache.seata.core.protocol.transaction.BranchReportRequest;
@@ -31,6 +32,9 @@ import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
 import org.apache.seata.core.protocol.transaction.GlobalBeginResponse;
 import org.apache.seata.core.protocol.transaction.GlobalCommitRequest;
 import org.apache.seata.core.protocol.transaction.GlobalCommitResponse;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseBeginRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseResponse;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryResponse;
 import org.apache.seata.core.protocol.transaction.GlobalReportRequest;
@@ -202,6 +206,37 @@ public abstract class AbstractTCInboundHandler extends AbstractExceptionHandler
     protected abstract void doBranchRegister(BranchRegisterRequest request, BranchRegisterResponse response,
                                              RpcContext rpcContext) throws TransactionException;
 
+    @Override
+    public BranchRegisterResponse handle(BranchRegisterReportRequest request, final RpcContext rpcContext) {
+        BranchRegisterResponse response = new BranchRegisterResponse();
+        exceptionHandleTemplate(new AbstractCallback<BranchRegisterReportRequest, BranchRegisterResponse>() {
+            @Override
+            public void execute(BranchRegisterReportRequest request, BranchRegisterResponse response)
+                throws TransactionException {
+                try {
+                    doBranchRegisterReport(request, response, rpcContext);
+                } catch (StoreException e) {
+                    throw new TransactionException(TransactionExceptionCode.FailedStore, String
+                        .format("branch register report request failed. xid=%s, msg=%s", request.getXid(),
+                            e.getMessage()), e);
+                }
+            }
+        }, request, response);
+        return response;
+    }
+
+    /**
+     * Do branch register with the reports of the branches done in phase one.
+     *
+     * @param request    the request
+     * @param response   the response
+     * @param rpcContext the rpc context
+     * @throws TransactionException the transaction exception
+     */
+    protected abstract void doBranchRegisterReport(BranchRegisterReportRequest request,
+                                                   BranchRegisterResponse response, RpcContext rpcContext)
+        throws TransactionException;
+
     @Override
     public BranchReportResponse handle(BranchReportRequest request, final RpcContext rpcContext) {
         BranchReportResponse response = new BranchReportResponse();
@@ -330,6 +365,54 @@ public abstract class AbstractTCInboundHandler extends AbstractExceptionHandler
     protected abstract void doGlobalReport(GlobalReportRequest request, GlobalReportResponse response,
                                            RpcContext rpcContext) throws TransactionException;
 
+    @Override
+    public GlobalLeaseResponse handle(GlobalLeaseRequest request, final RpcContext rpcContext) {
+        GlobalLeaseResponse response = new GlobalLeaseResponse();
+        exceptionHandleTemplate(new AbstractCallback<GlobalLeaseRequest, GlobalLeaseResponse>() {
+            @Override
+            public void execute(GlobalLeaseRequest request, GlobalLeaseResponse response)
+                throws TransactionException {
+                doGlobalLease(request, response, rpcContext);
+            }
+        }, request, response);
+        return response;
+    }
+
+    /**
+     * Do global lease.
+     *
+     * @param request    the request
+     * @param response   the response
+     * @param rpcContext the rpc context
+     * @throws TransactionException the transaction exception
+     */
+    protected abstract void doGlobalLease(GlobalLeaseRequest request, GlobalLeaseResponse response,
+                                          RpcContext rpcContext) throws TransactionException;
+
+    @Override
+    public GlobalLeaseResponse handle(GlobalLeaseBeginRequest request, final RpcContext rpcContext) {
+        GlobalLeaseResponse response = new GlobalLeaseResponse();
+        exceptionHandleTemplate(new AbstractCallback<GlobalLeaseBeginRequest, GlobalLeaseResponse>() {
+            @Override
+            public void execute(GlobalLeaseBeginRequest request, GlobalLeaseResponse response)
+                throws TransactionException {
+                doGlobalLeaseBegin(request, response, rpcContext);
+            }
+        }, request, response);
+        return response;
+    }
+
+    /**
+     * Do global lease begin.
+     *
+     * @param request    the request
+     * @param response   the response
+     * @param rpcContext the rpc context
+     * @throws TransactionException the transaction exception
+     */
+    protected abstract void doGlobalLeaseBegin(GlobalLeaseBeginRequest request, GlobalLeaseResponse response,
+                                               RpcContext rpcContext) throws TransactionException;
+
     private void checkTransactionStatus(AbstractGlobalEndRequest request, AbstractGlobalEndResponse response) {
         try {
             GlobalSession globalSession = SessionHolder.findGlobalSession(request.getXid(), false);
@@ -41,6 +41,8 @@ import org.apache.seata.server.console.vo.BranchSessionVO;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_ARCHIVE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BRANCH_ARCHIVE_TABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BRANCH_TABLE;
 
 /**
@@ -54,6 +56,11 @@ public class BranchSessionDBServiceImpl extends AbstractBranchService implements
 
     private String branchTable;
 
+    /**
+     * The archive table of the branch sessions, null if the archive is disabled.
+     */
+    private String branchArchiveTable;
+
     private String dbType;
 
     private DataSource dataSource;
@@ -61,6 +68,10 @@ public class BranchSessionDBServiceImpl extends AbstractBranchService implements
     public BranchSessionDBServiceImpl() {
         Configuration configuration = ConfigurationFactory.getInstance();
         branchTable = configuration.getConfig(ConfigurationKeys.STORE_DB_BRANCH_TABLE, DEFAULT_STORE_DB_BRANCH_TABLE);
+        if (configuration.getBoolean(ConfigurationKeys.STORE_DB_ARCHIVE_ENABLE, DEFAULT_STORE_DB_ARCHIVE_ENABLE)) {
+            branchArchiveTable = configuration.getConfig(ConfigurationKeys.STORE_DB_BRANCH_ARCHIVE_TABLE,
+                DEFAULT_STORE_DB_BRANCH_ARCHIVE_TABLE);
+        }
         dbType = configuration.getConfig(ConfigurationKeys.STORE_DB_TYPE);
         if (StringUtils.isBlank(dbType)) {
             throw new IllegalArgumentException(ConfigurationKeys.STORE_DB_TYPE + " should not be blank");
@@ -78,8 +89,17 @@ public class BranchSessionDBServiceImpl extends AbstractBranchService implements
             throw new IllegalArgumentException("xid should not be blank");
         }
 
+        List<BranchSessionVO> list = queryByXid(branchTable, xid);
+        if (list.isEmpty() && branchArchiveTable != null) {
+            // the branch sessions of an archived global session are moved into the archive table together
+            list = queryByXid(branchArchiveTable, xid);
+        }
+        return PageResult.success(list, list.size(), 0, 0, 0);
+    }
+
+    private List<BranchSessionVO> queryByXid(String table, String xid) {
         String whereCondition = " where xid = ? ";
-        String branchSessionSQL = LogStoreSqlsFactory.getLogStoreSqls(dbType).getAllBranchSessionSQL(branchTable, whereCondition);
+        String branchSessionSQL = LogStoreSqlsFactory.getLogStoreSqls(dbType).getAllBranchSessionSQL(table, whereCondition);
 
         List<BranchSessionVO> list = new ArrayList<>();
 
@@ -99,7 +119,7 @@ public class BranchSessionDBServiceImpl extends AbstractBranchService implements
         } finally {
             IOUtil.close(rs, ps, conn);
         }
-        return PageResult.success(list, list.size(), 0, 0, 0);
+        return list;
     }
 
 }
@@ -37,6 +37,8 @@ import org.apache.seata.config.Configuration;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.common.result.PageResult;
 import org.apache.seata.core.store.db.DataSourceProvider;
+import org.apache.seata.core.store.db.sql.log.AbstractLogStoreSqls;
+import org.apache.seata.core.store.db.sql.log.LogStoreSqls;
 import org.apache.seata.core.store.db.sql.log.LogStoreSqlsFactory;
 import org.apache.seata.server.console.impl.AbstractGlobalService;
 import org.apache.seata.server.console.param.GlobalSessionParam;
@@ -47,6 +49,8 @@ import org.apache.seata.server.console.vo.GlobalSessionVO;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.stereotype.Component;
 
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_ARCHIVE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_GLOBAL_ARCHIVE_TABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_GLOBAL_TABLE;
 
 /**
@@ -60,6 +64,11 @@ public class GlobalSessionDBServiceImpl extends AbstractGlobalService implements
 
     private String globalTable;
 
+    /**
+     * The archive table of the global sessions, null if the archive is disabled.
+     */
+    private String globalArchiveTable;
+
     private String dbType;
 
     private DataSource dataSource;
@@ -70,6 +79,10 @@ public class GlobalSessionDBServiceImpl extends AbstractGlobalService implements
     public GlobalSessionDBServiceImpl() {
         Configuration configuration = ConfigurationFactory.getInstance();
         globalTable = configuration.getConfig(ConfigurationKeys.STORE_DB_GLOBAL_TABLE, DEFAULT_STORE_DB_GLOBAL_TABLE);
+        if (configuration.getBoolean(ConfigurationKeys.STORE_DB_ARCHIVE_ENABLE, DEFAULT_STORE_DB_ARCHIVE_ENABLE)) {
+            globalArchiveTable = configuration.getConfig(ConfigurationKeys.STORE_DB_GLOBAL_ARCHIVE_TABLE,
+                DEFAULT_STORE_DB_GLOBAL_ARCHIVE_TABLE);
+        }
         dbType = configuration.getConfig(ConfigurationKeys.STORE_DB_TYPE);
         if (StringUtils.isBlank(dbType)) {
             throw new IllegalArgumentException(ConfigurationKeys.STORE_DB_TYPE + " should not be blank");
@@ -88,9 +101,19 @@ public class GlobalSessionDBServiceImpl extends AbstractGlobalService implements
         List<Object> sqlParamList = new ArrayList<>();
         String whereCondition = getWhereConditionByParam(param, sqlParamList);
 
-        String sourceSql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getAllGlobalSessionSql(globalTable, whereCondition);
+        LogStoreSqls logStoreSqls = LogStoreSqlsFactory.getLogStoreSqls(dbType);
+        String sourceSql = logStoreSqls.getAllGlobalSessionSql(globalTable, whereCondition);
+        List<String> sessionCountSqls = new ArrayList<>(2);
+        sessionCountSqls.add(PageUtil.countSql(sourceSql, dbType));
+        if (globalArchiveTable != null) {
+            // the archived global sessions are queried together, and counted apart for the count sql of the union
+            sourceSql = logStoreSqls.getAllGlobalSessionSql("(select " + AbstractLogStoreSqls.ALL_GLOBAL_COLUMNS
+                + " from " + globalTable + " union all select " + AbstractLogStoreSqls.ALL_GLOBAL_COLUMNS + " from "
+                + globalArchiveTable + ") t", whereCondition);
+            sessionCountSqls.add(PageUtil.countSql(
+                logStoreSqls.getAllGlobalSessionSql(globalArchiveTable, whereCondition), dbType));
+        }
         String querySessionSql = PageUtil.pageSql(sourceSql, dbType, param.getPageNum(), param.getPageSize());
-        String sessionCountSql = PageUtil.countSql(sourceSql, dbType);
 
         List<GlobalSessionVO> list = new ArrayList<>();
         int count = 0;
@@ -98,23 +121,25 @@ public class GlobalSessionDBServiceImpl extends AbstractGlobalService implements
 
         Connection conn = null;
         PreparedStatement ps = null;
-        PreparedStatement countPs = null;
         ResultSet rs = null;
-        ResultSet countRs = null;
         try {
             conn = dataSource.getConnection();
             ps = conn.prepareStatement(querySessionSql);
-            countPs = conn.prepareStatement(sessionCountSql);
             PageUtil.setObject(ps, sqlParamList);
             rs = ps.executeQuery();
             while (rs.next()) {
                 list.add(GlobalSessionVO.convert(rs));
             }
 
-            PageUtil.setObject(countPs, sqlParamList);
-            countRs = countPs.executeQuery();
-            if (countRs.next()) {
-                count = countRs.getInt(1);
+            for (String sessionCountSql : sessionCountSqls) {
+                try (PreparedStatement countPs = conn.prepareStatement(sessionCountSql)) {
+                    PageUtil.setObject(countPs, sqlParamList);
+                    try (ResultSet countRs = countPs.executeQuery()) {
+                        if (countRs.next()) {
+                            count += countRs.getInt(1);
+                        }
+                    }
+                }
             }
             if (param.isWithBranch()) {
                 for (GlobalSessionVO globalSessionVO : list) {
@@ -125,7 +150,7 @@ public class GlobalSessionDBServiceImpl extends AbstractGlobalService implements
         } catch (SQLException e) {
             throw new StoreException(e);
         } finally {
-            IOUtil.close(rs, countRs, ps, countPs, conn);
+            IOUtil.close(rs, ps, conn);
         }
         return PageResult.success(list, count, param.getPageNum(), param.getPageSize());
     }
@@ -23,6 +23,7 @@ import java.util.Map;
 
 import org.apache.seata.common.result.SingleResult;
 import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.server.console.exception.ConsoleException;
 import org.apache.seata.server.console.impl.AbstractLockService;
@@ -37,13 +38,15 @@ import org.apache.seata.common.result.PageResult;
 import org.apache.seata.server.console.vo.GlobalLockVO;
 import org.apache.seata.server.console.service.GlobalLockService;
 import org.apache.seata.server.storage.redis.JedisPooledFactory;
+import org.apache.seata.server.storage.redis.lock.RedisLocker;
 import redis.clients.jedis.Jedis;
+import static org.apache.seata.common.ConfigurationKeys.STORE_REDIS_LOCK_PARTITIONS;
 import static org.apache.seata.common.Constants.ROW_LOCK_KEY_SPLIT_CHAR;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_REDIS_LOCK_PARTITIONS;
 import static org.apache.seata.common.exception.FrameworkErrorCode.ParameterRequired;
 import static org.apache.seata.common.util.StringUtils.isNotBlank;
 import static org.apache.seata.common.result.PageResult.checkPage;
 import static org.apache.seata.core.constants.RedisKeyConstants.DEFAULT_REDIS_SEATA_GLOBAL_LOCK_PREFIX;
-import static org.apache.seata.core.constants.RedisKeyConstants.DEFAULT_REDIS_SEATA_ROW_LOCK_PREFIX;
 import static org.apache.seata.core.constants.RedisKeyConstants.SPLIT;
 
 /**
@@ -103,7 +106,8 @@ public class GlobalLockRedisServiceImpl extends AbstractLockService implements G
     }
 
     private String buildRowKey(String tableName, String pk,String resourceId) {
-        return DEFAULT_REDIS_SEATA_ROW_LOCK_PREFIX + resourceId + SPLIT + tableName + SPLIT + pk;
+        return RedisLocker.buildLockKey(resourceId + SPLIT + tableName + SPLIT + pk,
+            ConfigurationFactory.getInstance().getInt(STORE_REDIS_LOCK_PARTITIONS, DEFAULT_STORE_REDIS_LOCK_PARTITIONS));
     }
 
 
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import io.netty.util.internal.PlatformDependent;
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.core.context.RootContext;
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.metrics.registry.Registry;
+import org.apache.seata.server.metrics.MeterIdConstants;
+import org.apache.seata.server.metrics.MetricsManager;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Remove the branch sessions asynchronously in batches.
+ * <p>
+ * The removals are offered to a bounded multi-producer single-consumer queue. The remove thread drains them in
+ * batches, groups each batch by the global session, and removes the batch from the store in one write. If the queue
+ * is full, the caller removes its branch sessions itself as before. If a batch fails, its branch sessions are removed
+ * one by one, so only the failed removal is logged.
+ */
+class BranchSessionRemover {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BranchSessionRemover.class);
+
+    /**
+     * The max count of the removals in one batch, the branch ids of a batch are deleted in one sql.
+     */
+    private static final int BATCH_SIZE = 200;
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Queue<Removal> queue;
+
+    private final Thread removeThread;
+
+    private volatile boolean idle;
+
+    private volatile boolean running = true;
+
+    BranchSessionRemover(int queueSize) {
+        this.queue = PlatformDependent.newFixedMpscQueue(queueSize);
+        this.removeThread = new NamedThreadFactory("branchSessionRemove", 1, true).newThread(this::removeLoop);
+        removeThread.start();
+        Registry registry = MetricsManager.get().getRegistry();
+        if (registry != null) {
+            registry.getGauge(MeterIdConstants.GAUGE_BRANCH_REMOVE_QUEUE, queue::size);
+        }
+    }
+
+    /**
+     * Remove the branch session asynchronously.
+     *
+     * @param globalSession the global session
+     * @param branchSession the branch session, all the branch sessions of the global session if null
+     */
+    void remove(GlobalSession globalSession, BranchSession branchSession) {
+        if (running && queue.offer(new Removal(globalSession, branchSession))) {
+            if (idle) {
+                LockSupport.unpark(removeThread);
+            }
+            return;
+        }
+        if (branchSession != null) {
+            removeOne(globalSession, branchSession);
+        } else {
+            globalSession.getSortedBranches().forEach(branch -> removeOne(globalSession, branch));
+        }
+    }
+
+    private void removeLoop() {
+        List<Removal> batch = new ArrayList<>(BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            Removal removal;
+            while (batch.size() < BATCH_SIZE && (removal = queue.poll()) != null) {
+                batch.add(removal);
+            }
+            if (batch.isEmpty()) {
+                idle = true;
+                // check again after the flag is set, a removal offered before would not unpark this thread
+                if (queue.isEmpty() && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                idle = false;
+                continue;
+            }
+            try {
+                removeBatch(batch);
+            } catch (Throwable t) {
+                LOGGER.error("Asynchronous delete branchSession batch error: {}", t.getMessage(), t);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void removeBatch(List<Removal> batch) {
+        Map<GlobalSession, List<BranchSession>> branchSessions = new LinkedHashMap<>();
+        for (Removal removal : batch) {
+            List<BranchSession> branches = branchSessions.computeIfAbsent(removal.globalSession,
+                globalSession -> new ArrayList<>());
+            if (removal.branchSession != null) {
+                branches.add(removal.branchSession);
+            } else {
+                branches.addAll(removal.globalSession.getSortedBranches());
+            }
+        }
+        branchSessions.values().removeIf(List::isEmpty);
+        if (!branchSessions.isEmpty()) {
+            try {
+                SessionHolder.getRootSessionManager().removeBranchSessions(branchSessions);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Asynchronous delete the branchSessions of {} globalSessions successfully",
+                        branchSessions.size());
+                }
+            } catch (Exception e) {
+                LOGGER.warn("Asynchronous delete the branchSession batch of {} globalSessions failed, delete them one"
+                    + " by one, cause: {}", branchSessions.size(), e.getMessage());
+                branchSessions.forEach((globalSession, branches) ->
+                    branches.forEach(branch -> removeOne(globalSession, branch)));
+            }
+        }
+        record(batch);
+    }
+
+    private void removeOne(GlobalSession globalSession, BranchSession branchSession) {
+        try {
+            MDC.put(RootContext.MDC_KEY_XID, globalSession.getXid());
+            MDC.put(RootContext.MDC_KEY_BRANCH_ID, String.valueOf(branchSession.getBranchId()));
+            globalSession.removeBranch(branchSession);
+            LOGGER.info("Asynchronous delete branchSession successfully, xid = {}, branchId = {}",
+                globalSession.getXid(), branchSession.getBranchId());
+        } catch (TransactionException | RuntimeException e) {
+            LOGGER.error("Asynchronous delete branchSession error, xid = {}, branchId = {}",
+                globalSession.getXid(), branchSession.getBranchId(), e);
+        } finally {
+            MDC.remove(RootContext.MDC_KEY_BRANCH_ID);
+            MDC.remove(RootContext.MDC_KEY_XID);
+        }
+    }
+
+    private void record(List<Removal> batch) {
+        Registry registry = MetricsManager.get().getRegistry();
+        if (registry != null) {
+            long now = System.nanoTime();
+            for (Removal removal : batch) {
+                registry.getTimer(MeterIdConstants.TIMER_BRANCH_REMOVE_LAG).record(now - removal.offerTime,
+                    TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Stop accepting the removals, the queued removals are still removed.
+     */
+    void shutdown() {
+        running = false;
+        LockSupport.unpark(removeThread);
+    }
+
+    /**
+     * Wait until the queued removals are removed.
+     *
+     * @param timeoutMillis the timeout in milliseconds
+     * @throws InterruptedException the interrupted exception
+     */
+    void awaitTermination(long timeoutMillis) throws InterruptedException {
+        removeThread.join(timeoutMillis);
+    }
+
+    private static final class Removal {
+
+        private final GlobalSession globalSession;
+
+        private final BranchSession branchSession;
+
+        private final long offerTime = System.nanoTime();
+
+        Removal(GlobalSession globalSession, BranchSession branchSession) {
+            this.globalSession = globalSession;
+            this.branchSession = branchSession;
+        }
+    }
+}
@@ -22,14 +22,14 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import io.netty.channel.Channel;
 import org.apache.commons.lang.time.DateFormatUtils;
 import org.apache.seata.common.DefaultValues;
+import org.apache.seata.common.XID;
+import org.apache.seata.common.exception.StoreException;
 import org.apache.seata.common.store.SessionMode;
 import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.CollectionUtils;
@@ -37,11 +37,13 @@ import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.context.RootContext;
 import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.core.protocol.AbstractMessage;
 import org.apache.seata.core.protocol.AbstractResultMessage;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionRequestToTC;
 import org.apache.seata.core.protocol.transaction.AbstractTransactionResponse;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterRequest;
 import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
 import org.apache.seata.core.protocol.transaction.BranchReportRequest;
@@ -50,6 +52,9 @@ import org.apache.seata.core.protocol.transaction.GlobalBeginRequest;
 import org.apache.seata.core.protocol.transaction.GlobalBeginResponse;
 import org.apache.seata.core.protocol.transaction.GlobalCommitRequest;
 import org.apache.seata.core.protocol.transaction.GlobalCommitResponse;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseBeginRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseResponse;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryRequest;
 import org.apache.seata.core.protocol.transaction.GlobalLockQueryResponse;
 import org.apache.seata.core.protocol.transaction.GlobalReportRequest;
@@ -91,6 +96,7 @@ import static org.apache.seata.common.DefaultValues.DEFAULT_COMMITING_RETRY_PERI
 import static org.apache.seata.common.DefaultValues.DEFAULT_ENABLE_BRANCH_ASYNC_REMOVE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_MAX_COMMIT_RETRY_TIMEOUT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_MAX_ROLLBACK_RETRY_TIMEOUT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_SHARD_COUNT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACKING_RETRY_PERIOD;
 import static org.apache.seata.common.DefaultValues.DEFAULT_ROLLBACK_FAILED_UNLOCK_ENABLE;
 import static org.apache.seata.common.DefaultValues.DEFAULT_TIMEOUT_RETRY_PERIOD;
@@ -145,14 +151,14 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
     private static final int ALWAYS_RETRY_BOUNDARY = 0;
 
     /**
-     * default branch async queue size
+     * The max recovery shard count, the distributed lock key of a shard fits in the lock_key column of 20 chars.
      */
-    private static final int DEFAULT_BRANCH_ASYNC_QUEUE_SIZE = 5000;
+    private static final int MAX_RECOVERY_SHARD_COUNT = 100;
 
     /**
-     * the pool size of branch asynchronous remove thread pool
+     * default branch async queue size
      */
-    private static final int BRANCH_ASYNC_POOL_SIZE = Runtime.getRuntime().availableProcessors() * 2;
+    private static final int DEFAULT_BRANCH_ASYNC_QUEUE_SIZE = 5000;
 
     private static final long MAX_COMMIT_RETRY_TIMEOUT = ConfigurationFactory.getInstance().getLong(
             ConfigurationKeys.MAX_COMMIT_RETRY_TIMEOUT, DEFAULT_MAX_COMMIT_RETRY_TIMEOUT);
@@ -196,7 +202,12 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
     private final GlobalStatus[] rollbackingStatuses = new GlobalStatus[] {GlobalStatus.Rollbacking};
     private final GlobalStatus[] committingStatuses = new GlobalStatus[] {GlobalStatus.Committing};
 
-    private final ThreadPoolExecutor branchRemoveExecutor;
+    private final BranchSessionRemover branchSessionRemover;
+
+    /**
+     * The count of the shards the recovery tasks are split into, not sharded if less than 2.
+     */
+    private final int recoveryShardCount;
 
     private RemotingServer remotingServer;
 
@@ -217,16 +228,19 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         this.core = new DefaultCore(remotingServer);
         boolean enableBranchAsyncRemove = CONFIG.getBoolean(
                 ConfigurationKeys.ENABLE_BRANCH_ASYNC_REMOVE, DEFAULT_ENABLE_BRANCH_ASYNC_REMOVE);
-        // create branchRemoveExecutor
+        // create branchSessionRemover
         if (enableBranchAsyncRemove && StoreConfig.getSessionMode() != SessionMode.FILE) {
-            branchRemoveExecutor = new ThreadPoolExecutor(BRANCH_ASYNC_POOL_SIZE, BRANCH_ASYNC_POOL_SIZE,
-                    Integer.MAX_VALUE, TimeUnit.MILLISECONDS,
-                    new ArrayBlockingQueue<>(
-                            CONFIG.getInt(ConfigurationKeys.SESSION_BRANCH_ASYNC_QUEUE_SIZE, DEFAULT_BRANCH_ASYNC_QUEUE_SIZE)
-                    ), new NamedThreadFactory("branchSessionRemove", BRANCH_ASYNC_POOL_SIZE),
-                    new ThreadPoolExecutor.CallerRunsPolicy());
+            branchSessionRemover = new BranchSessionRemover(
+                CONFIG.getInt(ConfigurationKeys.SESSION_BRANCH_ASYNC_QUEUE_SIZE, DEFAULT_BRANCH_ASYNC_QUEUE_SIZE));
         } else {
-            branchRemoveExecutor = null;
+            branchSessionRemover = null;
+        }
+        SessionMode sessionMode = StoreConfig.getSessionMode();
+        if (sessionMode == SessionMode.DB || sessionMode == SessionMode.REDIS) {
+            recoveryShardCount = Math.min(MAX_RECOVERY_SHARD_COUNT,
+                CONFIG.getInt(ConfigurationKeys.RECOVERY_SHARD_COUNT, DEFAULT_RECOVERY_SHARD_COUNT));
+        } else {
+            recoveryShardCount = 0;
         }
     }
 
@@ -284,7 +298,10 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         if (globalSession == null) {
             return;
         }
-        branchRemoveExecutor.execute(new BranchRemoveTask(globalSession, branchSession));
+        if (branchSession == null) {
+            throw new IllegalArgumentException("BranchSession can`t be null!");
+        }
+        branchSessionRemover.remove(globalSession, branchSession);
     }
 
     /**
@@ -296,7 +313,7 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         if (globalSession == null) {
             return;
         }
-        branchRemoveExecutor.execute(new BranchRemoveTask(globalSession));
+        branchSessionRemover.remove(globalSession, null);
     }
 
     @Override
@@ -310,6 +327,27 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         }
     }
 
+    @Override
+    protected void doGlobalLease(GlobalLeaseRequest request, GlobalLeaseResponse response, RpcContext rpcContext)
+            throws TransactionException {
+        XidLeaseManager.Lease lease = core.lease(rpcContext.getApplicationId(), rpcContext.getTransactionServiceGroup(),
+                request.getCount(), request.getTimeout());
+        response.setXid(XID.generateXID(lease.getBeginId()));
+        response.setCount(lease.getCount());
+        response.setLeaseTime(XidLeaseManager.LEASE_TIME);
+        if (LOGGER.isInfoEnabled()) {
+            LOGGER.info("Lease transaction ids applicationId: {},transactionServiceGroup: {},count:{},timeout:{},xid:{}",
+                    rpcContext.getApplicationId(), rpcContext.getTransactionServiceGroup(), lease.getCount(),
+                    request.getTimeout(), response.getXid());
+        }
+    }
+
+    @Override
+    protected void doGlobalLeaseBegin(GlobalLeaseBeginRequest request, GlobalLeaseResponse response,
+                                      RpcContext rpcContext) throws TransactionException {
+        core.leaseBegin(request.getXid(), request.getTransactionName(), request.getBeginTime());
+    }
+
     @Override
     protected void doGlobalCommit(GlobalCommitRequest request, GlobalCommitResponse response, RpcContext rpcContext)
             throws TransactionException {
@@ -347,6 +385,23 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
                         request.getXid(), request.getApplicationData(), request.getLockKey()));
     }
 
+    @Override
+    protected void doBranchRegisterReport(BranchRegisterReportRequest request, BranchRegisterResponse response,
+                                          RpcContext rpcContext) throws TransactionException {
+        MDC.put(RootContext.MDC_KEY_XID, request.getXid());
+        // the reports only refresh the status, a failed one must not fail the registration
+        for (Long branchId : request.getDoneBranchIds()) {
+            try {
+                core.branchReport(request.getBranchType(), request.getXid(), branchId, BranchStatus.PhaseOne_Done,
+                    null);
+            } catch (TransactionException | StoreException e) {
+                LOGGER.warn("Report the branch done in phase one failed, xid = {}, branchId = {}, cause: {}",
+                    request.getXid(), branchId, e.getMessage());
+            }
+        }
+        doBranchRegister(request, response, rpcContext);
+    }
+
     @Override
     protected void doBranchReport(BranchReportRequest request, BranchReportResponse response, RpcContext rpcContext)
             throws TransactionException {
@@ -368,8 +423,19 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
      * Timeout check.
      */
     protected void timeoutCheck() {
+        timeoutCheck(0, 0);
+    }
+
+    /**
+     * Timeout check of a shard.
+     *
+     * @param shard      the shard
+     * @param shardCount the shard count
+     */
+    protected void timeoutCheck(int shard, int shardCount) {
         SessionCondition sessionCondition = new SessionCondition(GlobalStatus.Begin);
         sessionCondition.setLazyLoadBranch(true);
+        sessionCondition.setShard(shard, shardCount);
         Collection<GlobalSession> beginGlobalSessions =
             SessionHolder.getRootSessionManager().findGlobalSessions(sessionCondition);
         if (CollectionUtils.isEmpty(beginGlobalSessions)) {
@@ -412,8 +478,20 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
      * Handle retry rollbacking.
      */
     protected void handleRetryRollbacking() {
+        handleRetryRollbacking(0, 0);
+    }
+
+    /**
+     * Handle retry rollbacking of a shard.
+     *
+     * @param shard      the shard
+     * @param shardCount the shard count
+     */
+    protected void handleRetryRollbacking(int shard, int shardCount) {
         SessionCondition sessionCondition = new SessionCondition(retryRollbackingStatuses);
         sessionCondition.setLazyLoadBranch(true);
+        sessionCondition.setShard(shard, shardCount);
+        sessionCondition.setResumable(true);
         Collection<GlobalSession> rollbackingSessions =
             SessionHolder.getRootSessionManager().findGlobalSessions(sessionCondition);
         if (CollectionUtils.isEmpty(rollbackingSessions)) {
@@ -443,8 +521,20 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
      * Handle retry committing.
      */
     protected void handleRetryCommitting() {
+        handleRetryCommitting(0, 0);
+    }
+
+    /**
+     * Handle retry committing of a shard.
+     *
+     * @param shard      the shard
+     * @param shardCount the shard count
+     */
+    protected void handleRetryCommitting(int shard, int shardCount) {
         SessionCondition retryCommittingSessionCondition = new SessionCondition(retryCommittingStatuses);
         retryCommittingSessionCondition.setLazyLoadBranch(true);
+        retryCommittingSessionCondition.setShard(shard, shardCount);
+        retryCommittingSessionCondition.setResumable(true);
         Collection<GlobalSession> committingSessions =
             SessionHolder.getRootSessionManager().findGlobalSessions(retryCommittingSessionCondition);
         if (CollectionUtils.isEmpty(committingSessions)) {
@@ -476,7 +566,20 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
      * Handle async committing.
      */
     protected void handleAsyncCommitting() {
+        handleAsyncCommitting(0, 0);
+    }
+
+    /**
+     * Handle async committing of a shard.
+     *
+     * @param shard      the shard
+     * @param shardCount the shard count
+     */
+    protected void handleAsyncCommitting(int shard, int shardCount) {
         SessionCondition sessionCondition = new SessionCondition(GlobalStatus.AsyncCommitting);
+        sessionCondition.setLazyLoadBranch(true);
+        sessionCondition.setShard(shard, shardCount);
+        sessionCondition.setResumable(true);
         Collection<GlobalSession> asyncCommittingSessions =
                 SessionHolder.getRootSessionManager().findGlobalSessions(sessionCondition);
         if (CollectionUtils.isEmpty(asyncCommittingSessions)) {
@@ -631,24 +734,45 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
             delay, TimeUnit.MILLISECONDS);
     }
 
+    /**
+     * Execute a recovery task with the distributed lock. In the sharded recovery every shard has its own lock, so
+     * the TCs of the cluster recover the shards in parallel. Each TC begins with a different shard, and the locks
+     * of a crashed TC expire so its shards are taken over by the others.
+     *
+     * @param key  the distributed lock key
+     * @param task the recovery task of a shard
+     */
+    private void shardedLockAndExecute(String key, ShardTask task) {
+        int shardCount = recoveryShardCount;
+        if (shardCount < 2) {
+            SessionHolder.distributedLockAndExecute(key, () -> task.call(0, 0));
+            return;
+        }
+        int offset = (XID.getIpAddressAndPort().hashCode() & Integer.MAX_VALUE) % shardCount;
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (offset + i) % shardCount;
+            SessionHolder.distributedLockAndExecute(key + "_" + shard, () -> task.call(shard, shardCount));
+        }
+    }
+
     /**
      * Init.
      */
     public void init() {
         retryRollbacking.scheduleAtFixedRate(
-            () -> SessionHolder.distributedLockAndExecute(RETRY_ROLLBACKING, this::handleRetryRollbacking), 0,
+            () -> shardedLockAndExecute(RETRY_ROLLBACKING, this::handleRetryRollbacking), 0,
             ROLLBACKING_RETRY_PERIOD, TimeUnit.MILLISECONDS);
 
         retryCommitting.scheduleAtFixedRate(
-            () -> SessionHolder.distributedLockAndExecute(RETRY_COMMITTING, this::handleRetryCommitting), 0,
+            () -> shardedLockAndExecute(RETRY_COMMITTING, this::handleRetryCommitting), 0,
             COMMITTING_RETRY_PERIOD, TimeUnit.MILLISECONDS);
 
         asyncCommitting.scheduleAtFixedRate(
-            () -> SessionHolder.distributedLockAndExecute(ASYNC_COMMITTING, this::handleAsyncCommitting), 0,
+            () -> shardedLockAndExecute(ASYNC_COMMITTING, this::handleAsyncCommitting), 0,
             ASYNC_COMMITTING_RETRY_PERIOD, TimeUnit.MILLISECONDS);
 
         timeoutCheck.scheduleAtFixedRate(
-            () -> SessionHolder.distributedLockAndExecute(TX_TIMEOUT_CHECK, this::timeoutCheck), 0,
+            () -> shardedLockAndExecute(TX_TIMEOUT_CHECK, this::timeoutCheck), 0,
             TIMEOUT_RETRY_PERIOD, TimeUnit.MILLISECONDS);
 
         undoLogDelete.scheduleAtFixedRate(
@@ -688,8 +812,8 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         asyncCommitting.shutdown();
         timeoutCheck.shutdown();
         undoLogDelete.shutdown();
-        if (branchRemoveExecutor != null) {
-            branchRemoveExecutor.shutdown();
+        if (branchSessionRemover != null) {
+            branchSessionRemover.shutdown();
         }
         try {
             retryRollbacking.awaitTermination(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
@@ -697,8 +821,8 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
             asyncCommitting.awaitTermination(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
             timeoutCheck.awaitTermination(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
             undoLogDelete.awaitTermination(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
-            if (branchRemoveExecutor != null) {
-                branchRemoveExecutor.awaitTermination(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS, TimeUnit.MILLISECONDS);
+            if (branchSessionRemover != null) {
+                branchSessionRemover.awaitTermination(TIMED_TASK_SHUTDOWN_MAX_WAIT_MILLS);
             }
         } catch (InterruptedException ignore) {
 
@@ -720,72 +844,17 @@ public class DefaultCoordinator extends AbstractTCInboundHandler implements Tran
         this.remotingServer = remotingServer;
     }
     /**
-     * the task to remove branchSession
+     * the recovery task of a shard
      */
-    static class BranchRemoveTask implements Runnable {
-
-        /**
-         * the globalSession
-         */
-        private final GlobalSession globalSession;
+    @FunctionalInterface
+    private interface ShardTask {
 
         /**
-         * the branchSession
+         * call the task
+         *
+         * @param shard      the shard
+         * @param shardCount the shard count, not sharded if less than 2
          */
-        private final BranchSession branchSession;
-
-        /**
-         * If you use this construct, the task will remove the branchSession provided by the parameter
-         * @param globalSession the globalSession
-         */
-        public BranchRemoveTask(GlobalSession globalSession, BranchSession branchSession) {
-            this.globalSession = globalSession;
-            if (branchSession == null) {
-                throw new IllegalArgumentException("BranchSession can`t be null!");
-            }
-            this.branchSession = branchSession;
-        }
-
-        /**
-         * If you use this construct, the task will remove all branchSession
-         * @param globalSession the globalSession
-         */
-        public BranchRemoveTask(GlobalSession globalSession) {
-            this.globalSession = globalSession;
-            this.branchSession = null;
-        }
-
-        @Override
-        public void run() {
-            if (globalSession == null) {
-                return;
-            }
-            try {
-                MDC.put(RootContext.MDC_KEY_XID, globalSession.getXid());
-                if (branchSession != null) {
-                    doRemove(branchSession);
-                } else {
-                    globalSession.getSortedBranches().parallelStream().forEach(this::doRemove);
-                }
-            } catch (Exception unKnowException) {
-                LOGGER.error("Asynchronous delete branchSession error, xid = {}", globalSession.getXid(), unKnowException);
-            } finally {
-                MDC.remove(RootContext.MDC_KEY_XID);
-            }
-        }
-
-        private void doRemove(BranchSession bt) {
-            try {
-                MDC.put(RootContext.MDC_KEY_BRANCH_ID, String.valueOf(bt.getBranchId()));
-                globalSession.removeBranch(bt);
-                LOGGER.info("Asynchronous delete branchSession successfully, xid = {}, branchId = {}",
-                        globalSession.getXid(), bt.getBranchId());
-            } catch (TransactionException transactionException) {
-                LOGGER.error("Asynchronous delete branchSession error, xid = {}, branchId = {}",
-                        globalSession.getXid(), bt.getBranchId(), transactionException);
-            } finally {
-                MDC.remove(RootContext.MDC_KEY_BRANCH_ID);
-            }
-        }
+        void call(int shard, int shardCount);
     }
 }
@@ -19,10 +19,15 @@ package org.apache.seata.server.coordinator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.seata.common.DefaultValues;
 import org.apache.seata.common.exception.NotSupportYetException;
 import org.apache.seata.common.loader.EnhancedServiceLoader;
+import org.apache.seata.common.thread.NamedThreadFactory;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.context.RootContext;
@@ -32,6 +37,7 @@ import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.core.rpc.RemotingServer;
+import org.apache.seata.server.cluster.raft.RaftServerManager;
 import org.apache.seata.server.metrics.MetricsPublisher;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
@@ -42,6 +48,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+import static org.apache.seata.common.ConfigurationKeys.ENABLE_ONE_PHASE_COMMIT_KEY;
 import static org.apache.seata.common.ConfigurationKeys.ENABLE_PARALLEL_HANDLE_BRANCH_KEY;
 import static org.apache.seata.common.ConfigurationKeys.XAER_NOTA_RETRY_TIMEOUT;
 import static org.apache.seata.server.session.BranchSessionHandler.CONTINUE;
@@ -62,8 +69,27 @@ public class DefaultCore implements Core {
     private static final boolean PARALLEL_HANDLE_BRANCH =
             ConfigurationFactory.getInstance().getBoolean(ENABLE_PARALLEL_HANDLE_BRANCH_KEY, false);
 
+    private static final int ONE_PHASE_COMMIT_NOTIFY_QUEUE_SIZE = 20000;
+
+    private static final LongAdder ONE_PHASE_COMMIT_COUNT = new LongAdder();
+
+    private static final ThreadPoolExecutor ONE_PHASE_COMMIT_NOTIFIER;
+
+    static {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ONE_PHASE_COMMIT_NOTIFIER = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(ONE_PHASE_COMMIT_NOTIFY_QUEUE_SIZE),
+            new NamedThreadFactory("OnePhaseCommitNotify", threads), new ThreadPoolExecutor.CallerRunsPolicy());
+        ONE_PHASE_COMMIT_NOTIFIER.allowCoreThreadTimeOut(true);
+    }
+
     private static volatile DefaultCore instance;
 
+    private final XidLeaseManager xidLeaseManager = new XidLeaseManager();
+
+    private volatile boolean onePhaseCommit = ConfigurationFactory.getInstance()
+        .getBoolean(ENABLE_ONE_PHASE_COMMIT_KEY, DefaultValues.DEFAULT_ENABLE_ONE_PHASE_COMMIT);
+
     /**
      * get the Default core.
      *
@@ -92,6 +118,15 @@ public class DefaultCore implements Core {
         return core;
     }
 
+    /**
+     * only for test
+     *
+     * @param onePhaseCommit whether to commit the global transactions of a single AT branch in one phase
+     */
+    void setOnePhaseCommit(boolean onePhaseCommit) {
+        this.onePhaseCommit = onePhaseCommit;
+    }
+
     /**
      * only for mock
      *
@@ -105,6 +140,7 @@ public class DefaultCore implements Core {
     @Override
     public Long branchRegister(BranchType branchType, String resourceId, String clientId, String xid,
                                String applicationData, String lockKeys) throws TransactionException {
+        xidLeaseManager.materialize(xid);
         return getCore(branchType).branchRegister(branchType, resourceId, clientId, xid,
             applicationData, lockKeys);
     }
@@ -205,11 +241,41 @@ public class DefaultCore implements Core {
 
 
 
+    /**
+     * Lease a range of transaction ids to the TM.
+     *
+     * @param applicationId           the application id
+     * @param transactionServiceGroup the transaction service group
+     * @param count                   the count of the transaction ids
+     * @param timeout                 the timeout of the global transactions
+     * @return the lease
+     * @throws TransactionException the transaction exception
+     */
+    public XidLeaseManager.Lease lease(String applicationId, String transactionServiceGroup, int count, int timeout)
+        throws TransactionException {
+        if (RaftServerManager.isRaftMode()) {
+            throw new TransactionException("Transaction ids are not leased in raft mode");
+        }
+        return xidLeaseManager.lease(applicationId, transactionServiceGroup, count, timeout);
+    }
+
+    /**
+     * Record the name and the begin time of a global transaction the TM began with a leased xid.
+     *
+     * @param xid             the leased xid
+     * @param transactionName the transaction name
+     * @param beginTime       the time the TM began the global transaction at
+     */
+    public void leaseBegin(String xid, String transactionName, long beginTime) {
+        xidLeaseManager.begin(xid, transactionName, beginTime);
+    }
+
     @Override
     public GlobalStatus commit(String xid) throws TransactionException {
         GlobalSession globalSession = SessionHolder.findGlobalSession(xid);
         if (globalSession == null) {
-            return GlobalStatus.Finished;
+            // a leased xid without any branch ends here
+            return xidLeaseManager.fence(xid) ? GlobalStatus.Committed : GlobalStatus.Finished;
         }
 
         if (globalSession.isTimeout()) {
@@ -224,7 +290,9 @@ public class DefaultCore implements Core {
                 // Highlight: Firstly, close the session, then no more branch can be registered.
                 globalSession.close();
                 if (globalSession.canBeCommittedAsync()) {
-                    globalSession.asyncCommit();
+                    if (!tryOnePhaseCommit(globalSession)) {
+                        globalSession.asyncCommit();
+                    }
                     MetricsPublisher.postSessionDoneEvent(globalSession, GlobalStatus.Committed, false, false);
                 } else {
                     globalSession.changeGlobalStatus(GlobalStatus.Committing);
@@ -250,6 +318,60 @@ public class DefaultCore implements Core {
         }
     }
 
+    /**
+     * End the global transaction with a single AT branch at once, the AT branch has been committed locally in phase
+     * one and only its undo log is left to delete. The session is removed from the store first, without the
+     * AsyncCommitting status and the async committing retry, then the branch commit is notified to the RM in the
+     * background. If the notification is lost, the undo log is purged by the undo log deletion of the TC later.
+     *
+     * @param globalSession the global session, closed and locked
+     * @return true if the global transaction is ended
+     */
+    private boolean tryOnePhaseCommit(GlobalSession globalSession) {
+        if (!onePhaseCommit || RaftServerManager.isRaftMode()) {
+            return false;
+        }
+        List<BranchSession> branchSessions = globalSession.getBranchSessions();
+        if (branchSessions.size() != 1) {
+            return false;
+        }
+        BranchSession branchSession = branchSessions.get(0);
+        if (branchSession.getBranchType() != BranchType.AT || branchSession.getStatus() == BranchStatus.PhaseOne_Failed) {
+            return false;
+        }
+        try {
+            SessionHelper.removeBranch(globalSession, branchSession, false);
+            // the session is removed right after, no need to persist the committed status
+            globalSession.setStatus(GlobalStatus.Committed);
+            globalSession.end();
+        } catch (TransactionException e) {
+            LOGGER.warn("One phase commit failed, fall back to async commit, xid = {}, cause: {}",
+                globalSession.getXid(), e.getMessage());
+            globalSession.setStatus(GlobalStatus.Begin);
+            return false;
+        }
+        ONE_PHASE_COMMIT_COUNT.increment();
+        ONE_PHASE_COMMIT_NOTIFIER.execute(() -> {
+            try {
+                getCore(BranchType.AT).branchCommit(globalSession, branchSession);
+            } catch (Exception e) {
+                LOGGER.warn("Notify the one phase committed branch failed, xid = {} branchId = {}, cause: {}",
+                    globalSession.getXid(), branchSession.getBranchId(), e.getMessage());
+            }
+        });
+        LOGGER.info("Committing global transaction in one phase is successfully done, xid = {}.", globalSession.getXid());
+        return true;
+    }
+
+    /**
+     * Get the number of the global transactions committed in one phase.
+     *
+     * @return the one phase commit count
+     */
+    public static long getOnePhaseCommitCount() {
+        return ONE_PHASE_COMMIT_COUNT.sum();
+    }
+
     @Override
     public boolean doGlobalCommit(GlobalSession globalSession, boolean retrying) throws TransactionException {
         boolean success = true;
@@ -350,7 +472,7 @@ public class DefaultCore implements Core {
     public GlobalStatus rollback(String xid) throws TransactionException {
         GlobalSession globalSession = SessionHolder.findGlobalSession(xid);
         if (globalSession == null) {
-            return GlobalStatus.Finished;
+            return xidLeaseManager.fence(xid) ? GlobalStatus.Rollbacked : GlobalStatus.Finished;
         }
         // just lock changeStatus
         boolean shouldRollBack = SessionHolder.lockAndExecute(globalSession, () -> {
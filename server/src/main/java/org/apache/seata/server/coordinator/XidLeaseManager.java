@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.apache.seata.common.XID;
+import org.apache.seata.common.lock.ResourceLock;
+import org.apache.seata.common.util.UUIDGenerator;
+import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.server.metrics.MetricsPublisher;
+import org.apache.seata.server.session.GlobalSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The leases of the transaction ids.
+ * <p>
+ * A TM leases a range of transaction ids and generates the xids of its global transactions locally. The global
+ * session of a leased xid is only created when the TC meets the xid for the first time, and a global transaction
+ * without any branch is ended without creating it. Every leased id is used once at most, and the ids not used
+ * before the lease expired, or leased before a restart of this TC, are fenced.
+ * <p>
+ * The TM reports the name and the begin time of each leased global transaction without waiting for the reply, they
+ * are recorded on the lease until the global session is created with them.
+ */
+public class XidLeaseManager {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XidLeaseManager.class);
+
+    /**
+     * The transaction name of the global sessions created before the TM reported the begin of the leased xid.
+     */
+    public static final String LEASED_TRANSACTION_NAME = "leased-transaction";
+
+    /**
+     * The max count of the transaction ids in one lease.
+     */
+    public static final int MAX_LEASE_COUNT = 1000;
+
+    /**
+     * The milliseconds in which the TM could begin global transactions with the leased ids.
+     */
+    public static final int LEASE_TIME = 30000;
+
+    /**
+     * The extra milliseconds the lease is kept after the global transactions began in it timed out.
+     */
+    private static final int FENCE_DELAY = 10000;
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final ConcurrentSkipListMap<Long, Lease> leases = new ConcurrentSkipListMap<>();
+
+    private final ResourceLock[] locks = new ResourceLock[LOCK_STRIPES];
+
+    public XidLeaseManager() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ResourceLock();
+        }
+    }
+
+    /**
+     * Lease a range of transaction ids.
+     *
+     * @param applicationId           the application id
+     * @param transactionServiceGroup the transaction service group
+     * @param count                   the count of the ids
+     * @param timeout                 the timeout of the global transactions
+     * @return the lease
+     */
+    public Lease lease(String applicationId, String transactionServiceGroup, int count, int timeout) {
+        removeExpired();
+        count = Math.max(1, Math.min(count, MAX_LEASE_COUNT));
+        Lease lease = new Lease(UUIDGenerator.generateUUIDs(count), count, applicationId, transactionServiceGroup,
+            timeout, System.currentTimeMillis() + LEASE_TIME + timeout + FENCE_DELAY);
+        leases.put(lease.beginId, lease);
+        return lease;
+    }
+
+    /**
+     * Create the global session of a leased xid met for the first time.
+     *
+     * @param xid the xid
+     * @return the created global session, null if the xid is not leased or has been used
+     * @throws TransactionException the transaction exception
+     */
+    public GlobalSession materialize(String xid) throws TransactionException {
+        Lease lease = getLease(xid);
+        if (lease == null) {
+            return null;
+        }
+        long transactionId = XID.getTransactionId(xid);
+        // the concurrent requests of the same xid wait here until the global session is created
+        try (ResourceLock ignored = locks[(int)(transactionId & (LOCK_STRIPES - 1))].obtain()) {
+            if (!lease.use(transactionId)) {
+                return null;
+            }
+            Begin begin = lease.begins.remove(transactionId);
+            long now = System.currentTimeMillis();
+            GlobalSession session = GlobalSession.createGlobalSession(lease.applicationId,
+                lease.transactionServiceGroup, begin != null ? begin.transactionName : LEASED_TRANSACTION_NAME,
+                lease.timeout);
+            session.setTransactionId(transactionId);
+            session.setXid(xid);
+            // the begin time reported by the TM, never later than now for the clock drift
+            session.begin(begin != null ? Math.min(begin.beginTime, now) : now);
+            MetricsPublisher.postSessionDoingEvent(session, false);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Create the global session of the leased xid: {}", xid);
+            }
+            return session;
+        }
+    }
+
+    /**
+     * Record the name and the begin time of a global transaction the TM began with a leased xid, the report arrived
+     * after the global session was created is ignored.
+     *
+     * @param xid             the xid
+     * @param transactionName the transaction name
+     * @param beginTime       the time the TM began the global transaction at
+     */
+    public void begin(String xid, String transactionName, long beginTime) {
+        Lease lease = getLease(xid);
+        if (lease == null) {
+            return;
+        }
+        long transactionId = XID.getTransactionId(xid);
+        try (ResourceLock ignored = locks[(int)(transactionId & (LOCK_STRIPES - 1))].obtain()) {
+            if (!lease.isUsed(transactionId)) {
+                lease.begins.put(transactionId, new Begin(transactionName, beginTime));
+            }
+        }
+    }
+
+    /**
+     * End a leased xid without any global session created.
+     *
+     * @param xid the xid
+     * @return true if the xid is leased and never used before
+     */
+    public boolean fence(String xid) {
+        Lease lease = getLease(xid);
+        if (lease == null) {
+            return false;
+        }
+        long transactionId = XID.getTransactionId(xid);
+        try (ResourceLock ignored = locks[(int)(transactionId & (LOCK_STRIPES - 1))].obtain()) {
+            lease.begins.remove(transactionId);
+            return lease.use(transactionId);
+        }
+    }
+
+    private Lease getLease(String xid) {
+        if (leases.isEmpty() || xid == null || !xid.startsWith(XID.getIpAddressAndPort())) {
+            return null;
+        }
+        long transactionId;
+        try {
+            transactionId = XID.getTransactionId(xid);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        Map.Entry<Long, Lease> entry = leases.floorEntry(transactionId);
+        if (entry == null || !entry.getValue().contains(transactionId)) {
+            return null;
+        }
+        return entry.getValue();
+    }
+
+    private void removeExpired() {
+        long now = System.currentTimeMillis();
+        leases.values().removeIf(lease -> lease.fenceTime < now);
+    }
+
+    /**
+     * The lease of a range of transaction ids.
+     */
+    public static class Lease {
+
+        private final long beginId;
+
+        private final int count;
+
+        private final String applicationId;
+
+        private final String transactionServiceGroup;
+
+        private final int timeout;
+
+        private final long fenceTime;
+
+        private final BitSet used;
+
+        private final Map<Long, Begin> begins = new ConcurrentHashMap<>();
+
+        private final ResourceLock resourceLock = new ResourceLock();
+
+        Lease(long beginId, int count, String applicationId, String transactionServiceGroup, int timeout,
+              long fenceTime) {
+            this.beginId = beginId;
+            this.count = count;
+            this.applicationId = applicationId;
+            this.transactionServiceGroup = transactionServiceGroup;
+            this.timeout = timeout;
+            this.fenceTime = fenceTime;
+            this.used = new BitSet(count);
+        }
+
+        boolean contains(long transactionId) {
+            return transactionId >= beginId && transactionId < beginId + count;
+        }
+
+        boolean isUsed(long transactionId) {
+            try (ResourceLock ignored = resourceLock.obtain()) {
+                return used.get((int)(transactionId - beginId));
+            }
+        }
+
+        boolean use(long transactionId) {
+            int index = (int)(transactionId - beginId);
+            try (ResourceLock ignored = resourceLock.obtain()) {
+                if (System.currentTimeMillis() > fenceTime || used.get(index)) {
+                    return false;
+                }
+                used.set(index);
+                return true;
+            }
+        }
+
+        public long getBeginId() {
+            return beginId;
+        }
+
+        public int getCount() {
+            return count;
+        }
+    }
+
+    /**
+     * The begin of a global transaction reported by the TM.
+     */
+    private static class Begin {
+
+        private final String transactionName;
+
+        private final long beginTime;
+
+        Begin(String transactionName, long beginTime) {
+            this.transactionName = transactionName;
+            this.beginTime = beginTime;
+        }
+    }
+}
@@ -41,6 +41,12 @@ public abstract class AbstractLockManager implements LockManager {
      */
     protected static final Logger LOGGER = LoggerFactory.getLogger(AbstractLockManager.class);
 
+    private static final char TABLE_SEPARATOR = ';';
+
+    private static final char TABLE_PK_SEPARATOR = ':';
+
+    private static final char PK_SEPARATOR = ',';
+
     @Override
     public boolean acquireLock(BranchSession branchSession) throws TransactionException {
         return acquireLock(branchSession, true, false);
@@ -158,37 +164,75 @@ public abstract class AbstractLockManager implements LockManager {
         Long branchID) {
         List<RowLock> locks = new ArrayList<>();
 
-        String[] tableGroupedLockKeys = lockKey.split(";");
-        for (String tableGroupedLockKey : tableGroupedLockKeys) {
-            int idx = tableGroupedLockKey.indexOf(":");
-            if (idx < 0) {
-                return locks;
+        // scan the lock key "table1:pk1,pk2;table2:pk3" in place, only the table names and pks are copied out
+        int end = lockKey.length();
+        while (end > 0 && lockKey.charAt(end - 1) == TABLE_SEPARATOR) {
+            end--;
+        }
+        int groupStart = 0;
+        while (groupStart < end) {
+            int groupEnd = lockKey.indexOf(TABLE_SEPARATOR, groupStart);
+            if (groupEnd < 0 || groupEnd > end) {
+                groupEnd = end;
             }
-            String tableName = tableGroupedLockKey.substring(0, idx);
-            String mergedPKs = tableGroupedLockKey.substring(idx + 1);
-            if (StringUtils.isBlank(mergedPKs)) {
+            int idx = lockKey.indexOf(TABLE_PK_SEPARATOR, groupStart);
+            if (idx < 0 || idx >= groupEnd) {
                 return locks;
             }
-            String[] pks = mergedPKs.split(",");
-            if (pks == null || pks.length == 0) {
+            int pksStart = idx + 1;
+            if (!hasPks(lockKey, pksStart, groupEnd)) {
                 return locks;
             }
-            for (String pk : pks) {
-                if (StringUtils.isNotBlank(pk)) {
+            String tableName = lockKey.substring(groupStart, idx);
+            int pkStart = pksStart;
+            while (pkStart <= groupEnd) {
+                int pkEnd = lockKey.indexOf(PK_SEPARATOR, pkStart);
+                if (pkEnd < 0 || pkEnd > groupEnd) {
+                    pkEnd = groupEnd;
+                }
+                if (!isBlank(lockKey, pkStart, pkEnd)) {
                     RowLock rowLock = new RowLock();
                     rowLock.setXid(xid);
                     rowLock.setTransactionId(transactionId);
                     rowLock.setBranchId(branchID);
                     rowLock.setTableName(tableName);
-                    rowLock.setPk(pk);
+                    rowLock.setPk(lockKey.substring(pkStart, pkEnd));
                     rowLock.setResourceId(resourceId);
                     locks.add(rowLock);
                 }
+                pkStart = pkEnd + 1;
             }
+            groupStart = groupEnd + 1;
         }
         return locks;
     }
-    
+
+    /**
+     * Whether the merged pks of a table are neither blank nor only separators.
+     */
+    private static boolean hasPks(String lockKey, int start, int end) {
+        boolean notBlank = false;
+        boolean notOnlySeparators = false;
+        for (int i = start; i < end; i++) {
+            char c = lockKey.charAt(i);
+            notBlank |= !Character.isWhitespace(c);
+            notOnlySeparators |= c != PK_SEPARATOR;
+            if (notBlank && notOnlySeparators) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBlank(String lockKey, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(lockKey.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public void updateLockStatus(String xid, LockStatus lockStatus) {
         this.getLocker().updateLockStatus(xid, lockStatus);
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.seata.common.util.CollectionUtils;
+import org.apache.seata.config.Configuration;
+import org.apache.seata.config.ConfigurationFactory;
+import org.apache.seata.core.constants.ConfigurationKeys;
+import org.apache.seata.core.lock.AbstractLocker;
+import org.apache.seata.core.lock.Locker;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.model.LockStatus;
+
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_LOCK_FRONT_CACHE_EXPIRE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_LOCK_FRONT_CACHE_SIZE;
+
+/**
+ * The locker caching the row locks acquired through this TC in front of the db or redis locker, to fail the
+ * conflicting acquisitions fast.
+ * <p>
+ * The locker behind is still the source of truth, a lock is only ever granted by it, the re-entrant acquisitions of
+ * the same global transaction go to it as well. A cached row lock is only used for a short time to fail the
+ * acquisitions of another global transaction without calling the locker behind. Every release or status update of a
+ * global transaction ends the ownership epoch of it before calling the locker behind, which invalidates all its cached
+ * row locks at once. The releases done by the other TC nodes are not seen here, a row lock released by them may still
+ * be reported as a conflict until the cached one expires, the branch retries it as any other lock conflict.
+ */
+public class CachedLocker extends AbstractLocker {
+
+    private final Locker locker;
+
+    private final int maxSize;
+
+    private final long expireMillis;
+
+    private final ConcurrentHashMap<String, CachedRowLock> rowLocks = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Owner> owners = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates a new cached locker.
+     *
+     * @param locker       the locker behind
+     * @param maxSize      the max count of the cached row locks
+     * @param expireMillis the milliseconds a cached row lock is trusted
+     */
+    public CachedLocker(Locker locker, int maxSize, long expireMillis) {
+        this.locker = locker;
+        this.maxSize = maxSize;
+        this.expireMillis = expireMillis;
+    }
+
+    /**
+     * Wrap the locker with the cache if it is enabled.
+     *
+     * @param locker the locker
+     * @return the cached locker, or the locker itself if the cache is disabled
+     */
+    public static Locker wrap(Locker locker) {
+        Configuration config = ConfigurationFactory.getInstance();
+        int maxSize = config.getInt(ConfigurationKeys.STORE_LOCK_FRONT_CACHE_SIZE, DEFAULT_STORE_LOCK_FRONT_CACHE_SIZE);
+        int expireMillis =
+            config.getInt(ConfigurationKeys.STORE_LOCK_FRONT_CACHE_EXPIRE, DEFAULT_STORE_LOCK_FRONT_CACHE_EXPIRE);
+        if (maxSize <= 0 || expireMillis <= 0) {
+            return locker;
+        }
+        return new CachedLocker(locker, maxSize, expireMillis);
+    }
+
+    @Override
+    public boolean acquireLock(List<RowLock> rowLock) {
+        return acquireLock(rowLock, true, false);
+    }
+
+    @Override
+    public boolean acquireLock(List<RowLock> rowLock, boolean autoCommit, boolean skipCheckLock) {
+        if (CollectionUtils.isEmpty(rowLock)) {
+            return locker.acquireLock(rowLock, autoCommit, skipCheckLock);
+        }
+        String xid = rowLock.get(0).getXid();
+        List<String> rowKeys = getRowKeys(rowLock);
+        if (!skipCheckLock && isConflicting(xid, rowKeys)) {
+            return false;
+        }
+        // take the epoch before acquiring, a release meanwhile keeps the result out of the cache
+        Owner owner = owners.computeIfAbsent(xid, Owner::new);
+        owner.touch(System.currentTimeMillis() + expireMillis);
+        boolean locked = locker.acquireLock(rowLock, autoCommit, skipCheckLock);
+        if (locked) {
+            cache(owner, rowKeys);
+        }
+        return locked;
+    }
+
+    @Override
+    public boolean releaseLock(List<RowLock> rowLock) {
+        if (CollectionUtils.isNotEmpty(rowLock)) {
+            rowLock.stream().map(RowLock::getXid).distinct().forEach(this::invalidate);
+        }
+        return locker.releaseLock(rowLock);
+    }
+
+    @Override
+    public boolean releaseLock(String xid, Long branchId) {
+        invalidate(xid);
+        return locker.releaseLock(xid, branchId);
+    }
+
+    @Override
+    public boolean releaseLock(String xid) {
+        invalidate(xid);
+        return locker.releaseLock(xid);
+    }
+
+    @Override
+    public boolean isLockable(List<RowLock> rowLock) {
+        if (CollectionUtils.isEmpty(rowLock)) {
+            return locker.isLockable(rowLock);
+        }
+        return !isConflicting(rowLock.get(0).getXid(), getRowKeys(rowLock)) && locker.isLockable(rowLock);
+    }
+
+    @Override
+    public void cleanAllLocks() {
+        owners.values().forEach(Owner::invalidate);
+        owners.clear();
+        rowLocks.clear();
+        locker.cleanAllLocks();
+    }
+
+    @Override
+    public void updateLockStatus(String xid, LockStatus lockStatus) {
+        invalidate(xid);
+        locker.updateLockStatus(xid, lockStatus);
+    }
+
+    /**
+     * Look up the row keys in the cache.
+     *
+     * @param xid     the xid acquiring the row keys
+     * @param rowKeys the row keys
+     * @return true if any of them is held by another xid
+     */
+    private boolean isConflicting(String xid, List<String> rowKeys) {
+        long now = System.currentTimeMillis();
+        for (String rowKey : rowKeys) {
+            CachedRowLock cached = rowLocks.get(rowKey);
+            if (cached == null) {
+                continue;
+            }
+            if (!cached.isValid(now)) {
+                rowLocks.remove(rowKey, cached);
+            } else if (!cached.owner.xid.equals(xid)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void cache(Owner owner, List<String> rowKeys) {
+        long now = System.currentTimeMillis();
+        if (rowLocks.size() + rowKeys.size() > maxSize || owners.size() > maxSize) {
+            purge(now);
+            if (rowLocks.size() + rowKeys.size() > maxSize) {
+                return;
+            }
+        }
+        if (!owner.valid) {
+            return;
+        }
+        long expireTime = now + expireMillis;
+        owner.touch(expireTime);
+        CachedRowLock cached = new CachedRowLock(owner, expireTime);
+        for (String rowKey : rowKeys) {
+            rowLocks.put(rowKey, cached);
+        }
+    }
+
+    private void purge(long now) {
+        rowLocks.values().removeIf(cached -> !cached.isValid(now));
+        owners.values().removeIf(owner -> owner.expireTime < now);
+    }
+
+    private void invalidate(String xid) {
+        Owner owner = owners.remove(xid);
+        if (owner != null) {
+            owner.invalidate();
+        }
+    }
+
+    private List<String> getRowKeys(List<RowLock> rowLock) {
+        List<String> rowKeys = new ArrayList<>(rowLock.size());
+        for (RowLock lock : rowLock) {
+            rowKeys.add(getRowKey(lock.getResourceId(), lock.getTableName(), lock.getPk()));
+        }
+        return rowKeys;
+    }
+
+    /**
+     * The ownership epoch of a global transaction.
+     */
+    private static final class Owner {
+
+        private final String xid;
+
+        private volatile boolean valid = true;
+
+        private volatile long expireTime;
+
+        Owner(String xid) {
+            this.xid = xid;
+        }
+
+        void touch(long expireTime) {
+            this.expireTime = Math.max(this.expireTime, expireTime);
+        }
+
+        void invalidate() {
+            valid = false;
+        }
+    }
+
+    private static final class CachedRowLock {
+
+        private final Owner owner;
+
+        private final long expireTime;
+
+        CachedRowLock(Owner owner, long expireTime) {
+            this.owner = owner;
+            this.expireTime = expireTime;
+        }
+
+        boolean isValid(long now) {
+            return owner.valid && now < expireTime;
+        }
+    }
+}
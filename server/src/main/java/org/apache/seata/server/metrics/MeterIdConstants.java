@@ -113,4 +113,20 @@ public interface MeterIdConstants {
     Id SUMMARY_RATE_LIMIT = new Id(IdConstants.SEATA_RATE_LIMIT)
             .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
             .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_SUMMARY);
+
+    Id SUMMARY_STORE_BATCH_SIZE = new Id(IdConstants.SEATA_STORE_BATCH)
+            .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+            .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_SUMMARY);
+
+    Id TIMER_STORE_BATCH_COMMIT = new Id(IdConstants.SEATA_STORE_BATCH)
+            .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+            .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_TIMER);
+
+    Id GAUGE_BRANCH_REMOVE_QUEUE = new Id(IdConstants.SEATA_BRANCH_REMOVE)
+            .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+            .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_GAUGE);
+
+    Id TIMER_BRANCH_REMOVE_LAG = new Id(IdConstants.SEATA_BRANCH_REMOVE)
+            .withTag(IdConstants.ROLE_KEY, IdConstants.ROLE_VALUE_TC)
+            .withTag(IdConstants.METER_KEY, IdConstants.METER_VALUE_TIMER);
 }
@@ -21,7 +21,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
@@ -32,7 +31,6 @@ import org.apache.seata.common.Constants;
 import org.apache.seata.common.DefaultValues;
 import org.apache.seata.common.XID;
 import org.apache.seata.common.lock.ResourceLock;
-import org.apache.seata.common.util.BufferUtils;
 import org.apache.seata.common.util.StringUtils;
 import org.apache.seata.common.util.UUIDGenerator;
 import org.apache.seata.config.ConfigurationFactory;
@@ -64,9 +62,6 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
 
     private static final int MAX_GLOBAL_SESSION_SIZE = StoreConfig.getMaxGlobalSessionSize();
 
-    private static ThreadLocal<ByteBuffer> byteBufferThreadLocal = ThreadLocal.withInitial(() -> ByteBuffer.allocate(
-        MAX_GLOBAL_SESSION_SIZE));
-
     /**
      * ThreadLocal should be optimize.
      * It is tied to the current threading model. threadlocal's public set method does nothing to protect it from abuse.
@@ -212,8 +207,19 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
 
     @Override
     public void begin() throws TransactionException {
+        begin(System.currentTimeMillis());
+    }
+
+    /**
+     * Begin the global session at the given time, e.g. the time the TM began a global transaction with a leased
+     * xid at.
+     *
+     * @param beginTime the begin time
+     * @throws TransactionException the transaction exception
+     */
+    public void begin(long beginTime) throws TransactionException {
         this.status = GlobalStatus.Begin;
-        this.beginTime = System.currentTimeMillis();
+        this.beginTime = beginTime;
         this.active = true;
         SessionHolder.getRootSessionManager().onBegin(this);
         for (SessionLifecycleListener lifecycleListener : lifecycleListeners) {
@@ -326,9 +332,7 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
         if (branchSessions == null && isLazyLoadBranch()) {
             synchronized (this) {
                 if (branchSessions == null && isLazyLoadBranch()) {
-                    branchSessions = new ArrayList<>();
-                    Optional.ofNullable(SessionHolder.getRootSessionManager().findGlobalSession(xid, true))
-                        .ifPresent(globalSession -> branchSessions.addAll(globalSession.getBranchSessions()));
+                    branchSessions = new ArrayList<>(SessionHolder.getRootSessionManager().findBranchSessions(xid));
                 }
             }
         }
@@ -619,9 +623,8 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
             throw new RuntimeException("global session size exceeded, size : " + size + " byte, maxGlobalSessionSize : " +
                 MAX_GLOBAL_SESSION_SIZE + " byte");
         }
-        ByteBuffer byteBuffer = byteBufferThreadLocal.get();
-        //recycle
-        byteBuffer.clear();
+        // allocated with the calculated size, no buffer is held by the thread
+        ByteBuffer byteBuffer = ByteBuffer.allocate(size);
 
         byteBuffer.putLong(transactionId);
         byteBuffer.putInt(timeout);
@@ -657,10 +660,7 @@ public class GlobalSession implements SessionLifecycle, SessionStorable {
         }
         byteBuffer.putLong(beginTime);
         byteBuffer.put((byte)status.getCode());
-        BufferUtils.flip(byteBuffer);
-        byte[] result = new byte[byteBuffer.limit()];
-        byteBuffer.get(result);
-        return result;
+        return byteBuffer.array();
     }
 
     private int calGlobalSessionSize(byte[] byApplicationIdBytes, byte[] byServiceGroupBytes, byte[] byTxNameBytes,
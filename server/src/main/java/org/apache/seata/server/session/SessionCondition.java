@@ -29,6 +29,10 @@ public class SessionCondition {
     private GlobalStatus[] statuses;
     private Long overTimeAliveMills;
     private boolean lazyLoadBranch;
+    private int shard;
+    private int shardCount;
+
+    private boolean resumable;
 
     /**
      * Instantiates a new Session condition.
@@ -142,4 +146,55 @@ public class SessionCondition {
         this.lazyLoadBranch = lazyLoadBranch;
     }
 
+    public int getShard() {
+        return shard;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Only match the global sessions whose transaction id modulo the shard count equals the shard.
+     *
+     * @param shard      the shard
+     * @param shardCount the shard count, not sharded if less than 2
+     */
+    public void setShard(int shard, int shardCount) {
+        this.shard = shard;
+        this.shardCount = shardCount;
+    }
+
+    /**
+     * Whether the condition is sharded.
+     *
+     * @return true if sharded
+     */
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public boolean isResumable() {
+        return resumable;
+    }
+
+    /**
+     * Read the sessions page by page, every read goes on from where the last read of the same statuses and shard
+     * stopped, and starts over after the last page. The stores without the pagination ignore it.
+     *
+     * @param resumable the resumable
+     */
+    public void setResumable(boolean resumable) {
+        this.resumable = resumable;
+    }
+
+    /**
+     * Whether the transaction id belongs to the shard of the condition.
+     *
+     * @param transactionId the transaction id
+     * @return true if not sharded or the transaction id belongs to the shard
+     */
+    public boolean matchShard(long transactionId) {
+        return !isSharded() || transactionId % shardCount == shard;
+    }
 }
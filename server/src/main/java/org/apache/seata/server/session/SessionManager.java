@@ -17,7 +17,9 @@
 package org.apache.seata.server.session;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.GlobalStatus;
@@ -98,6 +100,22 @@ public interface SessionManager extends Disposable {
      */
     void removeBranchSession(GlobalSession globalSession, BranchSession session) throws TransactionException;
 
+    /**
+     * Remove the branch sessions of the global sessions from the global sessions and the store, in one store batch if
+     * the store supports.
+     *
+     * @param branchSessions the branch sessions of each global session
+     * @throws TransactionException the transaction exception
+     */
+    default void removeBranchSessions(Map<GlobalSession, List<BranchSession>> branchSessions)
+        throws TransactionException {
+        for (Map.Entry<GlobalSession, List<BranchSession>> entry : branchSessions.entrySet()) {
+            for (BranchSession branchSession : entry.getValue()) {
+                entry.getKey().removeBranch(branchSession);
+            }
+        }
+    }
+
     /**
      * All sessions collection.
      *
@@ -113,6 +131,17 @@ public interface SessionManager extends Disposable {
      */
     List<GlobalSession> findGlobalSessions(SessionCondition condition);
 
+    /**
+     * Find the branch sessions of a global session, without reading the global session again.
+     *
+     * @param xid the xid
+     * @return the branch sessions
+     */
+    default List<BranchSession> findBranchSessions(String xid) {
+        GlobalSession globalSession = findGlobalSession(xid, true);
+        return globalSession != null ? globalSession.getBranchSessions() : Collections.emptyList();
+    }
+
     /**
      * lock and execute
      *
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.metrics.registry.Registry;
+import org.apache.seata.server.metrics.MeterIdConstants;
+import org.apache.seata.server.metrics.MetricsManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write the sessions to the store in batches.
+ * <p>
+ * The writes of the concurrent requests are queued, and the flush threads drain the queue into batches written with
+ * one round trip. The callers are released after their batch is written. A write arriving after the shutdown is
+ * written by the caller itself, and the writes queued before it are flushed by the shutdown, so no write is left in
+ * the queue. A caller waits at most the write timeout for its batch.
+ *
+ * @param <T> the type of the write
+ */
+public abstract class AbstractSessionBatchWriter<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractSessionBatchWriter.class);
+
+    /**
+     * The default max milliseconds a caller waits for its batch to be written.
+     */
+    public static final long DEFAULT_WRITE_TIMEOUT_MILLIS = 30000;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final int batchSize;
+
+    private final long writeTimeoutMillis;
+
+    private final BlockingQueue<PendingWrite<T>> queue = new LinkedBlockingQueue<>();
+
+    private final Thread[] flushThreads;
+
+    private final Object lock = new Object();
+
+    private volatile boolean running = true;
+
+    /**
+     * Instantiates a new session batch writer and starts the flush threads.
+     *
+     * @param threadPrefix       the name prefix of the flush threads
+     * @param batchSize          the max count of the writes in a batch
+     * @param threads            the count of the flush threads
+     * @param writeTimeoutMillis the max milliseconds a caller waits for its batch
+     */
+    protected AbstractSessionBatchWriter(String threadPrefix, int batchSize, int threads, long writeTimeoutMillis) {
+        this.batchSize = Math.max(1, batchSize);
+        this.writeTimeoutMillis = writeTimeoutMillis;
+        this.flushThreads = new Thread[Math.max(1, threads)];
+        NamedThreadFactory threadFactory = new NamedThreadFactory(threadPrefix, flushThreads.length, true);
+        for (int i = 0; i < flushThreads.length; i++) {
+            flushThreads[i] = threadFactory.newThread(this::flushLoop);
+            flushThreads[i].start();
+        }
+    }
+
+    /**
+     * Write and wait until the batch it joined is written.
+     *
+     * @param write the write
+     * @return the result of the write
+     */
+    public boolean write(T write) {
+        PendingWrite<T> pending = new PendingWrite<>(write);
+        boolean queued;
+        synchronized (lock) {
+            // checked under the lock of the shutdown, so a queued write is always flushed by a thread
+            queued = running && queue.offer(pending);
+        }
+        if (!queued) {
+            flushSafely(singletonBatch(pending));
+        }
+        try {
+            return pending.result.get(writeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw toException(e);
+        } catch (TimeoutException e) {
+            throw toException(new TimeoutException("the session batch is not written in " + writeTimeoutMillis + "ms"));
+        } catch (ExecutionException e) {
+            throw toException(e.getCause());
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingWrite<T>> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                PendingWrite<T> first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flushSafely(batch);
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushSafely(List<PendingWrite<T>> batch) {
+        try {
+            flush(batch);
+        } catch (Throwable t) {
+            LOGGER.error("Flush the session batch failed: {}", t.getMessage(), t);
+            batch.forEach(write -> write.result.completeExceptionally(t));
+        }
+    }
+
+    private List<PendingWrite<T>> singletonBatch(PendingWrite<T> write) {
+        List<PendingWrite<T>> batch = new ArrayList<>(1);
+        batch.add(write);
+        return batch;
+    }
+
+    /**
+     * Write the batch and complete the result of every write in it.
+     *
+     * @param batch the batch
+     */
+    protected abstract void flush(List<PendingWrite<T>> batch);
+
+    /**
+     * Convert the failure of a write to the exception thrown to the caller.
+     *
+     * @param cause the cause
+     * @return the exception
+     */
+    protected abstract RuntimeException toException(Throwable cause);
+
+    /**
+     * Record the size and the cost of a written batch.
+     *
+     * @param size  the size
+     * @param nanos the cost in nanoseconds
+     */
+    protected void record(int size, long nanos) {
+        Registry registry = MetricsManager.get().getRegistry();
+        if (registry != null) {
+            registry.getSummary(MeterIdConstants.SUMMARY_STORE_BATCH_SIZE).increase(size);
+            registry.getTimer(MeterIdConstants.TIMER_STORE_BATCH_COMMIT).record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Stop the flush threads and write the queued writes.
+     */
+    public void shutdown() {
+        synchronized (lock) {
+            running = false;
+        }
+        for (Thread flushThread : flushThreads) {
+            try {
+                // the flush threads exit after the batch in hand
+                flushThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        List<PendingWrite<T>> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (int i = 0; i < remaining.size(); i += batchSize) {
+            flushSafely(new ArrayList<>(remaining.subList(i, Math.min(i + batchSize, remaining.size()))));
+        }
+    }
+
+    /**
+     * A write waiting for its batch.
+     *
+     * @param <T> the type of the write
+     */
+    protected static final class PendingWrite<T> {
+
+        private final T write;
+
+        private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+
+        PendingWrite(T write) {
+            this.write = write;
+        }
+
+        public T getWrite() {
+            return write;
+        }
+
+        public void complete(boolean result) {
+            this.result.complete(result);
+        }
+
+        public void fail(Throwable cause) {
+            this.result.completeExceptionally(cause);
+        }
+    }
+}
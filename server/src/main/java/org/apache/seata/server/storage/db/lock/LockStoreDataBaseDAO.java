@@ -115,6 +115,13 @@ public class LockStoreDataBaseDAO implements LockStore {
         if (lockDOs.size() > 1) {
             lockDOs = lockDOs.stream().filter(LambdaUtils.distinctByKey(LockDO::getRowKey)).collect(Collectors.toList());
         }
+        if (!skipCheckLock) {
+            String insertIgnoreLockSql =
+                LockStoreSqlFactory.getLogStoreSql(dbType).getInsertIgnoreLockSql(lockTable, lockDOs.size());
+            if (insertIgnoreLockSql != null) {
+                return acquireLockByInsertIgnore(lockDOs, autoCommit, insertIgnoreLockSql);
+            }
+        }
         try {
             conn = lockStoreDataSource.getConnection();
             originalAutoCommit = conn.getAutoCommit();
@@ -213,6 +220,98 @@ public class LockStoreDataBaseDAO implements LockStore {
         }
     }
 
+    /**
+     * Acquire the locks with one statement inserting the row keys not locked yet, and only check the owners of the
+     * row keys locked already when some of them may not be inserted.
+     *
+     * @param lockDOs             the lock do list
+     * @param autoCommit          whether the branch is in auto commit
+     * @param insertIgnoreLockSql the insert ignore lock sql
+     * @return the boolean
+     */
+    protected boolean acquireLockByInsertIgnore(List<LockDO> lockDOs, boolean autoCommit, String insertIgnoreLockSql) {
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        boolean originalAutoCommit = true;
+        try {
+            conn = lockStoreDataSource.getConnection();
+            originalAutoCommit = conn.getAutoCommit();
+            if (originalAutoCommit) {
+                conn.setAutoCommit(false);
+            }
+            ps = conn.prepareStatement(insertIgnoreLockSql);
+            int index = 1;
+            for (LockDO lockDO : lockDOs) {
+                ps.setString(index++, lockDO.getXid());
+                ps.setLong(index++, lockDO.getTransactionId());
+                ps.setLong(index++, lockDO.getBranchId());
+                ps.setString(index++, lockDO.getResourceId());
+                ps.setString(index++, lockDO.getTableName());
+                ps.setString(index++, lockDO.getPk());
+                ps.setString(index++, lockDO.getRowKey());
+                ps.setInt(index++, lockDO.getStatus());
+            }
+            int inserted = ps.executeUpdate();
+            if (inserted < lockDOs.size()) {
+                // some row keys may be locked already, they must be held by the current global transaction
+                IOUtil.close(ps);
+                String checkLockSQL = LockStoreSqlFactory.getLogStoreSql(dbType).getCheckLockableSql(lockTable, lockDOs.size());
+                ps = conn.prepareStatement(checkLockSQL);
+                for (int i = 0; i < lockDOs.size(); i++) {
+                    ps.setString(i + 1, lockDOs.get(i).getRowKey());
+                }
+                rs = ps.executeQuery();
+                String currentXID = lockDOs.get(0).getXid();
+                while (rs.next()) {
+                    String dbXID = rs.getString(ServerTableColumnsName.LOCK_TABLE_XID);
+                    if (!StringUtils.equals(dbXID, currentXID)) {
+                        if (LOGGER.isInfoEnabled()) {
+                            String dbPk = rs.getString(ServerTableColumnsName.LOCK_TABLE_PK);
+                            String dbTableName = rs.getString(ServerTableColumnsName.LOCK_TABLE_TABLE_NAME);
+                            long dbBranchId = rs.getLong(ServerTableColumnsName.LOCK_TABLE_BRANCH_ID);
+                            LOGGER.info("Global lock on [{}:{}] is holding by xid {} branchId {}", dbTableName, dbPk, dbXID, dbBranchId);
+                        }
+                        boolean failFast = !autoCommit
+                            && rs.getInt(ServerTableColumnsName.LOCK_TABLE_STATUS) == LockStatus.Rollbacking.getCode();
+                        conn.rollback();
+                        if (failFast) {
+                            throw new StoreException(new BranchTransactionException(LockKeyConflictFailFast));
+                        }
+                        return false;
+                    }
+                }
+            }
+            conn.commit();
+            return true;
+        } catch (SQLIntegrityConstraintViolationException e) {
+            // the row key is inserted by another global transaction concurrently
+            if (LOGGER.isInfoEnabled()) {
+                LOGGER.info("Global lock acquire failed, xid {} branchId {}: {}", lockDOs.get(0).getXid(),
+                    lockDOs.get(0).getBranchId(), e.getMessage());
+            }
+            try {
+                conn.rollback();
+            } catch (SQLException ex) {
+                LOGGER.warn("Rollback the global lock acquiring failed: {}", ex.getMessage());
+            }
+            return false;
+        } catch (SQLException e) {
+            throw new StoreException(e);
+        } finally {
+            IOUtil.close(rs, ps);
+            if (conn != null) {
+                try {
+                    if (originalAutoCommit) {
+                        conn.setAutoCommit(true);
+                    }
+                    conn.close();
+                } catch (SQLException e) {
+                }
+            }
+        }
+    }
+
     @Override
     public boolean unLock(LockDO lockDO) {
         return unLock(Collections.singletonList(lockDO));
@@ -16,8 +16,10 @@
  */
 package org.apache.seata.server.storage.db.session;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import org.apache.seata.common.exception.StoreException;
 import org.apache.seata.common.executor.Initialize;
 import org.apache.seata.common.loader.LoadLevel;
@@ -132,6 +134,24 @@ public class DataBaseSessionManager extends AbstractSessionManager implements In
         return transactionStoreManager.readSession(xid, withBranchSessions);
     }
 
+    @Override
+    public List<BranchSession> findBranchSessions(String xid) {
+        return transactionStoreManager.readBranchSessions(xid);
+    }
+
+    @Override
+    public void removeBranchSessions(Map<GlobalSession, List<BranchSession>> branchSessions)
+        throws TransactionException {
+        List<BranchSession> removed = new ArrayList<>();
+        branchSessions.values().forEach(removed::addAll);
+        if (!transactionStoreManager.removeBranchSessions(removed)) {
+            throw new StoreException("removeBranchSessions failed.");
+        }
+        for (Map.Entry<GlobalSession, List<BranchSession>> entry : branchSessions.entrySet()) {
+            entry.getValue().forEach(entry.getKey()::remove);
+        }
+    }
+
     @Override
     public Collection<GlobalSession> allSessions() {
         // all data
@@ -153,4 +173,9 @@ public class DataBaseSessionManager extends AbstractSessionManager implements In
         throws TransactionException {
         return lockCallable.call();
     }
+
+    @Override
+    public void destroy() {
+        transactionStoreManager.shutdown();
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.db.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.core.store.GlobalTransactionDO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Move the global sessions ended with failure into the archive tables in background.
+ * <p>
+ * The global sessions failed to commit or rollback are kept in the global table for the manual handling, and are
+ * never read by the recovery again. After the archive delay they are moved together with their branch sessions into
+ * the archive tables, page by page in the order of the modified time, so that the tables of the running sessions stay
+ * small. A page is moved in one transaction, and is given up until the next period if any of its sessions is changed
+ * or archived by another server meanwhile.
+ * <p>
+ * The sessions are archived shard by shard, like the recovery, starting from a random shard on every run. So the servers
+ * archiving at the same time mostly move different pages instead of all contending for the same oldest one.
+ */
+class DataBaseSessionArchiver {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataBaseSessionArchiver.class);
+
+    /**
+     * The statuses of the global sessions to archive.
+     */
+    static final GlobalStatus[] ARCHIVE_STATUSES = {GlobalStatus.CommitFailed, GlobalStatus.CommitRetryTimeout,
+        GlobalStatus.RollbackFailed, GlobalStatus.TimeoutRollbackFailed, GlobalStatus.RollbackRetryTimeout};
+
+    private static final long ARCHIVE_PERIOD = 60000;
+
+    /**
+     * The shard count of the archive if the recovery is not sharded.
+     */
+    static final int DEFAULT_ARCHIVE_SHARD_COUNT = 16;
+
+    private final LogStoreDataBaseDAO logStore;
+
+    private final int batchSize;
+
+    private final long archiveDelay;
+
+    private final int shardCount;
+
+    private final String globalArchiveTable;
+
+    private final String branchArchiveTable;
+
+    private final int[] statuses;
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    DataBaseSessionArchiver(LogStoreDataBaseDAO logStore, int batchSize, long archiveDelay, int shardCount,
+                            String globalArchiveTable, String branchArchiveTable) {
+        this.logStore = logStore;
+        this.batchSize = Math.max(1, batchSize);
+        this.archiveDelay = archiveDelay;
+        this.shardCount = shardCount > 1 ? shardCount : DEFAULT_ARCHIVE_SHARD_COUNT;
+        this.globalArchiveTable = globalArchiveTable;
+        this.branchArchiveTable = branchArchiveTable;
+        this.statuses = new int[ARCHIVE_STATUSES.length];
+        for (int i = 0; i < ARCHIVE_STATUSES.length; i++) {
+            statuses[i] = ARCHIVE_STATUSES[i].getCode();
+        }
+        this.executor = new ScheduledThreadPoolExecutor(1, new NamedThreadFactory("sessionArchive", 1, true));
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                int archived = archive();
+                if (archived > 0 && LOGGER.isInfoEnabled()) {
+                    LOGGER.info("Archived {} global sessions ended with failure", archived);
+                }
+            } catch (Throwable t) {
+                LOGGER.error("Archive the global sessions failed: {}", t.getMessage(), t);
+            }
+        }, ARCHIVE_PERIOD, ARCHIVE_PERIOD, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Archive the global sessions ended before the archive delay of every shard.
+     *
+     * @return the count of the archived global sessions
+     */
+    int archive() {
+        long deadline = System.currentTimeMillis() - archiveDelay;
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        int archived = 0;
+        for (int i = 0; i < shardCount; i++) {
+            archived += archive((start + i) % shardCount, deadline);
+        }
+        return archived;
+    }
+
+    /**
+     * Archive the global sessions of a shard ended before the deadline, until none is left or a page is given up.
+     *
+     * @param shard    the shard
+     * @param deadline the latest modified time of the sessions to archive
+     * @return the count of the archived global sessions
+     */
+    private int archive(int shard, long deadline) {
+        int archived = 0;
+        while (true) {
+            List<GlobalTransactionDO> page = logStore.queryGlobalTransactionDO(statuses, batchSize, shard, shardCount);
+            List<String> xids = new ArrayList<>(page.size());
+            for (GlobalTransactionDO globalTransactionDO : page) {
+                if (globalTransactionDO.getGmtModified() == null
+                    || globalTransactionDO.getGmtModified().getTime() > deadline) {
+                    break;
+                }
+                xids.add(globalTransactionDO.getXid());
+            }
+            if (xids.isEmpty()
+                || !logStore.archiveTransactionDO(xids, statuses, globalArchiveTable, branchArchiveTable)) {
+                return archived;
+            }
+            archived += xids.size();
+            if (xids.size() < batchSize) {
+                return archived;
+            }
+        }
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
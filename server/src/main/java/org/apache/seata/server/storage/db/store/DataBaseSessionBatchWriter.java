@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.db.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.seata.common.exception.StoreException;
+import org.apache.seata.server.storage.AbstractSessionBatchWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Write the sessions to the database in batches with group commit.
+ * <p>
+ * The flush thread drains the queued writes into one transaction in which the consecutive statements of the same sql
+ * are sent in one jdbc batch. The callers are released after the transaction commits, so a write is still durable
+ * when it returns. If a batch fails, its statements are executed one by one, so only the failed write sees the
+ * exception.
+ */
+class DataBaseSessionBatchWriter extends AbstractSessionBatchWriter<LogStoreDataBaseDAO.WriteStatement> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataBaseSessionBatchWriter.class);
+
+    private final LogStoreDataBaseDAO logStore;
+
+    DataBaseSessionBatchWriter(LogStoreDataBaseDAO logStore, int batchSize, int threads) {
+        super("sessionBatchWrite", batchSize, threads, DEFAULT_WRITE_TIMEOUT_MILLIS);
+        this.logStore = logStore;
+    }
+
+    @Override
+    protected void flush(List<PendingWrite<LogStoreDataBaseDAO.WriteStatement>> batch) {
+        if (batch.size() == 1) {
+            executeOne(batch.get(0));
+            return;
+        }
+        List<LogStoreDataBaseDAO.WriteStatement> statements = new ArrayList<>(batch.size());
+        for (PendingWrite<LogStoreDataBaseDAO.WriteStatement> write : batch) {
+            statements.add(write.getWrite());
+        }
+        long start = System.nanoTime();
+        boolean[] results;
+        try {
+            results = logStore.executeBatch(statements);
+        } catch (StoreException e) {
+            LOGGER.warn("Write the session batch of {} failed, write them one by one, cause: {}", batch.size(),
+                e.getMessage());
+            batch.forEach(this::executeOne);
+            return;
+        }
+        record(batch.size(), System.nanoTime() - start);
+        for (int i = 0; i < results.length; i++) {
+            batch.get(i).complete(results[i]);
+        }
+    }
+
+    private void executeOne(PendingWrite<LogStoreDataBaseDAO.WriteStatement> write) {
+        long start = System.nanoTime();
+        try {
+            write.complete(logStore.executeUpdate(write.getWrite()));
+            record(1, System.nanoTime() - start);
+        } catch (Throwable t) {
+            write.fail(t);
+        }
+    }
+
+    @Override
+    protected RuntimeException toException(Throwable cause) {
+        return cause instanceof StoreException ? (StoreException)cause : new StoreException(cause);
+    }
+}
@@ -17,10 +17,12 @@
 package org.apache.seata.server.storage.db.store;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import javax.sql.DataSource;
@@ -37,6 +39,7 @@ import org.apache.seata.core.store.BranchTransactionDO;
 import org.apache.seata.core.store.GlobalTransactionDO;
 import org.apache.seata.core.store.LogStore;
 import org.apache.seata.core.store.db.DataSourceProvider;
+import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
 import org.apache.seata.server.storage.SessionConverter;
@@ -45,6 +48,14 @@ import org.apache.seata.server.store.SessionStorable;
 import org.apache.seata.server.store.TransactionStoreManager;
 
 import static org.apache.seata.common.DefaultValues.DEFAULT_QUERY_LIMIT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_RECOVERY_SHARD_COUNT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_ARCHIVE_DELAY;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_ARCHIVE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BATCH_WRITE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BATCH_WRITE_SIZE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BATCH_WRITE_THREADS;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_BRANCH_ARCHIVE_TABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_DB_GLOBAL_ARCHIVE_TABLE;
 
 /**
  * The type Database transaction store manager.
@@ -55,6 +66,11 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
 
     private static volatile DataBaseTransactionStoreManager instance;
 
+    /**
+     * The max count of the branch ids deleted by one statement, below the 1000 items of an in list in oracle.
+     */
+    private static final int MAX_BRANCH_IDS_PER_STATEMENT = 500;
+
     /**
      * The constant CONFIG.
      */
@@ -70,6 +86,21 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
      */
     protected int logQueryLimit;
 
+    /**
+     * The batch writer, null if the batch write is disabled.
+     */
+    private volatile DataBaseSessionBatchWriter batchWriter;
+
+    /**
+     * The archiver of the global sessions ended with failure, null if the archive is disabled.
+     */
+    private volatile DataBaseSessionArchiver archiver;
+
+    /**
+     * The last global transactions of the resumable reads, by the statuses and the shard.
+     */
+    private final Map<String, GlobalTransactionDO> readCursors = new ConcurrentHashMap<>();
+
     /**
      * Get the instance.
      */
@@ -93,10 +124,30 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
         //init dataSource
         DataSource logStoreDataSource = EnhancedServiceLoader.load(DataSourceProvider.class, datasourceType).provide();
         logStore = new LogStoreDataBaseDAO(logStoreDataSource);
+        if (CONFIG.getBoolean(ConfigurationKeys.STORE_DB_BATCH_WRITE_ENABLE, DEFAULT_STORE_DB_BATCH_WRITE_ENABLE)) {
+            batchWriter = createBatchWriter((LogStoreDataBaseDAO)logStore);
+        }
+        if (CONFIG.getBoolean(ConfigurationKeys.STORE_DB_ARCHIVE_ENABLE, DEFAULT_STORE_DB_ARCHIVE_ENABLE)) {
+            archiver = new DataBaseSessionArchiver((LogStoreDataBaseDAO)logStore, logQueryLimit,
+                CONFIG.getLong(ConfigurationKeys.STORE_DB_ARCHIVE_DELAY, DEFAULT_STORE_DB_ARCHIVE_DELAY),
+                CONFIG.getInt(ConfigurationKeys.RECOVERY_SHARD_COUNT, DEFAULT_RECOVERY_SHARD_COUNT),
+                CONFIG.getConfig(ConfigurationKeys.STORE_DB_GLOBAL_ARCHIVE_TABLE, DEFAULT_STORE_DB_GLOBAL_ARCHIVE_TABLE),
+                CONFIG.getConfig(ConfigurationKeys.STORE_DB_BRANCH_ARCHIVE_TABLE, DEFAULT_STORE_DB_BRANCH_ARCHIVE_TABLE));
+        }
+    }
+
+    private DataBaseSessionBatchWriter createBatchWriter(LogStoreDataBaseDAO logStoreDataBaseDAO) {
+        return new DataBaseSessionBatchWriter(logStoreDataBaseDAO,
+            CONFIG.getInt(ConfigurationKeys.STORE_DB_BATCH_WRITE_SIZE, DEFAULT_STORE_DB_BATCH_WRITE_SIZE),
+            CONFIG.getInt(ConfigurationKeys.STORE_DB_BATCH_WRITE_THREADS, DEFAULT_STORE_DB_BATCH_WRITE_THREADS));
     }
 
     @Override
     public boolean writeSession(LogOperation logOperation, SessionStorable session) {
+        DataBaseSessionBatchWriter writer = batchWriter;
+        if (writer != null) {
+            return writer.write(toWriteStatement((LogStoreDataBaseDAO)logStore, logOperation, session));
+        }
         if (LogOperation.GLOBAL_ADD.equals(logOperation)) {
             return logStore.insertGlobalTransactionDO(SessionConverter.convertGlobalTransactionDO(session));
         } else if (LogOperation.GLOBAL_UPDATE.equals(logOperation)) {
@@ -120,6 +171,37 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
         }
     }
 
+    private LogStoreDataBaseDAO.WriteStatement toWriteStatement(LogStoreDataBaseDAO logStoreDataBaseDAO,
+                                                                LogOperation logOperation, SessionStorable session) {
+        if (LogOperation.GLOBAL_ADD.equals(logOperation)) {
+            return logStoreDataBaseDAO.insertGlobalTransactionStatement(
+                SessionConverter.convertGlobalTransactionDO(session));
+        } else if (LogOperation.GLOBAL_UPDATE.equals(logOperation)) {
+            GlobalSession globalSession = (GlobalSession)session;
+            if (globalSession.getExpectedStatus() != null) {
+                return logStoreDataBaseDAO.updateGlobalTransactionStatement(
+                    SessionConverter.convertGlobalTransactionDO(session), globalSession.getExpectedStatus().getCode());
+            } else {
+                return logStoreDataBaseDAO.updateGlobalTransactionStatement(
+                    SessionConverter.convertGlobalTransactionDO(session));
+            }
+        } else if (LogOperation.GLOBAL_REMOVE.equals(logOperation)) {
+            return logStoreDataBaseDAO.deleteGlobalTransactionStatement(
+                SessionConverter.convertGlobalTransactionDO(session));
+        } else if (LogOperation.BRANCH_ADD.equals(logOperation)) {
+            return logStoreDataBaseDAO.insertBranchTransactionStatement(
+                SessionConverter.convertBranchTransactionDO(session));
+        } else if (LogOperation.BRANCH_UPDATE.equals(logOperation)) {
+            return logStoreDataBaseDAO.updateBranchTransactionStatement(
+                SessionConverter.convertBranchTransactionDO(session));
+        } else if (LogOperation.BRANCH_REMOVE.equals(logOperation)) {
+            return logStoreDataBaseDAO.deleteBranchTransactionStatement(
+                SessionConverter.convertBranchTransactionDO(session));
+        } else {
+            throw new StoreException("Unknown LogOperation:" + logOperation.name());
+        }
+    }
+
     /**
      * Read session global session.
      *
@@ -185,12 +267,69 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
      */
     @Override
     public List<GlobalSession> readSession(GlobalStatus[] statuses, boolean withBranchSessions) {
+        //global transaction
+        List<GlobalTransactionDO> globalTransactionDOs = logStore.queryGlobalTransactionDO(toCodes(statuses), logQueryLimit);
+        return toGlobalSessions(globalTransactionDOs, withBranchSessions);
+    }
+
+    /**
+     * Read session list of a shard.
+     *
+     * @param statuses           the statuses
+     * @param withBranchSessions the with branch sessions
+     * @param shard              the shard
+     * @param shardCount         the shard count
+     * @return the list
+     */
+    public List<GlobalSession> readSession(GlobalStatus[] statuses, boolean withBranchSessions, int shard,
+                                           int shardCount) {
+        List<GlobalTransactionDO> globalTransactionDOs =
+            logStore.queryGlobalTransactionDO(toCodes(statuses), logQueryLimit, shard, shardCount);
+        return toGlobalSessions(globalTransactionDOs, withBranchSessions);
+    }
+
+    /**
+     * Read the next page of the sessions after the last read of the same statuses and shard, and start over from
+     * the first page after the last one, so that the sessions failing again and again at the head of the order do
+     * not starve the others.
+     *
+     * @param statuses           the statuses
+     * @param withBranchSessions the with branch sessions
+     * @param shard              the shard
+     * @param shardCount         the shard count, 0 if not sharded
+     * @return the list
+     */
+    public List<GlobalSession> readSessionResumably(GlobalStatus[] statuses, boolean withBranchSessions, int shard,
+                                                    int shardCount) {
+        int[] codes = toCodes(statuses);
+        String cursorKey = Arrays.toString(codes) + ":" + shard + "/" + shardCount;
+        GlobalTransactionDO after = readCursors.get(cursorKey);
+        List<GlobalTransactionDO> globalTransactionDOs =
+            logStore.queryGlobalTransactionDO(codes, logQueryLimit, shard, shardCount, after);
+        if (after != null && globalTransactionDOs.isEmpty()) {
+            globalTransactionDOs = logStore.queryGlobalTransactionDO(codes, logQueryLimit, shard, shardCount, null);
+        }
+        if (globalTransactionDOs.size() < logQueryLimit) {
+            readCursors.remove(cursorKey);
+        } else {
+            GlobalTransactionDO last = globalTransactionDOs.get(globalTransactionDOs.size() - 1);
+            GlobalTransactionDO cursor = new GlobalTransactionDO(last.getXid());
+            cursor.setGmtModified(last.getGmtModified());
+            readCursors.put(cursorKey, cursor);
+        }
+        return toGlobalSessions(globalTransactionDOs, withBranchSessions);
+    }
+
+    private int[] toCodes(GlobalStatus[] statuses) {
         int[] states = new int[statuses.length];
         for (int i = 0; i < statuses.length; i++) {
             states[i] = statuses[i].getCode();
         }
-        //global transaction
-        List<GlobalTransactionDO> globalTransactionDOs = logStore.queryGlobalTransactionDO(states, logQueryLimit);
+        return states;
+    }
+
+    private List<GlobalSession> toGlobalSessions(List<GlobalTransactionDO> globalTransactionDOs,
+                                                 boolean withBranchSessions) {
         Map<String, List<BranchTransactionDO>> branchTransactionDOsMap = Collections.emptyMap();
         if (CollectionUtils.isNotEmpty(globalTransactionDOs)) {
             List<String> xids =
@@ -225,11 +364,45 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
                 return globalSessions;
             }
         } else if (CollectionUtils.isNotEmpty(sessionCondition.getStatuses())) {
+            if (sessionCondition.isResumable()) {
+                boolean sharded = sessionCondition.isSharded();
+                return readSessionResumably(sessionCondition.getStatuses(), !sessionCondition.isLazyLoadBranch(),
+                    sharded ? sessionCondition.getShard() : 0, sharded ? sessionCondition.getShardCount() : 0);
+            }
+            if (sessionCondition.isSharded()) {
+                return readSession(sessionCondition.getStatuses(), !sessionCondition.isLazyLoadBranch(),
+                    sessionCondition.getShard(), sessionCondition.getShardCount());
+            }
             return readSession(sessionCondition.getStatuses(), !sessionCondition.isLazyLoadBranch());
         }
         return null;
     }
 
+    @Override
+    public List<BranchSession> readBranchSessions(String xid) {
+        return logStore.queryBranchTransactionDO(xid).stream().map(SessionConverter::convertBranchSession)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean removeBranchSessions(List<BranchSession> branchSessions) {
+        if (!(logStore instanceof LogStoreDataBaseDAO)) {
+            return super.removeBranchSessions(branchSessions);
+        }
+        List<Long> branchIds = branchSessions.stream().map(BranchSession::getBranchId).collect(Collectors.toList());
+        DataBaseSessionBatchWriter writer = batchWriter;
+        boolean removed = true;
+        for (int from = 0; from < branchIds.size(); from += MAX_BRANCH_IDS_PER_STATEMENT) {
+            List<Long> chunk = branchIds.subList(from,
+                Math.min(from + MAX_BRANCH_IDS_PER_STATEMENT, branchIds.size()));
+            LogStoreDataBaseDAO.WriteStatement statement =
+                ((LogStoreDataBaseDAO)logStore).deleteBranchTransactionStatement(chunk);
+            removed &= writer != null ? writer.write(statement)
+                : ((LogStoreDataBaseDAO)logStore).executeUpdate(statement);
+        }
+        return removed;
+    }
+
     private GlobalSession getGlobalSession(GlobalTransactionDO globalTransactionDO,
         List<BranchTransactionDO> branchTransactionDOs) {
         return getGlobalSession(globalTransactionDO, branchTransactionDOs, true);
@@ -254,6 +427,12 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
      */
     public void setLogStore(LogStore logStore) {
         this.logStore = logStore;
+        DataBaseSessionBatchWriter writer = batchWriter;
+        if (writer != null) {
+            writer.shutdown();
+            batchWriter = logStore instanceof LogStoreDataBaseDAO
+                ? createBatchWriter((LogStoreDataBaseDAO)logStore) : null;
+        }
     }
 
     /**
@@ -264,4 +443,18 @@ public class DataBaseTransactionStoreManager extends AbstractTransactionStoreMan
     public void setLogQueryLimit(int logQueryLimit) {
         this.logQueryLimit = logQueryLimit;
     }
+
+    @Override
+    public void shutdown() {
+        DataBaseSessionBatchWriter writer = batchWriter;
+        if (writer != null) {
+            batchWriter = null;
+            writer.shutdown();
+        }
+        DataBaseSessionArchiver sessionArchiver = archiver;
+        if (sessionArchiver != null) {
+            archiver = null;
+            sessionArchiver.shutdown();
+        }
+    }
 }
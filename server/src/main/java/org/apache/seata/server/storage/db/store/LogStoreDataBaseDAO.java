@@ -21,6 +21,8 @@ import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import javax.sql.DataSource;
@@ -36,6 +38,7 @@ import org.apache.seata.core.constants.ServerTableColumnsName;
 import org.apache.seata.core.store.BranchTransactionDO;
 import org.apache.seata.core.store.GlobalTransactionDO;
 import org.apache.seata.core.store.LogStore;
+import org.apache.seata.core.store.db.sql.log.LogStoreSqls;
 import org.apache.seata.core.store.db.sql.log.LogStoreSqlsFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -192,15 +195,116 @@ public class LogStoreDataBaseDAO implements LogStore {
     }
 
     @Override
-    public boolean insertGlobalTransactionDO(GlobalTransactionDO globalTransactionDO) {
-        String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getInsertGlobalTransactionSQL(globalTable);
+    public List<GlobalTransactionDO> queryGlobalTransactionDO(int[] statuses, int limit, int shard, int shardCount) {
+        List<GlobalTransactionDO> ret = new ArrayList<>();
         Connection conn = null;
         PreparedStatement ps = null;
+        ResultSet rs = null;
         try {
+            conn = logStoreDataSource.getConnection();
+            conn.setAutoCommit(true);
+
+            String paramsPlaceHolder = org.apache.commons.lang.StringUtils.repeat("?", ",", statuses.length);
+
+            String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getQueryGlobalTransactionSQLByStatusAndShard(globalTable, paramsPlaceHolder);
+            ps = conn.prepareStatement(sql);
+            // the limit is the first parameter in sqlserver
+            boolean limitFirst = "sqlserver".equalsIgnoreCase(dbType);
             int index = 1;
+            if (limitFirst) {
+                ps.setInt(index++, limit);
+            }
+            for (int status : statuses) {
+                ps.setInt(index++, status);
+            }
+            ps.setInt(index++, shardCount);
+            ps.setInt(index++, shard);
+            if (!limitFirst) {
+                ps.setInt(index, limit);
+            }
+            rs = ps.executeQuery();
+            while (rs.next()) {
+                ret.add(convertGlobalTransactionDO(rs));
+            }
+            return ret;
+        } catch (SQLException e) {
+            throw new DataAccessException(e);
+        } finally {
+            IOUtil.close(rs, ps, conn);
+        }
+    }
+
+    @Override
+    public List<GlobalTransactionDO> queryGlobalTransactionDO(int[] statuses, int limit, int shard, int shardCount,
+                                                              GlobalTransactionDO after) {
+        if (after == null || after.getGmtModified() == null) {
+            return shardCount > 0 ? queryGlobalTransactionDO(statuses, limit, shard, shardCount)
+                : queryGlobalTransactionDO(statuses, limit);
+        }
+        List<GlobalTransactionDO> ret = new ArrayList<>();
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        try {
             conn = logStoreDataSource.getConnection();
             conn.setAutoCommit(true);
+
+            String paramsPlaceHolder = org.apache.commons.lang.StringUtils.repeat("?", ",", statuses.length);
+
+            boolean sharded = shardCount > 0;
+            String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType)
+                .getQueryGlobalTransactionSQLByStatusAfter(globalTable, paramsPlaceHolder, sharded);
             ps = conn.prepareStatement(sql);
+            // fetch the page in one round trip, and convert the rows while reading them
+            ps.setFetchSize(limit);
+            // the limit is the first parameter in sqlserver
+            boolean limitFirst = "sqlserver".equalsIgnoreCase(dbType);
+            int index = 1;
+            if (limitFirst) {
+                ps.setInt(index++, limit);
+            }
+            for (int status : statuses) {
+                ps.setInt(index++, status);
+            }
+            if (sharded) {
+                ps.setInt(index++, shardCount);
+                ps.setInt(index++, shard);
+            }
+            Timestamp gmtModified = after.getGmtModified() instanceof Timestamp
+                ? (Timestamp)after.getGmtModified() : new Timestamp(after.getGmtModified().getTime());
+            ps.setTimestamp(index++, gmtModified);
+            ps.setTimestamp(index++, gmtModified);
+            ps.setString(index++, after.getXid());
+            if (!limitFirst) {
+                ps.setInt(index, limit);
+            }
+            rs = ps.executeQuery();
+            while (rs.next()) {
+                ret.add(convertGlobalTransactionDO(rs));
+            }
+            return ret;
+        } catch (SQLException e) {
+            throw new DataAccessException(e);
+        } finally {
+            IOUtil.close(rs, ps, conn);
+        }
+    }
+
+    @Override
+    public boolean insertGlobalTransactionDO(GlobalTransactionDO globalTransactionDO) {
+        return executeUpdate(insertGlobalTransactionStatement(globalTransactionDO));
+    }
+
+    /**
+     * Create the write statement to insert the global transaction.
+     *
+     * @param globalTransactionDO the global transaction do
+     * @return the write statement
+     */
+    public WriteStatement insertGlobalTransactionStatement(GlobalTransactionDO globalTransactionDO) {
+        String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getInsertGlobalTransactionSQL(globalTable);
+        return new WriteStatement(sql, ps -> {
+            int index = 1;
             ps.setString(index++, globalTransactionDO.getXid());
             ps.setLong(index++, globalTransactionDO.getTransactionId());
             ps.setInt(index++, globalTransactionDO.getStatus());
@@ -214,72 +318,65 @@ public class LogStoreDataBaseDAO implements LogStore {
             ps.setInt(index++, globalTransactionDO.getTimeout());
             ps.setLong(index++, globalTransactionDO.getBeginTime());
             ps.setString(index++, globalTransactionDO.getApplicationData());
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) {
-            throw new StoreException(e);
-        } finally {
-            IOUtil.close(ps, conn);
-        }
+        }, false, false);
     }
 
     @Override
     public boolean updateGlobalTransactionDO(GlobalTransactionDO globalTransactionDO) {
+        return executeUpdate(updateGlobalTransactionStatement(globalTransactionDO));
+    }
+
+    /**
+     * Create the write statement to update the status of the global transaction.
+     *
+     * @param globalTransactionDO the global transaction do
+     * @return the write statement
+     */
+    public WriteStatement updateGlobalTransactionStatement(GlobalTransactionDO globalTransactionDO) {
         String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getUpdateGlobalTransactionStatusSQL(globalTable);
-        Connection conn = null;
-        PreparedStatement ps = null;
-        try {
-            int index = 1;
-            conn = logStoreDataSource.getConnection();
-            conn.setAutoCommit(true);
-            ps = conn.prepareStatement(sql);
-            ps.setInt(index++, globalTransactionDO.getStatus());
-            ps.setString(index++, globalTransactionDO.getXid());
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) {
-            throw new StoreException(e);
-        } finally {
-            IOUtil.close(ps, conn);
-        }
+        return new WriteStatement(sql, ps -> {
+            ps.setInt(1, globalTransactionDO.getStatus());
+            ps.setString(2, globalTransactionDO.getXid());
+        }, false, false);
     }
 
     @Override
     public boolean updateGlobalTransactionDO(GlobalTransactionDO globalTransactionDO, Integer expectedStatus) {
+        return executeUpdate(updateGlobalTransactionStatement(globalTransactionDO, expectedStatus));
+    }
+
+    /**
+     * Create the write statement to update the status of the global transaction if it is the expected status.
+     *
+     * @param globalTransactionDO the global transaction do
+     * @param expectedStatus      the expected status
+     * @return the write statement
+     */
+    public WriteStatement updateGlobalTransactionStatement(GlobalTransactionDO globalTransactionDO,
+                                                           Integer expectedStatus) {
         String sql =
             LogStoreSqlsFactory.getLogStoreSqls(dbType).getUpdateGlobalTransactionStatusByStatusSQL(globalTable);
-        Connection conn = null;
-        PreparedStatement ps = null;
-        try {
-            conn = logStoreDataSource.getConnection();
-            conn.setAutoCommit(true);
-            ps = conn.prepareStatement(sql);
+        return new WriteStatement(sql, ps -> {
             ps.setInt(1, globalTransactionDO.getStatus());
             ps.setString(2, globalTransactionDO.getXid());
             ps.setInt(3, expectedStatus);
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) {
-            throw new StoreException(e);
-        } finally {
-            IOUtil.close(ps, conn);
-        }
+        }, false, true);
     }
 
     @Override
     public boolean deleteGlobalTransactionDO(GlobalTransactionDO globalTransactionDO) {
+        return executeUpdate(deleteGlobalTransactionStatement(globalTransactionDO));
+    }
+
+    /**
+     * Create the write statement to delete the global transaction.
+     *
+     * @param globalTransactionDO the global transaction do
+     * @return the write statement
+     */
+    public WriteStatement deleteGlobalTransactionStatement(GlobalTransactionDO globalTransactionDO) {
         String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getDeleteGlobalTransactionSQL(globalTable);
-        Connection conn = null;
-        PreparedStatement ps = null;
-        try {
-            conn = logStoreDataSource.getConnection();
-            conn.setAutoCommit(true);
-            ps = conn.prepareStatement(sql);
-            ps.setString(1, globalTransactionDO.getXid());
-            ps.executeUpdate();
-        } catch (SQLException e) {
-            throw new StoreException(e);
-        } finally {
-            IOUtil.close(ps, conn);
-        }
-        return true;
+        return new WriteStatement(sql, ps -> ps.setString(1, globalTransactionDO.getXid()), true, false);
     }
 
     @Override
@@ -338,14 +435,19 @@ public class LogStoreDataBaseDAO implements LogStore {
 
     @Override
     public boolean insertBranchTransactionDO(BranchTransactionDO branchTransactionDO) {
+        return executeUpdate(insertBranchTransactionStatement(branchTransactionDO));
+    }
+
+    /**
+     * Create the write statement to insert the branch transaction.
+     *
+     * @param branchTransactionDO the branch transaction do
+     * @return the write statement
+     */
+    public WriteStatement insertBranchTransactionStatement(BranchTransactionDO branchTransactionDO) {
         String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getInsertBranchTransactionSQL(branchTable);
-        Connection conn = null;
-        PreparedStatement ps = null;
-        try {
+        return new WriteStatement(sql, ps -> {
             int index = 1;
-            conn = logStoreDataSource.getConnection();
-            conn.setAutoCommit(true);
-            ps = conn.prepareStatement(sql);
             ps.setString(index++, branchTransactionDO.getXid());
             ps.setLong(index++, branchTransactionDO.getTransactionId());
             ps.setLong(index++, branchTransactionDO.getBranchId());
@@ -355,59 +457,224 @@ public class LogStoreDataBaseDAO implements LogStore {
             ps.setInt(index++, branchTransactionDO.getStatus());
             ps.setString(index++, branchTransactionDO.getClientId());
             ps.setString(index++, branchTransactionDO.getApplicationData());
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) {
-            throw new StoreException(e);
-        } finally {
-            IOUtil.close(ps, conn);
-        }
+        }, false, false);
     }
 
     @Override
     public boolean updateBranchTransactionDO(BranchTransactionDO branchTransactionDO) {
+        return executeUpdate(updateBranchTransactionStatement(branchTransactionDO));
+    }
+
+    /**
+     * Create the write statement to update the status of the branch transaction.
+     *
+     * @param branchTransactionDO the branch transaction do
+     * @return the write statement
+     */
+    public WriteStatement updateBranchTransactionStatement(BranchTransactionDO branchTransactionDO) {
         boolean shouldUpdateAppData = StringUtils.isNotBlank(branchTransactionDO.getApplicationData());
         String sql = shouldUpdateAppData ?
             LogStoreSqlsFactory.getLogStoreSqls(dbType).getUpdateBranchTransactionStatusAppDataSQL(branchTable) :
             LogStoreSqlsFactory.getLogStoreSqls(dbType).getUpdateBranchTransactionStatusSQL(branchTable);
-        Connection conn = null;
-        PreparedStatement ps = null;
-        try {
+        return new WriteStatement(sql, ps -> {
             int index = 1;
-            conn = logStoreDataSource.getConnection();
-            conn.setAutoCommit(true);
-            ps = conn.prepareStatement(sql);
             ps.setInt(index++, branchTransactionDO.getStatus());
             if (shouldUpdateAppData) {
                 ps.setString(index++, branchTransactionDO.getApplicationData());
             }
             ps.setString(index++, branchTransactionDO.getXid());
             ps.setLong(index++, branchTransactionDO.getBranchId());
-            return ps.executeUpdate() > 0;
-        } catch (SQLException e) {
-            throw new StoreException(e);
-        } finally {
-            IOUtil.close(ps, conn);
-        }
+        }, false, false);
     }
 
     @Override
     public boolean deleteBranchTransactionDO(BranchTransactionDO branchTransactionDO) {
+        return executeUpdate(deleteBranchTransactionStatement(branchTransactionDO));
+    }
+
+    /**
+     * Create the write statement to delete the branch transactions in one statement.
+     *
+     * @param branchIds the branch ids
+     * @return the write statement
+     */
+    public WriteStatement deleteBranchTransactionStatement(List<Long> branchIds) {
+        String paramsPlaceHolder = org.apache.commons.lang.StringUtils.repeat("?", ",", branchIds.size());
+        String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getDeleteBranchTransactionByBranchIdsSQL(branchTable,
+            paramsPlaceHolder);
+        return new WriteStatement(sql, ps -> {
+            for (int i = 0; i < branchIds.size(); i++) {
+                ps.setLong(i + 1, branchIds.get(i));
+            }
+        }, true, false);
+    }
+
+    /**
+     * Create the write statement to delete the branch transaction.
+     *
+     * @param branchTransactionDO the branch transaction do
+     * @return the write statement
+     */
+    public WriteStatement deleteBranchTransactionStatement(BranchTransactionDO branchTransactionDO) {
         String sql = LogStoreSqlsFactory.getLogStoreSqls(dbType).getDeleteBranchTransactionByBranchIdSQL(branchTable);
+        return new WriteStatement(sql, ps -> {
+            ps.setString(1, branchTransactionDO.getXid());
+            ps.setLong(2, branchTransactionDO.getBranchId());
+        }, true, false);
+    }
+
+    /**
+     * Execute the write statement with auto commit.
+     *
+     * @param statement the write statement
+     * @return the result of the statement
+     */
+    public boolean executeUpdate(WriteStatement statement) {
         Connection conn = null;
         PreparedStatement ps = null;
         try {
             conn = logStoreDataSource.getConnection();
             conn.setAutoCommit(true);
-            ps = conn.prepareStatement(sql);
-            ps.setString(1, branchTransactionDO.getXid());
-            ps.setLong(2, branchTransactionDO.getBranchId());
-            ps.executeUpdate();
+            ps = conn.prepareStatement(statement.sql);
+            statement.setter.setParameters(ps);
+            return statement.result(ps.executeUpdate());
         } catch (SQLException e) {
             throw new StoreException(e);
         } finally {
             IOUtil.close(ps, conn);
         }
-        return true;
+    }
+
+    /**
+     * Execute the write statements in one transaction. The consecutive statements of the same sql are sent in one
+     * jdbc batch, except the conditional ones whose update counts are needed.
+     *
+     * @param statements the write statements
+     * @return the results of the statements
+     */
+    public boolean[] executeBatch(List<WriteStatement> statements) {
+        boolean[] results = new boolean[statements.size()];
+        Connection conn = null;
+        boolean originalAutoCommit = true;
+        try {
+            conn = logStoreDataSource.getConnection();
+            originalAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+            int start = 0;
+            while (start < statements.size()) {
+                WriteStatement first = statements.get(start);
+                int end = start + 1;
+                if (!first.conditional) {
+                    while (end < statements.size() && !statements.get(end).conditional
+                        && statements.get(end).sql.equals(first.sql)) {
+                        end++;
+                    }
+                }
+                try (PreparedStatement ps = conn.prepareStatement(first.sql)) {
+                    if (end - start == 1) {
+                        first.setter.setParameters(ps);
+                        results[start] = first.result(ps.executeUpdate());
+                    } else {
+                        for (int i = start; i < end; i++) {
+                            statements.get(i).setter.setParameters(ps);
+                            ps.addBatch();
+                        }
+                        int[] counts = ps.executeBatch();
+                        for (int i = start; i < end; i++) {
+                            results[i] = statements.get(i).result(counts[i - start]);
+                        }
+                    }
+                }
+                start = end;
+            }
+            conn.commit();
+            return results;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    LOGGER.warn("Rollback the session batch failed: {}", ex.getMessage());
+                }
+            }
+            throw new StoreException(e);
+        } finally {
+            if (conn != null) {
+                try {
+                    if (originalAutoCommit) {
+                        conn.setAutoCommit(true);
+                    }
+                } catch (SQLException ignore) {
+                }
+            }
+            IOUtil.close(conn);
+        }
+    }
+
+    /**
+     * Move the global transactions of the xids and their branch transactions into the archive tables in one
+     * transaction. Nothing is moved if any of the global transactions is gone or not of the statuses anymore.
+     *
+     * @param xids               the xids
+     * @param statuses           the statuses
+     * @param globalArchiveTable the global archive table
+     * @param branchArchiveTable the branch archive table
+     * @return true if moved
+     */
+    public boolean archiveTransactionDO(List<String> xids, int[] statuses, String globalArchiveTable,
+                                        String branchArchiveTable) {
+        String xidsPlaceHolder = org.apache.commons.lang.StringUtils.repeat("?", ",", xids.size());
+        String statusesPlaceHolder = org.apache.commons.lang.StringUtils.repeat("?", ",", statuses.length);
+        LogStoreSqls logStoreSqls = LogStoreSqlsFactory.getLogStoreSqls(dbType);
+        Connection conn = null;
+        try {
+            conn = logStoreDataSource.getConnection();
+            conn.setAutoCommit(false);
+            int archived = executeUpdateByXids(conn, logStoreSqls.getArchiveGlobalTransactionSQL(globalTable,
+                globalArchiveTable, xidsPlaceHolder, statusesPlaceHolder), xids, statuses);
+            executeUpdateByXids(conn, logStoreSqls.getArchiveBranchTransactionSQL(branchTable, branchArchiveTable,
+                xidsPlaceHolder), xids, new int[0]);
+            executeUpdateByXids(conn, logStoreSqls.getDeleteBranchTransactionByXidsSQL(branchTable, xidsPlaceHolder), xids,
+                new int[0]);
+            int deleted = executeUpdateByXids(conn, logStoreSqls.getDeleteGlobalTransactionByXidsSQL(globalTable,
+                xidsPlaceHolder, statusesPlaceHolder), xids, statuses);
+            if (archived != xids.size() || deleted != xids.size()) {
+                conn.rollback();
+                return false;
+            }
+            conn.commit();
+            return true;
+        } catch (SQLException e) {
+            if (conn != null) {
+                try {
+                    conn.rollback();
+                } catch (SQLException ex) {
+                    LOGGER.warn("Rollback the session archive failed: {}", ex.getMessage());
+                }
+            }
+            throw new StoreException(e);
+        } finally {
+            if (conn != null) {
+                try {
+                    conn.setAutoCommit(true);
+                } catch (SQLException ignore) {
+                }
+            }
+            IOUtil.close(conn);
+        }
+    }
+
+    private int executeUpdateByXids(Connection conn, String sql, List<String> xids, int[] statuses) throws SQLException {
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (String xid : xids) {
+                ps.setString(index++, xid);
+            }
+            for (int status : statuses) {
+                ps.setInt(index++, status);
+            }
+            return ps.executeUpdate();
+        }
     }
 
     @Override
@@ -631,4 +898,50 @@ public class LogStoreDataBaseDAO implements LogStore {
             this.remarks = remarks;
         }
     }
+
+    /**
+     * The parameter setter of a write statement.
+     */
+    @FunctionalInterface
+    public interface ParameterSetter {
+
+        /**
+         * Set the parameters.
+         *
+         * @param ps the prepared statement
+         * @throws SQLException the sql exception
+         */
+        void setParameters(PreparedStatement ps) throws SQLException;
+    }
+
+    /**
+     * A session write with its sql and parameters.
+     */
+    public static final class WriteStatement {
+
+        private final String sql;
+
+        private final ParameterSetter setter;
+
+        /**
+         * whether the write succeeds whatever the update count is
+         */
+        private final boolean alwaysSucceed;
+
+        /**
+         * whether the result depends on the update count, not sent in jdbc batch
+         */
+        private final boolean conditional;
+
+        WriteStatement(String sql, ParameterSetter setter, boolean alwaysSucceed, boolean conditional) {
+            this.sql = sql;
+            this.setter = setter;
+            this.alwaysSucceed = alwaysSucceed;
+            this.conditional = conditional;
+        }
+
+        boolean result(int updateCount) {
+            return alwaysSucceed || updateCount > 0 || updateCount == Statement.SUCCESS_NO_INFO;
+        }
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.seata.common.loader.LoadLevel;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.lock.Locker;
 import org.apache.seata.server.lock.AbstractLockManager;
+import org.apache.seata.server.lock.CachedLocker;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 
@@ -36,7 +37,7 @@ public class RedisLockManager extends AbstractLockManager implements Initialize
 
     @Override
     public void init() {
-        locker = RedisLockerFactory.getLocker();
+        locker = CachedLocker.wrap(RedisLockerFactory.getLocker());
     }
 
     @Override
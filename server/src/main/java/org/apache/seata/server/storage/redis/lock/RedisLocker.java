@@ -17,6 +17,8 @@
 package org.apache.seata.server.storage.redis.lock;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -26,10 +28,12 @@ import java.util.Set;
 import java.util.StringJoiner;
 import java.util.stream.Collectors;
 
+import org.apache.seata.common.ConfigurationKeys;
 import org.apache.seata.common.exception.StoreException;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.LambdaUtils;
 import org.apache.seata.common.util.StringUtils;
+import org.apache.seata.config.ConfigurationFactory;
 import org.apache.seata.core.exception.BranchTransactionException;
 import org.apache.seata.core.lock.AbstractLocker;
 import org.apache.seata.core.lock.RowLock;
@@ -44,6 +48,7 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
 
 import static org.apache.seata.common.Constants.ROW_LOCK_KEY_SPLIT_CHAR;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_REDIS_LOCK_PARTITIONS;
 import static org.apache.seata.core.constants.RedisKeyConstants.DEFAULT_REDIS_SEATA_GLOBAL_LOCK_PREFIX;
 import static org.apache.seata.core.constants.RedisKeyConstants.DEFAULT_REDIS_SEATA_ROW_LOCK_PREFIX;
 import static org.apache.seata.core.exception.TransactionExceptionCode.LockKeyConflictFailFast;
@@ -64,7 +69,7 @@ public class RedisLocker extends AbstractLocker {
 
     private static final String TRANSACTION_ID = "transactionId";
 
-    private static final String BRANCH_ID = "branchId";
+    protected static final String BRANCH_ID = "branchId";
 
     private static final String RESOURCE_ID = "resourceId";
 
@@ -76,10 +81,19 @@ public class RedisLocker extends AbstractLocker {
 
     private static final String ROW_KEY = "rowKey";
 
+    /**
+     * The count of the hash tags the row lock keys are partitioned into, 0 if the keys are not hash tagged.
+     * With the hash tags, every command and lua script only touches the keys of one slot, so the locks could be
+     * stored in a redis cluster behind a slot routing proxy and spread across its shards.
+     */
+    protected int lockPartitions;
+
     /**
      * Instantiates a new Redis locker.
      */
     public RedisLocker() {
+        this.lockPartitions = ConfigurationFactory.getInstance().getInt(ConfigurationKeys.STORE_REDIS_LOCK_PARTITIONS,
+            DEFAULT_STORE_REDIS_LOCK_PARTITIONS);
     }
 
     @Override
@@ -152,6 +166,14 @@ public class RedisLocker extends AbstractLocker {
                 }
             }
 
+            String xidLockKey = buildXidLockKey(needLockXid);
+            StringJoiner lockKeysString = new StringJoiner(ROW_LOCK_KEY_SPLIT_CHAR);
+            needLockKeys.forEach(lockKeysString::add);
+            String recordedLockKeys = null;
+            if (lockPartitions > 0) {
+                recordedLockKeys = recordLockKeys(jedis, xidLockKey, branchId, lockKeysString.toString());
+            }
+
             Pipeline pipeline = jedis.pipelined();
             List<String> readyKeys = new ArrayList<>(needAddLock.keySet());
             needAddLock.forEach((key, value) -> {
@@ -179,14 +201,19 @@ public class RedisLocker extends AbstractLocker {
             // If someone has failed,all the lockkey which has been added need to be delete.
             if (FAILED.equals(status)) {
                 if (success.size() > 0) {
-                    jedis.del(success.toArray(new String[0]));
+                    try (Pipeline pipelined = jedis.pipelined()) {
+                        delLockKeys(pipelined, success.toArray(new String[0]));
+                        pipelined.sync();
+                    }
+                }
+                if (lockPartitions > 0) {
+                    restoreLockKeys(jedis, xidLockKey, branchId, recordedLockKeys);
                 }
                 return false;
             }
-            String xidLockKey = buildXidLockKey(needLockXid);
-            StringJoiner lockKeysString = new StringJoiner(ROW_LOCK_KEY_SPLIT_CHAR);
-            needLockKeys.forEach(lockKeysString::add);
-            jedis.hset(xidLockKey, branchId.toString(), lockKeysString.toString());
+            if (lockPartitions <= 0) {
+                jedis.hset(xidLockKey, branchId.toString(), lockKeysString.toString());
+            }
             return true;
         }
     }
@@ -237,20 +264,12 @@ public class RedisLocker extends AbstractLocker {
             if (CollectionUtils.isEmpty(branchAndLockKeys)) {
                 return;
             }
+            List<String> lockKeys = splitLockKeys(branchAndLockKeys.values());
+            if (lockPartitions > 0) {
+                lockKeys = filterOwnedLockKeys(jedis, xid, lockKeys);
+            }
             try (Pipeline pipeline = jedis.pipelined()) {
-                branchAndLockKeys.values()
-                    .forEach(k -> {
-                        if (StringUtils.isNotEmpty(k)) {
-                            if (k.contains(ROW_LOCK_KEY_SPLIT_CHAR)) {
-                                String[] keys = k.split(ROW_LOCK_KEY_SPLIT_CHAR);
-                                for (String key : keys) {
-                                    pipeline.hset(key, STATUS, String.valueOf(lockStatus.getCode()));
-                                }
-                            } else {
-                                pipeline.hset(k, STATUS, String.valueOf(lockStatus.getCode()));
-                            }
-                        }
-                    });
+                lockKeys.forEach(key -> pipeline.hset(key, STATUS, String.valueOf(lockStatus.getCode())));
                 pipeline.sync();
             }
         }
@@ -267,34 +286,127 @@ public class RedisLocker extends AbstractLocker {
                 rowKeys.add(jedis.hget(xidLockKey, branchId.toString()));
             }
             if (CollectionUtils.isNotEmpty(rowKeys)) {
+                List<String> lockKeys = splitLockKeys(rowKeys);
+                if (lockPartitions > 0) {
+                    lockKeys = filterOwnedLockKeys(jedis, xid, lockKeys);
+                }
                 Pipeline pipelined = jedis.pipelined();
                 if (null == branchId) {
                     pipelined.del(xidLockKey);
                 } else {
                     pipelined.hdel(xidLockKey, branchId.toString());
                 }
-                rowKeys.forEach(rowKeyStr -> {
-                    if (StringUtils.isNotEmpty(rowKeyStr)) {
-                        if (rowKeyStr.contains(ROW_LOCK_KEY_SPLIT_CHAR)) {
-                            String[] keys = rowKeyStr.split(ROW_LOCK_KEY_SPLIT_CHAR);
-                            pipelined.del(keys);
-                        } else {
-                            pipelined.del(rowKeyStr);
-                        }
-                    }
-                });
+                if (!lockKeys.isEmpty()) {
+                    delLockKeys(pipelined, lockKeys.toArray(new String[0]));
+                }
                 pipelined.sync();
             }
             return true;
         }
     }
 
+    private List<String> splitLockKeys(Collection<String> rowKeys) {
+        List<String> lockKeys = new ArrayList<>();
+        rowKeys.forEach(rowKeyStr -> {
+            if (StringUtils.isNotEmpty(rowKeyStr)) {
+                lockKeys.addAll(Arrays.asList(rowKeyStr.split(ROW_LOCK_KEY_SPLIT_CHAR)));
+            }
+        });
+        return lockKeys;
+    }
+
+    /**
+     * Record the row lock keys of the branch under the xid lock key before the row locks are set, so the locks are
+     * always found by the release of the xid, even if the server crashes between the partitions.
+     *
+     * @return the row lock keys recorded for the branch before, which are restored if the locks are not acquired
+     */
+    protected String recordLockKeys(Jedis jedis, String xidLockKey, Long branchId, String lockKeysString) {
+        String branch = branchId.toString();
+        String recorded = jedis.hget(xidLockKey, branch);
+        jedis.hset(xidLockKey, branch, lockKeysString);
+        return recorded;
+    }
+
+    /**
+     * Restore the row lock keys recorded for the branch before a failed acquisition.
+     */
+    protected void restoreLockKeys(Jedis jedis, String xidLockKey, Long branchId, String recorded) {
+        if (recorded == null) {
+            jedis.hdel(xidLockKey, branchId.toString());
+        } else {
+            jedis.hset(xidLockKey, branchId.toString(), recorded);
+        }
+    }
+
+    /**
+     * Filter the row lock keys held by the xid. With the lock partitions the keys are recorded under the xid lock key
+     * before they are acquired, so the keys a failed or crashed acquisition did not get may be held by others.
+     */
+    protected List<String> filterOwnedLockKeys(Jedis jedis, String xid, List<String> lockKeys) {
+        if (lockKeys.isEmpty()) {
+            return lockKeys;
+        }
+        try (Pipeline pipeline = jedis.pipelined()) {
+            lockKeys.forEach(lockKey -> pipeline.hget(lockKey, XID));
+            List<Object> xids = pipeline.syncAndReturnAll();
+            List<String> owned = new ArrayList<>(lockKeys.size());
+            for (int i = 0; i < lockKeys.size(); i++) {
+                if (xid.equals(xids.get(i))) {
+                    owned.add(lockKeys.get(i));
+                }
+            }
+            return owned;
+        }
+    }
+
     protected String buildXidLockKey(String xid) {
         return DEFAULT_REDIS_SEATA_GLOBAL_LOCK_PREFIX + xid;
     }
 
     protected String buildLockKey(String rowKey) {
-        return DEFAULT_REDIS_SEATA_ROW_LOCK_PREFIX + rowKey;
+        return buildLockKey(rowKey, lockPartitions);
+    }
+
+    /**
+     * Build the row lock key. The key is prefixed with the hash tag of its partition if the keys are partitioned,
+     * e.g. SEATA_ROW_LOCK_{3}jdbc:mysql://127.0.0.1/seata^^^order^^^1.
+     *
+     * @param rowKey         the row key
+     * @param lockPartitions the count of the partitions
+     * @return the row lock key
+     */
+    public static String buildLockKey(String rowKey, int lockPartitions) {
+        if (lockPartitions <= 0) {
+            return DEFAULT_REDIS_SEATA_ROW_LOCK_PREFIX + rowKey;
+        }
+        return DEFAULT_REDIS_SEATA_ROW_LOCK_PREFIX + "{" + getLockPartition(rowKey, lockPartitions) + "}" + rowKey;
+    }
+
+    protected static int getLockPartition(String rowKey, int lockPartitions) {
+        return (rowKey.hashCode() & Integer.MAX_VALUE) % lockPartitions;
+    }
+
+    /**
+     * Delete the row lock keys, one key per command if the keys are in different slots.
+     */
+    protected void delLockKeys(Pipeline pipelined, String... keys) {
+        if (lockPartitions > 0) {
+            for (String key : keys) {
+                pipelined.del(key);
+            }
+        } else {
+            pipelined.del(keys);
+        }
+    }
+
+    /**
+     * Sets the count of the lock partitions.
+     *
+     * @param lockPartitions the count of the lock partitions
+     */
+    public void setLockPartitions(int lockPartitions) {
+        this.lockPartitions = lockPartitions;
     }
 
 }
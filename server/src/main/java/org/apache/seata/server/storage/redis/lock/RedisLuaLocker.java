@@ -25,10 +25,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
 
 import org.apache.seata.common.exception.StoreException;
 import org.apache.seata.common.util.CollectionUtils;
@@ -105,56 +107,128 @@ public class RedisLuaLocker extends RedisLocker {
                 .map(this::convertToLockDO)
                 .filter(LambdaUtils.distinctByKey(LockDO::getRowKey))
                 .collect(Collectors.toList());
-            List<String> keys = new ArrayList<>();
-            List<String> args = new ArrayList<>();
-            int size = needLockDOs.size();
-            args.add(String.valueOf(size));
-            // args index 2 placeholder
-            args.add(null);
-            args.add(needLockXid);
-            for (LockDO lockDO : needLockDOs) {
-                keys.add(buildLockKey(lockDO.getRowKey()));
-                args.add(lockDO.getTransactionId().toString());
-                args.add(lockDO.getBranchId().toString());
-                args.add(lockDO.getResourceId());
-                args.add(lockDO.getTableName());
-                args.add(lockDO.getRowKey());
-                args.add(lockDO.getPk());
-            }
             String xidLockKey = buildXidLockKey(needLockXid);
             StringJoiner lockKeysString = new StringJoiner(ROW_LOCK_KEY_SPLIT_CHAR);
             needLockDOs.stream().map(lockDO -> buildLockKey(lockDO.getRowKey())).forEach(lockKeysString::add);
+            if (lockPartitions > 0) {
+                return acquireLockByPartition(jedis, luaSHA, needLockXid, xidLockKey, branchId, needLockDOs,
+                    lockKeysString.toString());
+            }
+            LuaParser.LuaResult luaResult = evalAcquireLock(jedis, luaSHA, needLockXid, needLockDOs, xidLockKey,
+                branchId, lockKeysString.toString());
+            return isAcquired(luaResult, needLockXid, needLockDOs);
+        }
+    }
+
+    /**
+     * Acquire the locks partition by partition in the order of the partitions, so each lua script only touches the
+     * keys of one hash tag. The row lock keys are recorded under the xid lock key first, so a crash halfway is
+     * cleaned up by the release of the xid. The locks acquired in the earlier partitions are released and the record
+     * is restored if a later partition fails.
+     */
+    private boolean acquireLockByPartition(Jedis jedis, String luaSHA, String needLockXid, String xidLockKey,
+                                           Long branchId, List<LockDO> needLockDOs, String lockKeysString) {
+        Map<Integer, List<LockDO>> partitions = needLockDOs.stream().collect(Collectors.groupingBy(
+            lockDO -> getLockPartition(lockDO.getRowKey(), lockPartitions), TreeMap::new, Collectors.toList()));
+        String recordedLockKeys = recordLockKeys(jedis, xidLockKey, branchId, lockKeysString);
+        List<LockDO> acquired = new ArrayList<>(needLockDOs.size());
+        for (List<LockDO> partition : partitions.values()) {
+            boolean success;
+            try {
+                LuaParser.LuaResult luaResult =
+                    evalAcquireLock(jedis, luaSHA, needLockXid, partition, null, null, null);
+                success = isAcquired(luaResult, needLockXid, partition);
+            } catch (RuntimeException e) {
+                releaseAcquired(jedis, acquired, branchId);
+                restoreLockKeys(jedis, xidLockKey, branchId, recordedLockKeys);
+                throw e;
+            }
+            if (!success) {
+                releaseAcquired(jedis, acquired, branchId);
+                restoreLockKeys(jedis, xidLockKey, branchId, recordedLockKeys);
+                return false;
+            }
+            acquired.addAll(partition);
+        }
+        return true;
+    }
 
+    /**
+     * Release the locks set by the branch in the earlier partitions, the locks held by the other branches of the
+     * global transaction before are kept.
+     */
+    private void releaseAcquired(Jedis jedis, List<LockDO> acquired, Long branchId) {
+        if (acquired.isEmpty()) {
+            return;
+        }
+        List<String> lockKeys = acquired.stream().map(lockDO -> buildLockKey(lockDO.getRowKey()))
+            .collect(Collectors.toList());
+        try (Pipeline pipeline = jedis.pipelined()) {
+            lockKeys.forEach(lockKey -> pipeline.hget(lockKey, BRANCH_ID));
+            List<Object> branchIds = pipeline.syncAndReturnAll();
+            for (int i = 0; i < lockKeys.size(); i++) {
+                if (branchId.toString().equals(branchIds.get(i))) {
+                    pipeline.del(lockKeys.get(i));
+                }
+            }
+            pipeline.sync();
+        }
+    }
+
+    private LuaParser.LuaResult evalAcquireLock(Jedis jedis, String luaSHA, String needLockXid,
+                                                List<LockDO> needLockDOs, String xidLockKey, Long branchId,
+                                                String lockKeysString) {
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        int size = needLockDOs.size();
+        args.add(String.valueOf(size));
+        // args index 2 placeholder
+        args.add(null);
+        args.add(needLockXid);
+        for (LockDO lockDO : needLockDOs) {
+            keys.add(buildLockKey(lockDO.getRowKey()));
+            args.add(lockDO.getTransactionId().toString());
+            args.add(lockDO.getBranchId().toString());
+            args.add(lockDO.getResourceId());
+            args.add(lockDO.getTableName());
+            args.add(lockDO.getRowKey());
+            args.add(lockDO.getPk());
+        }
+        // the xid lock key is written in the script if it is given
+        if (xidLockKey != null) {
             keys.add(xidLockKey);
             keys.add(branchId.toString());
-            args.add(lockKeysString.toString());
-            // reset args index 2
-            args.set(1, String.valueOf(args.size()));
-
-            String result = (String)LuaParser.jedisEvalSha(jedis, luaSHA, ACQUIRE_LOCK_LUA_FILE_NAME, keys, args);
-
-            LuaParser.LuaResult luaResult = LuaParser.getObjectFromJson(result, LuaParser.LuaResult.class);
-
-            // luaResult.getData() : xIdOwnLock
-            if (luaResult.getSuccess() && luaResult.getData().equals(needLockXid)) {
-                return true;
-            } else {
-                if (LuaParser.LuaErrorStatus.ANOTHER_ROLLBACKING.equals(luaResult.getStatus())) {
-                    // if a global lock is found in the Rollbacking state,the fail-fast code is returned directly.
-                    throw new StoreException(new BranchTransactionException(LockKeyConflictFailFast));
-                } else if (LuaParser.LuaErrorStatus.ANOTHER_HOLDING.equals(luaResult.getStatus())) {
-                    // means the rowKey is holding by another global transaction
-                    logGlobalLockConflictInfo(needLockXid, keys.get(0), luaResult.getData());
-                }
-                return false;
+            args.add(lockKeysString);
+        }
+        // reset args index 2
+        args.set(1, String.valueOf(args.size()));
+
+        String result = (String)LuaParser.jedisEvalSha(jedis, luaSHA, ACQUIRE_LOCK_LUA_FILE_NAME, keys, args);
+        return LuaParser.getObjectFromJson(result, LuaParser.LuaResult.class);
+    }
+
+    private boolean isAcquired(LuaParser.LuaResult luaResult, String needLockXid, List<LockDO> needLockDOs) {
+        // luaResult.getData() : xIdOwnLock
+        if (luaResult.getSuccess() && luaResult.getData().equals(needLockXid)) {
+            return true;
+        } else {
+            if (LuaParser.LuaErrorStatus.ANOTHER_ROLLBACKING.equals(luaResult.getStatus())) {
+                // if a global lock is found in the Rollbacking state,the fail-fast code is returned directly.
+                throw new StoreException(new BranchTransactionException(LockKeyConflictFailFast));
+            } else if (LuaParser.LuaErrorStatus.ANOTHER_HOLDING.equals(luaResult.getStatus())) {
+                // means the rowKey is holding by another global transaction
+                logGlobalLockConflictInfo(needLockXid, buildLockKey(needLockDOs.get(0).getRowKey()),
+                    luaResult.getData());
             }
+            return false;
         }
     }
 
     @Override
     public boolean releaseLock(String xid) {
         String luaSHA = LOCK_SHA_MAP.get(RELEASE_LOCK_LUA_FILE_NAME);
-        if (luaSHA == null) {
+        // the script reads the xid lock key and deletes the row lock keys, which are in different slots
+        if (luaSHA == null || lockPartitions > 0) {
             return super.releaseLock(xid);
         }
         try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
@@ -173,7 +247,7 @@ public class RedisLuaLocker extends RedisLocker {
             return true;
         }
         String luaSHA = LOCK_SHA_MAP.get(RELEASE_LOCK_LUA_FILE_NAME);
-        if (luaSHA == null) {
+        if (luaSHA == null || lockPartitions > 0) {
             return super.releaseLock(xid, branchId);
         }
         try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
@@ -193,7 +267,7 @@ public class RedisLuaLocker extends RedisLocker {
             return true;
         }
         String luaSHA = LOCK_SHA_MAP.get(LOCKABLE_LUA_FILE_NAME);
-        if (luaSHA == null) {
+        if (luaSHA == null || lockPartitions > 0) {
             return super.isLockable(rowLocks);
         }
         try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
@@ -216,7 +290,7 @@ public class RedisLuaLocker extends RedisLocker {
     @Override
     public void updateLockStatus(String xid, LockStatus lockStatus) {
         String luaSHA = LOCK_SHA_MAP.get(UPDATE_LOCK_LUA_FILE_NAME);
-        if (luaSHA == null) {
+        if (luaSHA == null || lockPartitions > 0) {
             super.updateLockStatus(xid, lockStatus);
             return;
         }
@@ -16,8 +16,10 @@
  */
 package org.apache.seata.server.storage.redis.session;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.seata.common.exception.StoreException;
 import org.apache.seata.common.executor.Initialize;
@@ -126,6 +128,24 @@ public class RedisSessionManager extends AbstractSessionManager
         return transactionStoreManager.readSession(xid, withBranchSessions);
     }
 
+    @Override
+    public List<BranchSession> findBranchSessions(String xid) {
+        return transactionStoreManager.readBranchSessions(xid);
+    }
+
+    @Override
+    public void removeBranchSessions(Map<GlobalSession, List<BranchSession>> branchSessions)
+        throws TransactionException {
+        List<BranchSession> removed = new ArrayList<>();
+        branchSessions.values().forEach(removed::addAll);
+        if (!transactionStoreManager.removeBranchSessions(removed)) {
+            throw new StoreException("removeBranchSessions failed.");
+        }
+        for (Map.Entry<GlobalSession, List<BranchSession>> entry : branchSessions.entrySet()) {
+            entry.getValue().forEach(entry.getKey()::remove);
+        }
+    }
+
     @Override
     public Collection<GlobalSession> allSessions() {
         return findGlobalSessions(
@@ -146,4 +166,9 @@ public class RedisSessionManager extends AbstractSessionManager
         throws TransactionException {
         return lockCallable.call();
     }
+
+    @Override
+    public void destroy() {
+        transactionStoreManager.shutdown();
+    }
 }
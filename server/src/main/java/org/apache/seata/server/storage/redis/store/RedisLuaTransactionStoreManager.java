@@ -43,6 +43,7 @@ import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_BRANCH
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_BRANCH_GMT_MODIFIED;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_BRANCH_STATUS;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_BRANCH_XID;
+import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_GLOBAL_BEGIN_TIME;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_GLOBAL_GMT_MODIFIED;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_GLOBAL_STATUS;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_GLOBAL_XID;
@@ -256,8 +257,10 @@ public class RedisLuaTransactionStoreManager extends RedisTransactionStoreManage
                 args.add(entry.getValue());
             }
             keys.add(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY);
+            keys.add(buildGlobalStatusIndex(globalTransactionDO.getStatus()));
             args.add(xid);
             args.add(String.valueOf(globalTransactionDO.getBeginTime() + globalTransactionDO.getTimeout()));
+            args.add(String.valueOf(globalTransactionDO.getBeginTime()));
             LuaParser.jedisEvalSha(jedis, luaSHA, INSERT_TRANSACTION_DO_LUA_FILE_NAME, keys, args);
             return true;
         } catch (Exception ex) {
@@ -281,6 +284,7 @@ public class RedisLuaTransactionStoreManager extends RedisTransactionStoreManage
                     add(globalStatus);
                     add(REDIS_KEY_GLOBAL_XID);
                     add(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY);
+                    add(buildGlobalStatusIndex(globalTransactionDO.getStatus()));
                 }
             };
             List<String> args = new ArrayList<String>() {
@@ -314,6 +318,9 @@ public class RedisLuaTransactionStoreManager extends RedisTransactionStoreManage
                     add(REDIS_KEY_GLOBAL_STATUS);
                     add(REDIS_KEY_GLOBAL_GMT_MODIFIED);
                     add(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY);
+                    add(REDIS_KEY_GLOBAL_BEGIN_TIME);
+                    add(buildGlobalStatus(status));
+                    add(buildGlobalStatusIndex(status));
                 }
             };
             List<String> args = new ArrayList<String>() {
@@ -323,6 +330,12 @@ public class RedisLuaTransactionStoreManager extends RedisTransactionStoreManage
                     add(xid);
                 }
             };
+            // the status keys of the previous status, which is only known in the script
+            for (GlobalStatus previousStatus : GlobalStatus.values()) {
+                keys.add(buildGlobalStatus(previousStatus.getCode()));
+                keys.add(buildGlobalStatusIndex(previousStatus.getCode()));
+                args.add(String.valueOf(previousStatus.getCode()));
+            }
             String result = (String)LuaParser.jedisEvalSha(jedis, luaSHA, UPDATE_GLOBAL_TRANSACTION_DO_LUA_FILE_NAME, keys, args);
             LuaParser.LuaResult luaResult = LuaParser.getObjectFromJson(result, LuaParser.LuaResult.class);
             // fail
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.redis.store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.apache.seata.common.exception.RedisException;
+import org.apache.seata.server.storage.AbstractSessionBatchWriter;
+import org.apache.seata.server.storage.redis.JedisPooledFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+
+/**
+ * Write the sessions to redis in batches.
+ * <p>
+ * The flush thread sends the commands of the queued writes in one pipeline, so a batch costs one round trip instead
+ * of one per write. The callers are released after the pipeline is synced, and every write checks the responses of
+ * its own commands, so only the failed write sees the error.
+ */
+class RedisSessionBatchWriter extends AbstractSessionBatchWriter<Function<Pipeline, List<Response<?>>>> {
+
+    RedisSessionBatchWriter(int batchSize) {
+        super("redisSessionBatchWrite", batchSize, 1, DEFAULT_WRITE_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    protected void flush(List<PendingWrite<Function<Pipeline, List<Response<?>>>>> batch) {
+        long start = System.nanoTime();
+        List<List<Response<?>>> responses = new ArrayList<>(batch.size());
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance(); Pipeline pipeline = jedis.pipelined()) {
+            for (PendingWrite<Function<Pipeline, List<Response<?>>>> write : batch) {
+                responses.add(write.getWrite().apply(pipeline));
+            }
+            pipeline.sync();
+        } catch (Exception e) {
+            RedisException exception = new RedisException(e);
+            batch.forEach(write -> write.fail(exception));
+            return;
+        }
+        record(batch.size(), System.nanoTime() - start);
+        for (int i = 0; i < batch.size(); i++) {
+            try {
+                // get() throws the error of the command
+                responses.get(i).forEach(Response::get);
+                batch.get(i).complete(true);
+            } catch (Exception e) {
+                batch.get(i).fail(new RedisException(e));
+            }
+        }
+    }
+
+    @Override
+    protected RuntimeException toException(Throwable cause) {
+        return cause instanceof RedisException ? (RedisException)cause : new RedisException(cause);
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.seata.server.storage.redis.store;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -44,6 +45,7 @@ import org.apache.seata.core.model.GlobalStatus;
 import org.apache.seata.core.store.BranchTransactionDO;
 import org.apache.seata.core.store.GlobalTransactionDO;
 import org.apache.seata.server.console.param.GlobalSessionParam;
+import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
 import org.apache.seata.server.session.SessionStatusValidator;
@@ -57,14 +59,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
 import redis.clients.jedis.Transaction;
+import redis.clients.jedis.Tuple;
 
+import static org.apache.seata.common.ConfigurationKeys.STORE_REDIS_BATCH_WRITE_ENABLE;
+import static org.apache.seata.common.ConfigurationKeys.STORE_REDIS_BATCH_WRITE_SIZE;
 import static org.apache.seata.common.ConfigurationKeys.STORE_REDIS_QUERY_LIMIT;
 import static org.apache.seata.common.DefaultValues.DEFAULT_QUERY_LIMIT;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_REDIS_BATCH_WRITE_ENABLE;
+import static org.apache.seata.common.DefaultValues.DEFAULT_STORE_REDIS_BATCH_WRITE_SIZE;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_BRANCH_APPLICATION_DATA;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_BRANCH_GMT_MODIFIED;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_BRANCH_STATUS;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_BRANCH_XID;
+import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_GLOBAL_BEGIN_TIME;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_GLOBAL_GMT_MODIFIED;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_GLOBAL_STATUS;
 import static org.apache.seata.core.constants.RedisKeyConstants.REDIS_KEY_GLOBAL_XID;
@@ -97,6 +106,11 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      */
     private static final String REDIS_SEATA_STATUS_PREFIX = "SEATA_STATUS_";
 
+    /**
+     * the prefix of the global transaction status index, the xids of a status scored by the begin time
+     */
+    private static final String REDIS_SEATA_STATUS_INDEX_PREFIX = "SEATA_STATUS_INDEX_";
+
     /**the key of global transaction status for begin*/
     protected static final String REDIS_SEATA_BEGIN_TRANSACTIONS_KEY = "SEATA_BEGIN_TRANSACTIONS";
 
@@ -114,6 +128,8 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      */
     protected int logQueryLimit;
 
+    private volatile RedisSessionBatchWriter batchWriter;
+
     /**
      * Get the instance.
      */
@@ -136,12 +152,20 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         initGlobalMap();
         initBranchMap();
         initLogQueryLimit();
+        initBatchWriter();
     }
 
     protected void initLogQueryLimit() {
         logQueryLimit = CONFIG.getInt(STORE_REDIS_QUERY_LIMIT, DEFAULT_QUERY_LIMIT);
     }
 
+    protected void initBatchWriter() {
+        if (CONFIG.getBoolean(STORE_REDIS_BATCH_WRITE_ENABLE, DEFAULT_STORE_REDIS_BATCH_WRITE_ENABLE)) {
+            batchWriter = new RedisSessionBatchWriter(
+                CONFIG.getInt(STORE_REDIS_BATCH_WRITE_SIZE, DEFAULT_STORE_REDIS_BATCH_WRITE_SIZE));
+        }
+    }
+
     /**
      * Map for LogOperation Global Operation
      */
@@ -180,6 +204,13 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
 
     @Override
     public boolean writeSession(LogOperation logOperation, SessionStorable session) {
+        RedisSessionBatchWriter writer = batchWriter;
+        if (writer != null) {
+            Function<Pipeline, List<Response<?>>> commands = toBatchCommands(logOperation, session);
+            if (commands != null) {
+                return writer.write(commands);
+            }
+        }
         if (globalMap.containsKey(logOperation) || branchMap.containsKey(logOperation)) {
             return globalMap.containsKey(logOperation) ?
                 globalMap.get(logOperation).apply(SessionConverter.convertGlobalTransactionDO(session)) :
@@ -189,6 +220,34 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         }
     }
 
+    /**
+     * Convert the write to the commands of the batch writer. Only the inserts and the deletes are batched, they are
+     * written without reading the previous data, and the updates which have to check the previous status are not.
+     *
+     * @param logOperation the log operation
+     * @param session      the session
+     * @return the commands, null if the write is not batched
+     */
+    private Function<Pipeline, List<Response<?>>> toBatchCommands(LogOperation logOperation,
+                                                                 SessionStorable session) {
+        switch (logOperation) {
+            case GLOBAL_ADD:
+                GlobalTransactionDO insertedGlobal = SessionConverter.convertGlobalTransactionDO(session);
+                return pipeline -> appendInsertGlobalTransactionDO(pipeline, insertedGlobal);
+            case GLOBAL_REMOVE:
+                GlobalTransactionDO deletedGlobal = SessionConverter.convertGlobalTransactionDO(session);
+                return pipeline -> appendDeleteGlobalTransactionDO(pipeline, deletedGlobal);
+            case BRANCH_ADD:
+                BranchTransactionDO insertedBranch = SessionConverter.convertBranchTransactionDO(session);
+                return pipeline -> appendInsertBranchTransactionDO(pipeline, insertedBranch);
+            case BRANCH_REMOVE:
+                BranchTransactionDO deletedBranch = SessionConverter.convertBranchTransactionDO(session);
+                return pipeline -> appendDeleteBranchTransactionDO(pipeline, deletedBranch);
+            default:
+                return null;
+        }
+    }
+
     /**
      * Insert branch transaction
      *
@@ -196,14 +255,8 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      * @return the boolean
      */
     protected boolean insertBranchTransactionDO(BranchTransactionDO branchTransactionDO) {
-        String branchKey = buildBranchKey(branchTransactionDO.getBranchId());
-        String branchListKey = buildBranchListKeyByXid(branchTransactionDO.getXid());
         try (Jedis jedis = JedisPooledFactory.getJedisInstance(); Pipeline pipelined = jedis.pipelined()) {
-            Date now = new Date();
-            branchTransactionDO.setGmtCreate(now);
-            branchTransactionDO.setGmtModified(now);
-            pipelined.hmset(branchKey, BeanUtils.objectToMap(branchTransactionDO));
-            pipelined.rpush(branchListKey, branchKey);
+            appendInsertBranchTransactionDO(pipelined, branchTransactionDO);
             pipelined.sync();
             return true;
         } catch (Exception ex) {
@@ -211,6 +264,24 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         }
     }
 
+    private List<Response<?>> appendInsertBranchTransactionDO(Pipeline pipelined,
+                                                            BranchTransactionDO branchTransactionDO) {
+        String branchKey = buildBranchKey(branchTransactionDO.getBranchId());
+        String branchListKey = buildBranchListKeyByXid(branchTransactionDO.getXid());
+        Date now = new Date();
+        branchTransactionDO.setGmtCreate(now);
+        branchTransactionDO.setGmtModified(now);
+        return Arrays.asList(pipelined.hmset(branchKey, BeanUtils.objectToMap(branchTransactionDO)),
+            pipelined.rpush(branchListKey, branchKey));
+    }
+
+    private List<Response<?>> appendDeleteBranchTransactionDO(Pipeline pipelined,
+                                                            BranchTransactionDO branchTransactionDO) {
+        String branchKey = buildBranchKey(branchTransactionDO.getBranchId());
+        String branchListKey = buildBranchListKeyByXid(branchTransactionDO.getXid());
+        return Arrays.asList(pipelined.lrem(branchListKey, 0, branchKey), pipelined.del(branchKey));
+    }
+
     /**
      * Delete the branch transaction
      *
@@ -226,8 +297,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
                 return true;
             }
             try (Pipeline pipelined = jedis.pipelined()) {
-                pipelined.lrem(branchListKey, 0, branchKey);
-                pipelined.del(branchKey);
+                appendDeleteBranchTransactionDO(pipelined, branchTransactionDO);
                 pipelined.sync();
             }
             return true;
@@ -271,16 +341,8 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      * @return
      */
     protected boolean insertGlobalTransactionDO(GlobalTransactionDO globalTransactionDO) {
-        String globalKey = buildGlobalKeyByTransactionId(globalTransactionDO.getTransactionId());
         try (Jedis jedis = JedisPooledFactory.getJedisInstance(); Pipeline pipelined = jedis.pipelined()) {
-            Date now = new Date();
-            globalTransactionDO.setGmtCreate(now);
-            globalTransactionDO.setGmtModified(now);
-            pipelined.hmset(globalKey, BeanUtils.objectToMap(globalTransactionDO));
-            String xid = globalTransactionDO.getXid();
-            pipelined.rpush(buildGlobalStatus(globalTransactionDO.getStatus()), xid);
-            pipelined.zadd(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY,
-                globalTransactionDO.getBeginTime() + globalTransactionDO.getTimeout(), globalKey);
+            appendInsertGlobalTransactionDO(pipelined, globalTransactionDO);
             pipelined.sync();
             return true;
         } catch (Exception ex) {
@@ -288,6 +350,36 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         }
     }
 
+    private List<Response<?>> appendInsertGlobalTransactionDO(Pipeline pipelined,
+                                                            GlobalTransactionDO globalTransactionDO) {
+        String globalKey = buildGlobalKeyByTransactionId(globalTransactionDO.getTransactionId());
+        Date now = new Date();
+        globalTransactionDO.setGmtCreate(now);
+        globalTransactionDO.setGmtModified(now);
+        String xid = globalTransactionDO.getXid();
+        return Arrays.asList(pipelined.hmset(globalKey, BeanUtils.objectToMap(globalTransactionDO)),
+            pipelined.rpush(buildGlobalStatus(globalTransactionDO.getStatus()), xid),
+            pipelined.zadd(buildGlobalStatusIndex(globalTransactionDO.getStatus()),
+                globalTransactionDO.getBeginTime(), xid),
+            pipelined.zadd(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY,
+                globalTransactionDO.getBeginTime() + globalTransactionDO.getTimeout(), globalKey));
+    }
+
+    private List<Response<?>> appendDeleteGlobalTransactionDO(Pipeline pipelined,
+                                                            GlobalTransactionDO globalTransactionDO) {
+        String globalKey = buildGlobalKeyByTransactionId(globalTransactionDO.getTransactionId());
+        String xid = globalTransactionDO.getXid();
+        List<Response<?>> responses = new ArrayList<>(4);
+        responses.add(pipelined.lrem(buildGlobalStatus(globalTransactionDO.getStatus()), 0, xid));
+        responses.add(pipelined.zrem(buildGlobalStatusIndex(globalTransactionDO.getStatus()), xid));
+        responses.add(pipelined.del(globalKey));
+        if (GlobalStatus.Begin.getCode() == globalTransactionDO.getStatus()
+            || GlobalStatus.UnKnown.getCode() == globalTransactionDO.getStatus()) {
+            responses.add(pipelined.zrem(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, globalKey));
+        }
+        return responses;
+    }
+
     /**
      * Delete the global transaction.
      * It will operate two parts:
@@ -300,7 +392,6 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
      */
     protected boolean deleteGlobalTransactionDO(GlobalTransactionDO globalTransactionDO) {
         String globalKey = buildGlobalKeyByTransactionId(globalTransactionDO.getTransactionId());
-        String globalStatus = buildGlobalStatus(globalTransactionDO.getStatus());
         try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
             // pipeline mode
             String xid = jedis.hget(globalKey, REDIS_KEY_GLOBAL_XID);
@@ -310,12 +401,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
                 return true;
             }
             try (Pipeline pipelined = jedis.pipelined()) {
-                pipelined.lrem(globalStatus, 0, globalTransactionDO.getXid());
-                pipelined.del(globalKey);
-                if (GlobalStatus.Begin.getCode() == globalTransactionDO.getStatus()
-                    || GlobalStatus.UnKnown.getCode() == globalTransactionDO.getStatus()) {
-                    pipelined.zrem(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, globalKey);
-                }
+                appendDeleteGlobalTransactionDO(pipelined, globalTransactionDO);
                 pipelined.sync();
             }
             return true;
@@ -341,7 +427,8 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
             // Defensive watch to prevent other TC server operating concurrently,Fail fast
             jedis.watch(globalKey);
-            List<String> statusAndGmtModified = jedis.hmget(globalKey, REDIS_KEY_GLOBAL_STATUS, REDIS_KEY_GLOBAL_GMT_MODIFIED);
+            List<String> statusAndGmtModified = jedis.hmget(globalKey, REDIS_KEY_GLOBAL_STATUS, REDIS_KEY_GLOBAL_GMT_MODIFIED,
+                REDIS_KEY_GLOBAL_BEGIN_TIME);
             String previousStatus = statusAndGmtModified.get(0);
             if (StringUtils.isEmpty(previousStatus)) {
                 jedis.unwatch();
@@ -359,6 +446,7 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             }
 
             String previousGmtModified = statusAndGmtModified.get(1);
+            String beginTime = statusAndGmtModified.get(2);
             Transaction multi = jedis.multi();
             Map<String,String> map = new HashMap<>(2);
             map.put(REDIS_KEY_GLOBAL_STATUS,String.valueOf(globalTransactionDO.getStatus()));
@@ -367,6 +455,10 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             multi.lrem(buildGlobalStatus(Integer.valueOf(previousStatus)), 0, xid);
             multi.rpush(buildGlobalStatus(globalTransactionDO.getStatus()), xid);
             multi.zrem(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, globalKey);
+            multi.zrem(buildGlobalStatusIndex(Integer.valueOf(previousStatus)), xid);
+            if (StringUtils.isNotEmpty(beginTime)) {
+                multi.zadd(buildGlobalStatusIndex(status), Double.parseDouble(beginTime), xid);
+            }
             List<Object> exec = multi.exec();
             if (CollectionUtils.isEmpty(exec)) {
                 //The data has changed by another tc, so we still think the modification is successful.
@@ -395,9 +487,14 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
                 }
                 if (lrem > 0) {
                     jedis.rpush(buildGlobalStatus(Integer.valueOf(previousStatus)), xid);
+                    if (StringUtils.isNotEmpty(beginTime)) {
+                        jedis.zadd(buildGlobalStatusIndex(Integer.valueOf(previousStatus)),
+                            Double.parseDouble(beginTime), xid);
+                    }
                 }
                 if (rpush > 0) {
                     jedis.lrem(buildGlobalStatus(status), 0, xid);
+                    jedis.zrem(buildGlobalStatusIndex(status), xid);
                 }
                 return false;
             }
@@ -443,6 +540,38 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         return this.readSession(xid, true);
     }
 
+    @Override
+    public List<BranchSession> readBranchSessions(String xid) {
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            return readBranchSessionByXid(jedis, xid).stream().map(SessionConverter::convertBranchSession)
+                .collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public boolean removeBranchSessions(List<BranchSession> branchSessions) {
+        List<BranchTransactionDO> branchTransactionDOs = branchSessions.stream()
+            .map(SessionConverter::convertBranchTransactionDO).collect(Collectors.toList());
+        Function<Pipeline, List<Response<?>>> commands = pipeline -> {
+            List<Response<?>> responses = new ArrayList<>(branchTransactionDOs.size() * 2);
+            for (BranchTransactionDO branchTransactionDO : branchTransactionDOs) {
+                responses.addAll(appendDeleteBranchTransactionDO(pipeline, branchTransactionDO));
+            }
+            return responses;
+        };
+        RedisSessionBatchWriter writer = batchWriter;
+        if (writer != null) {
+            return writer.write(commands);
+        }
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance(); Pipeline pipelined = jedis.pipelined()) {
+            commands.apply(pipelined);
+            pipelined.sync();
+            return true;
+        } catch (Exception ex) {
+            throw new RedisException(ex);
+        }
+    }
+
     /**
      * Read globalSession list by global status
      *
@@ -452,6 +581,22 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
     @Override
     public List<GlobalSession> readSession(GlobalStatus[] statuses, boolean withBranchSessions) {
         List<GlobalSession> globalSessions = Collections.synchronizedList(new ArrayList<>());
+        if (logQueryLimit <= 0) {
+            return globalSessions;
+        }
+        List<String> indexedXids;
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            indexedXids = isStatusIndexed(jedis, statuses) ? readXidsByStatusIndex(jedis, statuses) : null;
+        }
+        if (indexedXids != null) {
+            indexedXids.parallelStream().forEach(xid -> {
+                GlobalSession globalSession = this.readSession(xid, withBranchSessions);
+                if (globalSession != null) {
+                    globalSessions.add(globalSession);
+                }
+            });
+            return globalSessions;
+        }
         List<String> statusKeys = convertStatusKeys(statuses);
         Map<String, Integer> targetMap = calculateStatuskeysHasData(statusKeys);
         if (targetMap.size() == 0 || logQueryLimit <= 0) {
@@ -475,6 +620,51 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         return globalSessions;
     }
 
+    /**
+     * Whether the status indexes cover the status lists. The global transactions written before the indexes were
+     * introduced are only in the lists, and the lists are scanned until they are finished.
+     *
+     * @param jedis    the jedis
+     * @param statuses the statuses
+     * @return true if every index has the same size as its list
+     */
+    private boolean isStatusIndexed(Jedis jedis, GlobalStatus[] statuses) {
+        try (Pipeline pipeline = jedis.pipelined()) {
+            for (GlobalStatus status : statuses) {
+                pipeline.llen(buildGlobalStatus(status.getCode()));
+                pipeline.zcard(buildGlobalStatusIndex(status.getCode()));
+            }
+            List<Object> counts = pipeline.syncAndReturnAll();
+            for (int i = 0; i < counts.size(); i += 2) {
+                if (!Objects.equals(counts.get(i), counts.get(i + 1))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Read the oldest xids of the statuses from the status indexes, at most the query limit of them.
+     *
+     * @param jedis    the jedis
+     * @param statuses the statuses
+     * @return the xids sorted by the begin time
+     */
+    private List<String> readXidsByStatusIndex(Jedis jedis, GlobalStatus[] statuses) {
+        List<Tuple> tuples = new ArrayList<>();
+        try (Pipeline pipeline = jedis.pipelined()) {
+            List<Response<Set<Tuple>>> responses = new ArrayList<>(statuses.length);
+            for (GlobalStatus status : statuses) {
+                responses.add(pipeline.zrangeWithScores(buildGlobalStatusIndex(status.getCode()), 0, logQueryLimit - 1));
+            }
+            pipeline.sync();
+            responses.forEach(response -> tuples.addAll(response.get()));
+        }
+        return tuples.stream().sorted((o1, o2) -> Double.compare(o1.getScore(), o2.getScore())).limit(logQueryLimit)
+            .map(Tuple::getElement).collect(Collectors.toList());
+    }
+
     @Override
     public List<GlobalSession> readSortByTimeoutBeginSessions(boolean withBranchSessions) {
         List<GlobalSession> list = Collections.emptyList();
@@ -490,28 +680,92 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             Set<String> values =
                 jedis.zrangeByScore(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, 0, System.currentTimeMillis(), 0,
                         (int) queryCount);
-            List<Map<String, String>> rep;
-            try (Pipeline pipeline = jedis.pipelined()) {
-                for (String value : values) {
-                    pipeline.hgetAll(value);
+            list = readGlobalSessionsByKeys(jedis, values, withBranchSessions);
+        }
+        return list;
+    }
+
+    private List<GlobalSession> readGlobalSessionsByKeys(Jedis jedis, Collection<String> globalKeys,
+                                                         boolean withBranchSessions) {
+        List<Map<String, String>> rep;
+        try (Pipeline pipeline = jedis.pipelined()) {
+            for (String globalKey : globalKeys) {
+                pipeline.hgetAll(globalKey);
+            }
+            rep = (List<Map<String, String>>) (List) pipeline.syncAndReturnAll();
+        }
+        return rep.stream().map(map -> {
+            GlobalTransactionDO globalTransactionDO = (GlobalTransactionDO) BeanUtils.mapToObject(map,
+                    GlobalTransactionDO.class);
+            if (globalTransactionDO != null) {
+                String xid = globalTransactionDO.getXid();
+                List<BranchTransactionDO> branchTransactionDOs = new ArrayList<>();
+                if (withBranchSessions) {
+                    branchTransactionDOs = this.readBranchSessionByXid(jedis, xid);
                 }
-                rep = (List<Map<String, String>>) (List) pipeline.syncAndReturnAll();
-            }
-            list = rep.stream().map(map -> {
-                GlobalTransactionDO globalTransactionDO = (GlobalTransactionDO) BeanUtils.mapToObject(map,
-                        GlobalTransactionDO.class);
-                if (globalTransactionDO != null) {
-                    String xid = globalTransactionDO.getXid();
-                    List<BranchTransactionDO> branchTransactionDOs = new ArrayList<>();
-                    if (withBranchSessions) {
-                        branchTransactionDOs = this.readBranchSessionByXid(jedis, xid);
+                return getGlobalSession(globalTransactionDO, branchTransactionDOs, withBranchSessions);
+            }
+            return null;
+        }).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /**
+     * Read the global sessions of a shard. The status lists are scanned page by page until the query limit of
+     * sessions in the shard are found, and at most the query limit times the shard count of entries are scanned.
+     *
+     * @param sessionCondition the sharded session condition
+     * @return the global sessions
+     */
+    private List<GlobalSession> readShardSessions(SessionCondition sessionCondition) {
+        boolean withBranchSessions = !sessionCondition.isLazyLoadBranch();
+        long maxScan = (long) logQueryLimit * sessionCondition.getShardCount();
+        GlobalStatus[] statuses = sessionCondition.getStatuses();
+        List<String> xids = new ArrayList<>();
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            if (statuses.length == 1 && statuses[0] == GlobalStatus.Begin) {
+                List<String> globalKeys = new ArrayList<>();
+                long now = System.currentTimeMillis();
+                for (int offset = 0; offset < maxScan && globalKeys.size() < logQueryLimit; offset += logQueryLimit) {
+                    Set<String> values = jedis.zrangeByScore(REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, 0, now, offset,
+                        logQueryLimit);
+                    for (String value : values) {
+                        long transactionId = Long.parseLong(value.substring(REDIS_SEATA_GLOBAL_PREFIX.length()));
+                        if (sessionCondition.matchShard(transactionId) && globalKeys.size() < logQueryLimit) {
+                            globalKeys.add(value);
+                        }
+                    }
+                    if (values.size() < logQueryLimit) {
+                        break;
                     }
-                    return getGlobalSession(globalTransactionDO, branchTransactionDOs, withBranchSessions);
                 }
-                return null;
-            }).filter(Objects::nonNull).collect(Collectors.toList());
+                return readGlobalSessionsByKeys(jedis, globalKeys, withBranchSessions);
+            }
+            boolean indexed = isStatusIndexed(jedis, statuses);
+            for (GlobalStatus status : statuses) {
+                for (long start = 0; start < maxScan && xids.size() < logQueryLimit; start += logQueryLimit) {
+                    long stop = start + logQueryLimit - 1;
+                    List<String> values = indexed
+                        ? new ArrayList<>(jedis.zrange(buildGlobalStatusIndex(status.getCode()), start, stop))
+                        : jedis.lrange(buildGlobalStatus(status.getCode()), start, stop);
+                    for (String xid : values) {
+                        if (sessionCondition.matchShard(XID.getTransactionId(xid)) && xids.size() < logQueryLimit) {
+                            xids.add(xid);
+                        }
+                    }
+                    if (values.size() < logQueryLimit) {
+                        break;
+                    }
+                }
+            }
         }
-        return list;
+        List<GlobalSession> globalSessions = new ArrayList<>(xids.size());
+        for (String xid : xids) {
+            GlobalSession globalSession = this.readSession(xid, withBranchSessions);
+            if (globalSession != null) {
+                globalSessions.add(globalSession);
+            }
+        }
+        return globalSessions;
     }
 
     /**
@@ -552,6 +806,9 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
             }
             return globalSessions;
         } else if (CollectionUtils.isNotEmpty(sessionCondition.getStatuses())) {
+            if (sessionCondition.isSharded() && logQueryLimit > 0) {
+                return readShardSessions(sessionCondition);
+            }
             if (sessionCondition.getStatuses().length == 1 && sessionCondition.getStatuses()[0] == GlobalStatus.Begin) {
                 return this.readSortByTimeoutBeginSessions(!sessionCondition.isLazyLoadBranch());
             } else {
@@ -860,6 +1117,10 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         return REDIS_SEATA_STATUS_PREFIX + status;
     }
 
+    protected String buildGlobalStatusIndex(Integer status) {
+        return REDIS_SEATA_STATUS_INDEX_PREFIX + status;
+    }
+
     /**
      * Sets log query limit.
      *
@@ -869,4 +1130,13 @@ public class RedisTransactionStoreManager extends AbstractTransactionStoreManage
         this.logQueryLimit = logQueryLimit;
     }
 
+    @Override
+    public void shutdown() {
+        RedisSessionBatchWriter writer = batchWriter;
+        if (writer != null) {
+            batchWriter = null;
+            writer.shutdown();
+        }
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.apache.seata.server.store;
 
 import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
 
@@ -54,6 +55,21 @@ public abstract class AbstractTransactionStoreManager implements TransactionStor
         return Collections.emptyList();
     }
 
+    @Override
+    public List<BranchSession> readBranchSessions(String xid) {
+        GlobalSession globalSession = readSession(xid, true);
+        return globalSession != null ? globalSession.getBranchSessions() : Collections.emptyList();
+    }
+
+    @Override
+    public boolean removeBranchSessions(List<BranchSession> branchSessions) {
+        boolean removed = true;
+        for (BranchSession branchSession : branchSessions) {
+            removed &= writeSession(LogOperation.BRANCH_REMOVE, branchSession);
+        }
+        return removed;
+    }
+
     @Override
     public void shutdown() {
     }
@@ -17,6 +17,7 @@
 package org.apache.seata.server.store;
 
 import org.apache.seata.core.model.GlobalStatus;
+import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
 
@@ -79,6 +80,22 @@ public interface TransactionStoreManager {
      */
     List<GlobalSession> readSession(SessionCondition sessionCondition);
 
+    /**
+     * Read the branch sessions of a global session only, for the global sessions loading the branches lazily.
+     *
+     * @param xid the xid
+     * @return the branch sessions
+     */
+    List<BranchSession> readBranchSessions(String xid);
+
+    /**
+     * Remove the branch sessions, in one store batch if the store supports.
+     *
+     * @param branchSessions the branch sessions
+     * @return the boolean
+     */
+    boolean removeBranchSessions(List<BranchSession> branchSessions);
+
     /**
      * Shutdown.
      */
@@ -23,6 +23,7 @@
 -- KEYS[2] listKey
 -- KEYS[3] REDIS_KEY_BRANCH_XID/REDIS_KEY_GLOBAL_XID
 -- KEYS[4] REDIS_SEATA_BEGIN_TRANSACTIONS_KEY (only type is global)
+-- KEYS[5] the status index key (only type is global)
 -- ARGV[1] type: global or branch
 -- ARGV[2] globalTransactionDO xid (only type is global)
 -- ARGV[3] globalTransactionDO status (only type is global)
@@ -49,6 +50,7 @@ elseif (type == 'global') then
     local status = tonumber(ARGV[3]);
     local REDIS_SEATA_BEGIN_TRANSACTIONS_KEY = KEYS[4];
     redis.call('LREM', listKey, 0, xid);
+    redis.call('ZREM', KEYS[5], xid);
     redis.call('DEL', branchOrGlobalKey);
     -- GlobalStatus.Begin or GlobalStatus.UnKnown
     if (status == 1 or status == 0) then
@@ -22,12 +22,14 @@
 -- KEYS[1] branchOrGlobalKey
 -- KEYS[2] listKey
 -- KEYS[3~-2] transactionDOMap.keys
--- KEYS[-1] REDIS_SEATA_BEGIN_TRANSACTIONS_KEY (only type is global)
+-- KEYS[-2] REDIS_SEATA_BEGIN_TRANSACTIONS_KEY (only type is global)
+-- KEYS[-1] the status index key (only type is global)
 -- ARGV[1] type: global or branch
 -- ARGV[2] transactionDOMap.size()
 -- ARGV[3~-2] transactionDOMap.values
--- ARGV[-2] xid (only type is global)
--- ARGV[-1] beginTime+timeout (only type is global)
+-- ARGV[-3] xid (only type is global)
+-- ARGV[-2] beginTime+timeout (only type is global)
+-- ARGV[-1] beginTime (only type is global)
 
 -- init data
 local branchOrGlobalKey = KEYS[1];
@@ -46,6 +48,7 @@ elseif type == 'global' then
     local REDIS_SEATA_BEGIN_TRANSACTIONS_KEY = KEYS[keySize + 3];
     redis.call('RPUSH', listKey, ARGV[keySize + 3]);
     redis.call('ZADD', REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, ARGV[keySize + 4], branchOrGlobalKey)
+    redis.call('ZADD', KEYS[keySize + 4], ARGV[keySize + 5], ARGV[keySize + 3])
 end
 
 return 'true';
@@ -23,15 +23,23 @@
 -- KEYS[2] REDIS_KEY_GLOBAL_STATUS
 -- KEYS[3] REDIS_KEY_GLOBAL_GMT_MODIFIED
 -- KEYS[4] REDIS_SEATA_BEGIN_TRANSACTIONS_KEY
+-- KEYS[5] REDIS_KEY_GLOBAL_BEGIN_TIME
+-- KEYS[6] the status list key of status
+-- KEYS[7] the status index key of status
+-- KEYS[6 + 2i], KEYS[7 + 2i] the status list key and the status index key of ARGV[3 + i], for i >= 1
 -- ARGV[1] status
 -- ARGV[2] nowTime
 -- ARGV[3] xid
+-- ARGV[3 + i] every global status a previous status may be, for i >= 1
 
 -- init data
 local globalKey = KEYS[1];
 local REDIS_KEY_GLOBAL_STATUS = KEYS[2];
 local REDIS_KEY_GLOBAL_GMT_MODIFIED = KEYS[3];
 local REDIS_SEATA_BEGIN_TRANSACTIONS_KEY = KEYS[4];
+local REDIS_KEY_GLOBAL_BEGIN_TIME = KEYS[5];
+local statusKey = KEYS[6];
+local statusIndexKey = KEYS[7];
 
 local status = ARGV[1];
 local nowTime = ARGV[2];
@@ -99,13 +107,36 @@ if not validateUpdateStatus(previousStatus, status) then
 end
 
 local data = {};
+-- the keys of the previous status, all the keys are passed in KEYS
+local previousStatusKey;
+local previousStatusIndexKey;
+for i = 4, #ARGV do
+    if ARGV[i] == previousStatus then
+        previousStatusKey = KEYS[2 * i];
+        previousStatusIndexKey = KEYS[2 * i + 1];
+        break;
+    end
+end
+
 data[1] = redis.call('HMSET', globalKey, REDIS_KEY_GLOBAL_STATUS, status, REDIS_KEY_GLOBAL_GMT_MODIFIED, nowTime)['ok'];
-data[2] = tostring(redis.call('LREM', 'SEATA_STATUS_' .. previousStatus, 0, xid));
-data[3] = tostring(redis.call('RPUSH', 'SEATA_STATUS_' .. status, xid));
+data[2] = '0';
+if previousStatusKey then
+    data[2] = tostring(redis.call('LREM', previousStatusKey, 0, xid));
+end
+data[3] = tostring(redis.call('RPUSH', statusKey, xid));
 data[4] = tostring(redis.call('ZREM', REDIS_SEATA_BEGIN_TRANSACTIONS_KEY, globalKey));
 data[5] = previousStatus;
 data[6] = previousGmtModified;
 
+-- move the xid to the status index of the new status
+local beginTime = redis.call('HGET', globalKey, REDIS_KEY_GLOBAL_BEGIN_TIME);
+if previousStatusIndexKey then
+    redis.call('ZREM', previousStatusIndexKey, xid);
+end
+if (beginTime and string.len(tostring(beginTime)) ~= 0) then
+    redis.call('ZADD', statusIndexKey, beginTime, xid);
+end
+
 result['success'] = true;
 result['status'] = '';
 result['data'] = cjson.encode(data);
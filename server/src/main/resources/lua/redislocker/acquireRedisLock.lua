@@ -24,8 +24,8 @@
 -- ARGV[3] needLockXid
 -- ARGV[-1] localKeysString
 -- KEYS[1 ~ needLockKeys.size()] needLockKeys
--- KEYS[-2] xidLockKey
--- KEYS[-1] branchId
+-- KEYS[-2] xidLockKey (absent when the lock keys are acquired partition by partition)
+-- KEYS[-1] branchId (absent when the lock keys are acquired partition by partition)
 
 -- init data
 local array = {};
@@ -92,7 +92,10 @@ for i = 1, keySize do
     -- exit for
 end
 -- set SEATA_GLOBAL_LOCK
-redis.call('HSET', KEYS[(keySize + 1)], KEYS[(keySize + 2)], ARGV[(argSize + 0)]);
+if (#KEYS > tonumber(keySize))
+then
+    redis.call('HSET', KEYS[(keySize + 1)], KEYS[(keySize + 2)], ARGV[(argSize + 0)]);
+end
 
 --  return success
 result['success'] = true
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.coordinator;
+
+import org.apache.seata.common.store.SessionMode;
+import org.apache.seata.core.model.BranchType;
+import org.apache.seata.server.session.BranchSession;
+import org.apache.seata.server.session.GlobalSession;
+import org.apache.seata.server.session.SessionHolder;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+
+@SpringBootTest
+public class BranchSessionRemoverTest {
+
+    private static DefaultCore core;
+
+    @BeforeAll
+    public static void initSessionManager(ApplicationContext context) throws Exception {
+        SessionHolder.init(SessionMode.FILE);
+        core = new DefaultCore(new DefaultCoordinatorTest.MockServerMessageSender());
+    }
+
+    @AfterAll
+    public static void destroySessionManager() {
+        SessionHolder.destroy();
+    }
+
+    @Test
+    public void testRemoveInBatch() throws Exception {
+        GlobalSession first = begin("tb_21:21", "tb_22:22");
+        GlobalSession second = begin("tb_23:23", "tb_24:24");
+        BranchSession kept = first.getSortedBranches().get(1);
+        // the locks are released before the branch sessions are removed asynchronously
+        for (GlobalSession globalSession : new GlobalSession[] {first, second}) {
+            for (BranchSession branchSession : globalSession.getSortedBranches()) {
+                globalSession.unlockBranch(branchSession);
+            }
+        }
+
+        BranchSessionRemover remover = new BranchSessionRemover(16);
+        remover.remove(first, first.getSortedBranches().get(0));
+        remover.remove(second, null);
+        remover.shutdown();
+        remover.awaitTermination(5000);
+
+        Assertions.assertEquals(1, first.getBranchSessions().size());
+        Assertions.assertSame(kept, first.getBranchSessions().get(0));
+        Assertions.assertTrue(second.getBranchSessions().isEmpty());
+
+        // the removal after the shutdown is done by the caller
+        remover.remove(first, kept);
+        Assertions.assertTrue(first.getBranchSessions().isEmpty());
+
+        first.end();
+        second.end();
+    }
+
+    private static GlobalSession begin(String... lockKeys) throws Exception {
+        String xid = core.begin("demo-child-app", "default_tx_group", "tx-1", 3000);
+        for (String lockKey : lockKeys) {
+            core.branchRegister(BranchType.AT, "tb_1", "c_1", xid, "{\"data\":\"test\"}", lockKey);
+        }
+        GlobalSession globalSession = SessionHolder.findGlobalSession(xid);
+        Assertions.assertEquals(lockKeys.length, globalSession.getBranchSessions().size());
+        return globalSession;
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.seata.server.coordinator;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -36,12 +37,16 @@ import org.apache.seata.core.constants.ConfigurationKeys;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.BranchStatus;
 import org.apache.seata.core.model.BranchType;
+import org.apache.seata.core.protocol.ResultCode;
 import org.apache.seata.core.protocol.RpcMessage;
 import org.apache.seata.core.protocol.transaction.BranchCommitRequest;
 import org.apache.seata.core.protocol.transaction.BranchCommitResponse;
+import org.apache.seata.core.protocol.transaction.BranchRegisterReportRequest;
+import org.apache.seata.core.protocol.transaction.BranchRegisterResponse;
 import org.apache.seata.core.protocol.transaction.BranchRollbackRequest;
 import org.apache.seata.core.protocol.transaction.BranchRollbackResponse;
 import org.apache.seata.core.rpc.RemotingServer;
+import org.apache.seata.core.rpc.RpcContext;
 import org.apache.seata.core.rpc.processor.RemotingProcessor;
 import org.apache.seata.server.metrics.MetricsManager;
 import org.apache.seata.server.session.GlobalSession;
@@ -126,6 +131,30 @@ public class DefaultCoordinatorTest {
         globalSession.end();
     }
 
+    @Test
+    public void branchRegisterReport() throws TransactionException {
+        String xid = core.begin(applicationId, txServiceGroup, txName, timeout);
+        Long doneBranchId = core.branchRegister(BranchType.AT, resourceId, clientId, xid, applicationData, "tb_1:21");
+
+        BranchRegisterReportRequest request = new BranchRegisterReportRequest();
+        request.setXid(xid);
+        request.setBranchType(BranchType.AT);
+        request.setResourceId(resourceId);
+        request.setLockKey("tb_1:22");
+        // the unknown branch is skipped without failing the registration
+        request.setDoneBranchIds(Arrays.asList(doneBranchId, -1L));
+        RpcContext rpcContext = new RpcContext();
+        rpcContext.setClientId(clientId);
+        BranchRegisterResponse response = defaultCoordinator.handle(request, rpcContext);
+
+        Assertions.assertEquals(ResultCode.Success, response.getResultCode());
+        GlobalSession globalSession = SessionHolder.findGlobalSession(xid);
+        Assertions.assertEquals(BranchStatus.PhaseOne_Done, globalSession.getBranch(doneBranchId).getStatus());
+        Assertions.assertEquals(BranchStatus.Registered, globalSession.getBranch(response.getBranchId()).getStatus());
+        globalSession.closeAndClean();
+        globalSession.end();
+    }
+
     @Disabled
     @ParameterizedTest
     @MethodSource("xidAndBranchIdProviderForRollback")
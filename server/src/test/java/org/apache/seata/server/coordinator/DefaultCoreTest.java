@@ -19,6 +19,7 @@ package org.apache.seata.server.coordinator;
 import java.util.Collection;
 import java.util.stream.Stream;
 
+import org.apache.seata.common.XID;
 import org.apache.seata.common.store.SessionMode;
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.model.BranchStatus;
@@ -173,6 +174,83 @@ public class DefaultCoreTest {
         Assertions.assertNotEquals(globalStatus, GlobalStatus.Begin);
     }
 
+    /**
+     * Leased xid test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void leasedXidTest() throws Exception {
+        XidLeaseManager.Lease lease = core.lease(applicationId, txServiceGroup, 2, timeout);
+        String emptyXid = XID.generateXID(lease.getBeginId());
+        String xid = XID.generateXID(lease.getBeginId() + 1);
+
+        // the global transaction without any branch never creates the global session
+        Assertions.assertEquals(GlobalStatus.Committed, core.commit(emptyXid));
+        Assertions.assertEquals(GlobalStatus.Finished, core.commit(emptyXid));
+        Assertions.assertThrows(TransactionException.class,
+            () -> core.branchRegister(BranchType.AT, resourceId, clientId, emptyXid, null, lockKeys_1));
+
+        core.branchRegister(BranchType.AT, resourceId, clientId, xid, null, lockKeys_1);
+        globalSession = SessionHolder.findGlobalSession(xid);
+        Assertions.assertNotNull(globalSession);
+        Assertions.assertEquals(applicationId, globalSession.getApplicationId());
+        Assertions.assertEquals(1, globalSession.getBranchSessions().size());
+        core.branchRegister(BranchType.AT, resourceId, clientId, xid, null, lockKeys_2);
+        Assertions.assertEquals(2, globalSession.getBranchSessions().size());
+    }
+
+    /**
+     * Leased xid begin test.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void leasedXidBeginTest() throws Exception {
+        XidLeaseManager.Lease lease = core.lease(applicationId, txServiceGroup, 2, timeout);
+        String xid = XID.generateXID(lease.getBeginId());
+        String unreportedXid = XID.generateXID(lease.getBeginId() + 1);
+        long beginTime = System.currentTimeMillis() - 1000;
+
+        // the global session is created with the name and the begin time reported by the TM
+        core.leaseBegin(xid, txName, beginTime);
+        core.branchRegister(BranchType.AT, resourceId, clientId, xid, null, lockKeys_1);
+        GlobalSession session = SessionHolder.findGlobalSession(xid);
+        Assertions.assertEquals(txName, session.getTransactionName());
+        Assertions.assertEquals(beginTime, session.getBeginTime());
+        Assertions.assertEquals(GlobalStatus.Committed, core.commit(xid));
+
+        // the report arrived after the global session was created is ignored
+        core.branchRegister(BranchType.AT, resourceId, clientId, unreportedXid, null, lockKeys_2);
+        core.leaseBegin(unreportedXid, txName, beginTime);
+        session = SessionHolder.findGlobalSession(unreportedXid);
+        Assertions.assertEquals(XidLeaseManager.LEASED_TRANSACTION_NAME, session.getTransactionName());
+        Assertions.assertTrue(session.getBeginTime() > beginTime);
+        Assertions.assertEquals(GlobalStatus.Committed, core.commit(unreportedXid));
+    }
+
+    /**
+     * One phase commit test.
+     *
+     * @param xid      the xid
+     * @param branchId the branch id
+     * @throws Exception the exception
+     */
+    @ParameterizedTest
+    @MethodSource("xidAndBranchIdProvider")
+    public void onePhaseCommitTest(String xid, Long branchId) throws Exception {
+        long count = DefaultCore.getOnePhaseCommitCount();
+        core.setOnePhaseCommit(true);
+        try {
+            GlobalStatus globalStatus = core.commit(xid);
+            Assertions.assertEquals(GlobalStatus.Committed, globalStatus);
+            Assertions.assertNull(SessionHolder.findGlobalSession(xid));
+            Assertions.assertEquals(count + 1, DefaultCore.getOnePhaseCommitCount());
+        } finally {
+            core.setOnePhaseCommit(false);
+        }
+    }
+
     /**
      * Do global commit test.
      *
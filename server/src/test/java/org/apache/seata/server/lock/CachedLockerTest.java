@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.lock;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.seata.core.lock.AbstractLocker;
+import org.apache.seata.core.lock.RowLock;
+import org.apache.seata.core.model.LockStatus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CachedLockerTest {
+
+    @Test
+    public void testReentrantAndConflict() {
+        CountingLocker store = new CountingLocker();
+        CachedLocker locker = new CachedLocker(store, 100, 60000);
+
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-1", "1")));
+        Assertions.assertEquals(1, store.calls);
+
+        // the conflicting acquisition is answered by the cache
+        Assertions.assertFalse(locker.acquireLock(rowLocks("xid-2", "1")));
+        Assertions.assertFalse(locker.isLockable(rowLocks("xid-2", "1")));
+        Assertions.assertEquals(1, store.calls);
+
+        // the re-entrant acquisition is never granted by the cache
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-1", "1")));
+        Assertions.assertEquals(2, store.calls);
+
+        // the row key not cached goes to the store
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-2", "2")));
+        Assertions.assertEquals(3, store.calls);
+    }
+
+    @Test
+    public void testInvalidateBeforeRelease() {
+        CountingLocker store = new CountingLocker();
+        CachedLocker locker = new CachedLocker(store, 100, 60000);
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-1", "1")));
+
+        // once the store released the row, the cache must not report it as held by xid-1 any more
+        store.onRelease = () -> Assertions.assertTrue(locker.isLockable(rowLocks("xid-2", "1")));
+        Assertions.assertTrue(locker.releaseLock("xid-1"));
+        store.onRelease = null;
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-2", "1")));
+        Assertions.assertFalse(locker.acquireLock(rowLocks("xid-1", "1")));
+    }
+
+    @Test
+    public void testInvalidateOnRelease() {
+        CountingLocker store = new CountingLocker();
+        CachedLocker locker = new CachedLocker(store, 100, 60000);
+
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-1", "1")));
+        Assertions.assertTrue(locker.releaseLock("xid-1"));
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-2", "1")));
+        Assertions.assertEquals(2, store.calls);
+
+        locker.updateLockStatus("xid-2", LockStatus.Rollbacking);
+        Assertions.assertFalse(locker.acquireLock(rowLocks("xid-3", "1")));
+        Assertions.assertEquals(3, store.calls);
+    }
+
+    @Test
+    public void testExpireAndSize() throws InterruptedException {
+        CountingLocker store = new CountingLocker();
+        CachedLocker locker = new CachedLocker(store, 1, 10);
+
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-1", "1")));
+        // the cache is full, the row key 2 is not cached
+        Assertions.assertTrue(locker.acquireLock(rowLocks("xid-1", "2")));
+        Assertions.assertFalse(locker.acquireLock(rowLocks("xid-2", "2")));
+        Assertions.assertEquals(3, store.calls);
+        Assertions.assertFalse(locker.acquireLock(rowLocks("xid-2", "1")));
+        Assertions.assertEquals(3, store.calls);
+
+        Thread.sleep(20);
+        Assertions.assertFalse(locker.acquireLock(rowLocks("xid-2", "1")));
+        Assertions.assertEquals(4, store.calls);
+    }
+
+    private static List<RowLock> rowLocks(String xid, String pk) {
+        return Collections.singletonList(rowLock(xid, pk));
+    }
+
+    private static RowLock rowLock(String xid, String pk) {
+        RowLock rowLock = new RowLock();
+        rowLock.setXid(xid);
+        rowLock.setResourceId("resource");
+        rowLock.setTableName("t");
+        rowLock.setPk(pk);
+        return rowLock;
+    }
+
+    /**
+     * The locker holding the row locks in a map and counting the acquisitions.
+     */
+    private static class CountingLocker extends AbstractLocker {
+
+        private final Map<String, String> holders = new HashMap<>();
+
+        private int calls;
+
+        private Runnable onRelease;
+
+        @Override
+        public boolean acquireLock(List<RowLock> rowLock) {
+            return acquireLock(rowLock, true, false);
+        }
+
+        @Override
+        public boolean acquireLock(List<RowLock> rowLock, boolean autoCommit, boolean skipCheckLock) {
+            calls++;
+            for (RowLock lock : rowLock) {
+                String holder = holders.get(lock.getPk());
+                if (holder != null && !holder.equals(lock.getXid())) {
+                    return false;
+                }
+            }
+            rowLock.forEach(lock -> holders.put(lock.getPk(), lock.getXid()));
+            return true;
+        }
+
+        @Override
+        public boolean releaseLock(String xid) {
+            holders.values().removeIf(xid::equals);
+            if (onRelease != null) {
+                onRelease.run();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isLockable(List<RowLock> rowLock) {
+            return rowLock.stream().allMatch(lock -> holders.getOrDefault(lock.getPk(), lock.getXid()).equals(lock.getXid()));
+        }
+
+        @Override
+        public void updateLockStatus(String xid, LockStatus lockStatus) {
+        }
+    }
+}
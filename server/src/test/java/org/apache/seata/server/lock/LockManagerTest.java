@@ -19,6 +19,7 @@ package org.apache.seata.server.lock;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -30,6 +31,7 @@ import org.apache.seata.common.store.SessionMode;
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.result.PageResult;
 import org.apache.seata.core.exception.TransactionException;
+import org.apache.seata.core.lock.RowLock;
 import org.apache.seata.core.model.BranchType;
 import org.apache.seata.common.util.UUIDGenerator;
 import org.apache.seata.server.console.param.GlobalLockParam;
@@ -80,6 +82,30 @@ public class LockManagerTest {
         Assertions.assertTrue(lockManager.acquireLock(branchSession));
     }
 
+    /**
+     * Collect row locks of the lock key.
+     *
+     * @param branchSession the branch session
+     */
+    @ParameterizedTest
+    @MethodSource("branchSessionProvider")
+    public void collectRowLocks(BranchSession branchSession) {
+        LockManager lockManager = new FileLockManagerForTest();
+        branchSession.setLockKey("t:1,2;t1:a, ,b;t2:3;");
+        List<RowLock> rowLocks = lockManager.collectRowLocks(branchSession);
+        Assertions.assertEquals(5, rowLocks.size());
+        Assertions.assertEquals("t", rowLocks.get(0).getTableName());
+        Assertions.assertEquals("2", rowLocks.get(1).getPk());
+        Assertions.assertEquals("t1", rowLocks.get(2).getTableName());
+        Assertions.assertEquals("a", rowLocks.get(2).getPk());
+        Assertions.assertEquals("b", rowLocks.get(3).getPk());
+        Assertions.assertEquals("t2", rowLocks.get(4).getTableName());
+        Assertions.assertEquals("3", rowLocks.get(4).getPk());
+
+        branchSession.setLockKey("t:1;t1:;t2:2");
+        Assertions.assertEquals(1, lockManager.collectRowLocks(branchSession).size());
+    }
+
     /**
      * Acquire lock failed.
      *
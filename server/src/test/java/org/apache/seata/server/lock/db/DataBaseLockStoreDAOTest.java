@@ -24,8 +24,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.seata.common.ConfigurationKeys;
+import org.apache.seata.common.exception.StoreException;
 import org.apache.seata.common.util.IOUtil;
 import org.apache.seata.config.ConfigurationFactory;
+import org.apache.seata.core.exception.BranchTransactionException;
+import org.apache.seata.core.model.LockStatus;
 import org.apache.seata.core.store.LockDO;
 import org.apache.seata.server.storage.db.lock.LockStoreDataBaseDAO;
 import org.apache.commons.dbcp2.BasicDataSource;
@@ -37,6 +40,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
 
+import static org.apache.seata.core.exception.TransactionExceptionCode.LockKeyConflictFailFast;
+
 /**
  */
 @SpringBootTest
@@ -161,6 +166,43 @@ public class DataBaseLockStoreDAOTest {
 
     }
 
+    @Test
+    public void test_acquireLocks_conflict() throws SQLException {
+        List<LockDO> holdLockDOs = createLockDOs("abc-123:789", "test_acquireLocks_conflict-", 0, 2);
+        Assertions.assertTrue(dataBaseLockStoreDAO.acquireLock(holdLockDOs));
+
+        // the row key 1 is held by another xid, the row key 2 inserted together must be rolled back
+        List<LockDO> lockDOs = createLockDOs("abc-123:790", "test_acquireLocks_conflict-", 1, 3);
+        Assertions.assertFalse(dataBaseLockStoreDAO.acquireLock(lockDOs));
+        Assertions.assertTrue(dataBaseLockStoreDAO.isLockable(createLockDOs("abc-123:791", "test_acquireLocks_conflict-", 2, 3)));
+
+        dataBaseLockStoreDAO.updateLockStatus("abc-123:789", LockStatus.Rollbacking);
+        StoreException exception = Assertions.assertThrows(StoreException.class,
+            () -> dataBaseLockStoreDAO.acquireLock(lockDOs, false, false));
+        Assertions.assertEquals(LockKeyConflictFailFast,
+            ((BranchTransactionException)exception.getCause()).getCode());
+
+        Assertions.assertTrue(dataBaseLockStoreDAO.unLock(holdLockDOs));
+        Assertions.assertTrue(dataBaseLockStoreDAO.acquireLock(lockDOs));
+        Assertions.assertTrue(dataBaseLockStoreDAO.unLock(lockDOs));
+    }
+
+    private static List<LockDO> createLockDOs(String xid, String rowKeyPrefix, int from, int to) {
+        List<LockDO> lockDOs = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            LockDO lock = new LockDO();
+            lock.setResourceId("abc");
+            lock.setXid(xid);
+            lock.setTransactionId(Long.parseLong(xid.substring(xid.indexOf(':') + 1)));
+            lock.setBranchId((long) i);
+            lock.setRowKey(rowKeyPrefix + i);
+            lock.setPk(String.valueOf(i));
+            lock.setTableName("t");
+            lockDOs.add(lock);
+        }
+        return lockDOs;
+    }
+
     @Test
     public void tes_unLocks() throws SQLException {
         List<LockDO> lockDOs = new ArrayList<>();
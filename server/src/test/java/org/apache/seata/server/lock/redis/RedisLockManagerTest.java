@@ -18,15 +18,20 @@ package org.apache.seata.server.lock.redis;
 
 import org.apache.seata.common.exception.StoreException;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 
 import org.apache.seata.core.exception.TransactionException;
 import org.apache.seata.core.lock.Locker;
+import org.apache.seata.core.lock.RowLock;
 import org.apache.seata.core.model.LockStatus;
+import org.apache.seata.server.lock.AbstractLockManager;
 import org.apache.seata.server.lock.LockManager;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.storage.redis.JedisPooledFactory;
 import org.apache.seata.server.storage.redis.lock.RedisLockManager;
 import org.apache.seata.server.storage.redis.lock.RedisLocker;
+import org.apache.seata.server.storage.redis.lock.RedisLuaLocker;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -37,6 +42,8 @@ import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
 
+import static org.apache.seata.core.constants.RedisKeyConstants.DEFAULT_REDIS_SEATA_GLOBAL_LOCK_PREFIX;
+
 /**
  */
 @SpringBootTest
@@ -134,6 +141,79 @@ public class RedisLockManagerTest {
         Assertions.assertTrue(lockManager.releaseLock(branchSession));
     }
 
+    @Test
+    public void acquireLockByPartition() {
+        BranchSession branchSession = getBranchSession();
+        branchSession.setLockKey("t1:1,2,3,4,5,6,7,8;t2:1,2");
+        List<RowLock> rowLocks = ((AbstractLockManager)lockManager).collectRowLocks(branchSession);
+        BranchSession anotherSession = getBranchSession();
+        anotherSession.setXid("abc-123:786757");
+        anotherSession.setBranchId(5756679);
+        anotherSession.setLockKey("t2:2");
+        List<RowLock> anotherRowLocks = ((AbstractLockManager)lockManager).collectRowLocks(anotherSession);
+        for (RedisLocker locker : Arrays.asList(new RedisLocker(), new RedisLuaLocker())) {
+            locker.setLockPartitions(4);
+            Assertions.assertTrue(locker.acquireLock(anotherRowLocks));
+            // t2:2 is held by another global transaction, the locks acquired in the other partitions are released
+            Assertions.assertFalse(locker.acquireLock(rowLocks));
+            Assertions.assertTrue(locker.releaseLock(anotherSession.getXid()));
+            Assertions.assertTrue(locker.isLockable(rowLocks));
+
+            Assertions.assertTrue(locker.acquireLock(rowLocks));
+            Assertions.assertFalse(locker.isLockable(anotherRowLocks));
+            Assertions.assertTrue(locker.releaseLock(branchSession.getXid(), branchSession.getBranchId()));
+            Assertions.assertTrue(locker.isLockable(anotherRowLocks));
+        }
+    }
+
+    /**
+     * the row lock keys are recorded under the xid before the partitions are acquired, so a failed or crashed
+     * acquisition is cleaned up by the release without touching the locks held by others
+     */
+    @Test
+    public void acquireLockByPartitionFailure() {
+        BranchSession branchSession = getBranchSession();
+        branchSession.setLockKey("t1:1,2,3,4,5,6,7,8;t2:1,2");
+        List<RowLock> rowLocks = ((AbstractLockManager)lockManager).collectRowLocks(branchSession);
+        BranchSession firstSession = getBranchSession();
+        firstSession.setLockKey("t1:1");
+        List<RowLock> firstRowLocks = ((AbstractLockManager)lockManager).collectRowLocks(firstSession);
+        BranchSession anotherSession = getBranchSession();
+        anotherSession.setXid("abc-123:786757");
+        anotherSession.setBranchId(5756679);
+        anotherSession.setLockKey("t2:2");
+        List<RowLock> anotherRowLocks = ((AbstractLockManager)lockManager).collectRowLocks(anotherSession);
+        anotherSession.setLockKey("t1:1");
+        List<RowLock> anotherFirstRowLocks = ((AbstractLockManager)lockManager).collectRowLocks(anotherSession);
+        String xidLockKey = DEFAULT_REDIS_SEATA_GLOBAL_LOCK_PREFIX + branchSession.getXid();
+        String branchId = String.valueOf(branchSession.getBranchId());
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            for (RedisLocker locker : Arrays.asList(new RedisLocker(), new RedisLuaLocker())) {
+                locker.setLockPartitions(4);
+                Assertions.assertTrue(locker.acquireLock(rowLocks));
+                String lockKeys = jedis.hget(xidLockKey, branchId);
+                Assertions.assertNotNull(lockKeys);
+                Assertions.assertTrue(locker.releaseLock(branchSession.getXid(), branchSession.getBranchId()));
+
+                // a failed acquisition leaves neither the row locks nor the record
+                Assertions.assertTrue(locker.acquireLock(anotherRowLocks));
+                Assertions.assertFalse(locker.acquireLock(rowLocks));
+                Assertions.assertNull(jedis.hget(xidLockKey, branchId));
+                Assertions.assertTrue(locker.isLockable(anotherFirstRowLocks));
+
+                // crashed after the record and the first partition, the release keeps the lock of the other xid
+                Assertions.assertTrue(locker.acquireLock(firstRowLocks));
+                jedis.hset(xidLockKey, branchId, lockKeys);
+                Assertions.assertTrue(locker.releaseLock(branchSession.getXid()));
+                Assertions.assertFalse(jedis.exists(xidLockKey));
+                Assertions.assertTrue(locker.isLockable(anotherFirstRowLocks));
+                Assertions.assertFalse(locker.isLockable(rowLocks));
+                Assertions.assertTrue(locker.releaseLock(anotherSession.getXid()));
+                Assertions.assertTrue(locker.isLockable(rowLocks));
+            }
+        }
+    }
+
     public static class RedisLockManagerForTest extends RedisLockManager {
 
         public RedisLockManagerForTest() {
@@ -22,6 +22,9 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.seata.common.XID;
 import org.apache.seata.common.util.IOUtil;
@@ -33,6 +36,7 @@ import org.apache.seata.common.util.UUIDGenerator;
 import org.apache.seata.server.session.BranchSession;
 import org.apache.seata.server.session.GlobalSession;
 import org.apache.seata.server.session.SessionCondition;
+import org.apache.seata.server.session.SessionHolder;
 import org.apache.seata.server.session.SessionManager;
 import org.apache.seata.server.storage.db.session.DataBaseSessionManager;
 import org.apache.seata.server.storage.db.store.DataBaseTransactionStoreManager;
@@ -42,6 +46,8 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
 
@@ -314,6 +320,150 @@ public class DataBaseSessionManagerTest {
     }
 
 
+    @Test
+    public void test_findBranchSessions() throws Exception {
+        GlobalSession globalSession = GlobalSession.createGlobalSession("test",
+            "test", "test123", 100);
+        String xid = XID.generateXID(globalSession.getTransactionId());
+        globalSession.setXid(xid);
+        globalSession.setTransactionId(146757979);
+        globalSession.setBeginTime(System.currentTimeMillis());
+        globalSession.setStatus(GlobalStatus.Begin);
+        sessionManager.addGlobalSession(globalSession);
+
+        BranchSession branchSession = new BranchSession();
+        branchSession.setXid(xid);
+        branchSession.setTransactionId(globalSession.getTransactionId());
+        branchSession.setBranchId(2L);
+        branchSession.setResourceGroupId(DEFAULT_TX_GROUP);
+        branchSession.setResourceId("tb_1");
+        branchSession.setLockKey("t_1");
+        branchSession.setBranchType(BranchType.AT);
+        branchSession.setApplicationData("{\"data\":\"test\"}");
+        sessionManager.addBranchSession(globalSession, branchSession);
+
+        List<BranchSession> branchSessions = sessionManager.findBranchSessions(xid);
+        Assertions.assertEquals(1, branchSessions.size());
+        Assertions.assertEquals(2L, branchSessions.get(0).getBranchId());
+
+        // the lazy global session loads the branch sessions only when they are used
+        SessionCondition sessionCondition = new SessionCondition(GlobalStatus.Begin);
+        sessionCondition.setLazyLoadBranch(true);
+        GlobalSession lazySession = sessionManager.findGlobalSessions(sessionCondition).stream()
+            .filter(session -> xid.equals(session.getXid())).findFirst().orElse(null);
+        Assertions.assertNotNull(lazySession);
+        Assertions.assertTrue(lazySession.isLazyLoadBranch());
+        // the branch sessions are loaded by the root session manager, the one under test here
+        try (MockedStatic<SessionHolder> sessionHolder = Mockito.mockStatic(SessionHolder.class)) {
+            sessionHolder.when(SessionHolder::getRootSessionManager).thenReturn(sessionManager);
+            List<BranchSession> lazyBranchSessions = lazySession.getBranchSessions();
+            Assertions.assertEquals(1, lazyBranchSessions.size());
+            Assertions.assertEquals(2L, lazyBranchSessions.get(0).getBranchId());
+        }
+
+        String delSql = "delete from branch_table where xid= '"+xid+"'" + ";" + "delete from global_table where xid= '"+xid+"'";
+        Connection conn = null;
+        try{
+            conn = dataSource.getConnection();
+            conn.createStatement().execute(delSql);
+        }finally {
+            if(conn != null){
+                conn.close();
+            }
+        }
+    }
+
+    @Test
+    public void test_removeBranchSessions() throws Exception {
+        Map<GlobalSession, List<BranchSession>> removed = new LinkedHashMap<>();
+        List<GlobalSession> globalSessions = new ArrayList<>();
+        for (long transactionId = 146757981; transactionId < 146757983; transactionId++) {
+            GlobalSession globalSession = GlobalSession.createGlobalSession("test",
+                "test", "test123", 100);
+            globalSession.setXid(XID.generateXID(transactionId));
+            globalSession.setTransactionId(transactionId);
+            globalSession.setBeginTime(System.currentTimeMillis());
+            globalSession.setStatus(GlobalStatus.Begin);
+            sessionManager.addGlobalSession(globalSession);
+            for (long branchId = transactionId * 10; branchId < transactionId * 10 + 2; branchId++) {
+                BranchSession branchSession = new BranchSession();
+                branchSession.setXid(globalSession.getXid());
+                branchSession.setTransactionId(transactionId);
+                branchSession.setBranchId(branchId);
+                branchSession.setResourceGroupId(DEFAULT_TX_GROUP);
+                branchSession.setResourceId("tb_1");
+                branchSession.setBranchType(BranchType.AT);
+                sessionManager.addBranchSession(globalSession, branchSession);
+                globalSession.add(branchSession);
+            }
+            globalSessions.add(globalSession);
+        }
+        // one branch session of the first global session and all of the second are removed in one batch
+        GlobalSession first = globalSessions.get(0);
+        GlobalSession second = globalSessions.get(1);
+        removed.put(first, new ArrayList<>(first.getBranchSessions().subList(0, 1)));
+        removed.put(second, new ArrayList<>(second.getBranchSessions()));
+        sessionManager.removeBranchSessions(removed);
+
+        Assertions.assertEquals(1, first.getBranchSessions().size());
+        Assertions.assertEquals(0, second.getBranchSessions().size());
+        Assertions.assertEquals(1, sessionManager.findBranchSessions(first.getXid()).size());
+        Assertions.assertEquals(0, sessionManager.findBranchSessions(second.getXid()).size());
+
+        Connection conn = null;
+        try {
+            conn = dataSource.getConnection();
+            for (GlobalSession globalSession : globalSessions) {
+                conn.createStatement().execute("delete from branch_table where xid= '" + globalSession.getXid()
+                    + "'" + ";" + "delete from global_table where xid= '" + globalSession.getXid() + "'");
+            }
+        } finally {
+            if (conn != null) {
+                conn.close();
+            }
+        }
+    }
+
+    @Test
+    public void test_removeManyBranchSessions() throws Exception {
+        long transactionId = 146757985;
+        GlobalSession globalSession = GlobalSession.createGlobalSession("test",
+            "test", "test123", 100);
+        globalSession.setXid(XID.generateXID(transactionId));
+        globalSession.setTransactionId(transactionId);
+        globalSession.setBeginTime(System.currentTimeMillis());
+        globalSession.setStatus(GlobalStatus.Begin);
+        sessionManager.addGlobalSession(globalSession);
+        // more branch sessions than an in list of oracle holds, removed in several statements
+        for (long branchId = transactionId * 10000; branchId < transactionId * 10000 + 1201; branchId++) {
+            BranchSession branchSession = new BranchSession();
+            branchSession.setXid(globalSession.getXid());
+            branchSession.setTransactionId(transactionId);
+            branchSession.setBranchId(branchId);
+            branchSession.setResourceGroupId(DEFAULT_TX_GROUP);
+            branchSession.setResourceId("tb_1");
+            branchSession.setBranchType(BranchType.AT);
+            sessionManager.addBranchSession(globalSession, branchSession);
+            globalSession.add(branchSession);
+        }
+        Map<GlobalSession, List<BranchSession>> removed = new LinkedHashMap<>();
+        removed.put(globalSession, new ArrayList<>(globalSession.getBranchSessions()));
+        sessionManager.removeBranchSessions(removed);
+
+        Assertions.assertEquals(0, globalSession.getBranchSessions().size());
+        Assertions.assertEquals(0, sessionManager.findBranchSessions(globalSession.getXid()).size());
+
+        Connection conn = null;
+        try {
+            conn = dataSource.getConnection();
+            conn.createStatement().execute("delete from global_table where xid= '" + globalSession.getXid() + "'");
+        } finally {
+            if (conn != null) {
+                conn.close();
+            }
+        }
+    }
+
     @Test
     public void test_updateBranchSessionStatus() throws Exception {
         GlobalSession globalSession = GlobalSession.createGlobalSession("test",
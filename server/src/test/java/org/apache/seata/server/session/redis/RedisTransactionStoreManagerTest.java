@@ -114,6 +114,37 @@ public class RedisTransactionStoreManagerTest {
         }
     }
 
+    @Test
+    public synchronized void testReadSessionByStatusIndex() throws TransactionException {
+        JedisPooledFactory.getJedisInstance().flushAll();
+        GlobalSession session1 = GlobalSession.createGlobalSession("test1", "test2", "test001", 500);
+        session1.setXid(XID.generateXID(session1.getTransactionId()));
+        session1.setBeginTime(System.currentTimeMillis());
+        session1.setStatus(GlobalStatus.Begin);
+        GlobalSession session2 = GlobalSession.createGlobalSession("test3", "test4", "test002", 500);
+        session2.setXid(XID.generateXID(session2.getTransactionId()));
+        session2.setBeginTime(System.currentTimeMillis() - 1000);
+        session2.setStatus(GlobalStatus.Begin);
+        sessionManager.addGlobalSession(session1);
+        sessionManager.addGlobalSession(session2);
+        sessionManager.updateGlobalSessionStatus(session1, GlobalStatus.Committing);
+
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            Assertions.assertEquals(1, jedis.zcard("SEATA_STATUS_INDEX_" + GlobalStatus.Begin.getCode()));
+            Assertions.assertEquals(1, jedis.zcard("SEATA_STATUS_INDEX_" + GlobalStatus.Committing.getCode()));
+        }
+        List<GlobalSession> sessions = redisTransactionStoreManager.readSession(
+            new GlobalStatus[] {GlobalStatus.Begin, GlobalStatus.Committing}, false);
+        Assertions.assertEquals(2, sessions.size());
+
+        sessionManager.removeGlobalSession(session1);
+        sessionManager.removeGlobalSession(session2);
+        try (Jedis jedis = JedisPooledFactory.getJedisInstance()) {
+            Assertions.assertEquals(0, jedis.zcard("SEATA_STATUS_INDEX_" + GlobalStatus.Begin.getCode()));
+            Assertions.assertEquals(0, jedis.zcard("SEATA_STATUS_INDEX_" + GlobalStatus.Committing.getCode()));
+        }
+    }
+
     @Test
     public void testInsertGlobalLockData() {
         String GLOBAL_LOCK_KEY = "SEATA_GLOBAL_LOCK_192.168.158.80:8091:37621364385185792";
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.seata.common.exception.StoreException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class AbstractSessionBatchWriterTest {
+
+    @Test
+    public void testWriteAfterShutdown() {
+        CountingWriter writer = new CountingWriter(1000);
+        Assertions.assertTrue(writer.write("a"));
+        writer.shutdown();
+
+        // written by the caller itself
+        Assertions.assertTrue(writer.write("b"));
+        Assertions.assertEquals(2, writer.written.size());
+    }
+
+    @Test
+    public void testShutdownWhileWriting() throws Exception {
+        CountingWriter writer = new CountingWriter(1000);
+        int writes = 200;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>(writes);
+            for (int i = 0; i < writes; i++) {
+                String write = String.valueOf(i);
+                results.add(executor.submit(() -> writer.write(write)));
+                if (i == writes / 2) {
+                    writer.shutdown();
+                }
+            }
+            // no write is left in the queue after the shutdown
+            for (Future<Boolean> result : results) {
+                Assertions.assertTrue(result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assertions.assertEquals(writes, writer.written.size());
+    }
+
+    @Test
+    public void testWriteTimeout() {
+        CountingWriter writer = new CountingWriter(100);
+        writer.blocked = new CountDownLatch(1);
+        try {
+            Assertions.assertThrows(StoreException.class, () -> writer.write("a"));
+        } finally {
+            writer.blocked.countDown();
+            writer.shutdown();
+        }
+    }
+
+    private static class CountingWriter extends AbstractSessionBatchWriter<String> {
+
+        private final List<String> written = new ArrayList<>();
+
+        private volatile CountDownLatch blocked;
+
+        CountingWriter(long writeTimeoutMillis) {
+            super("testBatchWrite", 10, 2, writeTimeoutMillis);
+        }
+
+        @Override
+        protected void flush(List<PendingWrite<String>> batch) {
+            CountDownLatch latch = blocked;
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (written) {
+                batch.forEach(write -> written.add(write.getWrite()));
+            }
+            batch.forEach(write -> write.complete(true));
+        }
+
+        @Override
+        protected RuntimeException toException(Throwable cause) {
+            return new StoreException(cause);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.server.storage.db.store;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.seata.core.store.GlobalTransactionDO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * The type Data base session archiver test.
+ */
+@SpringBootTest
+public class DataBaseSessionArchiverTest {
+
+    private static final long ARCHIVE_DELAY = 60000;
+
+    private DataBaseSessionArchiver archiver;
+
+    @AfterEach
+    public void shutdown() {
+        if (archiver != null) {
+            archiver.shutdown();
+        }
+    }
+
+    @Test
+    public void archiveBeforeDelay() {
+        LogStoreDataBaseDAO logStore = Mockito.mock(LogStoreDataBaseDAO.class);
+        Mockito.when(logStore.queryGlobalTransactionDO(any(int[].class), anyInt(), anyInt(), anyInt()))
+            .thenReturn(Collections.emptyList());
+        // the page is in the order of the modified time, the sessions from the first modified within the delay are kept
+        Mockito.when(logStore.queryGlobalTransactionDO(any(int[].class), anyInt(), eq(1), eq(2)))
+            .thenReturn(Arrays.asList(session("1", ARCHIVE_DELAY * 2), session("2", ARCHIVE_DELAY / 2),
+                session("3", ARCHIVE_DELAY * 2)));
+        Mockito.when(logStore.archiveTransactionDO(any(), any(int[].class), anyString(), anyString()))
+            .thenReturn(true);
+        archiver = new DataBaseSessionArchiver(logStore, 10, ARCHIVE_DELAY, 2, "global_archive", "branch_archive");
+
+        Assertions.assertEquals(1, archiver.archive());
+        Mockito.verify(logStore).archiveTransactionDO(eq(Collections.singletonList("1")), any(int[].class),
+            eq("global_archive"), eq("branch_archive"));
+        // every shard is queried once
+        Mockito.verify(logStore).queryGlobalTransactionDO(any(int[].class), eq(10), eq(0), eq(2));
+        Mockito.verify(logStore).queryGlobalTransactionDO(any(int[].class), eq(10), eq(1), eq(2));
+    }
+
+    @Test
+    public void archivePageByPage() {
+        LogStoreDataBaseDAO logStore = Mockito.mock(LogStoreDataBaseDAO.class);
+        Mockito.when(logStore.queryGlobalTransactionDO(any(int[].class), anyInt(), anyInt(), anyInt()))
+            .thenReturn(Collections.emptyList());
+        Mockito.when(logStore.queryGlobalTransactionDO(any(int[].class), anyInt(), eq(0), eq(2)))
+            .thenReturn(Arrays.asList(session("1", ARCHIVE_DELAY * 2), session("2", ARCHIVE_DELAY * 2)))
+            .thenReturn(Arrays.asList(session("3", ARCHIVE_DELAY * 2), session("4", ARCHIVE_DELAY * 2)))
+            .thenReturn(Collections.singletonList(session("5", ARCHIVE_DELAY * 2)))
+            .thenReturn(Collections.singletonList(session("6", ARCHIVE_DELAY * 2)));
+        Mockito.when(logStore.archiveTransactionDO(any(), any(int[].class), anyString(), anyString()))
+            .thenReturn(true);
+        archiver = new DataBaseSessionArchiver(logStore, 2, ARCHIVE_DELAY, 2, "global_archive", "branch_archive");
+
+        // the full pages are followed by the next page, the partial page is the last one of the shard
+        Assertions.assertEquals(5, archiver.archive());
+        ArgumentCaptor<List<String>> xids = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(logStore, Mockito.times(3)).archiveTransactionDO(xids.capture(), any(int[].class),
+            anyString(), anyString());
+        List<String> archived = new ArrayList<>();
+        xids.getAllValues().forEach(archived::addAll);
+        Assertions.assertEquals(Arrays.asList("1", "2", "3", "4", "5"), archived);
+        Mockito.verify(logStore, Mockito.times(3)).queryGlobalTransactionDO(any(int[].class), eq(2), eq(0), eq(2));
+    }
+
+    @Test
+    public void giveUpPage() {
+        LogStoreDataBaseDAO logStore = Mockito.mock(LogStoreDataBaseDAO.class);
+        Mockito.when(logStore.queryGlobalTransactionDO(any(int[].class), anyInt(), eq(0), eq(2)))
+            .thenReturn(Arrays.asList(session("1", ARCHIVE_DELAY * 2), session("2", ARCHIVE_DELAY * 2)));
+        Mockito.when(logStore.queryGlobalTransactionDO(any(int[].class), anyInt(), eq(1), eq(2)))
+            .thenReturn(Collections.singletonList(session("3", ARCHIVE_DELAY * 2)));
+        // the page of the shard 0 is changed by another server meanwhile
+        Mockito.when(logStore.archiveTransactionDO(eq(Arrays.asList("1", "2")), any(int[].class), anyString(),
+            anyString())).thenReturn(false);
+        Mockito.when(logStore.archiveTransactionDO(eq(Collections.singletonList("3")), any(int[].class), anyString(),
+            anyString())).thenReturn(true);
+        archiver = new DataBaseSessionArchiver(logStore, 2, ARCHIVE_DELAY, 2, "global_archive", "branch_archive");
+
+        // the given up page is left until the next run, the other shard is still archived
+        Assertions.assertEquals(1, archiver.archive());
+        Mockito.verify(logStore).queryGlobalTransactionDO(any(int[].class), eq(2), eq(0), eq(2));
+        Mockito.verify(logStore).queryGlobalTransactionDO(any(int[].class), eq(2), eq(1), eq(2));
+    }
+
+    @Test
+    public void defaultShardCount() {
+        LogStoreDataBaseDAO logStore = Mockito.mock(LogStoreDataBaseDAO.class);
+        Mockito.when(logStore.queryGlobalTransactionDO(any(int[].class), anyInt(), anyInt(), anyInt()))
+            .thenReturn(Collections.emptyList());
+        archiver = new DataBaseSessionArchiver(logStore, 10, ARCHIVE_DELAY, 0, "global_archive", "branch_archive");
+
+        Assertions.assertEquals(0, archiver.archive());
+        Mockito.verify(logStore, Mockito.times(DataBaseSessionArchiver.DEFAULT_ARCHIVE_SHARD_COUNT))
+            .queryGlobalTransactionDO(any(int[].class), eq(10), anyInt(),
+                eq(DataBaseSessionArchiver.DEFAULT_ARCHIVE_SHARD_COUNT));
+        Mockito.verify(logStore, Mockito.never()).archiveTransactionDO(any(), any(int[].class), anyString(),
+            anyString());
+    }
+
+    private static GlobalTransactionDO session(String xid, long modifiedBefore) {
+        GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
+        globalTransactionDO.setXid(xid);
+        globalTransactionDO.setGmtModified(new Date(System.currentTimeMillis() - modifiedBefore));
+        return globalTransactionDO;
+    }
+}
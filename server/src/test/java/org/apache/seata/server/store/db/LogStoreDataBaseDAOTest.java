@@ -20,7 +20,11 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.seata.common.util.CollectionUtils;
 import org.apache.seata.common.util.IOUtil;
@@ -84,6 +88,20 @@ public class LogStoreDataBaseDAOTest {
             s.execute("CREATE TABLE branch_table ( xid varchar(96),  transaction_id long , branch_id long primary key, resource_group_id varchar(32), resource_id varchar(32) ,lock_key varchar(64) ,branch_type varchar(32) ,  status int , client_id varchar(128),  application_data varchar(500),  gmt_create TIMESTAMP(6) ,gmt_modified TIMESTAMP(6) ) ");
             System.out.println("create table branch_table success.");
 
+            try {
+                s.execute("drop table global_table_archive");
+            } catch (Exception e) {
+            }
+            s.execute("CREATE TABLE global_table_archive ( xid varchar(96) primary key,  transaction_id long , STATUS int,  application_id varchar(32), transaction_service_group varchar(32) ,transaction_name varchar(128) ,timeout int,  begin_time long, application_data varchar(500), gmt_create TIMESTAMP(6) ,gmt_modified TIMESTAMP(6) ) ");
+            System.out.println("create table global_table_archive success.");
+
+            try {
+                s.execute("drop table branch_table_archive");
+            } catch (Exception e) {
+            }
+            s.execute("CREATE TABLE branch_table_archive ( xid varchar(96),  transaction_id long , branch_id long primary key, resource_group_id varchar(32), resource_id varchar(32) ,branch_type varchar(32) ,  status int , client_id varchar(128),  application_data varchar(500),  gmt_create TIMESTAMP(6) ,gmt_modified TIMESTAMP(6) ) ");
+            System.out.println("create table branch_table_archive success.");
+
         } catch (Exception e) {
             e.printStackTrace();
         } finally {
@@ -321,6 +339,143 @@ public class LogStoreDataBaseDAOTest {
 
     }
 
+    @Test
+    public void queryGlobalTransactionDO_by_statuses_shard() throws SQLException {
+        long[] transactionIds = {867978970, 12345, 143546567};
+        int[] statuses = {1, 1, 2};
+        for (int i = 0; i < transactionIds.length; i++) {
+            GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
+            globalTransactionDO.setXid("abc-123:" + transactionIds[i]);
+            globalTransactionDO.setApplicationData("abc=" + i);
+            globalTransactionDO.setTransactionServiceGroup("abc");
+            globalTransactionDO.setTransactionName("test");
+            globalTransactionDO.setTransactionId(transactionIds[i]);
+            globalTransactionDO.setTimeout(20);
+            globalTransactionDO.setBeginTime(System.currentTimeMillis());
+            globalTransactionDO.setApplicationId("test");
+            globalTransactionDO.setStatus(statuses[i]);
+
+            Assertions.assertTrue(logStoreDataBaseDAO.insertGlobalTransactionDO(globalTransactionDO));
+        }
+
+        List<GlobalTransactionDO> globalTransactionDOs = logStoreDataBaseDAO.queryGlobalTransactionDO(new int[]{1}, 10, 1, 2);
+        Assertions.assertEquals(1, globalTransactionDOs.size());
+        Assertions.assertEquals("abc-123:12345", globalTransactionDOs.get(0).getXid());
+
+        globalTransactionDOs = logStoreDataBaseDAO.queryGlobalTransactionDO(new int[]{1, 2}, 10, 0, 2);
+        Assertions.assertEquals(1, globalTransactionDOs.size());
+        Assertions.assertEquals("abc-123:867978970", globalTransactionDOs.get(0).getXid());
+
+        String delSql = "delete from global_table where xid in ('abc-123:867978970', 'abc-123:12345', 'abc-123:143546567')";
+        Connection conn = null;
+        Statement stmt = null;
+        try {
+            conn = dataSource.getConnection();
+            stmt = conn.createStatement();
+            stmt.execute(delSql);
+        } finally {
+            IOUtil.close(stmt, conn);
+        }
+    }
+
+    @Test
+    public void queryGlobalTransactionDO_by_statuses_after() throws SQLException {
+        long[] transactionIds = {867978971, 12346, 143546569};
+        for (int i = 0; i < transactionIds.length; i++) {
+            GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
+            globalTransactionDO.setXid("abc-123:" + transactionIds[i]);
+            globalTransactionDO.setApplicationData("abc=" + i);
+            globalTransactionDO.setTransactionServiceGroup("abc");
+            globalTransactionDO.setTransactionName("test");
+            globalTransactionDO.setTransactionId(transactionIds[i]);
+            globalTransactionDO.setTimeout(20);
+            globalTransactionDO.setBeginTime(System.currentTimeMillis());
+            globalTransactionDO.setApplicationId("test");
+            globalTransactionDO.setStatus(1);
+
+            Assertions.assertTrue(logStoreDataBaseDAO.insertGlobalTransactionDO(globalTransactionDO));
+        }
+
+        List<GlobalTransactionDO> firstPage = logStoreDataBaseDAO.queryGlobalTransactionDO(new int[]{1}, 2, 0, 0, null);
+        Assertions.assertEquals(2, firstPage.size());
+        List<GlobalTransactionDO> nextPage =
+            logStoreDataBaseDAO.queryGlobalTransactionDO(new int[]{1}, 2, 0, 0, firstPage.get(1));
+        Assertions.assertEquals(1, nextPage.size());
+        Set<String> xids = new HashSet<>();
+        firstPage.forEach(globalTransactionDO -> xids.add(globalTransactionDO.getXid()));
+        nextPage.forEach(globalTransactionDO -> xids.add(globalTransactionDO.getXid()));
+        Assertions.assertEquals(3, xids.size());
+
+        // the transaction id 12346 is the only one of the shard 0 of 2
+        GlobalTransactionDO head = new GlobalTransactionDO("");
+        head.setGmtModified(new Date(0));
+        List<GlobalTransactionDO> shardPage = logStoreDataBaseDAO.queryGlobalTransactionDO(new int[]{1}, 2, 0, 2, head);
+        Assertions.assertEquals(1, shardPage.size());
+        Assertions.assertEquals("abc-123:12346", shardPage.get(0).getXid());
+
+        String delSql = "delete from global_table where xid in ('abc-123:867978971', 'abc-123:12346', 'abc-123:143546569')";
+        Connection conn = null;
+        Statement stmt = null;
+        try {
+            conn = dataSource.getConnection();
+            stmt = conn.createStatement();
+            stmt.execute(delSql);
+        } finally {
+            IOUtil.close(stmt, conn);
+        }
+    }
+
+    @Test
+    public void executeBatch() throws SQLException {
+        List<LogStoreDataBaseDAO.WriteStatement> statements = new ArrayList<>();
+        GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
+        globalTransactionDO.setXid("abc-123:8801");
+        globalTransactionDO.setTransactionServiceGroup("abc");
+        globalTransactionDO.setTransactionName("test");
+        globalTransactionDO.setTransactionId(8801);
+        globalTransactionDO.setTimeout(20);
+        globalTransactionDO.setBeginTime(System.currentTimeMillis());
+        globalTransactionDO.setApplicationId("test");
+        globalTransactionDO.setStatus(1);
+        statements.add(logStoreDataBaseDAO.insertGlobalTransactionStatement(globalTransactionDO));
+        for (long branchId = 8802; branchId < 8805; branchId++) {
+            BranchTransactionDO branchTransactionDO = new BranchTransactionDO();
+            branchTransactionDO.setXid("abc-123:8801");
+            branchTransactionDO.setTransactionId(8801);
+            branchTransactionDO.setBranchId(branchId);
+            branchTransactionDO.setResourceId("test");
+            branchTransactionDO.setBranchType("AT");
+            branchTransactionDO.setStatus(1);
+            statements.add(logStoreDataBaseDAO.insertBranchTransactionStatement(branchTransactionDO));
+        }
+        GlobalTransactionDO committing = new GlobalTransactionDO();
+        committing.setXid("abc-123:8801");
+        committing.setStatus(2);
+        statements.add(logStoreDataBaseDAO.updateGlobalTransactionStatement(committing, 1));
+        GlobalTransactionDO committed = new GlobalTransactionDO();
+        committed.setXid("abc-123:8801");
+        committed.setStatus(9);
+        statements.add(logStoreDataBaseDAO.updateGlobalTransactionStatement(committed, 1));
+
+        boolean[] results = logStoreDataBaseDAO.executeBatch(statements);
+        Assertions.assertArrayEquals(new boolean[] {true, true, true, true, true, false}, results);
+        Assertions.assertEquals(2, logStoreDataBaseDAO.queryGlobalTransactionDO("abc-123:8801").getStatus());
+        Assertions.assertEquals(3, logStoreDataBaseDAO.queryBranchTransactionDO("abc-123:8801").size());
+
+        String delGlobalSql = "delete from global_table where xid = 'abc-123:8801'";
+        String delBranchSql = "delete from branch_table where xid = 'abc-123:8801'";
+        Connection conn = null;
+        Statement stmt = null;
+        try {
+            conn = dataSource.getConnection();
+            stmt = conn.createStatement();
+            stmt.execute(delGlobalSql);
+            stmt.execute(delBranchSql);
+        } finally {
+            IOUtil.close(stmt, conn);
+        }
+    }
+
     @Test
     public void insertGlobalTransactionDO() throws SQLException {
         GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
@@ -706,6 +861,74 @@ public class LogStoreDataBaseDAOTest {
         }
     }
 
+    @Test
+    public void archiveTransactionDO() throws SQLException {
+        List<String> xids = new ArrayList<>();
+        for (long transactionId = 7701; transactionId < 7703; transactionId++) {
+            GlobalTransactionDO globalTransactionDO = new GlobalTransactionDO();
+            globalTransactionDO.setXid("abc-123:" + transactionId);
+            globalTransactionDO.setTransactionServiceGroup("abc");
+            globalTransactionDO.setTransactionName("test");
+            globalTransactionDO.setTransactionId(transactionId);
+            globalTransactionDO.setTimeout(20);
+            globalTransactionDO.setBeginTime(System.currentTimeMillis());
+            globalTransactionDO.setApplicationId("test");
+            globalTransactionDO.setStatus(transactionId == 7701 ? 10 : 12);
+            Assertions.assertTrue(logStoreDataBaseDAO.insertGlobalTransactionDO(globalTransactionDO));
+
+            BranchTransactionDO branchTransactionDO = new BranchTransactionDO();
+            branchTransactionDO.setXid(globalTransactionDO.getXid());
+            branchTransactionDO.setTransactionId(transactionId);
+            branchTransactionDO.setBranchId(transactionId * 10);
+            branchTransactionDO.setResourceId("qqqq");
+            branchTransactionDO.setBranchType("AT");
+            branchTransactionDO.setClientId("1.1.1.1");
+            branchTransactionDO.setStatus(1);
+            Assertions.assertTrue(logStoreDataBaseDAO.insertBranchTransactionDO(branchTransactionDO));
+            xids.add(globalTransactionDO.getXid());
+        }
+
+        // nothing is moved while any of the global transactions is not of the statuses
+        Assertions.assertFalse(logStoreDataBaseDAO.archiveTransactionDO(xids, new int[]{10},
+            "global_table_archive", "branch_table_archive"));
+        Assertions.assertEquals(2, count("select count(1) from global_table where xid in ('abc-123:7701', 'abc-123:7702')"));
+        Assertions.assertEquals(2, count("select count(1) from branch_table where xid in ('abc-123:7701', 'abc-123:7702')"));
+        Assertions.assertEquals(0, count("select count(1) from global_table_archive"));
+
+        Assertions.assertTrue(logStoreDataBaseDAO.archiveTransactionDO(xids, new int[]{10, 12},
+            "global_table_archive", "branch_table_archive"));
+        Assertions.assertEquals(0, count("select count(1) from global_table where xid in ('abc-123:7701', 'abc-123:7702')"));
+        Assertions.assertEquals(0, count("select count(1) from branch_table where xid in ('abc-123:7701', 'abc-123:7702')"));
+        Assertions.assertEquals(2, count("select count(1) from global_table_archive"));
+        Assertions.assertEquals(2, count("select count(1) from branch_table_archive"));
+
+        Connection conn = null;
+        Statement stmt = null;
+        try {
+            conn = dataSource.getConnection();
+            stmt = conn.createStatement();
+            stmt.execute("delete from global_table_archive");
+            stmt.execute("delete from branch_table_archive");
+        } finally {
+            IOUtil.close(stmt, conn);
+        }
+    }
+
+    private static int count(String sql) throws SQLException {
+        Connection conn = null;
+        Statement stmt = null;
+        ResultSet rs = null;
+        try {
+            conn = dataSource.getConnection();
+            stmt = conn.createStatement();
+            rs = stmt.executeQuery(sql);
+            rs.next();
+            return rs.getInt(1);
+        } finally {
+            IOUtil.close(rs, stmt, conn);
+        }
+    }
+
     @AfterAll
     public static void clearStoreDB() throws SQLException {
         dataSource.close();
@@ -44,9 +44,15 @@ import java.util.concurrent.TimeoutException;
  */
 public class DefaultTransactionManager implements TransactionManager {
 
+    private final XidLeaser xidLeaser = new XidLeaser();
+
     @Override
     public String begin(String applicationId, String transactionServiceGroup, String name, int timeout)
         throws TransactionException {
+        String leasedXid = xidLeaser.nextXid(name, timeout);
+        if (leasedXid != null) {
+            return leasedXid;
+        }
         GlobalBeginRequest request = new GlobalBeginRequest();
         request.setTransactionName(name);
         request.setTimeout(timeout);
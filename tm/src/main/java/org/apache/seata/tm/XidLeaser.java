@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.seata.tm;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.seata.common.ConfigurationKeys;
+import org.apache.seata.common.Constants;
+import org.apache.seata.common.DefaultValues;
+import org.apache.seata.common.thread.NamedThreadFactory;
+import org.apache.seata.config.Configuration;
+import org.apache.seata.config.ConfigurationFactory;
+import org.apache.seata.core.protocol.ResultCode;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseBeginRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseRequest;
+import org.apache.seata.core.protocol.transaction.GlobalLeaseResponse;
+import org.apache.seata.core.rpc.netty.TmNettyRemotingClient;
+import org.apache.seata.core.serializer.SerializerServiceLoader;
+import org.apache.seata.core.serializer.SerializerType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generate the xids locally with the transaction ids leased from the TC.
+ * <p>
+ * Only the global transactions with the default timeout use the leased ids. The lease is renewed in background
+ * before it runs out, and the global transactions begin with the TC as usual while there is no available lease.
+ * The name and the begin time of each leased global transaction are sent to the TC without waiting. The lease is
+ * only used with the seata serializer.
+ */
+class XidLeaser {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(XidLeaser.class);
+
+    /**
+     * Stop using the lease a bit earlier than the TC expects, for the clock drift and the network delay.
+     */
+    private static final long LEASE_TIME_MARGIN = 2000;
+
+    private static final long RETRY_INTERVAL = 60000;
+
+    private final int leaseSize;
+
+    private final int leaseTimeout;
+
+    private final AtomicBoolean leasing = new AtomicBoolean();
+
+    private volatile Lease current;
+
+    private volatile long retryTime;
+
+    private volatile ThreadPoolExecutor leaseExecutor;
+
+    XidLeaser() {
+        Configuration configuration = ConfigurationFactory.getInstance();
+        int leaseSize = configuration.getInt(ConfigurationKeys.CLIENT_TM_XID_LEASE_SIZE,
+            DefaultValues.DEFAULT_TM_XID_LEASE_SIZE);
+        SerializerType serializerType = SerializerServiceLoader.getDefaultSerializerType();
+        if (leaseSize > 0 && serializerType != SerializerType.SEATA) {
+            // the lease requests are only encoded by the seata serializer
+            LOGGER.warn("The xid lease is disabled, it is not supported by the serializer: {}", serializerType);
+            leaseSize = 0;
+        }
+        this.leaseSize = leaseSize;
+        this.leaseTimeout = configuration.getInt(ConfigurationKeys.DEFAULT_GLOBAL_TRANSACTION_TIMEOUT,
+            DefaultValues.DEFAULT_GLOBAL_TRANSACTION_TIMEOUT);
+    }
+
+    /**
+     * Get the next leased xid.
+     *
+     * @param name    the transaction name
+     * @param timeout the timeout
+     * @return the xid, null if no lease is available for the global transaction
+     */
+    String nextXid(String name, int timeout) {
+        if (leaseSize <= 0 || timeout != leaseTimeout
+            || (name != null && name.startsWith(Constants.SAGA_TRANS_NAME_PREFIX))) {
+            return null;
+        }
+        Lease lease = current;
+        String xid = lease != null ? lease.next() : null;
+        if (lease == null || lease.isRunningOut()) {
+            renew();
+        }
+        if (xid != null && !reportBegin(xid, name)) {
+            return null;
+        }
+        return xid;
+    }
+
+    /**
+     * Tell the TC the name and the begin time of the global transaction without waiting for the reply, the TC
+     * creates the global session with them when a branch registers.
+     */
+    private boolean reportBegin(String xid, String name) {
+        GlobalLeaseBeginRequest request = new GlobalLeaseBeginRequest();
+        request.setXid(xid);
+        request.setTransactionName(name);
+        request.setBeginTime(System.currentTimeMillis());
+        try {
+            return TmNettyRemotingClient.getInstance().sendAsyncRequestAboveVersion240(request);
+        } catch (Exception e) {
+            LOGGER.warn("Report the begin of the leased xid: {} failed, begin with the TC instead, cause: {}", xid,
+                e.getMessage());
+            return false;
+        }
+    }
+
+    private void renew() {
+        if (System.currentTimeMillis() < retryTime || !leasing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            getLeaseExecutor().execute(() -> {
+                try {
+                    doRenew();
+                } finally {
+                    leasing.set(false);
+                }
+            });
+        } catch (Exception e) {
+            leasing.set(false);
+        }
+    }
+
+    private void doRenew() {
+        long requestTime = System.currentTimeMillis();
+        try {
+            GlobalLeaseRequest request = new GlobalLeaseRequest();
+            request.setCount(leaseSize);
+            request.setTimeout(leaseTimeout);
+            GlobalLeaseResponse response = (GlobalLeaseResponse)TmNettyRemotingClient.getInstance()
+                .sendSyncRequestAboveVersion240(request);
+            if (response == null || response.getResultCode() == ResultCode.Failed) {
+                LOGGER.info("Lease transaction ids is not available, retry {}ms later, cause: {}", RETRY_INTERVAL,
+                    response == null ? "the server is older than 2.4.0" : response.getMsg());
+                retryTime = System.currentTimeMillis() + RETRY_INTERVAL;
+                return;
+            }
+            current = new Lease(response, requestTime + response.getLeaseTime() - LEASE_TIME_MARGIN);
+        } catch (Exception e) {
+            LOGGER.warn("Lease transaction ids failed, retry {}ms later, cause: {}", RETRY_INTERVAL, e.getMessage());
+            retryTime = System.currentTimeMillis() + RETRY_INTERVAL;
+        }
+    }
+
+    private ThreadPoolExecutor getLeaseExecutor() {
+        if (leaseExecutor == null) {
+            synchronized (this) {
+                if (leaseExecutor == null) {
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(), new NamedThreadFactory("XidLease", 1, true));
+                    executor.allowCoreThreadTimeOut(true);
+                    leaseExecutor = executor;
+                }
+            }
+        }
+        return leaseExecutor;
+    }
+
+    private static class Lease {
+
+        private final String prefix;
+
+        private final long beginId;
+
+        private final int count;
+
+        private final long deadline;
+
+        private final long renewTime;
+
+        private final AtomicInteger used = new AtomicInteger();
+
+        Lease(GlobalLeaseResponse response, long deadline) {
+            String xid = response.getXid();
+            int index = xid.lastIndexOf(':');
+            this.prefix = xid.substring(0, index + 1);
+            this.beginId = Long.parseLong(xid.substring(index + 1));
+            this.count = response.getCount();
+            this.deadline = deadline;
+            this.renewTime = deadline - response.getLeaseTime() / 4;
+        }
+
+        String next() {
+            if (System.currentTimeMillis() >= deadline) {
+                return null;
+            }
+            int index = used.getAndIncrement();
+            return index < count ? prefix + (beginId + index) : null;
+        }
+
+        boolean isRunningOut() {
+            return used.get() >= count - count / 4 || System.currentTimeMillis() >= renewTime;
+        }
+    }
+}